@@ -0,0 +1,110 @@
+package org.apache.hadoop.mapred;
+
+import javax.servlet.*;
+import javax.servlet.http.*;
+import javax.servlet.jsp.*;
+import javax.servlet.*;
+import javax.servlet.http.*;
+import java.io.*;
+import java.net.URL;
+import org.apache.hadoop.mapred.*;
+import org.apache.hadoop.util.*;
+
+public final class jobconf_jsp extends org.apache.jasper.runtime.HttpJspBase
+    implements org.apache.jasper.runtime.JspSourceDependent {
+
+  private static final JspFactory _jspxFactory = JspFactory.getDefaultFactory();
+
+  private static java.util.Vector _jspx_dependants;
+
+  private org.apache.jasper.runtime.ResourceInjector _jspx_resourceInjector;
+
+  public Object getDependants() {
+    return _jspx_dependants;
+  }
+
+  public void _jspService(HttpServletRequest request, HttpServletResponse response)
+        throws java.io.IOException, ServletException {
+
+    PageContext pageContext = null;
+    HttpSession session = null;
+    ServletContext application = null;
+    ServletConfig config = null;
+    JspWriter out = null;
+    Object page = this;
+    JspWriter _jspx_out = null;
+    PageContext _jspx_page_context = null;
+
+    try {
+      response.setContentType("text/html; charset=UTF-8");
+      pageContext = _jspxFactory.getPageContext(this, request, response,
+      			null, true, 8192, true);
+      _jspx_page_context = pageContext;
+      application = pageContext.getServletContext();
+      config = pageContext.getServletConfig();
+      session = pageContext.getSession();
+      out = pageContext.getOut();
+      _jspx_out = out;
+      _jspx_resourceInjector = (org.apache.jasper.runtime.ResourceInjector) application.getAttribute("com.sun.appserv.jsp.resource.injector");
+
+      out.write("\n\n\n");
+
+  JobTracker tracker = (JobTracker) application.getAttribute("job.tracker");
+  String jobId = request.getParameter("jobid");
+  if (jobId == null) {
+    out.println("<h2>Missing 'jobid' for fetching job configuration!</h2>");
+ 	return;
+  }
+
+      out.write("\n  \n<html>\n\n<title>Job Configuration: JobId - ");
+      out.print( jobId );
+      out.write("</title>\n\n<body>\n<h2>Job Configuration: JobId - ");
+      out.print( jobId );
+      out.write("</h2><br>\n\n");
+
+  JobID jobIdObj = JobID.forName(jobId);
+  JobInProgress job = (JobInProgress) tracker.getJob(jobIdObj);
+  InputStream jobStream = null;
+  JobConf jobConf = job.getJobConf();
+  try {
+    if (jobConf != null) {
+      ByteArrayOutputStream bos = new ByteArrayOutputStream();
+      jobConf.writeXml(bos);
+      jobStream = new ByteArrayInputStream(bos.toByteArray());
+    }
+    else {
+      String jobFilePath = JobTracker.getLocalJobFilePath(JobID.forName(jobId));
+      jobStream = new FileInputStream(jobFilePath);
+      jobConf = new JobConf(jobFilePath);
+    } 
+    XMLUtils.transform(
+      jobConf.getConfResourceAsInputStream("webapps/static/jobconf.xsl"),
+      jobStream, out);
+  } catch (Exception e) {
+      out.println("Failed to retreive job configuration for job '" + jobId + "!");
+      out.println(e);
+  } finally {
+    if (jobStream != null) {
+      try { 
+        jobStream.close(); 
+      } catch (IOException e) {}
+    }
+  }
+
+      out.write("\n\n<br>\n");
+
+out.println(ServletUtil.htmlFooter());
+
+      out.write('\n');
+    } catch (Throwable t) {
+      if (!(t instanceof SkipPageException)){
+        out = _jspx_out;
+        if (out != null && out.getBufferSize() != 0)
+          out.clearBuffer();
+        if (_jspx_page_context != null) _jspx_page_context.handlePageException(t);
+      }
+    } finally {
+      _jspxFactory.releasePageContext(_jspx_page_context);
+    }
+  }
+}
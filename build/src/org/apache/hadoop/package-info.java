@@ -0,0 +1,6 @@
+/*
+ * Generated by src/saveVersion.sh
+ */
+@HadoopVersionAnnotation(version="0.20-fbjun2012", revision="4af3ed0351d546d8247fc4ae95c6640e8cd318ff", 
+                         user="root", date="Sat Oct 17 11:16:41 UTC 2026", url="git://vm/ on branch master")
+package org.apache.hadoop;
@@ -0,0 +1,4 @@
+$(document).ready(function() {
+    // call the tablesorter plugin
+   $("table").tablesorter();
+});
@@ -5,6 +5,7 @@ import java.io.IOException;
 import java.io.FileNotFoundException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Arrays;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -820,6 +821,23 @@ public class DistributedAvatarFileSystem extends DistributedFileSystem {
       }).callFS();
     }
 
+    @Override
+    public boolean[] delete(final String[] srcs, final boolean recursive)
+        throws IOException {
+      return (new MutableFSCaller<boolean[]>() {
+        @Override
+        boolean[] call(int retries) throws IOException {
+          boolean[] status = namenode.delete(srcs, recursive);
+          if (retries > 0) {
+            // the paths may have been deleted before the failover
+            Arrays.fill(status, true);
+          }
+          return status;
+        }
+
+      }).callFS();
+    }
+
     @Override
     public boolean delete(final String src) throws IOException {
       return (new MutableFSCaller<Boolean>() {
@@ -881,6 +899,16 @@ public class DistributedAvatarFileSystem extends DistributedFileSystem {
       }).callFS();
     }
 
+    @Override
+    public LocatedBlocks[] getBlockLocations(final String[] srcs,
+        final long offset, final long length) throws IOException {
+      return (new ImmutableFSCaller<LocatedBlocks[]>() {
+        LocatedBlocks[] call() throws IOException {
+          return namenode.getBlockLocations(srcs, offset, length);
+        }
+      }).callFS();
+    }
+
     @Override
     public VersionedLocatedBlocks open(final String src, final long offset,
         final long length) throws IOException {
@@ -981,6 +1009,16 @@ public class DistributedAvatarFileSystem extends DistributedFileSystem {
       }).callFS();
     }
 
+    @Override
+    public HdfsFileStatus[] getHdfsFileInfo(final String[] srcs)
+        throws IOException {
+      return (new ImmutableFSCaller<HdfsFileStatus[]>() {
+        HdfsFileStatus[] call() throws IOException {
+          return namenode.getHdfsFileInfo(srcs);
+        }
+      }).callFS();
+    }
+
     @Override
     public HdfsFileStatus[] getHdfsListing(final String src) throws IOException {
       return (new ImmutableFSCaller<HdfsFileStatus[]>() {
@@ -1056,6 +1094,16 @@ public class DistributedAvatarFileSystem extends DistributedFileSystem {
       }).callFS();
     }
 
+    @Override
+    public boolean[] mkdirs(final String[] srcs, final FsPermission masked)
+        throws IOException {
+      return (new ImmutableFSCaller<boolean[]>() {
+        boolean[] call() throws IOException {
+          return namenode.mkdirs(srcs, masked);
+        }
+      }).callFS();
+    }
+
     @Override
     public void refreshNodes() throws IOException {
       (new ImmutableFSCaller<Boolean>() {
@@ -174,6 +174,17 @@ public class DatanodeProtocols implements DatanodeProtocol {
                                      BlockReport blocks) throws IOException {
     throw new IOException("blockReport" + errMessage);
   }
+
+  /**
+   * This method should not be invoked on the composite 
+   * DatanodeProtocols object. You can call these on the individual
+   * DatanodeProcol objects.
+   */
+  public boolean blockReportDigest(DatanodeRegistration registration,
+                                   int numBlocks, long digest)
+                                   throws IOException {
+    throw new IOException("blockReportDigest" + errMessage);
+  }
     
   /**
    * This method should not be invoked on the composite 
@@ -36,7 +36,6 @@ import org.apache.hadoop.net.NetUtils;
 import org.apache.hadoop.ipc.*;
 import org.apache.hadoop.util.Daemon;
 import org.apache.hadoop.util.StringUtils;
-import org.apache.hadoop.hdfs.util.LightWeightLinkedSet;
 
 import java.io.*;
 import java.net.*;
@@ -371,8 +370,7 @@ public class SnapshotNode implements SnapshotProtocol {
     ((ThreadPoolExecutor)leaseUpdateThreadPool).allowCoreThreadTimeOut(true);
 
     // Try to update lengths for leases from DN
-    LightWeightLinkedSet<Lease> sortedLeases = fsNamesys.leaseManager.getSortedLeases();
-    Iterator<Lease> itr = sortedLeases.iterator();
+    Iterator<Lease> itr = fsNamesys.leaseManager.getLeases().iterator();
     while (itr.hasNext()) {
       Lease lease = itr.next();
       for (String path : lease.getPaths()) {
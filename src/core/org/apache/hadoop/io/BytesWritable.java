@@ -215,7 +215,8 @@ public class BytesWritable extends BinaryComparable
   }
 
   /** A Comparator optimized for BytesWritable. */ 
-  public static class Comparator extends WritableComparator {
+  public static class Comparator extends WritableComparator
+      implements PrefixComparator {
     public Comparator() {
       super(BytesWritable.class);
     }
@@ -228,6 +229,10 @@ public class BytesWritable extends BinaryComparable
       return compareBytes(b1, s1+LENGTH_BYTES, l1-LENGTH_BYTES, 
                           b2, s2+LENGTH_BYTES, l2-LENGTH_BYTES);
     }
+
+    public int getPrefix(byte[] b, int s, int l) {
+      return getBytesPrefix(b, s+LENGTH_BYTES, l-LENGTH_BYTES);
+    }
   }
   
   static {                                        // register this comparator
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.io;
+
+/**
+ * A {@link RawComparator} that can summarize a serialized key by a
+ * fixed-width prefix, so that sorts can order most keys without
+ * comparing them.
+ *
+ * Sorts only use the prefixes of a comparator whose own class declares
+ * this interface, so a subclass that changes the order of the keys does
+ * not inherit prefixes that disagree with it.
+ */
+public interface PrefixComparator<T> extends RawComparator<T> {
+
+  /**
+   * Get the prefix of a serialized key. Compared as unsigned ints, the
+   * prefixes of two keys must order them like
+   * {@link #compare(byte[], int, int, byte[], int, int)} does whenever
+   * they differ; keys with equal prefixes need a full comparison.
+   */
+  public int getPrefix(byte[] b, int s, int l);
+
+}
@@ -294,7 +294,8 @@ public class Text extends BinaryComparable
   }
 
   /** A WritableComparator optimized for Text keys. */
-  public static class Comparator extends WritableComparator {
+  public static class Comparator extends WritableComparator
+      implements PrefixComparator {
     public Comparator() {
       super(Text.class);
     }
@@ -305,6 +306,11 @@ public class Text extends BinaryComparable
       int n2 = WritableUtils.decodeVIntSize(b2[s2]);
       return compareBytes(b1, s1+n1, l1-n1, b2, s2+n2, l2-n2);
     }
+
+    public int getPrefix(byte[] b, int s, int l) {
+      int n = WritableUtils.decodeVIntSize(b[s]);
+      return getBytesPrefix(b, s+n, l-n);
+    }
   }
 
   static {
@@ -119,6 +119,18 @@ public class WritableComparator implements RawComparator {
     return compare((WritableComparable)a, (WritableComparable)b);
   }
 
+  /**
+   * The first four bytes of binary data as an unsigned int, padded with
+   * zeros; a prefix consistent with {@link #compareBytes}.
+   */
+  public static int getBytesPrefix(byte[] b, int s, int l) {
+    int prefix = 0;
+    for (int i = 0; i < 4; i++) {
+      prefix = (prefix << 8) | (i < l ? (b[s + i] & 0xff) : 0);
+    }
+    return prefix;
+  }
+
   /** Lexicographic order of binary data. */
   public static int compareBytes(byte[] b1, int s1, int l1,
                                  byte[] b2, int s2, int l2) {
@@ -122,7 +122,8 @@ public abstract class Server {
   
   private static final Map<Long, Call> delayedCalls = 
     new ConcurrentHashMap<Long, Server.Call>();
-  private static final AtomicLong delayedRpcId = new AtomicLong();
+  // 0 is returned when there is no call to delay
+  private static final AtomicLong delayedRpcId = new AtomicLong(1);
   
   static Class<?> getProtocolClass(String protocolName, Configuration conf) 
   throws ClassNotFoundException {
@@ -179,12 +180,23 @@ public abstract class Server {
     return null;
   }
   
+  /**
+   * Returns true if invoked from the RPC handling code, in which case
+   * {@link #delayResponse()} can hold back the response of the call.
+   */
+  public static boolean isResponseDelayable() {
+    return CurCall.get() != null;
+  }
+
   /**
    * If invoked from the RPC handling code will mark this call as
    * delayed response. It returns the id of the delayed call.
    * The response will only be sent once sendDelayedResponse method
-   * is called with the id returned from this one.
-   * @return id of the delayed response.
+   * is called with the id returned from this one. The handler does not
+   * wait for that; it goes on with the next call as soon as the response
+   * is set up. A call can be delayed several times, its response is sent
+   * once all of the delays have ended.
+   * @return id of the delayed response, or 0 outside of an RPC.
    */
   public static long delayResponse() {
     Call call = CurCall.get();
@@ -286,7 +298,8 @@ public abstract class Server {
     private long timestamp;     // the time received when response is null
                                    // the time served when response is not null
     private ByteBuffer response;                      // the response for this call
-    private boolean delayResponse = false;
+    private int delayResponse = 0;    // number of delays not ended yet
+    private boolean responseReady = false; // set up by the handler
     private Responder responder;
     
 
@@ -309,18 +322,33 @@ public abstract class Server {
     }
     
     public synchronized void delayResponse() {
-      this.delayResponse = true;
+      this.delayResponse++;
     }
     
     public synchronized void sendDelayedResponse() throws IOException {
-      this.delayResponse = false;
-      if (response != null) {
+      if (delayResponse == 0) {
+        return;
+      }
+      this.delayResponse--;
+      if (delayResponse == 0 && responseReady) {
         responder.doRespond(this);
       }
     }
     
     public synchronized boolean delayed() {
-      return this.delayResponse;
+      return this.delayResponse > 0;
+    }
+
+    /**
+     * Called by the handler once the response is set up. Sends it
+     * right away unless it is delayed, in which case the last
+     * {@link #sendDelayedResponse()} sends it.
+     */
+    public synchronized void sendResponseIfReady() throws IOException {
+      responseReady = true;
+      if (delayResponse == 0) {
+        responder.doRespond(this);
+      }
     }
   }
 
@@ -1174,9 +1202,7 @@ public abstract class Server {
                 call.toString());
             buf = new ByteArrayOutputStream(INITIAL_RESP_BUF_SIZE);
           }
-          if (!call.delayed()) {
-            responder.doRespond(call);
-          }
+          call.sendResponseIfReady();
         } catch (InterruptedException e) {
           if (running) {                          // unexpected -- log it
             LOG.info(getName() + " caught: " +
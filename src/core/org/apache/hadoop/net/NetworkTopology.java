@@ -18,9 +18,13 @@
 package org.apache.hadoop.net;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -38,7 +42,12 @@ import org.apache.hadoop.util.StringUtils;
  * In a network topology, leaves represent data nodes (computers) and inner
  * nodes represent switches/routers that manage traffic in/out of data centers
  * or racks.  
- * 
+ *
+ * Next to the tree, the topology keeps an index that is updated with it:
+ * every inner node is found by its path, every leaf has a slot in an
+ * array of all leaves, and every inner node knows its ancestors. Finding
+ * a rack, drawing a random leaf and computing distances therefore do not
+ * walk the tree.
  */
 public class NetworkTopology {
   public final static String DEFAULT_RACK = "/default-rack";
@@ -52,21 +61,28 @@ public class NetworkTopology {
   private class InnerNode extends NodeBase {
     private ArrayList<Node> children=new ArrayList<Node>();
     private int numOfLeaves;
+    /** The nodes on the path from the root to this node, indexed by level.
+     * The parent of an inner node never changes, so neither does this. */
+    private final InnerNode[] ancestors;
         
     /** Construct an InnerNode from a path-like string */
     InnerNode(String path) {
       super(path);
+      ancestors = new InnerNode[] {this};
     }
         
     /** Construct an InnerNode from its name and its network location */
     InnerNode(String name, String location) {
       super(name, location);
+      ancestors = new InnerNode[] {this};
     }
         
     /** Construct an InnerNode
      * from its name, its network location, its parent, and its level */
     InnerNode(String name, String location, InnerNode parent, int level) {
       super(name, location, parent, level);
+      ancestors = Arrays.copyOf(parent.ancestors, level + 1);
+      ancestors[level] = this;
     }
         
     /** Get its children */
@@ -144,11 +160,12 @@ public class NetworkTopology {
         n.setLevel(this.level+1);
         for(int i=0; i<children.size(); i++) {
           if (children.get(i).getName().equals(n.getName())) {
-            children.set(i, n);
+            replaceLeaf(children.set(i, n), n);
             return false;
           }
         }
         children.add(n);
+        addLeaf(n);
         numOfLeaves++;
         return true;
       } else {
@@ -166,6 +183,7 @@ public class NetworkTopology {
           parentNode = new InnerNode(parentName, getPath(this),
                                      this, this.getLevel()+1);
           children.add(parentNode);
+          innerNodes.put(getPath(parentNode), parentNode);
         }
         // add n to the subtree of the next ancestor node
         if (parentNode.add(n)) {
@@ -192,7 +210,7 @@ public class NetworkTopology {
         // this node is the parent of n; remove n directly
         for(int i=0; i<children.size(); i++) {
           if (children.get(i).getName().equals(n.getName())) {
-            children.remove(i);
+            removeLeaf(children.remove(i));
             numOfLeaves--;
             n.setParent(null);
             return true;
@@ -219,6 +237,7 @@ public class NetworkTopology {
         if (isRemoved) {
           if (parentNode.getNumOfChildren() == 0) {
             children.remove(i);
+            innerNodes.remove(getPath(parentNode));
           }
           numOfLeaves--;
         }
@@ -303,9 +322,18 @@ public class NetworkTopology {
   private int numOfRacks = 0;  // rack counter
   private ReadWriteLock netlock;
   private Set<String> masterRacksSet = new HashSet<String>();
+  /** All inner nodes by their normalized path */
+  private final Map<String, InnerNode> innerNodes =
+    new HashMap<String, InnerNode>();
+  /** All leaves, in no particular order */
+  private final ArrayList<Node> leaves = new ArrayList<Node>();
+  /** The slot of each leaf in leaves */
+  private final Map<Node, Integer> leafIndex =
+    new IdentityHashMap<Node, Integer>();
     
   public NetworkTopology() {
     netlock = new ReentrantReadWriteLock();
+    innerNodes.put(NodeBase.ROOT, clusterMap);
   }
 
   public NetworkTopology(Configuration conf) {
@@ -319,6 +347,35 @@ public class NetworkTopology {
 
   }
     
+  /* Maintain the array of all leaves. Called with the write lock held. */
+  private void addLeaf(Node n) {
+    leafIndex.put(n, leaves.size());
+    leaves.add(n);
+  }
+
+  private void removeLeaf(Node n) {
+    Integer index = leafIndex.remove(n);
+    if (index == null) {
+      return;
+    }
+    // move the last leaf into the freed slot
+    Node last = leaves.remove(leaves.size() - 1);
+    if (last != n) {
+      leaves.set(index, last);
+      leafIndex.put(last, index);
+    }
+  }
+
+  private void replaceLeaf(Node old, Node n) {
+    Integer index = leafIndex.remove(old);
+    if (index == null) {
+      addLeaf(n);
+    } else {
+      leaves.set(index, n);
+      leafIndex.put(n, index);
+    }
+  }
+
   /** Add a leaf node
    * Update node counter & rack counter if neccessary
    * @param node
@@ -346,7 +403,9 @@ public class NetworkTopology {
           numOfRacks++;
         }
       }
-      LOG.debug("NetworkTopology became:\n" + this.toString());
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("NetworkTopology became:\n" + this.toString());
+      }
     } finally {
       netlock.writeLock().unlock();
     }
@@ -372,7 +431,9 @@ public class NetworkTopology {
           numOfRacks--;
         }
       }
-      LOG.debug("NetworkTopology became:\n" + this.toString());
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("NetworkTopology became:\n" + this.toString());
+      }
     } finally {
       netlock.writeLock().unlock();
     }
@@ -410,6 +471,10 @@ public class NetworkTopology {
     netlock.readLock().lock();
     try {
       loc = NodeBase.normalize(loc);
+      InnerNode innerNode = innerNodes.get(loc);
+      if (innerNode != null) {
+        return innerNode;
+      }
       if (!NodeBase.ROOT.equals(loc))
         loc = loc.substring(1);
       return clusterMap.getLoc(loc);
@@ -470,29 +535,57 @@ public class NetworkTopology {
     if (node1 == node2) {
       return 0;
     }
-    Node n1=node1, n2=node2;
-    int dis = 0;
     netlock.readLock().lock();
     try {
-      int level1=node1.getLevel(), level2=node2.getLevel();
-      while(n1!=null && level1>level2) {
-        n1 = n1.getParent();
-        level1--;
-        dis++;
-      }
-      while(n2!=null && level2>level1) {
-        n2 = n2.getParent();
-        level2--;
-        dis++;
-      }
-      while(n1!=null && n2!=null && n1.getParent()!=n2.getParent()) {
-        n1=n1.getParent();
-        n2=n2.getParent();
-        dis+=2;
+      Node parent1 = node1.getParent(), parent2 = node2.getParent();
+      if (parent1 instanceof InnerNode && parent2 instanceof InnerNode) {
+        // both are leaves: two hops to their parents plus the distance
+        // between the parents, which follows from their ancestors
+        return distanceBetween((InnerNode)parent1, (InnerNode)parent2) + 2;
       }
+      return walkDistance(node1, node2);
     } finally {
       netlock.readLock().unlock();
     }
+  }
+
+  /** Return the distance between two inner nodes by comparing the paths
+   * from the root to each of them */
+  private static int distanceBetween(InnerNode node1, InnerNode node2) {
+    InnerNode[] path1 = node1.ancestors, path2 = node2.ancestors;
+    int depth = Math.min(path1.length, path2.length);
+    int common = 0;
+    while (common < depth && path1[common] == path2[common]) {
+      common++;
+    }
+    return path1.length + path2.length - 2 * common;
+  }
+
+  /** Return the distance between two nodes by walking up the tree from
+   * both of them to their closest common ancestor. The caller holds the
+   * read lock. */
+  int walkDistance(Node node1, Node node2) {
+    if (node1 == node2) {
+      return 0;
+    }
+    Node n1=node1, n2=node2;
+    int dis = 0;
+    int level1=node1.getLevel(), level2=node2.getLevel();
+    while(n1!=null && level1>level2) {
+      n1 = n1.getParent();
+      level1--;
+      dis++;
+    }
+    while(n2!=null && level2>level1) {
+      n2 = n2.getParent();
+      level2--;
+      dis++;
+    }
+    while(n1!=null && n2!=null && n1.getParent()!=n2.getParent()) {
+      n1=n1.getParent();
+      n2=n2.getParent();
+      dis+=2;
+    }
     if (n1==null) {
       LOG.warn("The cluster does not contain node: "+NodeBase.getPath(node1));
       return Integer.MAX_VALUE;
@@ -525,6 +618,24 @@ public class NetworkTopology {
   }
     
   final private static Random r = new Random();
+  /** Number of leaves drawn from the array of all leaves before falling
+   * back to the tree to choose a random node */
+  private static final int MAX_RANDOM_TRIES = 8;
+
+  /** Judge if leaf <i>n</i> is <i>scope</i> or in the subtree of it */
+  private static boolean isInScope(Node n, Node scope) {
+    if (n == scope) {
+      return true;
+    }
+    Node parent = n.getParent();
+    if (!(scope instanceof InnerNode) || !(parent instanceof InnerNode)) {
+      return false;
+    }
+    InnerNode[] path = ((InnerNode)parent).ancestors;
+    int level = scope.getLevel();
+    return level < path.length && path[level] == scope;
+  }
+
   /** randomly choose one node from <i>scope</i>
    * if scope starts with ~, choose one from the all nodes except for the
    * ones in <i>scope</i>; otherwise, choose one from <i>scope</i>
@@ -569,6 +680,15 @@ public class NetworkTopology {
         numOfDatanodes -= ((InnerNode)node).getNumOfLeaves();
       }
     }
+    if (innerNode == clusterMap && 2 * numOfDatanodes >= leaves.size()) {
+      // most leaves qualify: draw from all of them and retry the excluded
+      for (int i = 0; i < MAX_RANDOM_TRIES; i++) {
+        Node leaf = leaves.get(r.nextInt(leaves.size()));
+        if (node == null || !isInScope(leaf, node)) {
+          return leaf;
+        }
+      }
+    }
     int leaveIndex = r.nextInt(numOfDatanodes);
     return innerNode.getLeaf(leaveIndex, node);
   }
@@ -653,34 +773,40 @@ public class NetworkTopology {
    */
   public void pseudoSortByDistance( Node reader, Node[] nodes ) {
     int tempIndex = 0;
-    if (reader != null ) {
-      int localRackNode = -1;
-      //scan the array to find the local node & local rack node
-      for(int i=0; i<nodes.length; i++) {
-        if(tempIndex == 0 && reader == nodes[i]) { //local node
-          //swap the local node and the node at position 0
-          if( i != 0 ) {
-            swap(nodes, tempIndex, i);
-          }
-          tempIndex=1;
-          if(localRackNode != -1 ) {
-            if(localRackNode == 0) {
-              localRackNode = i;
+    netlock.readLock().lock();
+    try {
+      if (reader != null ) {
+        int localRackNode = -1;
+        //scan the array to find the local node & local rack node
+        for(int i=0; i<nodes.length; i++) {
+          if(tempIndex == 0 && reader == nodes[i]) { //local node
+            //swap the local node and the node at position 0
+            if( i != 0 ) {
+              swap(nodes, tempIndex, i);
             }
-            break;
+            tempIndex=1;
+            if(localRackNode != -1 ) {
+              if(localRackNode == 0) {
+                localRackNode = i;
+              }
+              break;
+            }
+          } else if(localRackNode == -1 &&
+                    reader.getParent() == nodes[i].getParent()) {
+            //local rack
+            localRackNode = i;
+            if(tempIndex != 0 ) break;
           }
-        } else if(localRackNode == -1 && isOnSameRack(reader, nodes[i])) {
-          //local rack
-          localRackNode = i;
-          if(tempIndex != 0 ) break;
         }
-      }
 
-      // swap the local rack node and the node at position tempIndex
-      if(localRackNode != -1 && localRackNode != tempIndex ) {
-        swap(nodes, tempIndex, localRackNode);
-        tempIndex++;
+        // swap the local rack node and the node at position tempIndex
+        if(localRackNode != -1 && localRackNode != tempIndex ) {
+          swap(nodes, tempIndex, localRackNode);
+          tempIndex++;
+        }
       }
+    } finally {
+      netlock.readLock().unlock();
     }
     
     // put a random node at position 0 if it is not a local/local-rack node
@@ -283,6 +283,12 @@ public class DataChecksum implements Checksum {
   throws ChecksumException {
     if (size == 0) return;
     
+    if (data.isDirect() && checksums.isDirect() && NativeCrc32.isAvailable()) {
+      NativeCrc32.verifyChunkedSums(bytesPerChecksum, type, checksums, data,
+                                    fileName, basePos);
+      return;
+    }
+    
     if (data.hasArray() && checksums.hasArray()) {
       verifyChunkedSums(
           data.array(), data.arrayOffset() + data.position(), data.remaining(),
@@ -322,13 +328,31 @@ public class DataChecksum implements Checksum {
   }
   
   /**
-   * Implementation of chunked verification specifically on byte arrays. This
-   * is to avoid the copy when dealing with ByteBuffers that have array backing.
+   * Verify that the given checksums match the given data, in byte arrays.
+   * This avoids the copy when dealing with ByteBuffers that have array
+   * backing.
+   *
+   * @param data the array holding the data to verify
+   * @param dataOff the offset of the data in the array
+   * @param dataLen the length of the data
+   * @param checksums the array holding a series of stored checksums
+   * @param checksumsOff the offset of the first checksum in the array
+   * @param fileName the name of the file being read, for error-reporting
+   * @param basePos the file position to which the start of the data
+   *                corresponds
+   * @throws ChecksumException if the checksums do not match
    */
-  private void verifyChunkedSums(
+  public void verifyChunkedSums(
       byte[] data, int dataOff, int dataLen,
       byte[] checksums, int checksumsOff, String fileName,
       long basePos) throws ChecksumException {
+    if (size == 0) return;
+
+    if (NativeCrc32.isAvailable()) {
+      NativeCrc32.verifyChunkedSumsByteArray(bytesPerChecksum, type,
+          checksums, checksumsOff, data, dataOff, dataLen, fileName, basePos);
+      return;
+    }
     
     int remaining = dataLen;
     int dataPos = 0;
@@ -369,6 +393,11 @@ public class DataChecksum implements Checksum {
   public void calculateChunkedSums(ByteBuffer data, ByteBuffer checksums) {
     if (size == 0) return;
     
+    if (data.isDirect() && checksums.isDirect() && NativeCrc32.isAvailable()) {
+      NativeCrc32.calculateChunkedSums(bytesPerChecksum, type, checksums, data);
+      return;
+    }
+    
     if (data.hasArray() && checksums.hasArray()) {
       calculateChunkedSums(data.array(), data.arrayOffset() + data.position(), data.remaining(),
           checksums.array(), checksums.arrayOffset() + checksums.position());
@@ -393,12 +422,25 @@ public class DataChecksum implements Checksum {
   }
 
   /**
-   * Implementation of chunked calculation specifically on byte arrays. This
-   * is to avoid the copy when dealing with ByteBuffers that have array backing.
+   * Calculate checksums for the given data, in byte arrays. This avoids the
+   * copy when dealing with ByteBuffers that have array backing.
+   *
+   * @param data the array holding the data to checksum
+   * @param dataOffset the offset of the data in the array
+   * @param dataLength the length of the data
+   * @param sums the array to store the checksums in
+   * @param sumsOffset the offset in the array of the first checksum
    */
-  private void calculateChunkedSums(
+  public void calculateChunkedSums(
       byte[] data, int dataOffset, int dataLength,
       byte[] sums, int sumsOffset) {
+    if (size == 0) return;
+
+    if (NativeCrc32.isAvailable()) {
+      NativeCrc32.calculateChunkedSumsByteArray(bytesPerChecksum, type,
+          sums, sumsOffset, data, dataOffset, dataLength);
+      return;
+    }
 
     int remaining = dataLength;
     while (remaining > 0) {
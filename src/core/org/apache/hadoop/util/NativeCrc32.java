@@ -19,19 +19,81 @@ package org.apache.hadoop.util;
 
 import java.nio.ByteBuffer;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.apache.hadoop.fs.ChecksumException;
 
 /**
  * Wrapper around JNI support code to do checksum computation
  * natively.
  */
-class NativeCrc32 {
-  
+public class NativeCrc32 {
+  private static final Log LOG = LogFactory.getLog(NativeCrc32.class);
+
+  /** The size of a checksum of the types computed natively */
+  private static final int CHECKSUM_SIZE = 4;
+
+  private static final boolean available = probe();
+
   /**
    * Return true if the JNI-based native CRC extensions are available.
    */
   public static boolean isAvailable() {
-    return NativeCodeLoader.isNativeCodeLoaded();
+    return available;
+  }
+
+  /**
+   * Check that the native library has the functions of this class: an
+   * older native-hadoop library loads, but lacks them.
+   */
+  private static boolean probe() {
+    if (!NativeCodeLoader.isNativeCodeLoaded()) {
+      return false;
+    }
+    try {
+      byte[] data = new byte[1];
+      byte[] sums = new byte[CHECKSUM_SIZE];
+      nativeComputeChunkedSumsByteArray(1, CHECKSUM_CRC32,
+          sums, 0, data, 0, data.length);
+      nativeVerifyChunkedSumsByteArray(1, CHECKSUM_CRC32,
+          sums, 0, data, 0, data.length, null, 0);
+      ByteBuffer directData = ByteBuffer.allocateDirect(data.length);
+      ByteBuffer directSums = ByteBuffer.allocateDirect(sums.length);
+      nativeComputeChunkedSums(1, CHECKSUM_CRC32,
+          directSums, 0, directData, 0, data.length);
+      nativeVerifyChunkedSums(1, CHECKSUM_CRC32,
+          directSums, 0, directData, 0, data.length, null, 0);
+      return true;
+    } catch (UnsatisfiedLinkError e) {
+      LOG.warn("The native-hadoop library does not compute checksums; " +
+               "using the java classes instead");
+      return false;
+    }
+  }
+
+  /**
+   * Check that the data and the checksums of its chunks are within
+   * buffers or arrays of the given lengths.
+   * @throws IllegalArgumentException if the chunk size is not positive
+   * @throws ArrayIndexOutOfBoundsException if either range is outside
+   */
+  private static void checkRanges(int bytesPerSum,
+      int sumsLength, int sumsOffset,
+      int dataLength, int dataOffset, int dataLen) {
+    if (bytesPerSum <= 0) {
+      throw new IllegalArgumentException("Invalid bytes per checksum " +
+                                         bytesPerSum);
+    }
+    if (dataOffset < 0 || dataLen < 0 || dataOffset > dataLength - dataLen) {
+      throw new ArrayIndexOutOfBoundsException("Data range " + dataOffset +
+          "+" + dataLen + " is outside of length " + dataLength);
+    }
+    long sumsLen =
+      ((long)dataLen + bytesPerSum - 1) / bytesPerSum * CHECKSUM_SIZE;
+    if (sumsOffset < 0 || sumsOffset > sumsLength - sumsLen) {
+      throw new ArrayIndexOutOfBoundsException("Checksum range " +
+          sumsOffset + "+" + sumsLen + " is outside of length " + sumsLength);
+    }
   }
 
   /**
@@ -54,18 +116,91 @@ class NativeCrc32 {
   public static void verifyChunkedSums(int bytesPerSum, int checksumType,
       ByteBuffer sums, ByteBuffer data, String fileName, long basePos)
       throws ChecksumException {
+    checkRanges(bytesPerSum, sums.capacity(), sums.position(),
+                data.limit(), data.position(), data.remaining());
     nativeVerifyChunkedSums(bytesPerSum, checksumType,
         sums, sums.position(),
         data, data.position(), data.remaining(),
         fileName, basePos);
   }
   
+  /**
+   * Calculate the checksums of the given buffer of data, and store them in
+   * the given buffer of checksums. The buffers given to this function should
+   * have their position initially at the start of the data and of the room
+   * for the checksums, and the limit of the data buffer set at the end of
+   * the data. The position, limit, and mark are not modified.
+   *
+   * @param bytesPerSum the chunk size (eg 512 bytes)
+   * @param checksumType the DataChecksum type constant
+   * @param sums the DirectByteBuffer to store the checksums in
+   * @param data the DirectByteBuffer pointing at the beginning of the
+   *             data to checksum
+   */
+  public static void calculateChunkedSums(int bytesPerSum, int checksumType,
+      ByteBuffer sums, ByteBuffer data) {
+    checkRanges(bytesPerSum, sums.capacity(), sums.position(),
+                data.limit(), data.position(), data.remaining());
+    nativeComputeChunkedSums(bytesPerSum, checksumType,
+        sums, sums.position(),
+        data, data.position(), data.remaining());
+  }
+
+  /**
+   * Verify the given arrays of data and checksums, like
+   * {@link #verifyChunkedSums(int, int, ByteBuffer, ByteBuffer, String, long)}
+   * does for direct buffers.
+   */
+  public static void verifyChunkedSumsByteArray(int bytesPerSum,
+      int checksumType, byte[] sums, int sumsOffset, byte[] data,
+      int dataOffset, int dataLength, String fileName, long basePos)
+      throws ChecksumException {
+    checkRanges(bytesPerSum, sums.length, sumsOffset,
+                data.length, dataOffset, dataLength);
+    nativeVerifyChunkedSumsByteArray(bytesPerSum, checksumType,
+        sums, sumsOffset,
+        data, dataOffset, dataLength,
+        fileName, basePos);
+  }
+
+  /**
+   * Calculate the checksums of the given array of data into the given
+   * array of checksums, like
+   * {@link #calculateChunkedSums(int, int, ByteBuffer, ByteBuffer)} does
+   * for direct buffers.
+   */
+  public static void calculateChunkedSumsByteArray(int bytesPerSum,
+      int checksumType, byte[] sums, int sumsOffset, byte[] data,
+      int dataOffset, int dataLength) {
+    checkRanges(bytesPerSum, sums.length, sumsOffset,
+                data.length, dataOffset, dataLength);
+    nativeComputeChunkedSumsByteArray(bytesPerSum, checksumType,
+        sums, sumsOffset,
+        data, dataOffset, dataLength);
+  }
+
   private static native void nativeVerifyChunkedSums(
       int bytesPerSum, int checksumType,
       ByteBuffer sums, int sumsOffset,
       ByteBuffer data, int dataOffset, int dataLength,
       String fileName, long basePos);
 
+  private static native void nativeComputeChunkedSums(
+      int bytesPerSum, int checksumType,
+      ByteBuffer sums, int sumsOffset,
+      ByteBuffer data, int dataOffset, int dataLength);
+
+  private static native void nativeVerifyChunkedSumsByteArray(
+      int bytesPerSum, int checksumType,
+      byte[] sums, int sumsOffset,
+      byte[] data, int dataOffset, int dataLength,
+      String fileName, long basePos);
+
+  private static native void nativeComputeChunkedSumsByteArray(
+      int bytesPerSum, int checksumType,
+      byte[] sums, int sumsOffset,
+      byte[] data, int dataOffset, int dataLength);
+
   // Copy the constants over from DataChecksum so that javah will pick them up
   // and make them available in the native code header.
   public static final int CHECKSUM_CRC32 = DataChecksum.CHECKSUM_CRC32;
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.util;
+
+/**
+ * An {@link IndexedSortable} whose items can be summarized by a sort
+ * prefix, for sorters that order items by their prefixes and compare
+ * only items with equal prefixes.
+ */
+public interface PrefixIndexedSortable extends IndexedSortable {
+
+  /**
+   * Whether the items have sort prefixes; if not, sorters fall back to
+   * {@link #compare(int, int)}.
+   */
+  boolean hasSortPrefix();
+
+  /**
+   * Get the sort prefix of the item at the given address. Compared as
+   * unsigned longs, the prefixes of two items must order them like
+   * {@link #compare(int, int)} does whenever they differ.
+   */
+  long getSortPrefix(int i);
+}
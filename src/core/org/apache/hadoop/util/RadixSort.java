@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.util;
+
+/**
+ * A radix sort over the sort prefixes of a {@link PrefixIndexedSortable}.
+ *
+ * The prefixes of the items are read once and sorted with a least
+ * significant digit radix sort, skipping the digits all the items share.
+ * The items are then moved into place, and each run of items with equal
+ * prefixes is sorted by {@link QuickSort}, which compares the items. Items
+ * without prefixes are sorted by {@link QuickSort} alone.
+ */
+public final class RadixSort implements IndexedSorter {
+
+  private static final IndexedSorter alt = new QuickSort();
+
+  /** Ranges shorter than this are not worth the radix passes */
+  private static final int MIN_RADIX_SORT = 64;
+  private static final int DIGIT_BITS = 8;
+  private static final int DIGITS = 64 / DIGIT_BITS;
+  private static final int RADIX = 1 << DIGIT_BITS;
+
+  public RadixSort() { }
+
+  /**
+   * Sort the given range of items using radix sort.
+   */
+  public void sort(IndexedSortable s, int l, int r) {
+    sort(s, l, r, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void sort(final IndexedSortable s, int l, int r,
+      final Progressable rep) {
+    if (r - l < MIN_RADIX_SORT || !(s instanceof PrefixIndexedSortable) ||
+        !((PrefixIndexedSortable)s).hasSortPrefix()) {
+      alt.sort(s, l, r, rep);
+      return;
+    }
+    PrefixIndexedSortable ps = (PrefixIndexedSortable)s;
+    final int n = r - l;
+    long[] prefixes = new long[n];
+    int[] order = new int[n];
+    for (int i = 0; i < n; ++i) {
+      prefixes[i] = ps.getSortPrefix(l + i);
+      order[i] = i;
+    }
+    sortPrefixes(prefixes, order, rep);
+    permute(s, l, order);
+
+    // order the items sharing a prefix
+    int start = 0;
+    for (int i = 1; i <= n; ++i) {
+      if (i == n || prefixes[i] != prefixes[start]) {
+        if (i - start > 1) {
+          alt.sort(s, l + start, l + i, rep);
+        }
+        start = i;
+      }
+    }
+  }
+
+  /**
+   * Sort the prefixes as unsigned longs, and their positions along with
+   * them. The sort is stable.
+   */
+  private static void sortPrefixes(long[] prefixes, int[] order,
+      Progressable rep) {
+    final int n = prefixes.length;
+    int[][] counts = new int[DIGITS][RADIX];
+    for (int i = 0; i < n; ++i) {
+      long prefix = prefixes[i];
+      for (int d = 0; d < DIGITS; ++d) {
+        counts[d][(int)(prefix >>> (d * DIGIT_BITS)) & (RADIX - 1)]++;
+      }
+    }
+    long[] prefixBuf = null;
+    int[] orderBuf = null;
+    long[] from = prefixes;
+    int[] fromOrder = order;
+    for (int d = 0; d < DIGITS; ++d) {
+      int[] count = counts[d];
+      final int shift = d * DIGIT_BITS;
+      if (count[(int)(from[0] >>> shift) & (RADIX - 1)] == n) {
+        continue;   // every item has the same digit
+      }
+      if (null != rep) {
+        rep.progress();
+      }
+      if (prefixBuf == null) {
+        prefixBuf = new long[n];
+        orderBuf = new int[n];
+      }
+      long[] to = (from == prefixes) ? prefixBuf : prefixes;
+      int[] toOrder = (fromOrder == order) ? orderBuf : order;
+      int sum = 0;
+      for (int b = 0; b < RADIX; ++b) {
+        int c = count[b];
+        count[b] = sum;
+        sum += c;
+      }
+      for (int i = 0; i < n; ++i) {
+        int dest = count[(int)(from[i] >>> shift) & (RADIX - 1)]++;
+        to[dest] = from[i];
+        toOrder[dest] = fromOrder[i];
+      }
+      from = to;
+      fromOrder = toOrder;
+    }
+    if (from != prefixes) {
+      System.arraycopy(from, 0, prefixes, 0, n);
+      System.arraycopy(fromOrder, 0, order, 0, n);
+    }
+  }
+
+  /**
+   * Move the items so that position i holds the item that was at
+   * position order[i], using at most one swap per item.
+   */
+  private static void permute(IndexedSortable s, int l, int[] order) {
+    final int n = order.length;
+    int[] itemAt = new int[n];    // the original position of the item at i
+    int[] positionOf = new int[n];  // the position of the original item i
+    for (int i = 0; i < n; ++i) {
+      itemAt[i] = positionOf[i] = i;
+    }
+    for (int i = 0; i < n; ++i) {
+      int from = positionOf[order[i]];
+      if (from != i) {
+        s.swap(l + i, l + from);
+        int displaced = itemAt[i];
+        itemAt[from] = displaced;
+        positionOf[displaced] = from;
+        itemAt[i] = order[i];
+        positionOf[order[i]] = i;
+      }
+    }
+  }
+}
@@ -32,9 +32,7 @@ import org.apache.hadoop.hdfs.DistributedFileSystem.DiskStatus;
 import org.apache.hadoop.hdfs.protocol.*;
 import org.apache.hadoop.hdfs.server.common.HdfsConstants;
 import org.apache.hadoop.hdfs.server.common.UpgradeStatusReport;
-import org.apache.hadoop.hdfs.server.datanode.BlockMetadataHeader;
 import org.apache.hadoop.hdfs.server.datanode.DataNode;
-import org.apache.hadoop.hdfs.server.datanode.FSDataset;
 import org.apache.hadoop.hdfs.server.namenode.NameNode;
 import org.apache.hadoop.hdfs.server.namenode.NotReplicatedYetException;
 import org.apache.hadoop.security.AccessControlException;
@@ -63,6 +61,11 @@ import javax.security.auth.login.LoginException;
  * the same machine as the datanode, then the client can read
  * files directly from the local file system rathen than going
  * thorugh the datanode. This improves performance dramatically.
+ *
+ * The open files of recently read replicas are kept in a
+ * {@link LocalBlockFileCache} shared by all readers of the process,
+ * so reading a block again does not open its files again. Readers use
+ * positional reads on the shared files.
  */
 public class BlockReaderLocal extends BlockReader {
 
@@ -71,15 +74,36 @@ public class BlockReaderLocal extends BlockReader {
   private Configuration conf;
   private long length;
   private BlockPathInfo pathinfo;
-  private FileInputStream dataIn;  // reader for the data file
-  private FileInputStream checksumIn;
+  private LocalBlockFileCache.BlockFiles files;
+  private FileChannel dataIn;  // reader for the data file
+  private FileChannel checksumIn;
+  private long dataPos;  // position of the next read of the data file
+  private long checksumPos;
+  private boolean closed = false;
   private boolean clearOsBuffer;
   private DFSClientMetrics metrics;
   
   static private volatile ProtocolProxy<ClientDatanodeProtocol> datanode;
   static private final LRUCache<Block, BlockPathInfo> cache = 
     new LRUCache<Block, BlockPathInfo>(10000);
+  static private volatile LocalBlockFileCache fileCache;
   static private final Path src = new Path("/BlockReaderLocal:localfile");
+
+  /**
+   * @return the cache of open block files, created with the size
+   *         configured by the first reader
+   */
+  private static LocalBlockFileCache getFileCache(Configuration conf) {
+    if (fileCache == null) {
+      synchronized (BlockReaderLocal.class) {
+        if (fileCache == null) {
+          fileCache = new LocalBlockFileCache(
+              conf.getInt("dfs.read.shortcircuit.file.cache.size", 256));
+        }
+      }
+    }
+    return fileCache;
+  }
   
   /**
    * The only way this object can be instantiated.
@@ -89,103 +113,108 @@ public class BlockReaderLocal extends BlockReader {
     long startOffset, long length,
     DFSClientMetrics metrics, boolean verifyChecksum,
     boolean clearOsBuffer) throws IOException {
-    // check in cache first
-    BlockPathInfo pathinfo = cache.get(blk);
+    LocalBlockFileCache fileCache = getFileCache(conf);
+    // check for open files first
+    LocalBlockFileCache.BlockFiles files = fileCache.get(blk);
 
-    if (pathinfo == null) {
-      // cache the connection to the local data for eternity.
-      if (datanode == null) {
-        datanode = DFSClient.createClientDNProtocolProxy(node, conf, 0);
-      }
-      // make RPC to local datanode to find local pathnames of blocks
-      if (datanode.isMethodSupported("getBlockPathInfo", int.class, Block.class)) {
-        pathinfo = datanode.getProxy().getBlockPathInfo(namespaceid, blk);
-      } else {
-        pathinfo = datanode.getProxy().getBlockPathInfo(blk);
+    if (files == null) {
+      BlockPathInfo pathinfo = cache.get(blk);
+
+      if (pathinfo == null) {
+        // cache the connection to the local data for eternity.
+        if (datanode == null) {
+          datanode = DFSClient.createClientDNProtocolProxy(node, conf, 0);
+        }
+        // make RPC to local datanode to find local pathnames of blocks
+        if (datanode.isMethodSupported("getBlockPathInfo", int.class, Block.class)) {
+          pathinfo = datanode.getProxy().getBlockPathInfo(namespaceid, blk);
+        } else {
+          pathinfo = datanode.getProxy().getBlockPathInfo(blk);
+        }
+        if (pathinfo != null) {
+          cache.put(blk, pathinfo);
+        }
       }
-      if (pathinfo != null) {
-        cache.put(blk, pathinfo);
+
+      // check to see if the file exists. It may so happen that the
+      // HDFS file has been deleted and this block-lookup is occuring
+      // on behalf of a new HDFS file. This time, the block file could
+      // be residing in a different portion of the fs.data.dir directory.
+      // In this case, we remove this entry from the cache. The next
+      // call to this method will repopulate the cache.
+      try {
+        files = fileCache.put(new LocalBlockFileCache.BlockFiles(blk, pathinfo));
+      } catch (FileNotFoundException e) {
+        cache.remove(blk);    // remove from cache
+        DFSClient.LOG.warn("BlockReaderLoca: Removing " + blk +
+                           " from cache because local file " +
+                           pathinfo.getBlockPath() + 
+                           " could not be opened.");
+        throw e;
       }
     }
-    
-    // check to see if the file exists. It may so happen that the
-    // HDFS file has been deleted and this block-lookup is occuring
-    // on behalf of a new HDFS file. This time, the block file could
-    // be residing in a different portion of the fs.data.dir directory.
-    // In this case, we remove this entry from the cache. The next
-    // call to this method will repopulate the cache.
-    try {
 
-      // get a local file system
-      File blkfile = new File(pathinfo.getBlockPath());
-      FileInputStream dataIn = new FileInputStream(blkfile);
-      
+    // the reader releases the files when it is closed
+    try {
       if (LOG.isDebugEnabled()) {
         LOG.debug("New BlockReaderLocal for file " +
-                  blkfile + " of size " + blkfile.length() +
+                  files.getPathInfo().getBlockPath() + " of size " +
+                  files.getDataChannel().size() +
                   " startOffset " + startOffset +
                   " length " + length);
       }
 
       if (verifyChecksum) {
-      
-        // get the metadata file
-        File metafile = new File(pathinfo.getMetaPath());
-        FileInputStream checksumIn = new FileInputStream(metafile);
-    
-        // read and handle the common header here. For now just a version
-        BlockMetadataHeader header = BlockMetadataHeader.readHeader(new DataInputStream(checksumIn), new PureJavaCrc32());
-        short version = header.getVersion();
-      
-        if (version != FSDataset.METADATA_VERSION) {
-          LOG.warn("Wrong version (" + version + ") for metadata file for "
-              + blk + " ignoring ...");
-        }
-        DataChecksum checksum = header.getChecksum();
+        // the meta file is opened and its header read on first use
+        DataChecksum checksum = files.newChecksum();
 
         return new BlockReaderLocal(conf, file, blk, startOffset, length,
-            pathinfo, metrics, checksum, verifyChecksum, dataIn, checksumIn,
-            clearOsBuffer);
+            files, metrics, checksum, verifyChecksum, clearOsBuffer);
       }
       else {
         return new BlockReaderLocal(conf, file, blk, startOffset, length,
-            pathinfo, metrics, dataIn, clearOsBuffer);
+            files, metrics, clearOsBuffer);
       }
       
-    } catch (FileNotFoundException e) {
-      cache.remove(blk);    // remove from cache
-      DFSClient.LOG.warn("BlockReaderLoca: Removing " + blk +
-                         " from cache because local file " +
-                         pathinfo.getBlockPath() + 
-                         " could not be opened.");
+    } catch (IOException e) {
+      files.release();
+      if (e instanceof FileNotFoundException) {
+        cache.remove(blk);
+        fileCache.invalidate(blk);
+        DFSClient.LOG.warn("BlockReaderLoca: Removing " + blk +
+                           " from cache because local file " +
+                           files.getPathInfo().getMetaPath() + 
+                           " could not be opened.");
+      }
       throw e;
     }
   }
 
   private BlockReaderLocal(Configuration conf, String hdfsfile, Block block,      
                           long startOffset, long length,
-                          BlockPathInfo pathinfo, DFSClientMetrics metrics,
-                          FileInputStream dataIn, boolean clearOsBuffer)
+                          LocalBlockFileCache.BlockFiles files,
+                          DFSClientMetrics metrics, boolean clearOsBuffer)
                           throws IOException {
     super(
         src, // dummy path, avoid constructing a Path object dynamically
         1);
     
-    this.pathinfo = pathinfo;
+    this.files = files;
+    this.pathinfo = files.getPathInfo();
     this.startOffset = startOffset;
     this.length = length;    
     this.metrics = metrics;
-    this.dataIn = dataIn;
+    this.dataIn = files.getDataChannel();
     this.clearOsBuffer = clearOsBuffer;
     
-    dataIn.skip(startOffset);
+    dataPos = startOffset;
   }
   
   private BlockReaderLocal(Configuration conf, String hdfsfile, Block block,      
                           long startOffset, long length,
-                          BlockPathInfo pathinfo, DFSClientMetrics metrics,
+                          LocalBlockFileCache.BlockFiles files,
+                          DFSClientMetrics metrics,
                           DataChecksum checksum, boolean verifyChecksum,
-                          FileInputStream dataIn, FileInputStream checksumIn,
                           boolean clearOsBuffer)
                           throws IOException {
     super(
@@ -194,13 +223,14 @@ public class BlockReaderLocal extends BlockReader {
         checksum,
         verifyChecksum);
 
-    this.pathinfo = pathinfo;
+    this.files = files;
+    this.pathinfo = files.getPathInfo();
     this.startOffset = startOffset;
     this.length = length;    
     this.metrics = metrics;
     
-    this.dataIn = dataIn;
-    this.checksumIn = checksumIn;
+    this.dataIn = files.getDataChannel();
+    this.checksumIn = files.getChecksumChannel();
     this.checksum = checksum;
     this.clearOsBuffer = clearOsBuffer;
     
@@ -227,9 +257,8 @@ public class BlockReaderLocal extends BlockReader {
     // size in our cache.
     if (startOffset > blockLength
         || (length + startOffset) > blockLength) {
-      File blkFile = new File(pathinfo.getBlockPath());
-      long newlength = blkFile.length();
-      LOG.warn("BlockReaderLocal found short block " + blkFile +
+      long newlength = dataIn.size();
+      LOG.warn("BlockReaderLocal found short block " + pathinfo.getBlockPath() +
                " requested offset " +
                startOffset + " length " + length +
                " but known size of block is " + blockLength +
@@ -261,16 +290,10 @@ public class BlockReaderLocal extends BlockReader {
       }
     }
 
-    // seek to the right offsets
-    if (firstChunkOffset > 0) {
-      dataIn.getChannel().position(firstChunkOffset);
-      
-      long checksumSkip = (firstChunkOffset / bytesPerChecksum) * checksumSize;
-      // note blockInStream is  seeked when created below
-      if (checksumSkip > 0) {
-        checksumIn.skip(checksumSkip);
-      }
-    }
+    // position the reads at the first chunk and its checksum
+    dataPos = firstChunkOffset;
+    checksumPos = files.getChecksumHeaderSize() +
+                  (firstChunkOffset / bytesPerChecksum) * checksumSize;
 
     lastChunkOffset = firstChunkOffset;
     lastChunkLen = -1;
@@ -285,7 +308,11 @@ public class BlockReaderLocal extends BlockReader {
     metrics.readsFromLocalFile.inc();
     int byteRead;
     if (checksum == null) {
-      byteRead = dataIn.read(buf, off, len);
+      byteRead = LocalBlockFileCache.readFully(dataIn,
+          ByteBuffer.wrap(buf, off, len), dataPos);
+      if (byteRead > 0) {
+        dataPos += byteRead;
+      }
       updateStatsAfterRead(byteRead);
     }
     else {
@@ -293,7 +320,7 @@ public class BlockReaderLocal extends BlockReader {
     }
     if (clearOsBuffer) {
       // drop all pages from the OS buffer cache
-      NativeIO.posixFadviseIfPossible(dataIn.getFD(), off, len, 
+      NativeIO.posixFadviseIfPossible(files.getDataStream().getFD(), off, len, 
                                       NativeIO.POSIX_FADV_DONTNEED);
     }
     return byteRead;
@@ -305,7 +332,9 @@ public class BlockReaderLocal extends BlockReader {
       LOG.debug("BlockChecksumFileSystem skip " + n);
     }
     if (checksum == null) {
-      return dataIn.skip(n);
+      long skipped = Math.max(0, Math.min(n, dataIn.size() - dataPos));
+      dataPos += skipped;
+      return skipped;
     }
     else {
       return super.skip(n);
@@ -348,23 +377,29 @@ public class BlockReaderLocal extends BlockReader {
                             firstChunkOffset + " != " + lastChunkOffset);
     }
     
-    int nRead = dataIn.read(buf, offset, bytesPerChecksum);
+    int nRead = LocalBlockFileCache.readFully(dataIn,
+        ByteBuffer.wrap(buf, offset, bytesPerChecksum), dataPos);
     if (nRead < bytesPerChecksum) {
       gotEOS = true;
       
     }
+    if (nRead > 0) {
+      dataPos += nRead;
+    }
     
     lastChunkOffset += nRead;
     lastChunkLen = nRead;
     
     // If verifyChecksum is false, we omit reading the checksum
     if (checksumIn != null) {
-      int nChecksumRead = checksumIn.read(checksumBuf);
+      int nChecksumRead = LocalBlockFileCache.readFully(checksumIn,
+          ByteBuffer.wrap(checksumBuf), checksumPos);
       
       if (nChecksumRead != checksumSize) {
         throw new IOException("Could not read checksum at offset " + 
-            checksumIn.getChannel().position() + " from the meta file.");      
+            checksumPos + " from the meta file.");      
       }
+      checksumPos += nChecksumRead;
     }
        
     return nRead;    
@@ -377,7 +412,7 @@ public class BlockReaderLocal extends BlockReader {
    * currently invoked only by the FSDataInputStream ScatterGather api.
    */
   public ByteBuffer readAll() throws IOException {
-    MappedByteBuffer bb = dataIn.getChannel().map(FileChannel.MapMode.READ_ONLY,
+    MappedByteBuffer bb = dataIn.map(FileChannel.MapMode.READ_ONLY,
                                  startOffset, length);
     return bb;  
   }
@@ -387,9 +422,10 @@ public class BlockReaderLocal extends BlockReader {
     if (LOG.isDebugEnabled()) {
       LOG.debug("BlockChecksumFileSystem close");
     }
-    dataIn.close();
-    if (checksumIn != null) {
-      checksumIn.close();
+    if (!closed) {
+      closed = true;
+      // the files stay open in the cache for the next reader
+      files.release();
     }
   }  
 }
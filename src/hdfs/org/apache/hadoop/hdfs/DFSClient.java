@@ -172,6 +172,7 @@ public class DFSClient implements FSConstants, java.io.Closeable {
   private final long closeFileTimeout;
   private long namenodeVersion = ClientProtocol.versionID;
   private DFSClientMetrics metrics = new DFSClientMetrics();
+  private final LocatedBlocksCache locatedBlocksCache;
   protected Integer dataTransferVersion = -1;
   private boolean shortCircuitLocalReads = false;
   private final InetAddress localHost;
@@ -421,6 +422,7 @@ public class DFSClient implements FSConstants, java.io.Closeable {
       LOG.debug("Configured to shortcircuit reads to " + localHost);
     }
     this.leasechecker = new LeaseChecker(this.clientName, this.conf);
+    this.locatedBlocksCache = LocatedBlocksCache.create(this, conf, metrics);
     // by default, if the ipTosValue is less than 0(for example -1), 
     // we will not set it in the socket.
     this.ipTosValue = conf.getInt("dfs.client.tos.value", 
@@ -496,6 +498,9 @@ public class DFSClient implements FSConstants, java.io.Closeable {
       leasechecker.close();
       leasechecker.closeRenewal();
       clientRunning = false;
+      if (locatedBlocksCache != null) {
+        locatedBlocksCache.close();
+      }
       try {
         leasechecker.interruptAndJoin();
       } catch (InterruptedException ie) {
@@ -506,6 +511,16 @@ public class DFSClient implements FSConstants, java.io.Closeable {
     }
   }
 
+  /**
+   * Drop the cached block locations of a path and of everything below it,
+   * before this client changes them.
+   */
+  private void invalidateLocatedBlocks(String src) {
+    if (locatedBlocksCache != null) {
+      locatedBlocksCache.invalidateTree(src);
+    }
+  }
+
   /**
    * Get DFSClientMetrics
    */
@@ -619,6 +634,59 @@ public class DFSClient implements FSConstants, java.io.Closeable {
         isMetaInfoSuppoted(namenodeProtocolProxy));
   }
 
+  /**
+   * Get the block locations of many files within the same range. If the
+   * namenode supports it, all files are looked up in a single call.
+   * @return the located blocks of each file; an entry is null if its file
+   *         does not exist
+   * @see ClientProtocol#getBlockLocations(String[], long, long)
+   */
+  public LocatedBlocks[] getLocatedBlocks(String[] srcs, long start,
+      long length) throws IOException {
+    checkOpen();
+    if (!isBatchSupported("getBlockLocations", String[].class, long.class,
+        long.class)) {
+      LocatedBlocks[] blocks = new LocatedBlocks[srcs.length];
+      for (int i = 0; i < srcs.length; i++) {
+        blocks[i] = getLocatedBlocks(srcs[i], start, length);
+      }
+      return blocks;
+    }
+    try {
+      return namenode.getBlockLocations(srcs, start, length);
+    } catch(RemoteException re) {
+      throw re.unwrapRemoteException(AccessControlException.class,
+                                    FileNotFoundException.class);
+    }
+  }
+
+  /**
+   * Get the block locations of many files within the same range.
+   * @see #getLocatedBlocks(String[], long, long)
+   * @see #getBlockLocations(String, long, long)
+   */
+  public BlockLocation[][] getBlockLocations(String[] srcs, long start,
+      long length) throws IOException {
+    LocatedBlocks[] blocks = getLocatedBlocks(srcs, start, length);
+    BlockLocation[][] locations = new BlockLocation[blocks.length][];
+    for (int i = 0; i < blocks.length; i++) {
+      locations[i] = DFSUtil.locatedBlocks2Locations(blocks[i]);
+    }
+    return locations;
+  }
+
+  /**
+   * @return true if the namenode supports the given batched call, which
+   *         was introduced in {@link ClientProtocol#BATCH_METADATA_VERSION}
+   */
+  private boolean isBatchSupported(String methodName, Class<?>... types)
+      throws IOException {
+    if (namenodeProtocolProxy == null) {
+      return namenodeVersion >= ClientProtocol.BATCH_METADATA_VERSION;
+    }
+    return namenodeProtocolProxy.isMethodSupported(methodName, types);
+  }
+
   public DFSInputStream open(String src) throws IOException {
     return open(src, conf.getInt("io.file.buffer.size", 4096), true, null, false);
   }
@@ -906,6 +974,7 @@ public class DFSClient implements FSConstants, java.io.Closeable {
                              InetSocketAddress[] favoredNodes)
   throws IOException {
     checkOpen();
+    invalidateLocatedBlocks(src);
     if (permission == null) {
       permission = FsPermission.getDefault();
     }
@@ -1144,6 +1213,7 @@ public class DFSClient implements FSConstants, java.io.Closeable {
     LocatedBlock lastBlock = null;
     boolean success = false;
     int namespaceId = 0;
+    invalidateLocatedBlocks(src);
     
     try {
       stat = getFileInfo(src);
@@ -1219,6 +1289,10 @@ public class DFSClient implements FSConstants, java.io.Closeable {
   public void concat(String trg, String[] srcs, boolean restricted)
       throws IOException {
     checkOpen();
+    invalidateLocatedBlocks(trg);
+    for (String src : srcs) {
+      invalidateLocatedBlocks(src);
+    }
     try {
       if (namenodeProtocolProxy != null
           && namenodeProtocolProxy.isMethodSupported("concat", String.class,
@@ -1257,6 +1331,8 @@ public class DFSClient implements FSConstants, java.io.Closeable {
    */
   public boolean rename(String src, String dst) throws IOException {
     checkOpen();
+    invalidateLocatedBlocks(src);
+    invalidateLocatedBlocks(dst);
     try {
       return namenode.rename(src, dst);
     } catch(RemoteException re) {
@@ -1273,6 +1349,7 @@ public class DFSClient implements FSConstants, java.io.Closeable {
   @Deprecated
   public boolean delete(String src) throws IOException {
     checkOpen();
+    invalidateLocatedBlocks(src);
     return namenode.delete(src, true);
   }
 
@@ -1283,6 +1360,7 @@ public class DFSClient implements FSConstants, java.io.Closeable {
    */
   public boolean delete(String src, boolean recursive) throws IOException {
     checkOpen();
+    invalidateLocatedBlocks(src);
     try {
       return namenode.delete(src, recursive);
     } catch(RemoteException re) {
@@ -1290,6 +1368,31 @@ public class DFSClient implements FSConstants, java.io.Closeable {
     }
   }
 
+  /**
+   * Delete many files or directories. If the namenode supports it, all
+   * paths are deleted in a single call.
+   * @return for each path, true if it was deleted
+   * @see ClientProtocol#delete(String[], boolean)
+   */
+  public boolean[] delete(String[] srcs, boolean recursive) throws IOException {
+    checkOpen();
+    if (!isBatchSupported("delete", String[].class, boolean.class)) {
+      boolean[] status = new boolean[srcs.length];
+      for (int i = 0; i < srcs.length; i++) {
+        status[i] = delete(srcs[i], recursive);
+      }
+      return status;
+    }
+    for (String src : srcs) {
+      invalidateLocatedBlocks(src);
+    }
+    try {
+      return namenode.delete(srcs, recursive);
+    } catch(RemoteException re) {
+      throw re.unwrapRemoteException(AccessControlException.class);
+    }
+  }
+
   /** Implemented using getFileInfo(src)
    */
   public boolean exists(String src) throws IOException {
@@ -1595,6 +1698,33 @@ public class DFSClient implements FSConstants, java.io.Closeable {
     }
   }
 
+  /**
+   * Get the file info of many files. If the namenode supports it, all
+   * paths are looked up in a single call.
+   * @return the file info of each path; an entry is null if its file is
+   *         not found
+   * @see ClientProtocol#getHdfsFileInfo(String[])
+   */
+  public FileStatus[] getFileInfo(String[] srcs) throws IOException {
+    checkOpen();
+    FileStatus[] stats = new FileStatus[srcs.length];
+    if (!isBatchSupported("getHdfsFileInfo", String[].class)) {
+      for (int i = 0; i < srcs.length; i++) {
+        stats[i] = getFileInfo(srcs[i]);
+      }
+      return stats;
+    }
+    try {
+      HdfsFileStatus[] hdfsStats = namenode.getHdfsFileInfo(srcs);
+      for (int i = 0; i < srcs.length; i++) {
+        stats[i] = toFileStatus(hdfsStats[i], srcs[i]);
+      }
+      return stats;
+    } catch(RemoteException re) {
+      throw re.unwrapRemoteException(AccessControlException.class);
+    }
+  }
+
   /** Get file info: decide which rpc to call based on protocol version */
   private FileStatus versionBasedGetFileInfo(String src) throws IOException {
     if (namenodeVersion >= ClientProtocol.OPTIMIZE_FILE_STATUS_VERSION) {
@@ -2059,6 +2189,41 @@ public class DFSClient implements FSConstants, java.io.Closeable {
     }
   }
 
+  /**
+   * Create many directories (or hierarchies of directories) with the same
+   * permission. If the namenode supports it, all directories are created
+   * in a single call.
+   *
+   * @param srcs The paths of the directories being created
+   * @param permission The permission of the directories being created.
+   * If permission == null, use {@link FsPermission#getDefault()}.
+   * @return for each path, true if the operation succeeded
+   * @see ClientProtocol#mkdirs(String[], FsPermission)
+   */
+  public boolean[] mkdirs(String[] srcs, FsPermission permission)
+      throws IOException {
+    checkOpen();
+    if (!isBatchSupported("mkdirs", String[].class, FsPermission.class)) {
+      boolean[] status = new boolean[srcs.length];
+      for (int i = 0; i < srcs.length; i++) {
+        status[i] = mkdirs(srcs[i], permission);
+      }
+      return status;
+    }
+    if (permission == null) {
+      permission = FsPermission.getDefault();
+    }
+    FsPermission masked = permission.applyUMask(FsPermission.getUMask(conf));
+    try {
+      metrics.incNumCreateDirOps(srcs.length);
+      return namenode.mkdirs(srcs, masked);
+    } catch(RemoteException re) {
+      throw re.unwrapRemoteException(AccessControlException.class,
+                                     NSQuotaExceededException.class,
+                                     DSQuotaExceededException.class);
+    }
+  }
+
   public ContentSummary getContentSummary(String src) throws IOException {
     try {
       return namenode.getContentSummary(src);
@@ -2918,8 +3083,26 @@ public class DFSClient implements FSConstants, java.io.Closeable {
         throw new IOException("No fine provided to open");
       }
 
-      LocatedBlocks newInfo = src != null ? 
-                              getLocatedBlocks(src, 0, prefetchSize) : blocks;
+      LocatedBlocks newInfo = null;
+      if (src != null && locatedBlocksCache != null) {
+        if (locatedBlocks == null) {
+          newInfo = locatedBlocksCache.get(src);
+          if (newInfo instanceof LocatedBlocksWithMetaInfo) {
+            this.namespaceId =
+              ((LocatedBlocksWithMetaInfo)newInfo).getNamespaceID();
+          }
+        } else {
+          // reopening after a failure: the cached locations may be stale
+          locatedBlocksCache.invalidate(src);
+        }
+      }
+      if (newInfo == null) {
+        newInfo = src != null ? getLocatedBlocks(src, 0, prefetchSize) : blocks;
+        if (src != null && locatedBlocksCache != null) {
+          locatedBlocksCache.put(src, newInfo);
+          prefetchAfter(newInfo);
+        }
+      }
       if (newInfo == null) {
         throw new IOException("Cannot open filename " + src);
       }
@@ -2961,6 +3144,45 @@ public class DFSClient implements FSConstants, java.io.Closeable {
       this.currentNode = null;
     }
     
+    /**
+     * Fetch the locations of the blocks following the given ones into
+     * the client's cache in the background.
+     */
+    private void prefetchAfter(LocatedBlocks newBlocks) {
+      if (newBlocks == null || newBlocks.locatedBlockCount() == 0) {
+        return;
+      }
+      LocatedBlock last = newBlocks.get(newBlocks.locatedBlockCount() - 1);
+      locatedBlocksCache.prefetch(src,
+          last.getStartOffset() + last.getBlockSize(), prefetchSize);
+    }
+
+    /**
+     * Fetch the locations of the blocks in the given range, from the
+     * client's cache if it has the block at the offset, and from the
+     * namenode otherwise.
+     * @return located blocks, or null if the namenode has none
+     */
+    private LocatedBlocks fetchLocatedBlocks(long offset, long length)
+        throws IOException {
+      if (locatedBlocksCache == null || src == null ||
+          locatedBlocks.isUnderConstruction()) {
+        return getLocatedBlocks(src, offset, length);
+      }
+      List<LocatedBlock> cached = locatedBlocksCache.getRange(src, offset,
+                                                             length);
+      LocatedBlocks newBlocks;
+      if (cached != null) {
+        newBlocks = new LocatedBlocks(locatedBlocks.getFileLength(), cached,
+                                      false);
+      } else {
+        newBlocks = getLocatedBlocks(src, offset, length);
+        locatedBlocksCache.put(src, newBlocks);
+      }
+      prefetchAfter(newBlocks);
+      return newBlocks;
+    }
+
     private void checkLocatedBlocks(LocatedBlocks locatedBlocks)
         throws IOException {
       if (null == locatedBlocks) {
@@ -3123,7 +3345,7 @@ public class DFSClient implements FSConstants, java.io.Closeable {
       if (blk == null) { // block is not cached
         // fetch more blocks
         LocatedBlocks newBlocks;
-        newBlocks = getLocatedBlocks(src, offset, prefetchSize);
+        newBlocks = fetchLocatedBlocks(offset, prefetchSize);
         if (newBlocks == null) {
           if (!throwWhenNotFound) {
             return null;
@@ -3201,7 +3423,7 @@ public class DFSClient implements FSConstants, java.io.Closeable {
         LocatedBlock blk = locatedBlocks.getBlockContainingOffset(curOff);
         if (blk == null) {
           LocatedBlocks newBlocks;
-          newBlocks = getLocatedBlocks(src, curOff, remaining);
+          newBlocks = fetchLocatedBlocks(curOff, remaining);
           if (newBlocks == null) {
             throw new IOException("Could not get block locations for curOff=" +
                 curOff + ", remaining=" + remaining + " (offset=" + offset +
@@ -20,6 +20,8 @@ package org.apache.hadoop.hdfs;
 
 import java.io.*;
 import java.net.*;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.hadoop.fs.permission.FsPermission;
 import org.apache.hadoop.fs.*;
@@ -187,6 +189,25 @@ public class DistributedFileSystem extends FileSystem {
     return dfs.getLocatedBlocks(getPathName(filePath), start, len);
   }
 
+  /**
+   * Get the block locations of many files within the same range with a
+   * single call to the namenode.
+   * @return the block locations of each file; an entry is empty if its
+   *         file does not exist
+   */
+  public BlockLocation[][] getFileBlockLocations(Path[] files, long start,
+      long len) throws IOException {
+    return dfs.getBlockLocations(getPathNames(files), start, len);
+  }
+
+  private String[] getPathNames(Path[] files) {
+    String[] names = new String[files.length];
+    for (int i = 0; i < files.length; i++) {
+      names[i] = getPathName(files[i]);
+    }
+    return names;
+  }
+
   public void setVerifyChecksum(boolean verifyChecksum) {
     this.verifyChecksum = verifyChecksum;
   }
@@ -393,6 +414,37 @@ public class DistributedFileSystem extends FileSystem {
     }
     return dfs.delete(pathName, recursive);
   }
+
+  /**
+   * Delete many files or directories. Deletes that have to go through the
+   * trash are done one by one, all other paths are deleted with a single
+   * call to the namenode.
+   * @return for each path, true if it was deleted
+   * @see #delete(Path, boolean)
+   */
+  public boolean[] delete(Path[] files, boolean recursive) throws IOException {
+    boolean[] status = new boolean[files.length];
+    List<String> direct = new ArrayList<String>(files.length);
+    List<Integer> directIndex = new ArrayList<Integer>(files.length);
+    for (int i = 0; i < files.length; i++) {
+      String pathName = getPathName(files[i]);
+      int val = deleteUsingTrash(pathName, recursive);
+      if (val == -1) {
+        direct.add(pathName);
+        directIndex.add(i);
+      } else {
+        status[i] = val == 0;
+      }
+    }
+    if (!direct.isEmpty()) {
+      boolean[] deleted = dfs.delete(
+          direct.toArray(new String[direct.size()]), recursive);
+      for (int i = 0; i < deleted.length; i++) {
+        status[directIndex.get(i)] = deleted[i];
+      }
+    }
+    return status;
+  }
   
   /** {@inheritDoc} */
   public ContentSummary getContentSummary(Path f) throws IOException {
@@ -455,6 +507,17 @@ public class DistributedFileSystem extends FileSystem {
     return dfs.mkdirs(getPathName(f), permission);
   }
 
+  /**
+   * Create many directories with the same permission with a single call
+   * to the namenode.
+   * @return for each path, true if the operation succeeded
+   * @see #mkdirs(Path, FsPermission)
+   */
+  public boolean[] mkdirs(Path[] files, FsPermission permission)
+      throws IOException {
+    return dfs.mkdirs(getPathNames(files), permission);
+  }
+
   /**
    * Fetch the list of files that have been open longer than a
    * specified amount of time.
@@ -684,6 +747,22 @@ public class DistributedFileSystem extends FileSystem {
     }
   }
 
+  /**
+   * Get the status of many files with a single call to the namenode.
+   * @return the status of each path; unlike
+   *         {@link #getFileStatus(Path)}, an entry is null if its file does
+   *         not exist
+   */
+  public FileStatus[] getFileStatus(Path[] files) throws IOException {
+    FileStatus[] stats = dfs.getFileInfo(getPathNames(files));
+    for (FileStatus fi : stats) {
+      if (fi != null) {
+        fi.makeQualified(this);
+      }
+    }
+    return stats;
+  }
+
   /** {@inheritDoc} */
   public MD5MD5CRC32FileChecksum getFileChecksum(Path f) throws IOException {
     return dfs.getFileChecksum(getPathName(f));
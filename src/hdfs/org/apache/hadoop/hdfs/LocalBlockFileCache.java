@@ -0,0 +1,260 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hdfs;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.hdfs.protocol.Block;
+import org.apache.hadoop.hdfs.protocol.BlockPathInfo;
+import org.apache.hadoop.hdfs.server.datanode.BlockMetadataHeader;
+import org.apache.hadoop.hdfs.server.datanode.FSDataset;
+import org.apache.hadoop.io.IOUtils;
+import org.apache.hadoop.util.DataChecksum;
+import org.apache.hadoop.util.PureJavaCrc32;
+
+/**
+ * A cache of the open block and meta files of local replicas, shared by
+ * all the {@link BlockReaderLocal}s of a process.
+ *
+ * A reader of a cached replica reuses the files opened by an earlier
+ * reader, so reading a block again does not open and parse its files
+ * again. The files are opened by the client itself, from the paths the
+ * datanode gives for the replica, so the client still needs permission to
+ * read the data directories. Readers read the shared files with positional
+ * reads only, and keep their own offsets.
+ *
+ * The files of a replica are reference counted: the cache holds one
+ * reference and every reader holding them another. When the least
+ * recently used replica is evicted, its files are closed once the last
+ * reader releases them.
+ */
+class LocalBlockFileCache {
+  private static final Log LOG = LogFactory.getLog(LocalBlockFileCache.class);
+
+  /** The open files of one local replica */
+  static class BlockFiles {
+    private final Block block;
+    private final BlockPathInfo pathinfo;
+    private final FileInputStream dataIn;
+    private FileInputStream checksumIn;
+    private int checksumType;
+    private int bytesPerChecksum;
+    private long checksumHeaderSize;
+    private int refCount = 1;
+
+    /**
+     * Open the block file of a replica.
+     * @throws java.io.FileNotFoundException if the block file is gone
+     */
+    BlockFiles(Block block, BlockPathInfo pathinfo) throws IOException {
+      this.block = block;
+      this.pathinfo = pathinfo;
+      this.dataIn = new FileInputStream(new File(pathinfo.getBlockPath()));
+    }
+
+    Block getBlock() {
+      return block;
+    }
+
+    BlockPathInfo getPathInfo() {
+      return pathinfo;
+    }
+
+    FileInputStream getDataStream() {
+      return dataIn;
+    }
+
+    FileChannel getDataChannel() {
+      return dataIn.getChannel();
+    }
+
+    /**
+     * Open the meta file of the replica, unless it is open already, and
+     * read its header.
+     * @return the channel of the meta file
+     */
+    synchronized FileChannel getChecksumChannel() throws IOException {
+      if (checksumIn == null) {
+        FileInputStream in = new FileInputStream(
+            new File(pathinfo.getMetaPath()));
+        try {
+          // an unbuffered stream leaves the channel right after the header
+          BlockMetadataHeader header = BlockMetadataHeader.readHeader(
+              new DataInputStream(in), new PureJavaCrc32());
+          if (header.getVersion() != FSDataset.METADATA_VERSION) {
+            LOG.warn("Wrong version (" + header.getVersion() +
+                ") for metadata file for " + block + " ignoring ...");
+          }
+          checksumType = header.getChecksum().getChecksumType();
+          bytesPerChecksum = header.getChecksum().getBytesPerChecksum();
+          checksumHeaderSize = in.getChannel().position();
+        } catch (IOException e) {
+          IOUtils.closeStream(in);
+          throw e;
+        }
+        checksumIn = in;
+      }
+      return checksumIn.getChannel();
+    }
+
+    /**
+     * @return a new checksum of the type the meta file uses; readers do
+     *         not share checksums since these keep state
+     */
+    synchronized DataChecksum newChecksum() throws IOException {
+      getChecksumChannel();
+      return DataChecksum.newDataChecksum(checksumType, bytesPerChecksum,
+                                          new PureJavaCrc32());
+    }
+
+    /** @return the offset of the first checksum in the meta file */
+    synchronized long getChecksumHeaderSize() throws IOException {
+      getChecksumChannel();
+      return checksumHeaderSize;
+    }
+
+    /**
+     * Take a reference for a reader.
+     * @return false if the files were closed already
+     */
+    synchronized boolean acquire() {
+      if (refCount <= 0) {
+        return false;
+      }
+      refCount++;
+      return true;
+    }
+
+    /**
+     * Drop a reference, and close the files when it was the last one.
+     */
+    synchronized void release() {
+      if (--refCount == 0) {
+        IOUtils.closeStream(dataIn);
+        IOUtils.closeStream(checksumIn);
+      }
+    }
+
+    /** @return if the files are still open */
+    synchronized boolean isOpen() {
+      return refCount > 0;
+    }
+  }
+
+  private final Map<Block, BlockFiles> files;
+
+  /**
+   * @param maxReplicas the number of replicas whose files are kept open
+   *        while no reader uses them
+   */
+  LocalBlockFileCache(final int maxReplicas) {
+    this.files = new LinkedHashMap<Block, BlockFiles>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      protected boolean removeEldestEntry(Map.Entry<Block, BlockFiles> eldest) {
+        if (size() > maxReplicas) {
+          eldest.getValue().release();
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  /**
+   * Get the files of a replica for a reader, who releases them when done.
+   * @return the files, or null if they are not cached
+   */
+  synchronized BlockFiles get(Block block) {
+    BlockFiles cached = files.get(block);
+    if (cached == null) {
+      return null;
+    }
+    if (!cached.acquire()) {
+      files.remove(block);
+      return null;
+    }
+    return cached;
+  }
+
+  /**
+   * Cache the files a reader opened. The reader keeps its reference. If
+   * another reader cached the same replica meanwhile, its files are
+   * returned instead and the given ones are released.
+   * @return the files the reader uses
+   */
+  BlockFiles put(BlockFiles opened) {
+    BlockFiles cached;
+    synchronized (this) {
+      cached = files.get(opened.getBlock());
+      if (cached == null || !cached.acquire()) {
+        opened.acquire();
+        files.put(opened.getBlock(), opened);
+        return opened;
+      }
+    }
+    opened.release();
+    return cached;
+  }
+
+  /**
+   * Drop the files of a replica from the cache, e.g. when they turn out
+   * to be stale. Readers holding them may finish with them.
+   */
+  void invalidate(Block block) {
+    BlockFiles cached;
+    synchronized (this) {
+      cached = files.remove(block);
+    }
+    if (cached != null) {
+      cached.release();
+    }
+  }
+
+  /** @return the number of replicas whose files are cached */
+  synchronized int size() {
+    return files.size();
+  }
+
+  /**
+   * Read from a channel at the given position until the buffer is full
+   * or the end of the file is reached.
+   * @return the number of bytes read, or -1 at the end of the file
+   */
+  static int readFully(FileChannel channel, ByteBuffer buf, long position)
+      throws IOException {
+    int nRead = 0;
+    while (buf.hasRemaining()) {
+      int n = channel.read(buf, position + nRead);
+      if (n < 0) {
+        break;
+      }
+      nRead += n;
+    }
+    return nRead == 0 && buf.hasRemaining() ? -1 : nRead;
+  }
+}
@@ -0,0 +1,284 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hdfs;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hdfs.metrics.DFSClientMetrics;
+import org.apache.hadoop.hdfs.protocol.LocatedBlock;
+import org.apache.hadoop.hdfs.protocol.LocatedBlocks;
+import org.apache.hadoop.hdfs.protocol.LocatedBlocksWithMetaInfo;
+import org.apache.hadoop.hdfs.protocol.VersionedLocatedBlocks;
+
+/**
+ * A cache of the block locations of files, shared by all input streams
+ * of a {@link DFSClient}.
+ *
+ * Streams that open a file, or seek to a part of it whose locations they
+ * do not know yet, look here before asking the namenode, and put what
+ * the namenode returns here for the other streams. The locations of a
+ * file expire a fixed time after they were first fetched, and are
+ * dropped when a stream fails to read from them and goes back to the
+ * namenode. Files under construction are never cached, since their
+ * last block keeps changing.
+ *
+ * When a stream fetches a range of a file, the range after it is fetched
+ * in the background, so that a stream reading ahead finds it here.
+ */
+class LocatedBlocksCache {
+  private static final Log LOG = LogFactory.getLog(LocatedBlocksCache.class);
+
+  /** The cached locations of one file */
+  private static class Entry {
+    final DFSLocatedBlocks blocks;
+    /** The first answer of the namenode, kept for its meta info */
+    final LocatedBlocks first;
+    final long expiry;
+
+    Entry(LocatedBlocks first, long expiry) {
+      this.blocks = new DFSLocatedBlocks(new LocatedBlocks(
+          first.getFileLength(),
+          new ArrayList<LocatedBlock>(first.getLocatedBlocks()), false));
+      this.first = first;
+      this.expiry = expiry;
+    }
+  }
+
+  private final DFSClient client;
+  private final DFSClientMetrics metrics;
+  private final long expiryPeriod;
+  private final Map<String, Entry> entries;
+  /** Ranges being prefetched, by file and offset */
+  private final Set<String> prefetching = new HashSet<String>();
+  private final ThreadPoolExecutor prefetcher;
+
+  /**
+   * @return a cache for the client, or null if the configuration
+   *         disables it
+   */
+  static LocatedBlocksCache create(DFSClient client, Configuration conf,
+                                   DFSClientMetrics metrics) {
+    long expiryPeriod = conf.getLong("dfs.client.locatedblocks.cache.expiry", 0);
+    if (expiryPeriod <= 0) {
+      return null;
+    }
+    return new LocatedBlocksCache(client, metrics, expiryPeriod,
+        conf.getInt("dfs.client.locatedblocks.cache.size", 1024),
+        conf.getInt("dfs.client.locatedblocks.prefetch.threads", 1));
+  }
+
+  LocatedBlocksCache(DFSClient client, DFSClientMetrics metrics,
+                     long expiryPeriod, final int maxFiles,
+                     int prefetchThreads) {
+    this.client = client;
+    this.metrics = metrics;
+    this.expiryPeriod = expiryPeriod;
+    this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        return size() > maxFiles;
+      }
+    };
+    if (prefetchThreads > 0) {
+      // prefetches that do not fit in the queue are rejected and dropped
+      prefetcher = new ThreadPoolExecutor(prefetchThreads, prefetchThreads,
+          60, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(64),
+          new ThreadFactory() {
+            public Thread newThread(Runnable r) {
+              Thread t = new Thread(r, "LocatedBlocksPrefetcher");
+              t.setDaemon(true);
+              return t;
+            }
+          });
+      prefetcher.allowCoreThreadTimeOut(true);
+    } else {
+      prefetcher = null;
+    }
+  }
+
+  /** @return the entry of a file if it has not expired */
+  private synchronized Entry getEntry(String src) {
+    Entry entry = entries.get(src);
+    if (entry != null && entry.expiry <= System.currentTimeMillis()) {
+      entries.remove(src);
+      return null;
+    }
+    return entry;
+  }
+
+  /**
+   * Get the cached locations of a file for a stream that opens it.
+   * @return a copy of the cached locations, or null if there are none
+   */
+  LocatedBlocks get(String src) {
+    Entry entry = getEntry(src);
+    if (entry == null) {
+      metrics.incLocatedBlocksCacheMisses();
+      return null;
+    }
+    metrics.incLocatedBlocksCacheHits();
+    List<LocatedBlock> blocks = entry.blocks.getLocatedBlocksCopy();
+    long length = entry.blocks.getFileLength();
+    if (entry.first instanceof LocatedBlocksWithMetaInfo) {
+      LocatedBlocksWithMetaInfo first = (LocatedBlocksWithMetaInfo)entry.first;
+      return new LocatedBlocksWithMetaInfo(length, blocks, false,
+          first.getDataProtocolVersion(), first.getNamespaceID(),
+          first.getMethodFingerPrint());
+    } else if (entry.first instanceof VersionedLocatedBlocks) {
+      return new VersionedLocatedBlocks(length, blocks, false,
+          ((VersionedLocatedBlocks)entry.first).getDataProtocolVersion());
+    }
+    return new LocatedBlocks(length, blocks, false);
+  }
+
+  /**
+   * Get the cached blocks of a file from the block containing the given
+   * offset up to the end of the given range or the first gap.
+   * @return the blocks, or null if the block containing the offset is not
+   *         cached
+   */
+  List<LocatedBlock> getRange(String src, long offset, long length) {
+    Entry entry = getEntry(src);
+    LocatedBlock blk = entry == null ? null :
+                       entry.blocks.getBlockContainingOffset(offset);
+    if (blk == null) {
+      metrics.incLocatedBlocksCacheMisses();
+      return null;
+    }
+    metrics.incLocatedBlocksCacheHits();
+    List<LocatedBlock> range = new ArrayList<LocatedBlock>();
+    long end = Math.min(offset + length, entry.blocks.getFileLength());
+    while (blk != null) {
+      range.add(blk);
+      long next = blk.getStartOffset() + blk.getBlockSize();
+      if (next >= end || blk.getBlockSize() == 0) {
+        break;
+      }
+      blk = entry.blocks.getBlockContainingOffset(next);
+    }
+    return range;
+  }
+
+  /**
+   * Add the locations fetched from the namenode for a range of a file.
+   */
+  void put(String src, LocatedBlocks blocks) {
+    if (blocks == null || blocks.isUnderConstruction()) {
+      return;
+    }
+    Entry entry = getEntry(src);
+    if (entry != null && entry.blocks.getFileLength() == blocks.getFileLength()) {
+      entry.blocks.insertRange(blocks.getLocatedBlocks());
+      return;
+    }
+    // a new file, or one that was replaced since
+    synchronized (this) {
+      entries.put(src, new Entry(blocks,
+          System.currentTimeMillis() + expiryPeriod));
+    }
+  }
+
+  /**
+   * Drop the locations of a file, e.g. when reading from them failed.
+   */
+  synchronized void invalidate(String src) {
+    entries.remove(src);
+  }
+
+  /**
+   * Drop the locations of a path and of all files below it.
+   */
+  synchronized void invalidateTree(String path) {
+    String prefix = path.endsWith(Path.SEPARATOR) ? path :
+                    path + Path.SEPARATOR;
+    for (Iterator<String> it = entries.keySet().iterator(); it.hasNext();) {
+      String src = it.next();
+      if (src.equals(path) || src.startsWith(prefix)) {
+        it.remove();
+      }
+    }
+  }
+
+  /**
+   * Fetch the locations of a range of a file in the background, unless
+   * they are cached or the range is past the end of the file.
+   */
+  void prefetch(final String src, final long offset, final long length) {
+    if (prefetcher == null) {
+      return;
+    }
+    Entry entry = getEntry(src);
+    if (entry == null || offset >= entry.blocks.getFileLength() ||
+        entry.blocks.getBlockContainingOffset(offset) != null) {
+      return;
+    }
+    final String key = src + ":" + offset;
+    synchronized (prefetching) {
+      if (!prefetching.add(key)) {
+        return;
+      }
+    }
+    try {
+      prefetcher.execute(new Runnable() {
+        public void run() {
+          try {
+            put(src, client.getLocatedBlocks(src, offset, length));
+            metrics.incLocatedBlocksPrefetches();
+          } catch (IOException e) {
+            LOG.debug("Failed to prefetch the block locations of " + src +
+                      " at offset " + offset, e);
+          } finally {
+            synchronized (prefetching) {
+              prefetching.remove(key);
+            }
+          }
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      synchronized (prefetching) {
+        prefetching.remove(key);
+      }
+    }
+  }
+
+  /**
+   * Stop prefetching.
+   */
+  void close() {
+    if (prefetcher != null) {
+      prefetcher.shutdownNow();
+    }
+  }
+}
@@ -52,6 +52,15 @@ public class DFSClientMetrics implements Updater {
 	public MetricsTimeVaryingLong numCreateDirOps = new MetricsTimeVaryingLong(
 			"client.create.directory.operation", registry,
 	"The number of creating directory operations called by DFSClient");
+	public MetricsTimeVaryingLong locatedBlocksCacheHits = new MetricsTimeVaryingLong(
+			"client.locatedblocks.cache.hits", registry,
+	"The number of block location lookups answered by the client cache");
+	public MetricsTimeVaryingLong locatedBlocksCacheMisses = new MetricsTimeVaryingLong(
+			"client.locatedblocks.cache.misses", registry,
+	"The number of block location lookups that went to the namenode");
+	public MetricsTimeVaryingLong locatedBlocksPrefetches = new MetricsTimeVaryingLong(
+			"client.locatedblocks.prefetches", registry,
+	"The number of block location ranges fetched in the background");
 
 
 
@@ -127,6 +136,22 @@ public class DFSClientMetrics implements Updater {
 	public synchronized void incNumCreateDirOps(){
 		numCreateDirOps.inc();
 	}
+
+	public synchronized void incNumCreateDirOps(int count){
+		numCreateDirOps.inc(count);
+	}
+
+	public synchronized void incLocatedBlocksCacheHits(){
+		locatedBlocksCacheHits.inc();
+	}
+
+	public synchronized void incLocatedBlocksCacheMisses(){
+		locatedBlocksCacheMisses.inc();
+	}
+
+	public synchronized void incLocatedBlocksPrefetches(){
+		locatedBlocksPrefetches.inc();
+	}
 	
 	private synchronized long getAndResetLsCalls() {
 		long ret = numLsCalls;
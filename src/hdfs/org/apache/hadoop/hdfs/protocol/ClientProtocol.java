@@ -47,6 +47,7 @@ public interface ClientProtocol extends VersionedProtocol {
   public static final long SAVENAMESPACE_FORCE = 54L;
   public static final long RECOVER_LEASE_VERSION = 55L;
   public static final long CLOSE_RECOVER_LEASE_VERSION = 56L;
+  public static final long BATCH_METADATA_VERSION = 57L;
 
   /**
    * Compared to the previous version the following changes have been introduced:
@@ -57,9 +58,10 @@ public interface ClientProtocol extends VersionedProtocol {
    * 54: Add saveNamespace(boolean force)
    * 55: a lightweight recoverLease introduced.
    * 56: make recoverLease returns if the file is closed or not
+   * 57: batched getBlockLocations, getHdfsFileInfo, delete and mkdirs
    */
 
-  public static final long versionID = CLOSE_RECOVER_LEASE_VERSION;
+  public static final long versionID = BATCH_METADATA_VERSION;
   
   ///////////////////////////////////////
   // File contents
@@ -86,6 +88,24 @@ public interface ClientProtocol extends VersionedProtocol {
   public LocatedBlocks  getBlockLocations(String src,
                                           long offset,
                                           long length) throws IOException;
+
+  /**
+   * Get locations of the blocks of many files within the same range in
+   * one call. The namenode looks up all files under one acquisition of
+   * the namespace lock.
+   *
+   * @param srcs file names
+   * @param offset range start offset
+   * @param length range length
+   * @return the located blocks of each file, in the order of srcs; an
+   *         entry is null if its file does not exist
+   * @throws IOException if the locations of any of the files can not be
+   *         returned
+   * @see #getBlockLocations(String, long, long)
+   */
+  public LocatedBlocks[] getBlockLocations(String[] srcs,
+                                           long offset,
+                                           long length) throws IOException;
   
   public VersionedLocatedBlocks open(String src,
                                      long offset,
@@ -586,6 +606,22 @@ public interface ClientProtocol extends VersionedProtocol {
    * from the file system. 
    */
   public boolean delete(String src, boolean recursive) throws IOException;
+
+  /**
+   * Delete many files or directories in one call. The paths are removed
+   * from the namespace under one acquisition of the namespace lock and
+   * the edits are synced once.
+   * <p>
+   * The paths are deleted in order. If one of them can not be deleted,
+   * the exception is thrown and the paths after it are not deleted.
+   *
+   * @param srcs existing names
+   * @param recursive if true deletes non empty directories recursively,
+   * else throws an exception for them.
+   * @return for each path, true only if it was actually removed
+   * @see #delete(String, boolean)
+   */
+  public boolean[] delete(String[] srcs, boolean recursive) throws IOException;
   
   /**
    * Create a directory (or hierarchy of directories) with the given
@@ -602,6 +638,23 @@ public interface ClientProtocol extends VersionedProtocol {
    */
   public boolean mkdirs(String src, FsPermission masked) throws IOException;
 
+  /**
+   * Create many directories (or hierarchies of directories) with the same
+   * permission in one call. The directories are created under one
+   * acquisition of the namespace lock and the edits are synced once.
+   * <p>
+   * The directories are created in order. If one of them can not be
+   * created, the exception is thrown and the paths after it are not
+   * created.
+   *
+   * @param srcs The paths of the directories being created
+   * @param masked The masked permission of the directories being created
+   * @return for each path, true if the operation succeeded
+   * @see #mkdirs(String, FsPermission)
+   */
+  public boolean[] mkdirs(String[] srcs, FsPermission masked)
+      throws IOException;
+
   /**
    * Fetch the list of files that have been open longer than a
    * specified amount of time.
@@ -854,6 +907,18 @@ public interface ClientProtocol extends VersionedProtocol {
    */
   public HdfsFileStatus getHdfsFileInfo(String src) throws IOException;
 
+  /**
+   * Get the file info for many files or directories in one call. The
+   * namenode looks up all paths under one acquisition of the namespace
+   * lock.
+   * @param srcs The string representations of the paths
+   * @throws IOException if permission to access any of the files is
+   *         denied by the system
+   * @return the file info of each path, in the order of srcs; an entry is
+   *         null if its file is not found
+   */
+  public HdfsFileStatus[] getHdfsFileInfo(String[] srcs) throws IOException;
+
   /**
    * Get {@link ContentSummary} rooted at the specified directory.
    * @param path The string representation of the path
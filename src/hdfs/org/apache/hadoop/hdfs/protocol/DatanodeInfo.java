@@ -42,7 +42,7 @@ public class DatanodeInfo extends DatanodeID implements Node {
   protected long dfsUsed;
   protected long remaining;
   protected long namespaceUsed;
-  protected long lastUpdate;
+  protected volatile long lastUpdate;
   protected int xceiverCount;
   protected String location = NetworkTopology.DEFAULT_RACK;
 
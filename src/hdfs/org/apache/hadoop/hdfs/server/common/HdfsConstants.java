@@ -64,6 +64,17 @@ public interface HdfsConstants {
   public static long DEFAULT_EDIT_PREALLOCATE_SIZE = 1024 * 1024; // 1 MB
   public static int  DEFAULT_EDIT_BUFFER_SIZE = 512 * 1024; // 0.5 MB
   public static int  DEFAULT_MAX_BUFFERED_TRANSACTIONS = 10000; // ten 
+  public static final String DFS_EDIT_GROUP_COMMIT_KEY =
+    "dfs.namenode.edits.groupcommit";
+  public static final boolean DFS_EDIT_GROUP_COMMIT_DEFAULT = false;
+  public static final String DFS_EDIT_GROUP_COMMIT_QUEUE_SIZE_KEY =
+    "dfs.namenode.edits.groupcommit.queue.size";
+  public static int  DEFAULT_EDIT_GROUP_COMMIT_QUEUE_SIZE = 64 * 1024;
+
+  // property for read-only metadata calls without the namespace locks
+  public static final String DFS_NAMENODE_LOCKFREE_READS_KEY =
+    "dfs.namenode.lockfree.reads";
+  public static final boolean DFS_NAMENODE_LOCKFREE_READS_DEFAULT = false;
 
   // property for fsimage compression
   public static final String DFS_IMAGE_COMPRESS_KEY = "dfs.image.compress";
@@ -78,6 +89,18 @@ public interface HdfsConstants {
   public static final String DFS_IMAGE_SAVE_ON_START_KEY =
     "dfs.image.save.on.start";
   public static final boolean DFS_IMAGE_SAVE_ON_START_DEFAULT = true;
+  public static final String DFS_IMAGE_SECTION_SIZE_KEY =
+    "dfs.image.section.size";
+  public static final long DFS_IMAGE_SECTION_SIZE_DEFAULT = 0; // no index
+  public static final String DFS_IMAGE_LOADER_THREADS_KEY =
+    "dfs.image.loader.threads";
+  public static final int DFS_IMAGE_LOADER_THREADS_DEFAULT = 1;
+  public static final String DFS_IMAGE_SAVER_THREADS_KEY =
+    "dfs.image.saver.threads";
+  public static final int DFS_IMAGE_SAVER_THREADS_DEFAULT = 1;
+  public static final String DFS_IMAGE_SAVER_SHARD_INODES_KEY =
+    "dfs.image.saver.shard.inodes";
+  public static final long DFS_IMAGE_SAVER_SHARD_INODES_DEFAULT = 100000;
 
   // The lease holder for recovery initiated by the NameNode
   public static final String NN_RECOVERY_LEASEHOLDER = "NN_Recovery";
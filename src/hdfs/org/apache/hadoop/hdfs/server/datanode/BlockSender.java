@@ -20,6 +20,7 @@ package org.apache.hadoop.hdfs.server.datanode;
 import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -30,7 +31,6 @@ import java.nio.channels.FileChannel;
 import java.util.Arrays;
 
 import org.apache.commons.logging.Log;
-import org.apache.hadoop.fs.ChecksumException;
 import org.apache.hadoop.hdfs.protocol.Block;
 import org.apache.hadoop.hdfs.protocol.DataTransferProtocol;
 import org.apache.hadoop.hdfs.protocol.FSConstants;
@@ -39,6 +39,7 @@ import org.apache.hadoop.io.IOUtils;
 import org.apache.hadoop.net.SocketOutputStream;
 import org.apache.hadoop.util.ChecksumUtil;
 import org.apache.hadoop.util.DataChecksum;
+import org.apache.hadoop.util.NativeCrc32;
 import org.apache.hadoop.util.Progressable;
 import org.apache.hadoop.util.StringUtils;
 
@@ -78,6 +79,11 @@ public class BlockSender implements java.io.Closeable, FSConstants {
    * not sure if there will be much more improvement.
    */
   private static final int MIN_BUFFER_WITH_TRANSFERTO = 64*1024;
+  /**
+   * The direct packet buffer of each thread that sends verified packets.
+   */
+  private static final ThreadLocal<ByteBuffer> directPktBuf =
+    new ThreadLocal<ByteBuffer>();
 
   
   BlockSender(int namespaceId, Block block, long startOffset, long length,
@@ -310,28 +316,18 @@ public class BlockSender implements java.io.Closeable, FSConstants {
     
     int checksumOff = pkt.position();
     int checksumLen = numChunks * checksumSize;
-    byte[] buf = pkt.array();
     
-    if (checksumSize > 0 && checksumIn != null) {
-      try {
-        checksumIn.readFully(buf, checksumOff, checksumLen);
-      } catch (IOException e) {
-        LOG.warn(" Could not read or failed to veirfy checksum for data" +
-                 " at offset " + offset + " for block " + block + " got : "
-                 + StringUtils.stringifyException(e));
-        IOUtils.closeStream(checksumIn);
-        checksumIn = null;
-        if (corruptChecksumOk) {
-          if (checksumOff < checksumLen) {
-            // Just fill the array with zeros.
-            Arrays.fill(buf, checksumOff, checksumLen, (byte) 0);
-          }
-        } else {
-          throw e;
-        }
+    if (pkt.isDirect()) {
+      sendVerifiedChunks(pkt, len, checksumLen, out);
+      if (throttler != null) { // rebalancing so throttle
+        throttler.throttle(packetLen);
       }
+      return len;
     }
     
+    byte[] buf = pkt.array();
+    readChecksums(buf, checksumOff, checksumLen);
+    
     int dataOff = checksumOff + checksumLen;
     
     if (blockInPosition < 0) {
@@ -339,22 +335,8 @@ public class BlockSender implements java.io.Closeable, FSConstants {
       IOUtils.readFully(blockIn, buf, dataOff, len);
 
       if (verifyChecksum) {
-        int dOff = dataOff;
-        int cOff = checksumOff;
-        int dLeft = len;
-
-        for (int i=0; i<numChunks; i++) {
-          checksum.reset();
-          int dLen = Math.min(dLeft, bytesPerChecksum);
-          checksum.update(buf, dOff, dLen);
-          if (!checksum.compare(buf, cOff)) {
-            throw new ChecksumException("Checksum failed at " + 
-                                        (offset + len - dLeft), len);
-          }
-          dLeft -= dLen;
-          dOff += dLen;
-          cOff += checksumSize;
-        }
+        checksum.verifyChunkedSums(buf, dataOff, len, buf, checksumOff,
+                                   block.toString(), offset);
       }
       
       // only recompute checksum if we can't trust the meta data due to 
@@ -413,6 +395,82 @@ public class BlockSender implements java.io.Closeable, FSConstants {
     return len;
   }
 
+  /**
+   * Reads the checksums of the next chunks into buf. If they cannot be read
+   * and corrupt checksums are ok, they are left as zeros.
+   */
+  private void readChecksums(byte[] buf, int checksumOff, int checksumLen)
+      throws IOException {
+    if (checksumSize > 0 && checksumIn != null) {
+      try {
+        checksumIn.readFully(buf, checksumOff, checksumLen);
+      } catch (IOException e) {
+        LOG.warn(" Could not read or failed to veirfy checksum for data" +
+                 " at offset " + offset + " for block " + block + " got : "
+                 + StringUtils.stringifyException(e));
+        IOUtils.closeStream(checksumIn);
+        checksumIn = null;
+        if (corruptChecksumOk) {
+          if (checksumOff < checksumLen) {
+            // Just fill the array with zeros.
+            Arrays.fill(buf, checksumOff, checksumLen, (byte) 0);
+          }
+        } else {
+          throw e;
+        }
+      }
+    }
+  }
+
+  /**
+   * Sends the chunks of a packet whose header is in the direct buffer pkt,
+   * verifying their checksums on the way. The data is read from the block
+   * file into pkt right after the checksums, verified there natively, and
+   * written to the socket from it, so it is never copied to the heap.
+   */
+  private void sendVerifiedChunks(ByteBuffer pkt, int len, int checksumLen,
+                                  OutputStream out) throws IOException {
+    int checksumOff = pkt.position();
+    int dataOff = checksumOff + checksumLen;
+    byte[] sums = new byte[checksumLen];
+    readChecksums(sums, 0, checksumLen);
+    pkt.put(sums);
+
+    FileChannel fileChannel = ((FileInputStream) blockIn).getChannel();
+    ByteBuffer data = pkt.duplicate();
+    data.limit(dataOff + len);
+    while (data.hasRemaining()) {
+      if (fileChannel.read(data, blockInPosition + data.position() -
+                                 dataOff) < 0) {
+        throw new EOFException("Premature EOF from block " + block +
+                               " at offset " + offset);
+      }
+    }
+    data.position(dataOff);
+    ByteBuffer checksums = pkt.duplicate();
+    checksums.position(checksumOff);
+    checksums.limit(dataOff);
+
+    checksum.verifyChunkedSums(data, checksums, block.toString(), offset);
+    // only recompute checksum if we can't trust the meta data due to 
+    // concurrent writes
+    if (memoizedBlock.hasBlockChanged(len)) {
+      checksum.calculateChunkedSums(data, checksums);
+    }
+
+    pkt.position(0);
+    pkt.limit(dataOff + len);
+    try {
+      SocketOutputStream sockOut = (SocketOutputStream) out;
+      while (pkt.hasRemaining()) {
+        sockOut.write(pkt);
+      }
+    } catch (IOException e) {
+      throw ioeToSocketException(e);
+    }
+    blockInPosition += len;
+  }
+
   /**
    * sendBlock() is used to read block and its metadata and stream the data to
    * either a client or to another datanode. 
@@ -471,7 +529,9 @@ public class BlockSender implements java.io.Closeable, FSConstants {
       int maxChunksPerPacket;
       int pktSize = SIZE_OF_INTEGER + DataNode.PKT_HEADER_LEN;
       
-      if (transferToAllowed && !verifyChecksum && 
+      // verified packets can skip the heap only if checksums are native
+      if (transferToAllowed && 
+          (!verifyChecksum || NativeCrc32.isAvailable()) &&
           baseStream instanceof SocketOutputStream && 
           blockIn instanceof FileInputStream) {
         
@@ -495,7 +555,17 @@ public class BlockSender implements java.io.Closeable, FSConstants {
         pktSize += (bytesPerChecksum + checksumSize) * maxChunksPerPacket;
       }
 
-      ByteBuffer pktBuf = ByteBuffer.allocate(pktSize);
+      ByteBuffer pktBuf;
+      if (blockInPosition >= 0 && verifyChecksum) {
+        // packets to verify move through a direct buffer reused by the thread
+        pktBuf = directPktBuf.get();
+        if (pktBuf == null || pktBuf.capacity() < pktSize) {
+          pktBuf = ByteBuffer.allocateDirect(pktSize);
+          directPktBuf.set(pktBuf);
+        }
+      } else {
+        pktBuf = ByteBuffer.allocate(pktSize);
+      }
 
       while (endOffset > offset) {
         long len = sendChunks(pktBuf, maxChunksPerPacket, 
@@ -101,6 +101,7 @@ import org.apache.hadoop.hdfs.server.protocol.BlockCommand;
 import org.apache.hadoop.hdfs.server.protocol.BlockMetaDataInfo;
 import org.apache.hadoop.hdfs.server.protocol.BlockRecoveryInfo;
 import org.apache.hadoop.hdfs.server.protocol.BlockReport;
+import org.apache.hadoop.hdfs.server.protocol.BlockReportDigest;
 import org.apache.hadoop.hdfs.server.protocol.DatanodeCommand;
 import org.apache.hadoop.hdfs.server.protocol.DatanodeProtocol;
 import org.apache.hadoop.hdfs.server.protocol.DatanodeRegistration;
@@ -221,6 +222,10 @@ public class DataNode extends ReconfigurableBase
   ThreadGroup threadGroup = null;
   long blockReportInterval;
   long deletedReportInterval;
+  // send a digest instead of the periodic full block report
+  boolean blockReportDigestEnabled;
+  // full reports replaced by a digest in a row before one is sent anyway
+  int blockReportDigestMaxSkipped;
   long initialBlockReportDelay = BLOCKREPORT_INITIAL_DELAY * 1000L;
   long heartBeatInterval;
   DataStorage storage = null;
@@ -404,6 +409,10 @@ public class DataNode extends ReconfigurableBase
     // Calculate the full block report interval
     int fullReportMagnifier = conf.getInt("dfs.fullblockreport.magnifier", 2);
     this.blockReportInterval = fullReportMagnifier * deletedReportInterval;
+    this.blockReportDigestEnabled =
+      conf.getBoolean("dfs.blockreport.digest", false);
+    this.blockReportDigestMaxSkipped =
+      conf.getInt("dfs.blockreport.digest.max.skipped", 10);
     this.heartBeatInterval = conf.getLong("dfs.heartbeat.interval", HEARTBEAT_INTERVAL) * 1000L;
     long heartbeatRecheckInterval = conf.getInt(
         "heartbeat.recheck.interval", 5 * 60 * 1000); // 5 minutes
@@ -936,6 +945,12 @@ public class DataNode extends ReconfigurableBase
     private final LinkedList<Block> receivedAndDeletedBlockList 
       = new LinkedList<Block>();
     private int pendingReceivedRequests = 0;
+    // number of blocks ever queued in receivedAndDeletedBlockList
+    private long receivedAndDeletedCount = 0;
+    // set when the next periodic report must be a full one
+    private boolean fullBlockReportNeeded = true;
+    // full block reports replaced by a digest since the last full one
+    private int fullReportsSkipped = 0;
     private volatile boolean shouldServiceRun = true;
     UpgradeManagerDatanode upgradeManager = null;
     private ScheduledFuture keepAliveRun = null;
@@ -1015,38 +1030,7 @@ public class DataNode extends ReconfigurableBase
           // or if the deletedReportInterval passed.
           if (firstBlockReportSent && (pendingReceivedRequests > 0
               || (startTime - lastDeletedReport > deletedReportInterval))) {
-            Block[] receivedAndDeletedBlockArray = null;
-            int currentReceivedRequestsCounter = pendingReceivedRequests;
-            synchronized (receivedAndDeletedBlockList) {
-                lastDeletedReport = startTime;
-
-                int numBlocksReceivedAndDeleted = receivedAndDeletedBlockList
-                    .size();
-                if (numBlocksReceivedAndDeleted > 0) {
-                  receivedAndDeletedBlockArray = receivedAndDeletedBlockList
-                      .toArray(new Block[numBlocksReceivedAndDeleted]);
-                }
-            }
-            if (receivedAndDeletedBlockArray != null) {
-              long rpcStartTime = 0;
-              if (LOG.isDebugEnabled()) {
-                rpcStartTime = System.nanoTime();
-                LOG.debug("sending blockReceivedAndDeleted "
-                    + receivedAndDeletedBlockArray.length + " blocks to " + nnAddr);
-              }
-              nsNamenode.blockReceivedAndDeleted(nsRegistration, receivedAndDeletedBlockArray);
-              if (LOG.isDebugEnabled()) {
-                LOG.debug("finshed blockReceivedAndDeleted to " + nnAddr
-                    + " time: " + (System.nanoTime() - rpcStartTime) + " ns");
-              }
-              synchronized (receivedAndDeletedBlockList) {
-                for (int i = 0; i < receivedAndDeletedBlockArray.length; i++) {
-                  receivedAndDeletedBlockList
-                      .remove(receivedAndDeletedBlockArray[i]);
-                }
-                pendingReceivedRequests-=currentReceivedRequestsCounter;
-              }
-            }
+            sendReceivedAndDeletedBlocks(startTime);
           }
 
 
@@ -1058,15 +1042,20 @@ public class DataNode extends ReconfigurableBase
             // and can be safely GC'ed.
             //
             long brStartTime = now();
-            Block[] bReport = data.getBlockReport(namespaceId);
-
-            DatanodeCommand cmd = nsNamenode.blockReport(nsRegistration,
-                    new BlockReport(BlockListAsLongs.convertToArrayLongs(bReport)));
-            firstBlockReportSent = true;
-            long brTime = now() - brStartTime;
-            myMetrics.blockReports.inc(brTime);
-            LOG.info("BlockReport of " + bReport.length +
-                " blocks got processed in " + brTime + " msecs");
+            DatanodeCommand cmd = null;
+            if (!sendBlockReportDigest(brStartTime)) {
+              Block[] bReport = data.getBlockReport(namespaceId);
+
+              cmd = nsNamenode.blockReport(nsRegistration,
+                  new BlockReport(BlockListAsLongs.convertToArrayLongs(bReport)));
+              firstBlockReportSent = true;
+              fullBlockReportNeeded = false;
+              fullReportsSkipped = 0;
+              long brTime = now() - brStartTime;
+              myMetrics.blockReports.inc(brTime);
+              LOG.info("BlockReport of " + bReport.length +
+                  " blocks got processed in " + brTime + " msecs");
+            }
             //
             // If we have sent the first block report, then wait a random
             // time before we start the periodic block reports.
@@ -1125,6 +1114,92 @@ public class DataNode extends ReconfigurableBase
       } // while (shouldRun)
     } // offerService
     
+    /**
+     * Send the blocks received and deleted since the last call to the
+     * namenode.
+     */
+    private void sendReceivedAndDeletedBlocks(long startTime)
+        throws IOException {
+      Block[] receivedAndDeletedBlockArray = null;
+      int currentReceivedRequestsCounter = pendingReceivedRequests;
+      synchronized (receivedAndDeletedBlockList) {
+          lastDeletedReport = startTime;
+
+          int numBlocksReceivedAndDeleted = receivedAndDeletedBlockList
+              .size();
+          if (numBlocksReceivedAndDeleted > 0) {
+            receivedAndDeletedBlockArray = receivedAndDeletedBlockList
+                .toArray(new Block[numBlocksReceivedAndDeleted]);
+          }
+      }
+      if (receivedAndDeletedBlockArray != null) {
+        long rpcStartTime = 0;
+        if (LOG.isDebugEnabled()) {
+          rpcStartTime = System.nanoTime();
+          LOG.debug("sending blockReceivedAndDeleted "
+              + receivedAndDeletedBlockArray.length + " blocks to " + nnAddr);
+        }
+        nsNamenode.blockReceivedAndDeleted(nsRegistration, receivedAndDeletedBlockArray);
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("finshed blockReceivedAndDeleted to " + nnAddr
+              + " time: " + (System.nanoTime() - rpcStartTime) + " ns");
+        }
+        synchronized (receivedAndDeletedBlockList) {
+          for (int i = 0; i < receivedAndDeletedBlockArray.length; i++) {
+            receivedAndDeletedBlockList
+                .remove(receivedAndDeletedBlockArray[i]);
+          }
+          pendingReceivedRequests-=currentReceivedRequestsCounter;
+        }
+      }
+    }
+
+    /**
+     * Replace the periodic full block report by a digest of the blocks if
+     * the namenode is up to date with every block received and deleted.
+     * Falls back to a full report after blockReportDigestMaxSkipped digests
+     * in a row, and whenever the namenode disagrees with the digest.
+     *
+     * @return true if the namenode accepted the digest and no full block
+     *         report has to be sent
+     */
+    private boolean sendBlockReportDigest(long startTime) throws IOException {
+      if (!blockReportDigestEnabled || !firstBlockReportSent
+          || fullBlockReportNeeded
+          || fullReportsSkipped >= blockReportDigestMaxSkipped) {
+        return false;
+      }
+      // the namenode has to know about every change before the scan
+      sendReceivedAndDeletedBlocks(startTime);
+      long queuedBeforeScan;
+      synchronized (receivedAndDeletedBlockList) {
+        if (!receivedAndDeletedBlockList.isEmpty()) {
+          return false;
+        }
+        queuedBeforeScan = receivedAndDeletedCount;
+      }
+      Block[] bReport = data.getBlockReport(namespaceId);
+      synchronized (receivedAndDeletedBlockList) {
+        if (receivedAndDeletedCount != queuedBeforeScan) {
+          // a block changed during the scan; the digest may be off
+          return false;
+        }
+      }
+      BlockReportDigest digest = BlockReportDigest.of(bReport);
+      if (!nsNamenode.blockReportDigest(nsRegistration,
+          digest.getNumBlocks(), digest.getDigest())) {
+        LOG.info("BlockReport digest of " + digest
+            + " does not match the namenode, sending a full report");
+        return false;
+      }
+      fullReportsSkipped++;
+      long brTime = now() - startTime;
+      myMetrics.blockReportDigests.inc(brTime);
+      LOG.info("BlockReport digest of " + bReport.length +
+          " blocks got processed in " + brTime + " msecs");
+      return true;
+    }
+
     /**
      * When a block has been received, we can delay some period of time before
      * reporting it to the DN, for the purpose of testing. This simulates
@@ -1383,6 +1458,7 @@ public class DataNode extends ReconfigurableBase
         lastBlockReport = lastHeartbeat - blockReportInterval;
       }
       resetBlockReportTime = true; // reset future BRs for randomness
+      fullBlockReportNeeded = true;
     }
     
     /**
@@ -1431,6 +1507,7 @@ public class DataNode extends ReconfigurableBase
 
       synchronized (receivedAndDeletedBlockList) {
         receivedAndDeletedBlockList.add(block);
+        receivedAndDeletedCount++;
         pendingReceivedRequests++;
         receivedAndDeletedBlockList.notifyAll();
       }
@@ -1448,6 +1525,7 @@ public class DataNode extends ReconfigurableBase
 
       synchronized (receivedAndDeletedBlockList) {
         receivedAndDeletedBlockList.add(block);
+        receivedAndDeletedCount++;
       }
     }
     
@@ -19,10 +19,13 @@ package org.apache.hadoop.hdfs.server.datanode;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.SequenceInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.nio.channels.FileChannel;
@@ -62,10 +65,22 @@ class DataXceiver implements Runnable, FSConstants {
   String localAddress = null;  // local address of this daemon
   DataNode datanode;
   DataXceiverServer dataXceiverServer;
+  /** The start of the request, already read by the server, or null */
+  private byte[] header;
   
   public DataXceiver(Socket s, DataNode datanode, 
       DataXceiverServer dataXceiverServer) {
+    this(s, null, datanode, dataXceiverServer);
+  }
+
+  /**
+   * @param header the first bytes of the request, which the server read
+   *        from the connection to choose a worker for it
+   */
+  DataXceiver(Socket s, byte[] header, DataNode datanode,
+      DataXceiverServer dataXceiverServer) {
     this.s = s;
+    this.header = header;
     this.datanode = datanode;
     this.dataXceiverServer = dataXceiverServer;
 
@@ -109,15 +124,21 @@ class DataXceiver implements Runnable, FSConstants {
       getAddresses();
     }
     
+    // workers of a pool get their name back when done
+    String threadName = Thread.currentThread().getName();
     DataInputStream in=null; 
     byte op = -1;
     try {
       s.setTcpNoDelay(true);
       s.setSoTimeout(datanode.socketTimeout*5);
 
+      InputStream rawIn = NetUtils.getInputStream(s);
+      if (header != null) {
+        rawIn = new SequenceInputStream(new ByteArrayInputStream(header),
+                                        rawIn);
+      }
       in = new DataInputStream(
-          new BufferedInputStream(NetUtils.getInputStream(s), 
-                                  SMALL_BUFFER_SIZE));
+          new BufferedInputStream(rawIn, SMALL_BUFFER_SIZE));
       VersionAndOpcode versionAndOpcode = new VersionAndOpcode();
       versionAndOpcode.readFields(in);
       op = versionAndOpcode.getOpCode();
@@ -196,6 +217,7 @@ class DataXceiver implements Runnable, FSConstants {
       IOUtils.closeStream(in);
       IOUtils.closeSocket(s);
       dataXceiverServer.childSockets.remove(s);
+      Thread.currentThread().setName(threadName);
     }
   }
 
@@ -21,16 +21,32 @@ import java.io.IOException;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.logging.Log;
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hdfs.protocol.DataTransferProtocol;
 import org.apache.hadoop.hdfs.protocol.FSConstants;
 import org.apache.hadoop.hdfs.server.balancer.Balancer;
 import org.apache.hadoop.hdfs.util.DataTransferThrottler;
+import org.apache.hadoop.hdfs.util.InjectionEvent;
+import org.apache.hadoop.hdfs.util.InjectionHandler;
+import org.apache.hadoop.io.IOUtils;
 import org.apache.hadoop.util.Daemon;
 import org.apache.hadoop.util.StringUtils;
 
@@ -39,6 +55,16 @@ import org.apache.hadoop.util.StringUtils;
  * This is created to listen for requests from clients or 
  * other DataNodes.  This small server does not use the 
  * Hadoop IPC mechanism.
+ *
+ * By default every connection gets its own thread. When
+ * dfs.datanode.xceiver.read.threads is set, the server instead selects on
+ * the accepted connections until their operation arrives, so connections
+ * that have not sent a request yet cost no thread. Reads are then served by
+ * a bounded pool of that many threads, and block moves for balancing by a
+ * pool of their own, so that neither can starve the other. A request that
+ * finds the queue of its pool full is refused by closing the connection,
+ * and the client goes to another datanode. Writes still get a thread each,
+ * since a pipeline must not wait behind other requests.
  */
 class DataXceiverServer implements Runnable, FSConstants {
   public static final Log LOG = DataNode.LOG;
@@ -107,6 +133,22 @@ class DataXceiverServer implements Runnable, FSConstants {
    */
   long estimateBlockSize;
   
+  /** A connection whose operation has not arrived yet */
+  private static class PendingConnection {
+    final SocketChannel channel;
+    /** The data transfer version and the opcode */
+    final ByteBuffer header = ByteBuffer.allocate(3);
+    final long acceptTime = System.currentTimeMillis();
+
+    PendingConnection(SocketChannel channel) {
+      this.channel = channel;
+    }
+  }
+
+  /** Pools serving reads and block moves, null for a thread per connection */
+  private ThreadPoolExecutor readPool;
+  private ThreadPoolExecutor balancePool;
+  private Selector selector;
   
   DataXceiverServer(ServerSocket ss, Configuration conf, 
       DataNode datanode) {
@@ -122,11 +164,50 @@ class DataXceiverServer implements Runnable, FSConstants {
     //set up parameter for cluster balancing
     this.balanceThrottler = new BlockBalanceThrottler(
       conf.getLong("dfs.balance.bandwidthPerSec", 1024L*1024));
+
+    int readThreads = conf.getInt("dfs.datanode.xceiver.read.threads", 0);
+    if (readThreads > 0 && ss.getChannel() != null) {
+      readPool = newPool("DataXceiver read", readThreads,
+          conf.getInt("dfs.datanode.xceiver.read.queue.size", 4 * readThreads));
+      balancePool = newPool("DataXceiver balance",
+          Balancer.MAX_NUM_CONCURRENT_MOVES, Balancer.MAX_NUM_CONCURRENT_MOVES);
+      LOG.info("Serving reads with " + readThreads + " threads");
+    }
+  }
+
+  private ThreadPoolExecutor newPool(final String name, int threads,
+                                     int queueSize) {
+    ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads,
+        60, TimeUnit.SECONDS, new ArrayBlockingQueue<Runnable>(queueSize),
+        new ThreadFactory() {
+          public Thread newThread(Runnable r) {
+            Thread t = new Daemon(datanode.threadGroup, r);
+            t.setName(name);
+            return t;
+          }
+        });
+    // idle workers exit, so that they do not count as xceivers
+    pool.allowCoreThreadTimeOut(true);
+    return pool;
+  }
+
+  /** @return the pool serving reads, null for a thread per connection */
+  ThreadPoolExecutor getReadPool() {
+    return readPool;
+  }
+
+  /** @return the pool serving block moves, null for a thread per connection */
+  ThreadPoolExecutor getBalancePool() {
+    return balancePool;
   }
 
   /**
    */
   public void run() {
+    if (readPool != null) {
+      runSelector();
+      return;
+    }
     while (datanode.shouldRun) {
       try {
         Socket s = ss.accept();
@@ -152,6 +233,178 @@ class DataXceiverServer implements Runnable, FSConstants {
     }
   }
   
+  /**
+   * Accept connections and wait for their operations on a selector, and
+   * hand each connection to a worker once its operation is known.
+   */
+  private void runSelector() {
+    try {
+      selector = Selector.open();
+      ServerSocketChannel serverChannel = ss.getChannel();
+      serverChannel.configureBlocking(false);
+      serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+      long lastIdleCheck = System.currentTimeMillis();
+      while (datanode.shouldRun) {
+        List<PendingConnection> ready = new ArrayList<PendingConnection>();
+        try {
+          selector.select(1000);
+          for (Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+               it.hasNext();) {
+            SelectionKey key = it.next();
+            it.remove();
+            if (!key.isValid()) {
+              continue;
+            }
+            if (key.isAcceptable()) {
+              accept(serverChannel);
+            } else if (key.isReadable()) {
+              readHeader(key, ready);
+            }
+          }
+          if (!ready.isEmpty()) {
+            // deregister the channels before they go back to blocking mode
+            selector.selectNow();
+          }
+        } catch (IOException ie) {
+          LOG.warn(datanode.getDatanodeInfo() + ":DataXceiveServer: " 
+                                  + StringUtils.stringifyException(ie));
+        }
+        for (PendingConnection conn : ready) {
+          dispatch(conn);
+        }
+        long now = System.currentTimeMillis();
+        if (now - lastIdleCheck > 1000) {
+          closeIdleConnections(now);
+          lastIdleCheck = now;
+        }
+      }
+    } catch (Throwable te) {
+      if (datanode.shouldRun) {
+        LOG.error(datanode.getDatanodeInfo() + ":DataXceiveServer: Exiting due to:" 
+                                 + StringUtils.stringifyException(te));
+        datanode.shouldRun = false;
+      }
+    } finally {
+      if (selector != null) {
+        try {
+          selector.close();
+        } catch (IOException ignored) {
+        }
+      }
+      try {
+        ss.close();
+      } catch (IOException ie) {
+        LOG.warn(datanode.getDatanodeInfo() + ":DataXceiveServer: " 
+                                + StringUtils.stringifyException(ie));
+      }
+    }
+  }
+
+  private void accept(ServerSocketChannel serverChannel) throws IOException {
+    SocketChannel channel;
+    while ((channel = serverChannel.accept()) != null) {
+      childSockets.put(channel.socket(), channel.socket());
+      try {
+        channel.configureBlocking(false);
+        channel.register(selector, SelectionKey.OP_READ,
+                         new PendingConnection(channel));
+      } catch (IOException ie) {
+        close(channel);
+        throw ie;
+      }
+    }
+  }
+
+  /**
+   * Read what arrived of the header of a connection, and add it to ready
+   * once the opcode is there.
+   */
+  private void readHeader(SelectionKey key, List<PendingConnection> ready) {
+    PendingConnection conn = (PendingConnection)key.attachment();
+    try {
+      if (conn.channel.read(conn.header) < 0) {
+        key.cancel();
+        close(conn.channel);
+        return;
+      }
+    } catch (IOException ie) {
+      key.cancel();
+      close(conn.channel);
+      return;
+    }
+    if (!conn.header.hasRemaining()) {
+      key.cancel();
+      ready.add(conn);
+    }
+  }
+
+  /**
+   * Hand a connection whose opcode arrived to the pool for its operation,
+   * or to a thread of its own.
+   */
+  private void dispatch(PendingConnection conn) {
+    Socket s = conn.channel.socket();
+    byte[] header = conn.header.array();
+    try {
+      conn.channel.configureBlocking(true);
+      DataXceiver xceiver = new DataXceiver(s, header, datanode, this);
+      ThreadPoolExecutor pool;
+      switch (header[2]) {
+      case DataTransferProtocol.OP_READ_BLOCK:
+      case DataTransferProtocol.OP_READ_BLOCK_ACCELERATOR:
+      case DataTransferProtocol.OP_READ_METADATA:
+      case DataTransferProtocol.OP_BLOCK_CHECKSUM:
+        pool = readPool;
+        break;
+      case DataTransferProtocol.OP_REPLACE_BLOCK:
+      case DataTransferProtocol.OP_COPY_BLOCK:
+        pool = balancePool;
+        break;
+      default:
+        pool = null;
+      }
+      if (pool == null) {
+        new Daemon(datanode.threadGroup, xceiver).start();
+      } else {
+        pool.execute(xceiver);
+      }
+    } catch (RejectedExecutionException e) {
+      LOG.warn(datanode.getDatanodeInfo() + ":DataXceiveServer: refusing " +
+               s.getRemoteSocketAddress() + " because the queue for opcode " +
+               header[2] + " is full");
+      InjectionHandler.processEvent(
+          InjectionEvent.DATAXCEIVERSERVER_CONNECTION_REFUSED, header[2]);
+      close(conn.channel);
+    } catch (IOException ie) {
+      LOG.warn(datanode.getDatanodeInfo() + ":DataXceiveServer: " 
+                              + StringUtils.stringifyException(ie));
+      close(conn.channel);
+    }
+  }
+
+  /**
+   * Close the connections that did not send their operation in time.
+   */
+  private void closeIdleConnections(long now) {
+    if (datanode.socketTimeout <= 0) {
+      return;
+    }
+    for (SelectionKey key : selector.keys()) {
+      Object attachment = key.attachment();
+      if (attachment instanceof PendingConnection &&
+          now - ((PendingConnection)attachment).acceptTime >
+          datanode.socketTimeout * 5L) {
+        key.cancel();
+        close(((PendingConnection)attachment).channel);
+      }
+    }
+  }
+
+  private void close(SocketChannel channel) {
+    childSockets.remove(channel.socket());
+    IOUtils.closeSocket(channel.socket());
+  }
+
   void kill() {
     assert datanode.shouldRun == false :
       "shoudRun should be set to false before killing";
@@ -161,6 +414,13 @@ class DataXceiverServer implements Runnable, FSConstants {
       LOG.warn(datanode.getDatanodeInfo() + ":DataXceiveServer.kill(): " 
                               + StringUtils.stringifyException(ie));
     }
+    if (readPool != null) {
+      if (selector != null) {
+        selector.wakeup();
+      }
+      readPool.shutdownNow();
+      balancePool.shutdownNow();
+    }
 
     // close all the sockets that were accepted earlier
     synchronized (childSockets) {
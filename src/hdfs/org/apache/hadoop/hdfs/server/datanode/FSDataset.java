@@ -18,6 +18,10 @@
 package org.apache.hadoop.hdfs.server.datanode;
 
 import java.nio.channels.FileChannel;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -40,6 +44,9 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
 
 import javax.management.NotCompliantMBeanException;
 import javax.management.ObjectName;
@@ -61,8 +68,12 @@ import org.apache.hadoop.hdfs.server.datanode.metrics.FSDatasetMBean;
 import org.apache.hadoop.hdfs.server.protocol.BlockFlags;
 import org.apache.hadoop.hdfs.server.protocol.BlockRecoveryInfo;
 import org.apache.hadoop.hdfs.server.protocol.InterDatanodeProtocol;
+import org.apache.hadoop.hdfs.util.InjectionEvent;
+import org.apache.hadoop.hdfs.util.InjectionHandler;
 import org.apache.hadoop.hdfs.util.LightWeightHashSet;
+import org.apache.hadoop.io.IOUtils;
 import org.apache.hadoop.metrics.util.MBeanUtil;
+import org.apache.hadoop.util.Daemon;
 import org.apache.hadoop.util.DataChecksum;
 import org.apache.hadoop.util.StringUtils;
 import org.apache.hadoop.util.VersionInfo;
@@ -97,7 +108,11 @@ public class FSDataset implements FSConstants, FSDatasetInterface {
     private final File detachDir; // directory store Finalized replica
     private final File rbwDir ; // directory store RBW replica
     private final File tmpDir; // directory store Temporary replica
+    private final File replicaIndexFile; // finalized replicas at last shutdown
     private final NamespaceSliceDU dfsUsage;
+    private Daemon replicaIndexVerifier;
+    // replicas removed while the replica index is verified, under the lock
+    private LightWeightHashSet<Block> removedReplicas;
 
     /**
      * 
@@ -113,7 +128,10 @@ public class FSDataset implements FSConstants, FSDatasetInterface {
       this.volume = volume;
       File nsDirCur = new File(nsDir, DataStorage.STORAGE_DIR_CURRENT); 
       File dataDirFile = new File(nsDirCur, DataStorage.STORAGE_DIR_FINALIZED);
-      this.dataDir = new FSDir(namespaceId, dataDirFile, volume);
+      this.replicaIndexFile = new File(nsDirCur, REPLICA_INDEX_FILE);
+      FSDir indexedDir = useReplicaIndex ? loadReplicaIndex(dataDirFile) : null;
+      this.dataDir = indexedDir != null ? indexedDir :
+                     new FSDir(namespaceId, dataDirFile, volume);
             
       this.detachDir = new File(nsDir, "detach");
       if (detachDir.exists()) {
@@ -172,6 +190,226 @@ public class FSDataset implements FSConstants, FSDatasetInterface {
     void getBlockInfo(LightWeightHashSet<Block> blocks){
       dataDir.getBlockInfo(blocks);
     }
+
+    /**
+     * Restore the finalized replicas of the slice from the index saved at
+     * the last shutdown, instead of scanning the volume. The index is
+     * deleted once read, so that it is never used after an unclean
+     * shutdown, and the volume is scanned in the background to pick up
+     * what changed on the disk while the datanode was down.
+     * @return the restored directory tree, or null if there is no usable
+     *         index and the volume has to be scanned
+     */
+    private FSDir loadReplicaIndex(File dataDirFile) {
+      if (!replicaIndexFile.exists()) {
+        return null;
+      }
+      long startTime = System.currentTimeMillis();
+      List<Block> blocks = new ArrayList<Block>();
+      List<File> files = new ArrayList<File>();
+      FSDir root = null;
+      DataInputStream in = null;
+      try {
+        CheckedInputStream checked = new CheckedInputStream(
+            new BufferedInputStream(new FileInputStream(replicaIndexFile),
+                                    BUFFER_SIZE), new CRC32());
+        in = new DataInputStream(checked);
+        int version = in.readInt();
+        if (version != REPLICA_INDEX_VERSION) {
+          throw new IOException("Unsupported version " + version);
+        }
+        String path = in.readUTF();
+        if (!path.equals(dataDirFile.getAbsolutePath())) {
+          throw new IOException("Index is for " + path);
+        }
+        root = new FSDir(dataDirFile, in, blocks, files);
+        long checksum = checked.getChecksum().getValue();
+        if (in.readLong() != checksum) {
+          throw new IOException("Checksum mismatch");
+        }
+      } catch (IOException e) {
+        DataNode.LOG.warn("Ignoring replica index " + replicaIndexFile, e);
+        root = null;
+      } finally {
+        IOUtils.closeStream(in);
+      }
+      if (!replicaIndexFile.delete()) {
+        DataNode.LOG.warn("Could not delete replica index " + replicaIndexFile);
+        return null;
+      }
+      if (root == null) {
+        return null;
+      }
+
+      DatanodeBlockInfo[] infos = new DatanodeBlockInfo[blocks.size()];
+      for (int i = 0; i < infos.length; i++) {
+        Block b = blocks.get(i);
+        infos[i] = new DatanodeBlockInfo(volume, files.get(i), b.getNumBytes());
+        volumeMap.add(namespaceId, b, infos[i]);
+      }
+      DataNode.LOG.info("Loaded " + infos.length + " replicas of namespace " +
+          namespaceId + " on " + volume + " from its replica index in " +
+          (System.currentTimeMillis() - startTime) + " msecs");
+      verifyReplicaIndex(dataDirFile, blocks.toArray(new Block[infos.length]),
+                         infos, startTime);
+      return root;
+    }
+
+    /**
+     * Scan the slice in the background and reconcile the replica map with
+     * the disk: replicas found on the disk but not in the index are added,
+     * indexed replicas whose files are gone are removed, and files pending
+     * deletion are deleted.
+     */
+    private void verifyReplicaIndex(final File dataDirFile,
+        final Block[] indexed, final DatanodeBlockInfo[] infos,
+        final long loadTime) {
+      final LightWeightHashSet<Block> indexedSet =
+        new LightWeightHashSet<Block>(indexed.length);
+      for (Block b : indexed) {
+        indexedSet.add(b);
+      }
+      removedReplicas = new LightWeightHashSet<Block>();
+      replicaIndexVerifier = new Daemon(new Runnable() {
+        public void run() {
+          try {
+            verify();
+          } finally {
+            lock.writeLock().lock();
+            try {
+              removedReplicas = null;
+            } finally {
+              lock.writeLock().unlock();
+            }
+          }
+          InjectionHandler.processEvent(
+              InjectionEvent.FSDATASET_REPLICA_INDEX_VERIFIED, namespaceId);
+        }
+
+        private void verify() {
+          InjectionHandler.processEvent(
+              InjectionEvent.FSDATASET_VERIFY_REPLICA_INDEX, namespaceId);
+          LightWeightHashSet<Block> found = new LightWeightHashSet<Block>();
+          if (!scanForUnindexedReplicas(dataDirFile, found, indexedSet,
+                                        loadTime)) {
+            return;
+          }
+          int removed = 0;
+          for (int i = 0; i < indexed.length; i++) {
+            if (found.contains(indexed[i])) {
+              continue;
+            }
+            lock.writeLock().lock();
+            try {
+              // removing the namespace interrupts this thread under the lock
+              if (Thread.currentThread().isInterrupted()) {
+                return;
+              }
+              if (volumeMap.get(namespaceId, indexed[i]) == infos[i] &&
+                  !infos[i].getFile().exists()) {
+                volumeMap.remove(namespaceId, indexed[i]);
+                removed++;
+              }
+            } finally {
+              lock.writeLock().unlock();
+            }
+          }
+          DataNode.LOG.info("Verified the replica index of namespace " +
+              namespaceId + " on " + volume + ": " + removed +
+              " replicas were missing on disk");
+        }
+      });
+      replicaIndexVerifier.setName("ReplicaIndexVerifier-" + namespaceId +
+                                   "-" + volume);
+      replicaIndexVerifier.setPriority(Thread.MIN_PRIORITY);
+      replicaIndexVerifier.start();
+    }
+
+    /**
+     * Walk a directory of finalized replicas, collect the replicas in it,
+     * and add those that were neither in the index nor added to the replica
+     * map since. Replicas removed from the map since the index was loaded
+     * are never added back, even while their files are still waiting to be
+     * renamed for deletion, and neither are files newer than the index or
+     * files gone by the time the lock is held.
+     * @return false if the walk was interrupted
+     */
+    private boolean scanForUnindexedReplicas(File dir,
+        LightWeightHashSet<Block> found, LightWeightHashSet<Block> indexed,
+        long loadTime) {
+      if (Thread.currentThread().isInterrupted()) {
+        return false;
+      }
+      File[] files = dir.listFiles();
+      if (files == null) {
+        return true;
+      }
+      String[] fileNames = getFileNames(files);
+      for (int i = 0; i < files.length; i++) {
+        if (isPendingDeleteFilename(fileNames[i])) {
+          asyncDiskService.deleteAsyncFile(volume, files[i]);
+        } else if (files[i].isDirectory()) {
+          if (!scanForUnindexedReplicas(files[i], found, indexed, loadTime)) {
+            return false;
+          }
+        } else if (Block.isBlockFilename(fileNames[i])) {
+          long genStamp = FSDataset.getGenerationStampFromFile(fileNames,
+              fileNames[i]);
+          Block b = new Block(files[i], files[i].length(), genStamp);
+          found.add(b);
+          if (indexed.contains(b) || volumeMap.get(namespaceId, b) != null ||
+              files[i].lastModified() >= loadTime) {
+            continue;
+          }
+          lock.writeLock().lock();
+          try {
+            if (Thread.currentThread().isInterrupted()) {
+              return false;
+            }
+            if (!removedReplicas.contains(b) &&
+                volumeMap.get(namespaceId, b) == null && files[i].exists()) {
+              volumeMap.add(namespaceId, b,
+                  new DatanodeBlockInfo(volume, files[i], b.getNumBytes()));
+              DataNode.LOG.info("Added replica " + b + " on " + volume +
+                                " missing from the replica index");
+            }
+          } finally {
+            lock.writeLock().unlock();
+          }
+        }
+      }
+      return true;
+    }
+
+    /**
+     * Save the finalized replicas of the slice, so that the next start of
+     * the datanode need not scan the volume.
+     * @param replicas the replicas of the slice by the directory they are in
+     */
+    void saveReplicaIndex(Map<File, List<Map.Entry<Block, DatanodeBlockInfo>>>
+        replicas) throws IOException {
+      File tmpFile = new File(replicaIndexFile.getParentFile(),
+                              replicaIndexFile.getName() + ".tmp");
+      FileOutputStream fos = new FileOutputStream(tmpFile);
+      try {
+        CheckedOutputStream checked = new CheckedOutputStream(
+            new BufferedOutputStream(fos, BUFFER_SIZE), new CRC32());
+        DataOutputStream out = new DataOutputStream(checked);
+        out.writeInt(REPLICA_INDEX_VERSION);
+        out.writeUTF(dataDir.getDirectory().getAbsolutePath());
+        dataDir.writeIndex(out, replicas);
+        out.writeLong(checked.getChecksum().getValue());
+        out.flush();
+        fos.getChannel().force(true);
+      } finally {
+        fos.close();
+      }
+      if (!tmpFile.renameTo(replicaIndexFile)) {
+        tmpFile.delete();
+        throw new IOException("Could not rename " + tmpFile + " to " +
+                              replicaIndexFile);
+      }
+    }
     
     /**
      * Recover detached files on datanode restart. If a detached block
@@ -346,12 +584,25 @@ public class FSDataset implements FSConstants, FSDatasetInterface {
     void clearPath(File f) {
       dataDir.clearPath(f);
     }
+
+    /**
+     * Note a replica removed from the replica map, so that the verification
+     * of the replica index does not add it back. Called under the lock.
+     */
+    void replicaRemoved(Block b) {
+      if (removedReplicas != null) {
+        removedReplicas.add(b);
+      }
+    }
       
     public String toString() {
       return dataDir.getDirectory().getAbsolutePath();
     }
     
     public void shutdown() {
+      if (replicaIndexVerifier != null) {
+        replicaIndexVerifier.interrupt();
+      }
       volume.dfsUsage.removeNamespace(namespaceId);
     }
   }
@@ -423,6 +674,39 @@ public class FSDataset implements FSConstants, FSDatasetInterface {
       this(namespaceId, dir, null);
     }
     
+    /**
+     * Restore a directory and its subdirectories from a replica index.
+     * @param blocks gets the replicas found in the index
+     * @param files gets the files of the replicas
+     */
+    FSDir(File dir, DataInputStream in, List<Block> blocks, List<File> files)
+        throws IOException {
+      this.dir = dir;
+      this.numBlocks = in.readInt();
+      for (int i = 0; i < numBlocks; i++) {
+        long blockId = in.readLong();
+        long genStamp = in.readLong();
+        Block b = new Block(blockId, in.readLong(), genStamp);
+        blocks.add(b);
+        files.add(new File(dir, b.getBlockName()));
+      }
+      int numChildren = in.readInt();
+      if (numBlocks < 0 || numChildren < 0) {
+        throw new IOException("Invalid directory " + dir);
+      }
+      if (numChildren > 0) {
+        FSDir[] newChildren = new FSDir[numChildren];
+        for (int i = 0; i < numChildren; i++) {
+          String name = in.readUTF();
+          if (name.indexOf(File.separatorChar) >= 0 || name.startsWith(".")) {
+            throw new IOException("Invalid directory name " + name);
+          }
+          newChildren[i] = new FSDir(new File(dir, name), in, blocks, files);
+        }
+        childrenDirs = newChildren;
+      }
+    }
+
     public FSDir(int namespaceId, File dir, FSVolume volume) throws IOException {
       this.dir = dir;
       this.childrenDirs = null;      
@@ -534,6 +818,36 @@ public class FSDataset implements FSConstants, FSDatasetInterface {
       return children[ lastChildIdx ].addBlock(namespaceId, b, src, true, false); 
     }
 
+    /**
+     * Write this directory, its replicas and its subdirectories to a
+     * replica index.
+     */
+    void writeIndex(DataOutputStream out,
+        Map<File, List<Map.Entry<Block, DatanodeBlockInfo>>> replicas)
+        throws IOException {
+      List<Map.Entry<Block, DatanodeBlockInfo>> inDir = replicas.get(dir);
+      if (inDir == null) {
+        out.writeInt(0);
+      } else {
+        out.writeInt(inDir.size());
+        for (Map.Entry<Block, DatanodeBlockInfo> replica : inDir) {
+          out.writeLong(replica.getKey().getBlockId());
+          out.writeLong(replica.getKey().getGenerationStamp());
+          out.writeLong(replica.getValue().getFinalizedSize());
+        }
+      }
+      FSDir[] children = getChildren();
+      if (children == null) {
+        out.writeInt(0);
+      } else {
+        out.writeInt(children.length);
+        for (FSDir child : children) {
+          out.writeUTF(child.dir.getName());
+          child.writeIndex(out, replicas);
+        }
+      }
+    }
+
     /**
      * Populate the given blockSet with any child blocks
      * found at this node.
@@ -887,6 +1201,13 @@ public class FSDataset implements FSConstants, FSDatasetInterface {
       ns.clearPath(f);
       return;
     }
+
+    void replicaRemoved(int namespaceId, Block b) {
+      NamespaceSlice ns = getNamespaceSlice(namespaceId);
+      if (ns != null) {
+        ns.replicaRemoved(b);
+      }
+    }
     
     public String toString() {
       return currentDir.getAbsolutePath();
@@ -1236,6 +1557,9 @@ public class FSDataset implements FSConstants, FSDatasetInterface {
   public static final String METADATA_EXTENSION = ".meta";
   public static final short METADATA_VERSION = 1;
   public static final String DELETE_FILE_EXT = "toDelete.";
+  /** The index of the finalized replicas of a namespace slice */
+  static final String REPLICA_INDEX_FILE = "replicas";
+  static final int REPLICA_INDEX_VERSION = 1;
 
   static class ActiveFile implements ReplicaBeingWritten, Cloneable {
     final File file;
@@ -1442,6 +1766,7 @@ public class FSDataset implements FSConstants, FSDatasetInterface {
   FSDatasetAsyncDiskService asyncDiskService;
   ReentrantReadWriteLock lock = new ReentrantReadWriteLock(true);
   private boolean shouldHardLinkBlockCopy;
+  private boolean useReplicaIndex;
   private int validVolsRequired;
   
   //this constructor is used to create PersistedSimulatedFSDataset
@@ -1455,6 +1780,7 @@ public class FSDataset implements FSConstants, FSDatasetInterface {
     this.datanode = datanode;
     this.conf = conf;
     this.maxBlocksPerDir = conf.getInt("dfs.datanode.numblocks", 64);
+    this.useReplicaIndex = conf.getBoolean("dfs.datanode.replica.index", false);
     volumeMap = new VolumeMap(numNamespaces);
   }
   
@@ -2581,9 +2907,12 @@ public class FSDataset implements FSConstants, FSDatasetInterface {
         //TODO ???
         v.clearPath(namespaceId, parent);
         volumeMap.remove(namespaceId, invalidBlks[i]);
+        v.replicaRemoved(namespaceId, invalidBlks[i]);
       } finally {
         lock.writeLock().unlock();
       }
+      InjectionHandler.processEvent(
+          InjectionEvent.FSDATASET_INVALIDATE_BEFORE_RENAME, invalidBlks[i]);
       File metaFile = getMetaFile( f, invalidBlks[i]);
 
       //rename the files to be deleted
@@ -2784,6 +3113,9 @@ public class FSDataset implements FSConstants, FSDatasetInterface {
     lock.writeLock().lock();
     try{
       if (volumeMap != null) {
+        if (useReplicaIndex && volumes != null) {
+          saveReplicaIndex(namespaceId);
+        }
         volumeMap.removeNamespace(namespaceId);
       }
       if (volumes != null) {
@@ -2794,6 +3126,55 @@ public class FSDataset implements FSConstants, FSDatasetInterface {
     }
   }
 
+  /**
+   * Save the finalized replicas of a namespace on every volume to the
+   * replica index of the volume, to be loaded on the next start.
+   */
+  private void saveReplicaIndex(int namespaceId) {
+    if (volumeMap.size(namespaceId) == 0) {
+      return;
+    }
+    long startTime = System.currentTimeMillis();
+    Map<FSVolume, Map<File, List<Map.Entry<Block, DatanodeBlockInfo>>>> replicas =
+      new HashMap<FSVolume, Map<File, List<Map.Entry<Block, DatanodeBlockInfo>>>>();
+    for (Map.Entry<Block, DatanodeBlockInfo> replica :
+         volumeMap.getNamespaceMap(namespaceId).entrySet()) {
+      DatanodeBlockInfo info = replica.getValue();
+      if (!info.isFinalized() || info.getFile() == null) {
+        continue;
+      }
+      Map<File, List<Map.Entry<Block, DatanodeBlockInfo>>> byDir =
+        replicas.get(info.getVolume());
+      if (byDir == null) {
+        byDir = new HashMap<File, List<Map.Entry<Block, DatanodeBlockInfo>>>();
+        replicas.put(info.getVolume(), byDir);
+      }
+      File dir = info.getFile().getParentFile();
+      List<Map.Entry<Block, DatanodeBlockInfo>> inDir = byDir.get(dir);
+      if (inDir == null) {
+        inDir = new ArrayList<Map.Entry<Block, DatanodeBlockInfo>>();
+        byDir.put(dir, inDir);
+      }
+      inDir.add(replica);
+    }
+    for (FSVolume volume : volumes.getVolumes()) {
+      NamespaceSlice ns = volume.getNamespaceSlice(namespaceId);
+      if (ns == null) {
+        continue;
+      }
+      Map<File, List<Map.Entry<Block, DatanodeBlockInfo>>> byDir =
+        replicas.get(volume);
+      try {
+        ns.saveReplicaIndex(byDir != null ? byDir :
+            new HashMap<File, List<Map.Entry<Block, DatanodeBlockInfo>>>());
+      } catch (IOException e) {
+        DataNode.LOG.warn("Failed to save the replica index of " + ns, e);
+      }
+    }
+    DataNode.LOG.info("Saved the replica index of namespace " + namespaceId +
+        " in " + (System.currentTimeMillis() - startTime) + " msecs");
+  }
+
   public String getStorageInfo() {
     return toString();
   }
@@ -93,6 +93,8 @@ public class DataNodeMetrics implements Updater {
                     new MetricsTimeVaryingRate("heartBeats", registry);
   public MetricsTimeVaryingRate blockReports = 
                     new MetricsTimeVaryingRate("blockReports", registry);
+  public MetricsTimeVaryingRate blockReportDigests = 
+                    new MetricsTimeVaryingRate("blockReportDigests", registry);
 
   public MetricsTimeVaryingRate bytesReadLatency = 
                       new MetricsTimeVaryingRate("bytes_read_latency", registry);
@@ -166,5 +168,6 @@ public class DataNodeMetrics implements Updater {
     replaceBlockOp.resetMinMax();
     heartbeats.resetMinMax();
     blockReports.resetMinMax();
+    blockReportDigests.resetMinMax();
   }
 }
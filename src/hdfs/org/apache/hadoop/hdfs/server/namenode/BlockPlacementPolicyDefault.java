@@ -42,7 +42,7 @@ import java.util.*;
 public class BlockPlacementPolicyDefault extends BlockPlacementPolicy {
   private boolean considerLoad; 
   protected NetworkTopology clusterMap;
-  private FSClusterStats stats;
+  protected FSClusterStats stats;
   private int attemptMultiplier = 0;
 
   BlockPlacementPolicyDefault(Configuration conf,  FSClusterStats stats,
@@ -362,8 +362,8 @@ public class BlockPlacementPolicyDefault extends BlockPlacementPolicy {
     int numOfAvailableNodes =
       clusterMap.countNumOfAvailableNodes(nodes, excludedNodes.keySet());
     while(numOfAvailableNodes > 0) {
-      DatanodeDescriptor chosenNode = 
-        (DatanodeDescriptor)(clusterMap.chooseRandom(nodes));
+      DatanodeDescriptor chosenNode =
+        pickRandom(nodes, excludedNodes, results);
 
       Node oldNode = excludedNodes.put(chosenNode, chosenNode);
       if (oldNode == null) { // choosendNode was not in the excluded list
@@ -393,8 +393,8 @@ public class BlockPlacementPolicyDefault extends BlockPlacementPolicy {
       clusterMap.countNumOfAvailableNodes(nodes, excludedNodes.keySet());
     int numAttempts = numOfAvailableNodes * this.attemptMultiplier;
     while(numOfReplicas > 0 && numOfAvailableNodes > 0 && --numAttempts > 0) {
-      DatanodeDescriptor chosenNode = 
-        (DatanodeDescriptor)(clusterMap.chooseRandom(nodes));
+      DatanodeDescriptor chosenNode =
+        pickRandom(nodes, excludedNodes, results);
       Node oldNode = excludedNodes.put(chosenNode, chosenNode);
       if (oldNode == null) {
         numOfAvailableNodes--;
@@ -412,6 +412,16 @@ public class BlockPlacementPolicyDefault extends BlockPlacementPolicy {
     }
   }
     
+  /* Randomly pick a candidate target from <i>nodes</i>.
+   * The candidate may already be excluded; the callers check.
+   * @return the picked node
+   */
+  protected DatanodeDescriptor pickRandom(String nodes,
+                                          HashMap<Node, Node> excludedNodes,
+                                          List<DatanodeDescriptor> results) {
+    return (DatanodeDescriptor)(clusterMap.chooseRandom(nodes));
+  }
+
   /* judge if a node is a good target.
    * return true if <i>node</i> has enough space, 
    * does not have too much load, and the rack does not have too many nodes
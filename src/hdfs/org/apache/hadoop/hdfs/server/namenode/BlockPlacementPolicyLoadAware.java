@@ -0,0 +1,126 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hdfs.server.namenode;
+
+import java.util.HashMap;
+import java.util.List;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.net.DNSToSwitchMapping;
+import org.apache.hadoop.net.NetworkTopology;
+import org.apache.hadoop.net.Node;
+import org.apache.hadoop.util.HostsFileReader;
+
+/**
+ * A placement policy that places replicas like
+ * {@link BlockPlacementPolicyDefault}, but steers random choices away
+ * from busy and full datanodes.
+ *
+ * Wherever the default policy picks a random datanode, this policy picks
+ * two and keeps the one that is cheaper to write to. The cost of a
+ * datanode grows with its active transfers and the blocks recently
+ * scheduled to it, relative to the cluster average, with the fraction of
+ * its space that is used, and with the replicas of the block already
+ * placed on its rack. Choosing the better of two random datanodes keeps
+ * the spread of random placement while rarely choosing a hot or nearly
+ * full datanode.
+ *
+ * Enable it by setting dfs.block.replicator.classname to this class. The
+ * weights of the cost terms are set by dfs.replication.loadWeight,
+ * dfs.replication.spaceWeight and dfs.replication.rackWeight.
+ */
+public class BlockPlacementPolicyLoadAware extends BlockPlacementPolicyDefault {
+  private double loadWeight;
+  private double spaceWeight;
+  private double rackWeight;
+
+  BlockPlacementPolicyLoadAware(Configuration conf, FSClusterStats stats,
+                                NetworkTopology clusterMap) {
+    initialize(conf, stats, clusterMap, null, null, null);
+  }
+
+  BlockPlacementPolicyLoadAware() {
+  }
+
+  /** {@inheritDoc} */
+  public void initialize(Configuration conf, FSClusterStats stats,
+      NetworkTopology clusterMap, HostsFileReader hostsReader,
+      DNSToSwitchMapping dnsToSwitchMapping, FSNamesystem ns) {
+    super.initialize(conf, stats, clusterMap, hostsReader,
+                     dnsToSwitchMapping, ns);
+    this.loadWeight = conf.getFloat("dfs.replication.loadWeight", 1.0f);
+    this.spaceWeight = conf.getFloat("dfs.replication.spaceWeight", 1.0f);
+    this.rackWeight = conf.getFloat("dfs.replication.rackWeight", 0.5f);
+  }
+
+  /**
+   * Pick two random candidates and return the one with the lower cost.
+   * A candidate that is already excluded loses to one that is not.
+   */
+  @Override
+  protected DatanodeDescriptor pickRandom(String nodes,
+                                          HashMap<Node, Node> excludedNodes,
+                                          List<DatanodeDescriptor> results) {
+    DatanodeDescriptor first = super.pickRandom(nodes, excludedNodes, results);
+    DatanodeDescriptor second = super.pickRandom(nodes, excludedNodes, results);
+    if (second == null || second == first ||
+        excludedNodes.containsKey(second)) {
+      return first;
+    }
+    if (first == null || excludedNodes.containsKey(first)) {
+      return second;
+    }
+    double avgLoad = getAverageLoad();
+    return getCost(second, avgLoad, results) < getCost(first, avgLoad, results)
+        ? second : first;
+  }
+
+  /** @return the average number of transfers per datanode */
+  private double getAverageLoad() {
+    int size = clusterMap.getNumOfLeaves();
+    if (size == 0 || stats == null) {
+      return 0;
+    }
+    return (double)stats.getTotalLoad() / size;
+  }
+
+  /**
+   * The cost of writing one more replica to a datanode.
+   * @param node the candidate datanode
+   * @param avgLoad the average number of transfers per datanode
+   * @param results the targets chosen so far
+   * @return the cost, lower is better
+   */
+  double getCost(DatanodeDescriptor node, double avgLoad,
+                 List<DatanodeDescriptor> results) {
+    // transfers in progress and writes on their way, against the average
+    double load = (node.getXceiverCount() + node.getBlocksScheduled()) /
+                  (avgLoad + 1);
+    long capacity = node.getCapacity();
+    double used = capacity <= 0 ? 1.0 :
+                  1.0 - (double)node.getRemaining() / capacity;
+    int onRack = 0;
+    String rack = node.getNetworkLocation();
+    for (DatanodeDescriptor result : results) {
+      if (rack.equals(result.getNetworkLocation())) {
+        onRack++;
+      }
+    }
+    return loadWeight * load + spaceWeight * used + rackWeight * onRack;
+  }
+}
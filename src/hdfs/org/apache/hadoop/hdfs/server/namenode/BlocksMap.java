@@ -47,8 +47,9 @@ public class BlocksMap {
      * and triplets[3*i+1] and triplets[3*i+2] are references 
      * to the previous and the next blocks, respectively, in the 
      * list of blocks belonging to this data-node.
+     * Null if the triplets are kept in an {@link OffHeapTriplets} slab.
      */
-    private Object[] triplets;
+    Object[] triplets;
 
     /**
      * Construct an entry for blocksmap
@@ -65,6 +66,15 @@ public class BlocksMap {
       this.inode = null;
     }
 
+    /**
+     * Construct an entry whose triplets are stored by a subclass
+     */
+    BlockInfo(Block blk) {
+      super(blk);
+      this.triplets = null;
+      this.inode = null;
+    }
+
     INodeFile getINode() {
       return inode;
     }
@@ -112,7 +122,7 @@ public class BlocksMap {
       return info;
     }
 
-    private int getCapacity() {
+    int getCapacity() {
       assert this.triplets != null : "BlockInfo is not initialized";
       assert triplets.length % 3 == 0 : "Malformed BlockInfo";
       return triplets.length / 3;
@@ -122,7 +132,7 @@ public class BlocksMap {
      * Ensure that there is enough  space to include num more triplets.
      *      * @return first free triplet index.
      */
-    private int ensureCapacity(int num) {
+    int ensureCapacity(int num) {
       assert this.triplets != null : "BlockInfo is not initialized";
       int last = numNodes();
       if(triplets.length >= (last+num)*3)
@@ -318,6 +328,8 @@ public class BlocksMap {
   
   private GSet<Block, BlockInfo> blocks;
   private final FSNamesystem ns;
+  /** Off-heap storage for the triplets of new blocks, null if on heap */
+  private OffHeapTriplets offHeapTriplets = null;
 
   BlocksMap(int initialCapacity, float loadFactor, FSNamesystem ns) {
     this.capacity = computeCapacity();
@@ -352,8 +364,51 @@ public class BlocksMap {
     return c;
   }
 
+  /**
+   * Keep the datanode triplets of the blocks in direct memory slabs with
+   * room for the given number of replicas per block. Must be called before
+   * any block is added.
+   */
+  void useOffHeapTriplets(int replicasPerBlock) {
+    if (size() != 0) {
+      throw new IllegalStateException("Cannot move a non-empty blocks map"
+          + " off heap");
+    }
+    offHeapTriplets = new OffHeapTriplets(replicasPerBlock);
+    LightWeightGSet.LOG.info("Storing block triplets off heap with "
+        + replicasPerBlock + " replicas per block");
+  }
+
+  /** @return the triplet store if the triplets are kept off heap */
+  OffHeapTriplets getOffHeapTriplets() {
+    return offHeapTriplets;
+  }
+
+  /**
+   * Create a block entry using the storage of this map. Entries that end
+   * up outside the map must be given back with
+   * {@link #releaseBlockInfo(BlockInfo)}.
+   */
+  BlockInfo createBlockInfo(Block b, int replication) {
+    if (offHeapTriplets == null) {
+      return new BlockInfo(b, replication);
+    }
+    return offHeapTriplets.newBlockInfo(b);
+  }
+
+  /**
+   * Release the storage of an entry that no longer belongs to any datanode
+   * and is not in the map.
+   */
+  void releaseBlockInfo(BlockInfo info) {
+    if (offHeapTriplets != null && info != null) {
+      offHeapTriplets.release(info);
+    }
+  }
+
   void close() {
     blocks = null;
+    offHeapTriplets = null;
   }
 
   /**
@@ -377,7 +432,7 @@ public class BlocksMap {
   private BlockInfo checkBlockInfo(Block b, int replication) {
     BlockInfo info = blocks.get(b);
     if (info == null) {
-      info = new BlockInfo(b, replication);
+      info = createBlockInfo(b, replication);
       blocks.put(info);
     }
     return info;
@@ -432,6 +487,7 @@ public class BlocksMap {
       info.inode = null;
       if (info.getDatanode(0) == null) {  // no datanodes left
         removeBlockFromMap(b); // remove block from the map
+        releaseBlockInfo(info);
       }
     }
   }
@@ -450,6 +506,7 @@ public class BlocksMap {
       DatanodeDescriptor dn = blockInfo.getDatanode(idx);
       dn.removeBlock(blockInfo); // remove from the list and wipe the location
     }
+    releaseBlockInfo(blockInfo);
   }
   
   /** Returns the block object it it exists in the map. */
@@ -498,6 +555,7 @@ public class BlocksMap {
     if (info.getDatanode(0) == null     // no datanodes left
               && info.inode == null) {  // does not belong to a file
       removeBlockFromMap(b); // remove block from the map
+      releaseBlockInfo(info);
     }
     return removed;
   }
@@ -28,6 +28,7 @@ import org.apache.hadoop.hdfs.protocol.DatanodeInfo;
 import org.apache.hadoop.hdfs.server.common.GenerationStamp;
 import org.apache.hadoop.hdfs.server.namenode.BlocksMap.BlockInfo;
 import org.apache.hadoop.hdfs.server.protocol.BlockCommand;
+import org.apache.hadoop.hdfs.server.protocol.BlockReportDigest;
 import org.apache.hadoop.hdfs.server.protocol.DatanodeProtocol;
 import org.apache.hadoop.hdfs.util.LightWeightHashSet;
 import org.apache.hadoop.io.Text;
@@ -99,10 +100,15 @@ public class DatanodeDescriptor extends DatanodeInfo {
 
   private volatile BlockInfo blockList = null;
   private int numOfBlocks = 0;  // number of block this DN has
+  /** Index of this node in the {@link OffHeapTriplets} store, if any */
+  int tripletIndex = -1;
+  /** Digest of the blocks in blockList, see {@link BlockReportDigest} */
+  private final BlockReportDigest blockDigest = new BlockReportDigest();
 
   // isAlive == heartbeats.contains(this)
   // This is an optimization, because contains takes O(n) time on Arraylist
-  protected boolean isAlive = false;
+  // It is changed holding the lock of this descriptor, see handleHeartbeat
+  protected volatile boolean isAlive = false;
 
   /** A queue of blocks to be replicated by this datanode */
   private BlockQueue replicateBlocks = new BlockQueue();
@@ -238,6 +244,7 @@ public class DatanodeDescriptor extends DatanodeInfo {
     // add to the head of the data-node list
     blockList = b.listInsert(blockList, this, dnIndex);
     numOfBlocks++;
+    blockDigest.add(b.getBlockId());
     return true;
   }
   
@@ -249,6 +256,7 @@ public class DatanodeDescriptor extends DatanodeInfo {
     blockList = b.listRemove(blockList, this);
     if ( b.removeNode(this) ) {
       numOfBlocks--;
+      blockDigest.remove(b.getBlockId());
       return true;
     } else {
       return false;
@@ -295,12 +303,20 @@ public class DatanodeDescriptor extends DatanodeInfo {
     this.xceiverCount = 0;
     this.blockList = null;
     this.numOfBlocks = 0;
+    this.blockDigest.reset();
     this.invalidateBlocks.clear();
   }
 
   public int numBlocks() {
     return numOfBlocks;
   }
+
+  /**
+   * @return the digest of the replicas recorded on this datanode
+   */
+  BlockReportDigest getBlockReportDigest() {
+    return blockDigest;
+  }
   
   void updateLastHeard() {
     this.lastUpdate = System.currentTimeMillis();
@@ -429,7 +445,7 @@ public class DatanodeDescriptor extends DatanodeInfo {
                   FSNamesystem namesystem) {
     // place a deilimiter in the list which separates blocks 
     // that have been reported from those that have not
-    BlockInfo delimiter = new BlockInfo(new Block(), 1);
+    BlockInfo delimiter = blocksMap.createBlockInfo(new Block(), 1);
     boolean added = this.addBlock(delimiter);
     assert added : "Delimiting block cannot be present in the node";
     // currently the delimiter is the head
@@ -499,6 +515,7 @@ public class DatanodeDescriptor extends DatanodeInfo {
       }
     }
     this.removeBlock(delimiter);
+    blocksMap.releaseBlockInfo(delimiter);
   }
 
   /** Serialization for FSEditLog */
@@ -95,6 +95,11 @@ class EditLogFileOutputStream extends EditLogOutputStream {
     doubleBuf.writeOp(op);
   }
 
+  @Override
+  void writeRaw(byte[] bytes, int offset, int length) throws IOException {
+    doubleBuf.writeRaw(bytes, offset, length);
+  }
+
   /**
    * Create empty edits logs file.
    */
@@ -48,6 +48,16 @@ import org.apache.hadoop.metrics.util.MetricsTimeVaryingRate;
    * @throws IOException
    */
   abstract public void write(FSEditLogOp op) throws IOException;
+
+  /**
+   * Write an operation that has already been serialized with
+   * {@link FSEditLogOp.Writer}.
+   * 
+   * @param bytes serialized operation, including its checksum
+   * @throws IOException
+   */
+  abstract void writeRaw(byte[] bytes, int offset, int length)
+      throws IOException;
   
   /**
    * Create and initialize new edits log storage.
@@ -0,0 +1,198 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hdfs.server.namenode;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A bounded queue of serialized edits with many producers and a single
+ * consumer, indexed by transaction id.
+ *
+ * A producer reserves the next transaction id without locking, serializes
+ * its operation with that id and publishes the bytes into the slot of the
+ * id. The consumer takes the records strictly in transaction id order, so
+ * the log stays ordered although producers publish out of order. A
+ * producer that gets more than the capacity ahead of the consumer waits
+ * for its slot to be drained.
+ *
+ * The consumer reports how far the log is durable with
+ * {@link #markDurable(long)}; producers wait for their own transaction
+ * with {@link #awaitDurable(long)}. As in {@link FSEditLog}, a transaction
+ * count is used as the high water mark: all transactions with an id lower
+ * than it are written or durable.
+ */
+class EditsRingBuffer {
+  /** How long a producer sleeps while waiting for a free slot */
+  private static final long FULL_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+  private final AtomicReferenceArray<byte[]> slots;
+  private final int mask;
+  private final AtomicLong nextTxId;
+  /** Id of the next transaction the consumer is going to take */
+  private volatile long consumedTxId;
+  /** All transactions below this id are durable */
+  private volatile long durableTxId;
+
+  private volatile Thread consumer;
+  private volatile boolean consumerWaiting = false;
+
+  private final Object durableLock = new Object();
+  private int durableWaiters = 0;
+
+  EditsRingBuffer(int capacity, long firstTxId) {
+    if (capacity <= 0 || capacity > (1 << 30)) {
+      throw new IllegalArgumentException("Invalid edit queue capacity: "
+          + capacity);
+    }
+    int size = Integer.highestOneBit(capacity);
+    if (size < capacity) {
+      size <<= 1;
+    }
+    slots = new AtomicReferenceArray<byte[]>(size);
+    mask = size - 1;
+    nextTxId = new AtomicLong(firstTxId);
+    consumedTxId = firstTxId;
+    durableTxId = firstTxId;
+  }
+
+  int getCapacity() {
+    return slots.length();
+  }
+
+  /** @return the id the next reserved transaction is going to get */
+  long getNextTxId() {
+    return nextTxId.get();
+  }
+
+  /** @return the id of the next transaction to be taken by the consumer */
+  long getConsumedTxId() {
+    return consumedTxId;
+  }
+
+  long getDurableTxId() {
+    return durableTxId;
+  }
+
+  /** @return true if every reserved transaction is durable */
+  boolean isDrained() {
+    return durableTxId == nextTxId.get();
+  }
+
+  /**
+   * Reserve the id of a new transaction. The caller must publish a record
+   * for it, otherwise the consumer is stuck at this id.
+   */
+  long reserve() {
+    long txid = nextTxId.getAndIncrement();
+    while (txid - consumedTxId >= slots.length()) {
+      wakeConsumer();
+      LockSupport.parkNanos(this, FULL_WAIT_NANOS);
+    }
+    return txid;
+  }
+
+  /** Publish the serialized record of a reserved transaction */
+  void publish(long txid, byte[] record) {
+    slots.set((int)txid & mask, record);
+    if (consumerWaiting) {
+      wakeConsumer();
+    }
+  }
+
+  private void wakeConsumer() {
+    Thread t = consumer;
+    if (t != null) {
+      LockSupport.unpark(t);
+    }
+  }
+
+  /**
+   * Take the record of the next transaction in order.
+   * Must only be called by the consumer.
+   * @return the record or null if it has not been published yet
+   */
+  byte[] poll() {
+    long txid = consumedTxId;
+    int idx = (int)txid & mask;
+    byte[] record = slots.get(idx);
+    if (record == null) {
+      return null;
+    }
+    slots.set(idx, null);
+    consumedTxId = txid + 1;
+    return record;
+  }
+
+  /**
+   * Park the consumer until the next record may have been published or
+   * the timeout expires.
+   */
+  void awaitRecord(long timeoutNanos) {
+    consumer = Thread.currentThread();
+    consumerWaiting = true;
+    try {
+      if (slots.get((int)consumedTxId & mask) == null) {
+        LockSupport.parkNanos(this, timeoutNanos);
+      }
+    } finally {
+      consumerWaiting = false;
+    }
+  }
+
+  /** Wake the consumer if it is waiting for a record */
+  void interruptWait() {
+    wakeConsumer();
+  }
+
+  /**
+   * Record that all transactions below txid are durable and release
+   * the producers waiting for them.
+   */
+  void markDurable(long txid) {
+    durableTxId = txid;
+    synchronized (durableLock) {
+      if (durableWaiters > 0) {
+        durableLock.notifyAll();
+      }
+    }
+  }
+
+  /**
+   * Wait until all transactions below txid are durable.
+   */
+  void awaitDurable(long txid) {
+    if (durableTxId >= txid) {
+      return;
+    }
+    synchronized (durableLock) {
+      durableWaiters++;
+      try {
+        while (durableTxId < txid) {
+          try {
+            durableLock.wait(1000);
+          } catch (InterruptedException ie) { }
+        }
+      } finally {
+        durableWaiters--;
+      }
+    }
+  }
+}
@@ -0,0 +1,133 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hdfs.server.namenode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A timer wheel of items that expire unless they are renewed, keyed by
+ * the time they expire.
+ *
+ * The wheel is a ring of slots, each covering one tick of time. An item
+ * sits in the slot of the tick it expires in. Renewing an item does not
+ * touch the wheel: when the slot of an item comes due, an item that was
+ * renewed in the meantime is moved to the slot of its new expiry time,
+ * and only the others are reported as expired. Whoever polls the wheel
+ * thus looks at each item about once per expiry interval, instead of at
+ * all items on every check, and renewals take no lock.
+ *
+ * An item whose expiry is further away than the wheel spans is looked at
+ * early and put back, so the wheel stays correct for any expiry time.
+ * Items are kept by identity.
+ */
+abstract class ExpiryWheel<T> {
+  /** Upper bound of the number of slots */
+  static final int MAX_SLOTS = 1024;
+
+  private long tick;
+  private List<Set<T>> slots;
+  private final Map<T, Integer> slotOf = new IdentityHashMap<T, Integer>();
+  /** The tick of the last poll. Its slot is polled again by the next poll */
+  private long currentTick;
+
+  /**
+   * @return the time the item expires at, given its last renewal
+   */
+  abstract long getExpiry(T item);
+
+  /**
+   * Change the tick and the number of slots, rescheduling all items.
+   */
+  synchronized void reset(long tick, long span, long now) {
+    List<T> items = new ArrayList<T>(slotOf.keySet());
+    slotOf.clear();
+    this.tick = Math.max(1, tick);
+    int numSlots = (int) Math.min(span / this.tick + 2, MAX_SLOTS);
+    slots = new ArrayList<Set<T>>(numSlots);
+    for (int i = 0; i < numSlots; i++) {
+      slots.add(newSlot());
+    }
+    currentTick = now / this.tick;
+    for (T item : items) {
+      add(item);
+    }
+  }
+
+  private Set<T> newSlot() {
+    return Collections.newSetFromMap(new IdentityHashMap<T, Boolean>());
+  }
+
+  /**
+   * Schedule the expiry of an item by its last renewal. An item that is
+   * already on the wheel is moved.
+   */
+  synchronized void add(T item) {
+    remove(item);
+    // never schedule into a tick that will not be polled again
+    long expiry = Math.max(getExpiry(item) / tick, currentTick);
+    int slot = (int) (expiry % slots.size());
+    slots.get(slot).add(item);
+    slotOf.put(item, slot);
+  }
+
+  synchronized void remove(T item) {
+    Integer slot = slotOf.remove(item);
+    if (slot != null) {
+      slots.get(slot).remove(item);
+    }
+  }
+
+  /**
+   * Advance the wheel up to the given time.
+   * @return the items that have expired by then, in the order of their
+   *         slots. They are no longer on the wheel.
+   */
+  synchronized List<T> poll(long now) {
+    List<T> expired = new ArrayList<T>();
+    long nowTick = now / tick;
+    // one turn of the wheel visits every slot
+    long first = Math.max(currentTick, nowTick - slots.size() + 1);
+    currentTick = Math.max(currentTick, nowTick);
+    for (long t = first; t <= nowTick; t++) {
+      int slot = (int) (t % slots.size());
+      Set<T> due = slots.get(slot);
+      if (due.isEmpty()) {
+        continue;
+      }
+      slots.set(slot, newSlot());
+      for (T item : due) {
+        slotOf.remove(item);
+        if (getExpiry(item) < now) {
+          expired.add(item);
+        } else {
+          add(item);
+        }
+      }
+    }
+    return expired;
+  }
+
+  synchronized int size() {
+    return slotOf.size();
+  }
+}
@@ -34,6 +34,7 @@ import org.apache.hadoop.hdfs.protocol.HdfsFileStatus;
 import org.apache.hadoop.hdfs.protocol.LocatedBlocks;
 import org.apache.hadoop.hdfs.protocol.LocatedDirectoryListing;
 import org.apache.hadoop.hdfs.protocol.QuotaExceededException;
+import org.apache.hadoop.hdfs.server.common.HdfsConstants;
 import org.apache.hadoop.hdfs.server.common.HdfsConstants.StartupOption;
 import org.apache.hadoop.hdfs.util.ByteArray;
 import org.apache.hadoop.hdfs.server.namenode.BlocksMap.BlockInfo;
@@ -41,6 +42,7 @@ import org.apache.hadoop.hdfs.server.namenode.LeaseManager.Lease;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /*************************************************
  * FSDirectory stores the filesystem directory state.
@@ -67,6 +69,8 @@ public class FSDirectory implements FSConstants, Closeable {
    * byte[] objects and reduce heap usage.
    */
   private final NameCache<ByteArray> nameCache;
+  /** Heap saved by the name cache: the byte[] objects that were dropped */
+  private long nameCacheHeapSaved = 0;
 
   // lock to protect BlockMap.
   private ReentrantReadWriteLock bLock;
@@ -74,13 +78,43 @@ public class FSDirectory implements FSConstants, Closeable {
   private boolean hasRwLock;
   long totalFiles = 0;
 
+  /**
+   * If set, getFileInfo and listings without block locations first try to
+   * read the tree without fsLock and the directory lock, see
+   * {@link #beginLockFreeRead()}.
+   */
+  private final boolean lockFreeReads;
+  /**
+   * Version of the tree for lock-free readers. It is made odd when a
+   * writer takes the directory write lock and even again when the
+   * outermost write lock is released, so a reader that saw the same even
+   * version before and after reading the tree saw no change in between.
+   * Only changed while holding the write lock.
+   * <p>
+   * The tree itself is read with plain loads, which could be reordered
+   * after a plain or volatile read of the version that validates them.
+   * The version is hence validated with a compare-and-set to the value
+   * it already has: its volatile write keeps the reads of the tree before
+   * it. Writers bump the version with atomic increments, which keep the
+   * changes of the tree after the first bump.
+   * <p>
+   * Changes of the tree that do not hold the directory write lock do not
+   * bump the version. These are the lengths of the blocks of a file,
+   * which change under fsLock while the file is written or a replica
+   * reports a new length. A lock-free reader may combine the lengths of
+   * a moment with the rest of the file of another, like a client that
+   * reads the status of a file being written does anyway.
+   */
+  private final AtomicLong treeVersion = new AtomicLong();
+
   // utility methods to acquire and release read lock and write lock
   // if hasRwLock is false, then readLocks morph into writeLocks.
   void readLock() {
     if (hasRwLock) {
       this.bLock.readLock().lock();
     } else {
-      writeLock();
+      // a reader does not change the tree, keep the version
+      this.bLock.writeLock().lock();
     }
   }
 
@@ -94,16 +128,60 @@ public class FSDirectory implements FSConstants, Closeable {
 
   void writeLock() {
     this.bLock.writeLock().lock();
+    if ((treeVersion.get() & 1) == 0) {
+      treeVersion.incrementAndGet();
+    }
   }
 
   void writeUnlock() {
+    if ((treeVersion.get() & 1) != 0 && bLock.getWriteHoldCount() == 1) {
+      treeVersion.incrementAndGet();
+    }
     this.bLock.writeLock().unlock();
   }
 
+  /**
+   * @return true if read-only calls may try to read the tree without locks
+   */
+  boolean isLockFreeReadEnabled() {
+    return lockFreeReads && ready;
+  }
+
+  /**
+   * @return true if directories copy their children arrays on change, as
+   *         lock-free readers need; passed to every change of the tree
+   */
+  boolean isCopyOnWrite() {
+    return lockFreeReads;
+  }
+
+  /**
+   * Start a read of the tree without locks.
+   * @return the version to validate the read with, or -1 if the tree is
+   *         being modified and the read has to take the locks
+   */
+  long beginLockFreeRead() {
+    long version = treeVersion.get();
+    return (version & 1) == 0 ? version : -1;
+  }
+
+  /**
+   * @return true if the tree did not change since
+   *         {@link #beginLockFreeRead()} returned the given version
+   */
+  boolean validateLockFreeRead(long version) {
+    return treeVersion.compareAndSet(version, version);
+  }
+
   boolean hasWriteLock() {
     return this.bLock.isWriteLockedByCurrentThread();
   }
 
+  private boolean isNamespaceWriteLocked() {
+    FSNamesystem ns = getFSNamesystem();
+    return ns == null || ns.hasWriteLock();
+  }
+
   /** Access an existing dfs name directory. */
   FSDirectory(FSNamesystem ns, Configuration conf) throws IOException {
     this(new FSImage(conf), ns, conf);
@@ -129,6 +207,12 @@ public class FSDirectory implements FSConstants, Closeable {
     NameNode.LOG.info("Caching file names occuring more than " + threshold
         + " times ");
     nameCache = new NameCache<ByteArray>(threshold);
+    this.lockFreeReads = conf.getBoolean(
+        HdfsConstants.DFS_NAMENODE_LOCKFREE_READS_KEY,
+        HdfsConstants.DFS_NAMENODE_LOCKFREE_READS_DEFAULT);
+    if (lockFreeReads) {
+      NameNode.LOG.info("Read-only metadata calls try to run without locks");
+    }
     initialize(conf);
   }
 
@@ -240,6 +324,10 @@ public class FSDirectory implements FSConstants, Closeable {
     try {
       newNode = addChild(inodes, inodes.length-1, newNode, -1, false);
       totalFiles++;
+      if (newNode != null) {
+        // add create file record to log, record new generation stamp
+        fsImage.getEditLog().logOpenFile(path, newNode);
+      }
     } finally {
       writeUnlock();
     }
@@ -249,8 +337,6 @@ public class FSDirectory implements FSConstants, Closeable {
                                    +" to the file system");
       return null;
     }
-    // add create file record to log, record new generation stamp
-    fsImage.getEditLog().logOpenFile(path, newNode);
 
     if (NameNode.stateChangeLog.isDebugEnabled()) {
       NameNode.stateChangeLog.debug("DIR* FSDirectory.addFile: "
@@ -331,7 +417,8 @@ public class FSDirectory implements FSConstants, Closeable {
     try {
       try {
         newParent = rootDir.addToParent(src, newNode, parentINode,
-                                            false, propagateModTime, childIndex);
+                                            false, propagateModTime, childIndex,
+                                            lockFreeReads);
         cacheName(newNode);
       } catch (FileNotFoundException e) {
         return null;
@@ -590,7 +677,8 @@ public class FSDirectory implements FSConstants, Closeable {
         
         try {
           // Replace the new INodeHardLinkFile in its parent directory
-          ((INodeDirectory)srcINodes[srcINodes.length - 2]).replaceChild(srcLinkedFile);
+          ((INodeDirectory)srcINodes[srcINodes.length - 2]).replaceChild(
+              srcLinkedFile, lockFreeReads);
         } catch (IllegalArgumentException e) {
           NameNode.stateChangeLog.warn("DIR* FSDirectory.unprotectedHardLinkTo: "
               + " failed to hardlink " + dst + " to " + src 
@@ -642,10 +730,15 @@ public class FSDirectory implements FSConstants, Closeable {
     }
     waitForReady();
     long now = FSNamesystem.now();
-    if (!unprotectedRenameTo(src, srcLocalName, srcComponent, srcInodes,
-        dst, dstInodes, lastComponent, now))
-      return false;
-    fsImage.getEditLog().logRename(src, dst, now);
+    writeLock();
+    try {
+      if (!unprotectedRenameTo(src, srcLocalName, srcComponent, srcInodes,
+          dst, dstInodes, lastComponent, now))
+        return false;
+      fsImage.getEditLog().logRename(src, dst, now);
+    } finally {
+      writeUnlock();
+    }
     return true;
   }
 
@@ -958,8 +1051,13 @@ public class FSDirectory implements FSConstants, Closeable {
 
   void setPermission(String src, FsPermission permission
       ) throws IOException {
-    unprotectedSetPermission(src, permission);
-    fsImage.getEditLog().logSetPermissions(src, permission);
+    writeLock();
+    try {
+      unprotectedSetPermission(src, permission);
+      fsImage.getEditLog().logSetPermissions(src, permission);
+    } finally {
+      writeUnlock();
+    }
   }
 
   void unprotectedSetPermission(String src, FsPermission permissions) throws FileNotFoundException {
@@ -976,8 +1074,13 @@ public class FSDirectory implements FSConstants, Closeable {
 
   void setOwner(String src, String username, String groupname
       ) throws IOException {
-    unprotectedSetOwner(src, username, groupname);
-    fsImage.getEditLog().logSetOwner(src, username, groupname);
+    writeLock();
+    try {
+      unprotectedSetOwner(src, username, groupname);
+      fsImage.getEditLog().logSetOwner(src, username, groupname);
+    } finally {
+      writeUnlock();
+    }
   }
 
   void unprotectedSetOwner(String src, String username, String groupname) throws FileNotFoundException {
@@ -1045,7 +1148,7 @@ public class FSDirectory implements FSConstants, Closeable {
         if(nodeToRemove == null) continue;
 
         nodeToRemove.blocks = null;
-        trgParent.removeChild(nodeToRemove);
+        trgParent.removeChild(nodeToRemove, lockFreeReads);
         count++;
       }
       trgInode.setModificationTime(now);
@@ -1154,7 +1257,7 @@ public class FSDirectory implements FSConstants, Closeable {
             blocksLimit = BLOCK_DELETION_NO_LIMIT;
           }
           int filesRemoved = targetNode.collectSubtreeBlocksAndClear(
-              toBeDeletedBlocks, blocksLimit);
+              toBeDeletedBlocks, blocksLimit, lockFreeReads);
           FSNamesystem.incrDeletedFileCount(getFSNamesystem(), filesRemoved);
           // Delete collected blocks immediately;
           // Remaining blocks need to be collected and deleted later on
@@ -1195,7 +1298,7 @@ public class FSDirectory implements FSConstants, Closeable {
       //
       // Remove the node from the namespace 
       //
-      if (!oldnode.removeNode()) {
+      if (!oldnode.removeNode(lockFreeReads)) {
         NameNode.stateChangeLog.warn("DIR* FSDirectory.replaceNode: " +
                                      "failed to remove " + path);
         throw new IOException("FSDirectory.replaceNode: " +
@@ -1210,7 +1313,7 @@ public class FSDirectory implements FSConstants, Closeable {
       }
       INodeDirectory parent = (INodeDirectory)inodes[inodes.length-2];
       newnode.setLocalName(oldnode.getLocalNameBytes());
-      parent.addChild(newnode, false);
+      parent.addChild(newnode, false, lockFreeReads);
       inodes[inodes.length-1] = newnode;
 
       //check if disk space needs to be updated.
@@ -1384,31 +1487,59 @@ public class FSDirectory implements FSConstants, Closeable {
         }
       }
       INodeDirectory dirInode = (INodeDirectory)targetNode;
-      List<INode> contents = dirInode.getChildren();
-      // find the first child whose name is greater than startAfter
-      int startChild = dirInode.nextChild(startAfter);
-      int totalNumChildren = contents.size();
-      int numOfListing = Math.min(totalNumChildren-startChild, this.lsLimit);
-      HdfsFileStatus listing[] = new HdfsFileStatus[numOfListing];
-      LocatedBlocks [] blockLocations = new LocatedBlocks[numOfListing];
-      for (int i=0; i<numOfListing; i++) {
-        INode cur = contents.get(startChild+i);
-        listing[i] = createHdfsFileStatus(cur.name, cur);
-        if (needLocation) {
-          blockLocations[i] = createLocatedBlocks(cur);
-        }
-      }
-      if (needLocation) {
-        return new LocatedDirectoryListing(
-            listing, blockLocations, totalNumChildren-startChild-numOfListing);
-      } else {
-        return new DirectoryListing(
-            listing, totalNumChildren-startChild-numOfListing);
-      }
+      return listChildren(dirInode.getChildrenRaw(),
+          dirInode.getNumChildren(), startAfter, needLocation);
   } finally {
     readUnlock();
   }
   }
+
+  /**
+   * Get a partial listing of the indicated directory without block
+   * locations and without taking the directory lock. The caller has to
+   * validate the result with {@link #validateLockFreeRead(long)}.
+   *
+   * @see #getPartialListing(String, INode, byte[], boolean)
+   */
+  DirectoryListing getPartialListingLockFree(INode targetNode,
+      byte[] startAfter) throws IOException {
+    if (targetNode == null) {
+      return null;
+    }
+    if (!targetNode.isDirectory()) {
+      return new DirectoryListing(new HdfsFileStatus[] {
+          createHdfsFileStatus(HdfsFileStatus.EMPTY_NAME, targetNode)}, 0);
+    }
+    INode[] children = ((INodeDirectory)targetNode).getChildrenLockFree();
+    return listChildren(children, children == null ? 0 : children.length,
+        startAfter, false);
+  }
+
+  /**
+   * List up to lsLimit of the first n children that come after startAfter.
+   */
+  private DirectoryListing listChildren(INode[] children, int n,
+      byte[] startAfter, boolean needLocation) throws IOException {
+    // find the first child whose name is greater than startAfter
+    int startChild = INodeDirectory.nextChild(children, n, startAfter);
+    int numOfListing = Math.min(n-startChild, this.lsLimit);
+    HdfsFileStatus listing[] = new HdfsFileStatus[numOfListing];
+    LocatedBlocks [] blockLocations = new LocatedBlocks[numOfListing];
+    for (int i=0; i<numOfListing; i++) {
+      INode cur = children[startChild+i];
+      listing[i] = createHdfsFileStatus(cur.name, cur);
+      if (needLocation) {
+        blockLocations[i] = createLocatedBlocks(cur);
+      }
+    }
+    if (needLocation) {
+      return new LocatedDirectoryListing(
+          listing, blockLocations, n-startChild-numOfListing);
+    } else {
+      return new DirectoryListing(
+          listing, n-startChild-numOfListing);
+    }
+  }
   
   /** Get the file info for a specific file.
    * @param src The string representation of the path to the file
@@ -1481,6 +1612,19 @@ public class FSDirectory implements FSConstants, Closeable {
     }
   }
 
+  /**
+   * Look up the inodes of a path without the directory lock. The caller
+   * has to validate the result with {@link #validateLockFreeRead(long)}.
+   *
+   * @see #getExistingPathINodes(String)
+   */
+  INode[] getExistingPathINodesLockFree(String path) {
+    byte[][] components = INode.getPathComponents(path);
+    INode[] inodes = new INode[components.length];
+    rootDir.getExistingPathINodesLockFree(components, inodes);
+    return inodes;
+  }
+
   static HdfsFileStatus getHdfsFileInfo(INode node) {
     return createHdfsFileStatus(HdfsFileStatus.EMPTY_NAME, node);
   }
@@ -1558,6 +1702,19 @@ public class FSDirectory implements FSConstants, Closeable {
       readUnlock();
     }
   }
+
+  /**
+   * Same as {@link #getExistingPathINodes(String)} for a path that was
+   * already split into components.
+   */
+  void getExistingPathINodes(byte[][] components, INode[] inodes) {
+    readLock();
+    try {
+      rootDir.getExistingPathINodes(components, inodes);
+    } finally {
+      readUnlock();
+    }
+  }
   
   /**
    * Get the parent node of path.
@@ -1801,6 +1958,10 @@ public class FSDirectory implements FSConstants, Closeable {
       if (inodes == null) {
         inodes = new INode[pos];
         rootDir.getExistingPathINodes(components, inodes);
+      } else if (!isNamespaceWriteLocked()) {
+        // with path locking, a concurrent mkdirs may have created some of
+        // the shared ancestors since the caller resolved the path
+        rootDir.getExistingPathINodes(components, inodes);
       }
 
       // find the index of the first null in inodes[]
@@ -1970,7 +2131,7 @@ public class FSDirectory implements FSConstants, Closeable {
     updateCount(pathComponents, pos, counts.getNsCount(), childDiskspace,
         checkQuota);
     T addedNode = ((INodeDirectory)pathComponents[pos-1]).addChild(
-        child, inheritPermission);
+        child, inheritPermission, lockFreeReads);
     if (addedNode == null) {
       updateCount(pathComponents, pos, -counts.getNsCount(), 
           -childDiskspace, true);
@@ -2004,7 +2165,8 @@ public class FSDirectory implements FSConstants, Closeable {
    */
   private INode removeChild(INode[] pathComponents, int pos) {
     INode removedNode = 
-      ((INodeDirectory)pathComponents[pos-1]).removeChild(pathComponents[pos]);
+      ((INodeDirectory)pathComponents[pos-1]).removeChild(pathComponents[pos],
+                                                          lockFreeReads);
     if (removedNode != null) {
       INode.DirCounts counts = new INode.DirCounts();
       removedNode.spaceConsumedInTree(counts);
@@ -2164,7 +2326,7 @@ public class FSDirectory implements FSConstants, Closeable {
         // non-root directory node; parent != null
         INodeDirectory parent = (INodeDirectory)inodes[inodes.length-2];
         dirNode = newNode;
-        parent.replaceChild(newNode);
+        parent.replaceChild(newNode, lockFreeReads);
       }
       return (oldNsQuota != nsQuota || oldDsQuota != dsQuota) ? dirNode : null;
     }
@@ -2235,22 +2397,28 @@ public class FSDirectory implements FSConstants, Closeable {
   private boolean unprotectedSetTimes(String src, INodeFile inode, long mtime,
                                       long atime, boolean force) throws IOException {
     boolean status = false;
-    if (mtime != -1) {
-      inode.setModificationTimeForce(mtime);
-      status = true;
-    }
-    if (atime != -1) {
-      long inodeTime = inode.getAccessTime();
-
-      // if the last access time update was within the last precision interval, then
-      // no need to store access time
-      if (atime <= inodeTime + getFSNamesystem().getAccessTimePrecision() && !force) {
-        status =  false;
-      } else {
-        inode.setAccessTime(atime);
+    // the write lock bumps the version of the tree for lock-free readers
+    writeLock();
+    try {
+      if (mtime != -1) {
+        inode.setModificationTimeForce(mtime);
         status = true;
       }
-    } 
+      if (atime != -1) {
+        long inodeTime = inode.getAccessTime();
+
+        // if the last access time update was within the last precision interval, then
+        // no need to store access time
+        if (atime <= inodeTime + getFSNamesystem().getAccessTimePrecision() && !force) {
+          status =  false;
+        } else {
+          inode.setAccessTime(atime);
+          status = true;
+        }
+      }
+    } finally {
+      writeUnlock();
+    }
     return status;
   }
   
@@ -2288,7 +2456,7 @@ public class FSDirectory implements FSConstants, Closeable {
      if (node.isDirectory()) {
        INodeDirectory dirNode = (INodeDirectory)node;
        //length is used to represent the number of children for directories.
-       size = dirNode.getChildren().size();
+       size = dirNode.getNumChildren();
      }
      return new HdfsFileStatus(
          size,
@@ -2321,18 +2489,26 @@ public class FSDirectory implements FSConstants, Closeable {
    }
 
    /**
-   * Caches frequently used file names to reuse file name objects and
-   * reduce heap size.
+   * Caches frequently used file and directory names to reuse name objects
+   * and reduce heap size.
    */
   void cacheName(INode inode) {
-    // Name is cached only for files
-    if (inode.isDirectory()) {
+    byte[] bytes = inode.getLocalNameBytes();
+    if (bytes == null || bytes.length == 0) { // root
       return;
     }
-    ByteArray name = new ByteArray(inode.getLocalNameBytes());
-    name = nameCache.put(name);
-    if (name != null) {
+    ByteArray name = nameCache.put(new ByteArray(bytes));
+    if (name != null && name.getBytes() != bytes) {
       inode.setLocalName(name.getBytes());
+      // array header plus the bytes, padded to 8
+      nameCacheHeapSaved += (16 + bytes.length + 7) & ~7L;
     }
   }
+
+  /**
+   * @return estimated heap saved by sharing names through the name cache
+   */
+  long getNameCacheHeapSaved() {
+    return nameCacheHeapSaved;
+  }
 }
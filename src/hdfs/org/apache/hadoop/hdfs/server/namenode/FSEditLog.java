@@ -23,12 +23,14 @@ import java.io.DataOutput;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
 import java.util.zip.Checksum;
 
 import org.apache.hadoop.hdfs.protocol.Block;
@@ -38,6 +40,8 @@ import org.apache.hadoop.hdfs.server.namenode.FSEditLogOp.*;
 import org.apache.hadoop.hdfs.server.namenode.FSImage.NameNodeDirType;
 import org.apache.hadoop.hdfs.server.namenode.metrics.NameNodeMetrics;
 import org.apache.hadoop.hdfs.util.Holder;
+import org.apache.hadoop.hdfs.util.InjectionEvent;
+import org.apache.hadoop.hdfs.util.InjectionHandler;
 import org.apache.hadoop.io.*;
 import org.apache.hadoop.ipc.Server;
 import org.apache.hadoop.util.PureJavaCrc32;
@@ -52,11 +56,18 @@ public class FSEditLog {
   static int sizeFlushBuffer = HdfsConstants.DEFAULT_EDIT_BUFFER_SIZE;
   static long preallocateSize= HdfsConstants.DEFAULT_EDIT_PREALLOCATE_SIZE;
   static long maxBufferedTransactions= HdfsConstants.DEFAULT_MAX_BUFFERED_TRANSACTIONS;
+  static boolean groupCommit = false;
+  static int groupCommitQueueSize = HdfsConstants.DEFAULT_EDIT_GROUP_COMMIT_QUEUE_SIZE;
   private final ConcurrentSkipListMap<Long, List<Long>> delayedSyncs = 
     new ConcurrentSkipListMap<Long, List<Long>>();
   private Thread syncThread;
   private SyncThread syncer;
 
+  // queue of serialized edits, only used in group commit mode
+  private volatile EditsRingBuffer editQueue;
+  private Thread groupCommitThread;
+  private GroupCommitThread groupCommitter;
+
   private ArrayList<EditLogOutputStream> editStreams = null;
   private FSImage fsimage = null;
 
@@ -110,8 +121,11 @@ public class FSEditLog {
    * @param txid
    *          the last transaction id
    */
-  public void setStartTransactionId(long txid) {
+  public synchronized void setStartTransactionId(long txid) {
     this.txid = txid;
+    if (editQueue != null) {
+      editQueue = new EditsRingBuffer(groupCommitQueueSize, txid);
+    }
   }
 
   private static class TransactionId {
@@ -122,6 +136,14 @@ public class FSEditLog {
     }
   }
 
+  // buffer to serialize edits of this thread in group commit mode.
+  private static final ThreadLocal<DataOutputBuffer> localEditBuffer =
+    new ThreadLocal<DataOutputBuffer>() {
+    protected DataOutputBuffer initialValue() {
+      return new DataOutputBuffer();
+    }
+  };
+
   // stores the most current transactionId of this thread.
   private static final ThreadLocal<TransactionId> myTransactionId = new ThreadLocal<TransactionId>() {
     protected synchronized TransactionId initialValue() {
@@ -169,7 +191,16 @@ public class FSEditLog {
    * @throws IOException
    */
   public synchronized void open() throws IOException {
-    if (syncer == null) {
+    if (groupCommit) {
+      // all previous edits were drained by close()
+      editQueue = new EditsRingBuffer(groupCommitQueueSize, txid);
+      if (groupCommitter == null) {
+        groupCommitter = new GroupCommitThread();
+        groupCommitThread = new Thread(groupCommitter, "EditLogGroupCommit");
+        groupCommitThread.setDaemon(true);
+        groupCommitThread.start();
+      }
+    } else if (syncer == null) {
       syncer = new SyncThread();
       syncThread = new Thread(syncer);
       syncThread.start();
@@ -207,7 +238,8 @@ public class FSEditLog {
    * Shutdown the file store.
    */
   public synchronized void close(boolean shutdown) throws IOException {
-    while (isSyncRunning) {
+    // in group commit mode also wait for the queued edits to be synced
+    while (isSyncRunning || (editQueue != null && !editQueue.isDrained())) {
       try {
         wait(1000);
       } catch (InterruptedException ie) { 
@@ -218,6 +250,10 @@ public class FSEditLog {
       syncer.stop();
       syncThread.interrupt();
     }
+    if (shutdown && groupCommitThread != null) {
+      groupCommitter.stop();
+      groupCommitThread.interrupt();
+    }
 
     if (editStreams == null) {
       return;
@@ -357,7 +393,46 @@ public class FSEditLog {
    * Write an operation to the edit log. Do not sync to persistent
    * store yet.
    */
-  synchronized void logEdit(final FSEditLogOp op) {
+  void logEdit(final FSEditLogOp op) {
+    EditsRingBuffer queue = editQueue;
+    if (queue != null) {
+      queueEdit(queue, op);
+    } else {
+      writeEdit(op);
+    }
+  }
+
+  /**
+   * Serialize an operation into the edit queue without taking the
+   * edit log lock. The group commit thread writes it out in order.
+   */
+  private void queueEdit(EditsRingBuffer queue, final FSEditLogOp op) {
+    long start = FSNamesystem.now();
+    long id = queue.reserve();
+    op.setTransactionId(id);
+    DataOutputBuffer buf = localEditBuffer.get();
+    buf.reset();
+    try {
+      new FSEditLogOp.Writer(buf).writeOp(op);
+    } catch (IOException ie) {
+      // the transaction id is taken, the log cannot go on without it
+      FSNamesystem.LOG.fatal("Unable to serialize edit " + op, ie);
+      Runtime.getRuntime().exit(-1);
+    }
+    queue.publish(id, Arrays.copyOf(buf.getData(), buf.getLength()));
+
+    //
+    // record the transactionId when new data was queued for the edits log
+    //
+    myTransactionId.get().txid = id + 1;
+
+    long end = FSNamesystem.now();
+    if (metrics != null) { // Metrics is non-null only when used inside name node
+      metrics.transactions.inc((end-start));
+    }
+  }
+
+  private synchronized void writeEdit(final FSEditLogOp op) {
     op.setTransactionId(txid);
     assert this.getNumEditStreams() > 0 : "no editlog streams";
     long start = FSNamesystem.now();
@@ -395,11 +470,19 @@ public class FSEditLog {
   /**
    * Syncs all pending transactions from all threads.
    */
-  synchronized void logSyncAll() throws IOException {
-    // stores in the Thread local variable of current threads
-    TransactionId id = myTransactionId.get();
-    id.txid = txid;
-    logSync();
+  void logSyncAll() throws IOException {
+    EditsRingBuffer queue = editQueue;
+    if (queue != null) {
+      // must not hold the lock, the group commit thread needs it
+      queue.awaitDurable(queue.getNextTxId());
+      return;
+    }
+    synchronized (this) {
+      // stores in the Thread local variable of current threads
+      TransactionId id = myTransactionId.get();
+      id.txid = txid;
+      logSync();
+    }
   }
 
   /**
@@ -410,6 +493,9 @@ public class FSEditLog {
    * the access time of files.
    */
   public void logSyncIfNeeded() throws IOException {
+    if (editQueue != null) {
+      return; // the group commit thread syncs whatever is queued
+    }
     boolean doSync = false;
     synchronized (this) {
       if (txid > synctxid + maxBufferedTransactions) {
@@ -433,8 +519,16 @@ public class FSEditLog {
 
   //
   // Sync all modifications done by this thread.
+  // If doWait is false and this is an RPC, the response of the call is
+  // held back until the modifications are synced and the handler returns
+  // right away; otherwise the call waits for the sync.
   //
   public void logSync(boolean doWait) throws IOException {
+    EditsRingBuffer queue = editQueue;
+    if (queue != null) {
+      logSyncQueued(queue, doWait);
+      return;
+    }
     
     long syncStart = 0;
 
@@ -450,18 +544,16 @@ public class FSEditLog {
       assert numEditStreams > 0 : "no editlog streams";
       printStatistics(false);
 
+      if (!doWait && mytxid > synctxid && Server.isResponseDelayable()) {
+        // hand the response to the sync thread, so that this handler
+        // can take the next call while the edits are synced
+        delayResponse(mytxid);
+        notifyAll();
+        return;
+      }
+
       // if somebody is already syncing, then wait
       while (mytxid > synctxid && isSyncRunning) {
-        if (!doWait) {
-          long delayedId = Server.delayResponse();
-          List<Long> responses = delayedSyncs.get(mytxid);
-          if (responses == null) { 
-            responses = new LinkedList<Long>();
-            delayedSyncs.put(mytxid, responses);
-          }
-          responses.add(delayedId);
-          return;
-        }
         try {
           wait(1000);
         } catch (InterruptedException ie) { }
@@ -496,8 +588,53 @@ public class FSEditLog {
     endDelay(syncStart);
   }
   
+  /**
+   * Wait for the edits of this thread to be synced by the group commit
+   * thread. If doWait is false and this is an RPC, the response is
+   * held back until then and the handler returns right away.
+   */
+  private void logSyncQueued(EditsRingBuffer queue, boolean doWait) {
+    TransactionId id = myTransactionId.get();
+    long mytxid = id.txid;
+    id.txid = -1L;
+    if (mytxid == -1) {
+      mytxid = queue.getNextTxId();
+    }
+    if (queue.getDurableTxId() >= mytxid) {
+      return;
+    }
+    if (!doWait && Server.isResponseDelayable()) {
+      delayResponse(mytxid);
+      // the sync might have finished before the response was registered
+      long durable = queue.getDurableTxId();
+      if (durable >= mytxid) {
+        endDelay(durable);
+      }
+      return;
+    }
+    queue.awaitDurable(mytxid);
+  }
+
+  /**
+   * Hold back the response to the current RPC until the transactions
+   * up to mytxid are synced.
+   */
+  private void delayResponse(long mytxid) {
+    long delayedId = Server.delayResponse();
+    synchronized (delayedSyncs) {
+      List<Long> responses = delayedSyncs.get(mytxid);
+      if (responses == null) { 
+        responses = new LinkedList<Long>();
+        delayedSyncs.put(mytxid, responses);
+      }
+      responses.add(delayedId);
+    }
+  }
+
   private void sync(long syncStart) {
     ArrayList<EditLogOutputStream> errorStreams = null;
+    InjectionHandler.processEvent(InjectionEvent.FSEDITLOG_BEFORE_SYNC,
+        syncStart);
     // do the sync
     long start = FSNamesystem.now();
     final int numEditStreams;
@@ -531,19 +668,21 @@ public class FSEditLog {
   }
   
   private void endDelay(long synced) {
-    ConcurrentNavigableMap<Long, List<Long>> syncs = delayedSyncs.headMap(synced, true);
-    for (Iterator<List<Long>> iter = syncs.values().iterator();
-            iter.hasNext();) {
-      List<Long> responses = iter.next();
-      for (Long responseId : responses) {
-        try {
-          Server.sendDelayedResponse(responseId);
-        } catch (IOException ex) {
+    synchronized (delayedSyncs) {
+      ConcurrentNavigableMap<Long, List<Long>> syncs =
+        delayedSyncs.headMap(synced, true);
+      for (Iterator<List<Long>> iter = syncs.values().iterator();
+              iter.hasNext();) {
+        List<Long> responses = iter.next();
+        for (Long responseId : responses) {
+          try {
+            Server.sendDelayedResponse(responseId);
+          } catch (IOException ex) {
+          }
         }
+        iter.remove();
       }
-      iter.remove();
     }
-    
   }
   
   private class SyncThread implements Runnable {
@@ -605,6 +744,104 @@ public class FSEditLog {
     }
   }
 
+  /**
+   * Writes the queued edits to the edit streams in transaction id order
+   * and syncs them, once for every group of edits that were queued while
+   * the previous sync was running. This is the only thread that writes
+   * to the streams in group commit mode.
+   */
+  private class GroupCommitThread implements Runnable {
+    private final long idleWaitNanos = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private volatile boolean isRunning = true;
+
+    public void stop() {
+      isRunning = false;
+      EditsRingBuffer queue = editQueue;
+      if (queue != null) {
+        queue.interruptWait();
+      }
+    }
+
+    @Override
+    public void run() {
+      while (isRunning) {
+        EditsRingBuffer queue = editQueue;
+        if (queue == null) {
+          return;
+        }
+        queue.awaitRecord(idleWaitNanos);
+        try {
+          commitGroup();
+        } catch (Throwable t) {
+          FSNamesystem.LOG.fatal("Group commit of edits failed", t);
+          Runtime.getRuntime().exit(-1);
+        }
+      }
+    }
+
+    private void commitGroup() {
+      long syncStart;
+      int batched = 0;
+      EditsRingBuffer queue;
+      synchronized (FSEditLog.this) {
+        queue = editQueue;
+        if (queue == null || editStreams == null || editStreams.isEmpty()) {
+          return;
+        }
+        byte[] record;
+        int capacity = queue.getCapacity();
+        while (batched < capacity && (record = queue.poll()) != null) {
+          for (int idx = 0; idx < editStreams.size(); idx++) {
+            EditLogOutputStream eStream = editStreams.get(idx);
+            try {
+              eStream.writeRaw(record, 0, record.length);
+            } catch (IOException ie) {
+              FSImage.LOG.warn("logEdit: removing "+ eStream.getName(), ie);
+              processIOError(idx);
+              idx--;
+            }
+          }
+          batched++;
+        }
+        if (batched == 0) {
+          return;
+        }
+        txid = queue.getConsumedTxId();
+        numTransactions += batched;
+        numTransactionsBatchedInSync += batched - 1;
+        printStatistics(false);
+
+        syncStart = txid;
+        isSyncRunning = true;
+        for (int idx = 0; idx < editStreams.size(); idx++) {
+          try {
+            editStreams.get(idx).setReadyToFlush();
+          } catch (IOException ex) {
+            FSNamesystem.LOG.error(ex);
+          }
+        }
+      }
+      sync(syncStart);
+      synchronized (FSEditLog.this) {
+        synctxid = syncStart;
+        isSyncRunning = false;
+        FSEditLog.this.notifyAll();
+      }
+      queue.markDurable(syncStart);
+      endDelay(syncStart);
+      if (metrics != null) { // Metrics is non-null only when used inside name node
+        metrics.transactionsBatchedInSync.inc(batched - 1);
+        metrics.numBufferedTransactions.set(
+            (int)(queue.getNextTxId() - syncStart));
+      }
+    }
+
+    public String toString() {
+      return "GroupCommitThread";
+    }
+  }
+
   //
   // print statistics every 1 minute.
   //
@@ -926,6 +1163,12 @@ public class FSEditLog {
     maxBufferedTransactions = num;
   }
 
+  // enables group commit of edits through a queue.
+  static void setGroupCommit(boolean enabled, int queueSize) {
+    groupCommit = enabled;
+    groupCommitQueueSize = queueSize;
+  }
+
   // sets the preallocate trigger of the edits log.
   static void setPreallocateSize(long size) {
     preallocateSize = size;
@@ -936,7 +1179,8 @@ public class FSEditLog {
    * This is the transaction ID that would be issued to the next transaction.
    */
   public synchronized long getCurrentTxId() {
-    return txid;
+    EditsRingBuffer queue = editQueue;
+    return queue != null ? queue.getNextTxId() : txid;
   }
 
   /**
@@ -1063,6 +1063,9 @@ public class FSImage extends Storage {
     assert curFile != null : "curFile is null";
 
     FSImageFormat.Loader loader = new FSImageFormat.Loader(namesystem.getConf(), namesystem, this);
+    if (!this.newImageDigest) {
+      loader.setExpectedDigest(this.getImageDigest());
+    }
     loader.load(curFile, null);
     editLog.setStartTransactionId(loader.getLoadedImageTxId() + 1);
     MD5Hash readImageMd5 = loader.getLoadedImageMd5();
@@ -1461,6 +1464,8 @@ public class FSImage extends Storage {
       StorageDirectory sd = it.next();
       File ckpt = getImageFile(sd, NameNodeFile.IMAGE_NEW);
       File curFile = getImageFile(sd, NameNodeFile.IMAGE);
+      // the index of the old image does not describe the new one
+      FSImageFormat.SectionIndex.getIndexFile(curFile).delete();
       // renameTo fails on Windows if the destination file 
       // already exists.
       LOG.debug("renaming  " + ckpt.getAbsolutePath() + " to "  + curFile.getAbsolutePath());
@@ -19,20 +19,30 @@ package org.apache.hadoop.hdfs.server.namenode;
 
 import static org.apache.hadoop.hdfs.server.common.Util.now;
 
+import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InterruptedIOException;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.security.DigestInputStream;
 import java.security.DigestOutputStream;
 import java.security.MessageDigest;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.logging.Log;
 import org.apache.hadoop.conf.Configuration;
@@ -44,8 +54,11 @@ import org.apache.hadoop.hdfs.protocol.FSConstants;
 import org.apache.hadoop.hdfs.protocol.LayoutVersion;
 import org.apache.hadoop.hdfs.protocol.LayoutVersion.Feature;
 import org.apache.hadoop.hdfs.protocol.QuotaExceededException;
+import org.apache.hadoop.hdfs.server.common.HdfsConstants;
 import org.apache.hadoop.hdfs.server.common.InconsistentFSStateException;
 import org.apache.hadoop.hdfs.server.common.StorageInfo;
+import org.apache.hadoop.io.DataOutputBuffer;
+import org.apache.hadoop.io.IOUtils;
 import org.apache.hadoop.io.MD5Hash;
 
 import org.apache.hadoop.hdfs.server.namenode.BlocksMap.BlockInfo;
@@ -58,6 +71,140 @@ class FSImageFormat {
   
   // Static-only class
   private FSImageFormat() {}
+
+  /**
+   * Sub-directory index of an image, stored next to the image file.
+   *
+   * The directory records of an image are written depth first, so the
+   * records can be cut into sections at record boundaries without
+   * changing the image format. The index lists the uncompressed length
+   * of each section, starting right after the root inode, which lets the
+   * loader hand whole sections to a pool of decoding threads. The index
+   * is only a hint: it is used only if the image digest it was written
+   * for matches the digest the image is expected to have.
+   */
+  static class SectionIndex {
+    private static final int INDEX_VERSION = 1;
+
+    private final MD5Hash imageDigest;
+    private final long[] sectionLengths;
+
+    SectionIndex(MD5Hash imageDigest, long[] sectionLengths) {
+      this.imageDigest = imageDigest;
+      this.sectionLengths = sectionLengths;
+    }
+
+    MD5Hash getImageDigest() {
+      return imageDigest;
+    }
+
+    long[] getSectionLengths() {
+      return sectionLengths;
+    }
+
+    /** The index file that belongs to the given image file. */
+    static File getIndexFile(File imageFile) {
+      return new File(imageFile.getPath() + ".idx");
+    }
+
+    void write(File imageFile) throws IOException {
+      DataOutputStream out = new DataOutputStream(
+          new FileOutputStream(getIndexFile(imageFile)));
+      try {
+        out.writeInt(INDEX_VERSION);
+        imageDigest.write(out);
+        out.writeInt(sectionLengths.length);
+        for (long len : sectionLengths) {
+          out.writeLong(len);
+        }
+      } finally {
+        out.close();
+      }
+    }
+
+    /**
+     * Read the index of the given image.
+     * @return the index or null if there is no usable index
+     */
+    static SectionIndex read(File imageFile) {
+      File indexFile = getIndexFile(imageFile);
+      if (!indexFile.exists()) {
+        return null;
+      }
+      DataInputStream in = null;
+      try {
+        in = new DataInputStream(new FileInputStream(indexFile));
+        if (in.readInt() != INDEX_VERSION) {
+          return null;
+        }
+        MD5Hash digest = new MD5Hash();
+        digest.readFields(in);
+        long[] lengths = new long[in.readInt()];
+        for (int i = 0; i < lengths.length; i++) {
+          lengths[i] = in.readLong();
+        }
+        return new SectionIndex(digest, lengths);
+      } catch (IOException e) {
+        LOG.warn("Ignoring unreadable image index " + indexFile, e);
+        return null;
+      } finally {
+        IOUtils.closeStream(in);
+      }
+    }
+  }
+
+  /** Counts the bytes written to the image before compression. */
+  private static class CountingOutputStream extends FilterOutputStream {
+    private long count = 0;
+
+    CountingOutputStream(OutputStream out) {
+      super(out);
+    }
+
+    long getCount() {
+      return count;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      out.write(b);
+      count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+      count += len;
+    }
+  }
+
+  /**
+   * A consecutive part of the directory records of an image, serialized
+   * by a saver thread.
+   */
+  private static class Segment {
+    final DataOutputBuffer data;
+    /** number of inodes in the records */
+    final long numINodes;
+
+    Segment(DataOutputBuffer data, long numINodes) {
+      this.data = data;
+      this.numINodes = numINodes;
+    }
+  }
+
+  /** The children of one directory, as stored in one image record. */
+  private static class DirectoryRecord {
+    final String parentPath;
+    final byte[][] names;
+    final INode[] children;
+
+    DirectoryRecord(String parentPath, int numChildren) {
+      this.parentPath = parentPath;
+      this.names = new byte[numChildren][];
+      this.children = new INode[numChildren];
+    }
+  }
   
   /**
    * A one-shot class responsible for loading an image. The load() function
@@ -81,10 +228,28 @@ class FSImageFormat {
     
     private StorageInfo storage;
 
+    /** The digest the image is expected to have, if known */
+    private MD5Hash expectedDigest = null;
+    /** Number of threads decoding image sections */
+    private final int numLoaderThreads;
+    /** Heap not spent on children lists thanks to exactly sized arrays */
+    private long childrenHeapSaved = 0;
+
     Loader(Configuration conf, FSNamesystem namesystem, StorageInfo storage) {
       this.conf = conf;
       this.namesystem = namesystem;
       this.storage = storage;
+      this.numLoaderThreads = conf.getInt(
+          HdfsConstants.DFS_IMAGE_LOADER_THREADS_KEY,
+          HdfsConstants.DFS_IMAGE_LOADER_THREADS_DEFAULT);
+    }
+
+    /**
+     * Set the digest recorded for the image. The sub-directory index of
+     * the image is only trusted if it was written for this digest.
+     */
+    void setExpectedDigest(MD5Hash expectedDigest) {
+      this.expectedDigest = expectedDigest;
     }
 
     /**
@@ -135,8 +300,10 @@ class FSImageFormat {
       // Load in bits
       //
       MessageDigest digester = null;
+      SectionIndex index = null;
       
       if (in == null) {
+        index = getUsableIndex(curFile);
         FileInputStream fis = new FileInputStream(curFile);
         digester = MD5Hash.getDigester();
         DigestInputStream fin = new DigestInputStream(
@@ -200,7 +367,7 @@ class FSImageFormat {
         LOG.info("Number of files = " + numFiles);
         if (LayoutVersion.supports(Feature.FSIMAGE_NAME_OPTIMIZATION,
             imgVersion)) {
-          loadLocalNameINodes(numFiles, in);
+          loadLocalNameINodes(numFiles, in, index);
         } else {
           loadFullNameINodes(numFiles, in);
         }
@@ -224,6 +391,41 @@ class FSImageFormat {
       
       LOG.info("Image file of size " + curFile.length() + " loaded in " 
           + (now() - startTime)/1000 + " seconds.");
+      reportHeapSaved();
+    }
+
+    /**
+     * Log an estimate of the heap saved by the compact inode representation
+     * compared to list backed directories and unshared names.
+     */
+    private void reportHeapSaved() {
+      FSDirectory fsDir = namesystem.dir;
+      long saved = childrenHeapSaved + fsDir.getNameCacheHeapSaved();
+      long files = Math.max(1, fsDir.totalFiles);
+      LOG.info("Compact inodes saved about " + (saved >> 20) + " MB of heap ("
+          + ((saved * 1000000 / files) >> 20) + " MB per million files), of"
+          + " which " + (childrenHeapSaved >> 20) + " MB in directories and "
+          + (fsDir.getNameCacheHeapSaved() >> 20) + " MB in shared names");
+    }
+
+    /**
+     * Return the sub-directory index of the image if the image can be
+     * loaded in parallel with it.
+     */
+    private SectionIndex getUsableIndex(File curFile) {
+      if (numLoaderThreads <= 1 || expectedDigest == null) {
+        return null;
+      }
+      SectionIndex index = SectionIndex.read(curFile);
+      if (index == null) {
+        return null;
+      }
+      if (!expectedDigest.equals(index.getImageDigest())) {
+        LOG.info("Ignoring image index " + SectionIndex.getIndexFile(curFile)
+            + " written for a different image");
+        return null;
+      }
+      return index;
     }
 
   /** Update the root node's attributes */
@@ -245,8 +447,8 @@ class FSImageFormat {
    * @param in image input stream
    * @throws IOException
    */  
-   private void loadLocalNameINodes(long numFiles, DataInputStream in) 
-   throws IOException {
+   private void loadLocalNameINodes(long numFiles, DataInputStream in,
+       SectionIndex index) throws IOException {
      assert LayoutVersion.supports(Feature.FSIMAGE_NAME_OPTIMIZATION,
          getLayoutVersion());
      assert numFiles > 0;
@@ -262,6 +464,9 @@ class FSImageFormat {
      filesLoaded++;
 
      // load rest of the nodes directory by directory
+     if (index != null) {
+       filesLoaded += loadSections(numFiles, in, index);
+     }
      int percentDone = 0;
      while (filesLoaded < numFiles) {
        filesLoaded += loadDirectory(in);
@@ -280,28 +485,137 @@ class FSImageFormat {
     * @throws IOException
     */
    private int loadDirectory(DataInputStream in) throws IOException {
-     String parentPath = FSImageSerialization.readString(in);
-     FSDirectory fsDir = namesystem.dir;
-     INode parent = fsDir.rootDir.getNode(parentPath);
-     if (parent == null || !parent.isDirectory()) {
-       throw new IOException("Path " + parentPath + "is not a directory.");
-     }
+     return linkDirectory(readDirectory(in));
+   }
 
+   /**
+    * Read one directory record without adding it to the namespace.
+    */
+   private DirectoryRecord readDirectory(DataInputStream in)
+   throws IOException {
+     String parentPath = FSImageSerialization.readString(in);
      int numChildren = in.readInt();
+     DirectoryRecord record = new DirectoryRecord(parentPath, numChildren);
      for(int i=0; i<numChildren; i++) {
        // load single inode
        byte[] localName = new byte[in.readShort()];
        in.readFully(localName); // read local name
-       INode newNode = loadINode(in); // read rest of inode
+       record.names[i] = localName;
+       record.children[i] = loadINode(in); // read rest of inode
+     }
+     return record;
+   }
+
+   /**
+    * Add the children of a directory record to the namespace.
+    * @return number of child inodes added
+    */
+   private int linkDirectory(DirectoryRecord record) throws IOException {
+     FSDirectory fsDir = namesystem.dir;
+     INode parent = fsDir.rootDir.getNode(record.parentPath);
+     if (parent == null || !parent.isDirectory()) {
+       throw new IOException("Path " + record.parentPath + "is not a directory.");
+     }
+     INodeDirectory dir = (INodeDirectory) parent;
+     if (dir.getNumChildren() == 0) {
+       // all the children of a directory are in one record
+       dir.setChildrenCapacity(record.children.length);
+       childrenHeapSaved += INodeDirectory.listHeapOverhead(
+           record.children.length);
+     }
 
+     for(int i=0; i<record.children.length; i++) {
+       INode newNode = record.children[i];
        // add to parent
-        namesystem.dir.addToParent(localName, (INodeDirectory) parent, newNode,
+        fsDir.addToParent(record.names[i], (INodeDirectory) parent, newNode,
             false, i);
         if (!newNode.isDirectory()) {
-          namesystem.dir.totalFiles++;
+          fsDir.totalFiles++;
         }
      }
-     return numChildren;
+     return record.children.length;
+   }
+
+   /**
+    * Load the directory records using the sub-directory index.
+    * The sections are read from the image stream in order and decoded by
+    * a pool of threads. Decoding (inode, block and permission objects)
+    * dominates the load time; the decoded records are then added to the
+    * namespace and the blocks map in image order by this thread, while
+    * the following sections are still being decoded.
+    *
+    * @return number of inodes loaded
+    */
+   private long loadSections(long numFiles, DataInputStream in,
+       SectionIndex index) throws IOException {
+     long[] lengths = index.getSectionLengths();
+     LOG.info("Loading " + lengths.length + " image sections using "
+         + numLoaderThreads + " threads");
+     ExecutorService pool = Executors.newFixedThreadPool(numLoaderThreads);
+     // bound the number of sections held in memory
+     int maxPending = 2 * numLoaderThreads;
+     LinkedList<Future<List<DirectoryRecord>>> pending =
+       new LinkedList<Future<List<DirectoryRecord>>>();
+     long filesLoaded = 1; // the root
+     int percentDone = 0;
+     try {
+       for (long length : lengths) {
+         if (length > Integer.MAX_VALUE) {
+           throw new IOException("Image section too large: " + length);
+         }
+         final byte[] section = new byte[(int) length];
+         in.readFully(section);
+         pending.add(pool.submit(new Callable<List<DirectoryRecord>>() {
+           public List<DirectoryRecord> call() throws IOException {
+             return decodeSection(section);
+           }
+         }));
+         while (pending.size() >= maxPending) {
+           filesLoaded += linkSection(pending.removeFirst());
+           percentDone = printProgress(filesLoaded, numFiles, percentDone);
+         }
+       }
+       while (!pending.isEmpty()) {
+         filesLoaded += linkSection(pending.removeFirst());
+         percentDone = printProgress(filesLoaded, numFiles, percentDone);
+       }
+     } finally {
+       pool.shutdownNow();
+     }
+     return filesLoaded - 1;
+   }
+
+   private List<DirectoryRecord> decodeSection(byte[] section)
+   throws IOException {
+     DataInputStream in = new DataInputStream(
+         new ByteArrayInputStream(section));
+     List<DirectoryRecord> records = new ArrayList<DirectoryRecord>();
+     while (in.available() > 0) {
+       records.add(readDirectory(in));
+     }
+     return records;
+   }
+
+   private int linkSection(Future<List<DirectoryRecord>> future)
+   throws IOException {
+     List<DirectoryRecord> records;
+     try {
+       records = future.get();
+     } catch (InterruptedException e) {
+       throw (InterruptedIOException)
+         new InterruptedIOException("Interrupted loading image").initCause(e);
+     } catch (ExecutionException e) {
+       if (e.getCause() instanceof IOException) {
+         throw (IOException) e.getCause();
+       }
+       throw (IOException)
+         new IOException("Failed to decode image section").initCause(e.getCause());
+     }
+     int loaded = 0;
+     for (DirectoryRecord record : records) {
+       loaded += linkDirectory(record);
+     }
+     return loaded;
    }
 
   /**
@@ -519,6 +833,12 @@ class FSImageFormat {
 
     static private final byte[] PATH_SEPARATOR = DFSUtil.string2Bytes(Path.SEPARATOR);
 
+    /** Counts the uncompressed bytes if a sub-directory index is built */
+    private CountingOutputStream sectionCounter = null;
+    /** Uncompressed offsets at which image sections start */
+    private List<Long> sectionOffsets = null;
+    private long sectionSize = 0;
+
     /** @throws IllegalStateException if the instance has not yet saved an image */
     private void checkSaved() {
       if (!saved) {
@@ -591,13 +911,38 @@ class FSImageFormat {
         out = compression.writeHeaderAndWrapStream(out);
         FSNamesystem.LOG.info("Saving image file " + newFile +
                  " using " + compression);
+        sectionSize = sourceNamesystem.getConf().getLong(
+            HdfsConstants.DFS_IMAGE_SECTION_SIZE_KEY,
+            HdfsConstants.DFS_IMAGE_SECTION_SIZE_DEFAULT);
+        if (sectionSize > 0 && fout != null) {
+          sectionCounter = new CountingOutputStream(out);
+          out = new DataOutputStream(sectionCounter);
+          sectionOffsets = new ArrayList<Long>();
+        }
 
         byte[] byteStore = new byte[4*FSConstants.MAX_PATH_LENGTH];
         ByteBuffer strbuf = ByteBuffer.wrap(byteStore);
         // save the root
         FSImageSerialization.saveINode2Image(fsDir.rootDir, out);
         // save the rest of the nodes
-        saveImage(strbuf, fsDir.rootDir, out, fsDir.totalInodes());
+        if (sectionOffsets != null) {
+          sectionOffsets.add(sectionCounter.getCount());
+        }
+        int numSaverThreads = sourceNamesystem.getConf().getInt(
+            HdfsConstants.DFS_IMAGE_SAVER_THREADS_KEY,
+            HdfsConstants.DFS_IMAGE_SAVER_THREADS_DEFAULT);
+        if (numSaverThreads > 1) {
+          long shardINodes = sourceNamesystem.getConf().getLong(
+              HdfsConstants.DFS_IMAGE_SAVER_SHARD_INODES_KEY,
+              HdfsConstants.DFS_IMAGE_SAVER_SHARD_INODES_DEFAULT);
+          saveImageParallel(fsDir.rootDir, out, fsDir.totalInodes(),
+              numSaverThreads, Math.max(1, shardINodes));
+        } else {
+          saveImage(strbuf, fsDir.rootDir, out, fsDir.totalInodes());
+        }
+        if (sectionOffsets != null) {
+          sectionOffsets.add(sectionCounter.getCount());
+        }
         // save files under construction
         sourceNamesystem.saveFilesUnderConstruction(context, out);
         strbuf = null;
@@ -611,11 +956,31 @@ class FSImageFormat {
       saved = true;
       // set md5 of the saved image
       savedDigest = new MD5Hash(digester.digest());
+      if (sectionOffsets != null) {
+        saveSectionIndex(newFile);
+      }
 
       LOG.info("Image file: " + newFile + " of size " + newFile.length() 
           + " saved in " + (now() - startTime)/1000 + " seconds.");
     }
     
+    /**
+     * Write the sub-directory index for the saved image. The image is
+     * usable without the index, so failing to write it is not fatal.
+     */
+    private void saveSectionIndex(File newFile) {
+      long[] lengths = new long[sectionOffsets.size() - 1];
+      for (int i = 0; i < lengths.length; i++) {
+        lengths[i] = sectionOffsets.get(i + 1) - sectionOffsets.get(i);
+      }
+      try {
+        new SectionIndex(savedDigest, lengths).write(newFile);
+      } catch (IOException e) {
+        LOG.warn("Unable to write image index for " + newFile, e);
+        SectionIndex.getIndexFile(newFile).delete();
+      }
+    }
+
     /**
      * Save file tree image starting from the given root.
      * This is a recursive procedure, which first saves all children of
@@ -640,9 +1005,44 @@ class FSImageFormat {
                                   long inodesProcessed) throws IOException {
       // if cancellation received - cancel operation
       context.checkCancelled();
-      List<INode> children = current.getChildrenRaw();
-      if (children == null || children.isEmpty())  // empty directory
+      INode[] children = current.getChildrenRaw();
+      int numChildren = current.getNumChildren();
+      if (numChildren == 0)  // empty directory
         return inodesProcessed;
+      // start a new section at this record if the current one is full
+      if (sectionOffsets != null) {
+        long offset = sectionCounter.getCount();
+        if (offset - sectionOffsets.get(sectionOffsets.size() - 1)
+            >= sectionSize) {
+          sectionOffsets.add(offset);
+        }
+      }
+      int prefixLen = currentDirName.position();
+      writeDirectoryHeader(currentDirName, numChildren, out);
+      int percentDone = (int)(inodesProcessed * 100 / inodesTotal);
+      for(int i = 0; i < numChildren; i++) {
+        INode child = children[i];
+        percentDone = printProgress(++inodesProcessed, inodesTotal, percentDone, "Saved");
+        FSImageSerialization.saveINode2Image(child, out);
+      }
+      // print sub-directories
+      for(int i = 0; i < numChildren; i++) {
+        INode child = children[i];
+        if(!child.isDirectory())
+          continue;
+        currentDirName.put(PATH_SEPARATOR).put(child.getLocalNameBytes());
+        inodesProcessed = saveImage(currentDirName, (INodeDirectory)child, out, inodesTotal, inodesProcessed);
+        currentDirName.position(prefixLen);
+      }
+      return inodesProcessed;
+    }
+
+    /**
+     * Write the parent directory name and the number of children that
+     * start the record of a directory.
+     */
+    private static void writeDirectoryHeader(ByteBuffer currentDirName,
+        int numChildren, DataOutputStream out) throws IOException {
       // print prefix (parent directory name)
       int prefixLen = currentDirName.position();
       if (prefixLen == 0) {  // root
@@ -653,21 +1053,192 @@ class FSImageFormat {
         out.write(currentDirName.array(), 0, prefixLen);
       }
       // print all children first
-      out.writeInt(children.size());
-      int percentDone = (int)(inodesProcessed * 100 / inodesTotal);
-      for(INode child : children) {
-        percentDone = printProgress(++inodesProcessed, inodesTotal, percentDone, "Saved");
-        FSImageSerialization.saveINode2Image(child, out);
+      out.writeInt(numChildren);
+    }
+
+    /**
+     * Save the file tree below the root with several threads.
+     *
+     * The depth first order of the records is cut into segments: the
+     * whole subtree of a directory with at most shardINodes inodes below
+     * it, or just the record of a larger directory, whose sub-directories
+     * are then cut in the same way. The segments are serialized in
+     * parallel into memory and written to the image in order, so the
+     * image is byte for byte the same as one saved by a single thread.
+     * Compression, if any, still runs on the calling thread.
+     */
+    private void saveImageParallel(INodeDirectory root, DataOutputStream out,
+        long inodesTotal, int numThreads, long shardINodes)
+        throws IOException {
+      LOG.info("Saving image using " + numThreads + " threads");
+      ExecutorService pool = Executors.newFixedThreadPool(numThreads);
+      ParallelWriter writer = new ParallelWriter(pool, out, inodesTotal,
+          2 * numThreads);
+      try {
+        cutSegments(new byte[0], root, shardINodes, writer);
+        writer.finish();
+      } finally {
+        pool.shutdownNow();
       }
-      // print sub-directories
-      for(INode child : children) {
-        if(!child.isDirectory())
+      if (inodesTotal != writer.inodesProcessed) {
+        throw new IOException("NameNode corrupted: saved inodes = "
+            + writer.inodesProcessed + " expected inodes = " + inodesTotal);
+      }
+    }
+
+    private void cutSegments(byte[] dirName, INodeDirectory dir,
+        long shardINodes, ParallelWriter writer) throws IOException {
+      if (countINodes(dir, shardINodes) <= shardINodes) {
+        writer.submit(dirName, dir, true);
+        return;
+      }
+      writer.submit(dirName, dir, false);
+      INode[] children = dir.getChildrenRaw();
+      int numChildren = dir.getNumChildren();
+      for (int i = 0; i < numChildren; i++) {
+        INode child = children[i];
+        if (!child.isDirectory()) {
           continue;
+        }
+        byte[] name = child.getLocalNameBytes();
+        byte[] childName = Arrays.copyOf(dirName,
+            dirName.length + PATH_SEPARATOR.length + name.length);
+        System.arraycopy(PATH_SEPARATOR, 0, childName, dirName.length,
+            PATH_SEPARATOR.length);
+        System.arraycopy(name, 0, childName,
+            dirName.length + PATH_SEPARATOR.length, name.length);
+        cutSegments(childName, (INodeDirectory)child, shardINodes, writer);
+      }
+    }
+
+    /**
+     * Count the inodes below a directory, but stop as soon as there are
+     * more than limit of them.
+     */
+    private static long countINodes(INodeDirectory dir, long limit) {
+      INode[] children = dir.getChildrenRaw();
+      int numChildren = dir.getNumChildren();
+      long count = numChildren;
+      for (int i = 0; i < numChildren && count <= limit; i++) {
+        if (children[i].isDirectory()) {
+          count += countINodes((INodeDirectory)children[i], limit - count);
+        }
+      }
+      return count;
+    }
+
+    /**
+     * Serialize the record of a directory, and if recursive is set the
+     * records of its whole subtree, without touching the shared state of
+     * the saver.
+     * @return the number of inodes serialized
+     */
+    private long serialize(ByteBuffer currentDirName, INodeDirectory current,
+        boolean recursive, DataOutputStream out) throws IOException {
+      context.checkCancelled();
+      INode[] children = current.getChildrenRaw();
+      int numChildren = current.getNumChildren();
+      if (numChildren == 0) {
+        return 0;
+      }
+      int prefixLen = currentDirName.position();
+      writeDirectoryHeader(currentDirName, numChildren, out);
+      for (int i = 0; i < numChildren; i++) {
+        FSImageSerialization.saveINode2Image(children[i], out);
+      }
+      long count = numChildren;
+      if (!recursive) {
+        return count;
+      }
+      for (int i = 0; i < numChildren; i++) {
+        INode child = children[i];
+        if (!child.isDirectory()) {
+          continue;
+        }
         currentDirName.put(PATH_SEPARATOR).put(child.getLocalNameBytes());
-        inodesProcessed = saveImage(currentDirName, (INodeDirectory)child, out, inodesTotal, inodesProcessed);
+        count += serialize(currentDirName, (INodeDirectory)child, true, out);
         currentDirName.position(prefixLen);
       }
-      return inodesProcessed;
+      return count;
+    }
+
+    /**
+     * Hands segments to the saver threads and writes them to the image in
+     * the order they were submitted.
+     */
+    private class ParallelWriter {
+      private final ExecutorService pool;
+      private final DataOutputStream out;
+      private final long inodesTotal;
+      /** bound on the number of serialized segments held in memory */
+      private final int maxPending;
+      private final LinkedList<Future<Segment>> pending =
+        new LinkedList<Future<Segment>>();
+      private long inodesProcessed = 1; // the root
+      private int percentDone = 0;
+
+      ParallelWriter(ExecutorService pool, DataOutputStream out,
+          long inodesTotal, int maxPending) {
+        this.pool = pool;
+        this.out = out;
+        this.inodesTotal = inodesTotal;
+        this.maxPending = maxPending;
+      }
+
+      void submit(final byte[] dirName, final INodeDirectory dir,
+          final boolean recursive) throws IOException {
+        pending.add(pool.submit(new Callable<Segment>() {
+          public Segment call() throws IOException {
+            ByteBuffer name =
+              ByteBuffer.wrap(new byte[4*FSConstants.MAX_PATH_LENGTH]);
+            name.put(dirName);
+            DataOutputBuffer data = new DataOutputBuffer();
+            long count = serialize(name, dir, recursive, data);
+            return new Segment(data, count);
+          }
+        }));
+        while (pending.size() >= maxPending) {
+          write(pending.removeFirst());
+        }
+      }
+
+      void finish() throws IOException {
+        while (!pending.isEmpty()) {
+          write(pending.removeFirst());
+        }
+      }
+
+      private void write(Future<Segment> future) throws IOException {
+        Segment segment;
+        try {
+          segment = future.get();
+        } catch (InterruptedException e) {
+          throw (InterruptedIOException)
+            new InterruptedIOException("Interrupted saving image").initCause(e);
+        } catch (ExecutionException e) {
+          if (e.getCause() instanceof IOException) {
+            throw (IOException) e.getCause();
+          }
+          throw (IOException)
+            new IOException("Failed to serialize image segment").initCause(e.getCause());
+        }
+        int length = segment.data.getLength();
+        if (length == 0) {
+          return;
+        }
+        // segments start at record boundaries, so a section can start here
+        if (sectionOffsets != null) {
+          long offset = sectionCounter.getCount();
+          if (offset - sectionOffsets.get(sectionOffsets.size() - 1)
+              >= sectionSize) {
+            sectionOffsets.add(offset);
+          }
+        }
+        out.write(segment.data.getData(), 0, length);
+        inodesProcessed += segment.numINodes;
+        percentDone = printProgress(inodesProcessed, inodesTotal, percentDone,
+            "Saved");
+      }
     }
   }
   
@@ -178,8 +178,13 @@ public class FSNamesystem extends ReconfigurableBase
   private PermissionStatus defaultPermission;
   // FSNamesystemMetrics counter variables
   private FSNamesystemMetrics myFSMetrics;
-  private long capacityTotal = 0L, capacityUsed = 0L, capacityRemaining = 0L, capacityNamespaceUsed = 0L;
-  private int totalLoad = 0;
+  // Cluster totals of the datanode stats. They are updated by heartbeats
+  // without a global lock, see updateStats.
+  private final StripedCounter capacityTotal = new StripedCounter();
+  private final StripedCounter capacityUsed = new StripedCounter();
+  private final StripedCounter capacityRemaining = new StripedCounter();
+  private final StripedCounter capacityNamespaceUsed = new StripedCounter();
+  private final StripedCounter totalLoad = new StripedCounter();
 
   // number of datanodes that have reported (used during safemode only)
   private int dnReporting = 0;
@@ -262,6 +267,8 @@ public class FSNamesystem extends ReconfigurableBase
    * and removes them from the list.
    */
   ArrayList<DatanodeDescriptor> heartbeats = new ArrayList<DatanodeDescriptor>();
+  /** Expiry times of the nodes in {@link #heartbeats} */
+  private HeartbeatWheel heartbeatWheel;
 
   //
   // Store set of Blocks that need to be replicated 1 or more times.
@@ -322,11 +329,6 @@ public class FSNamesystem extends ReconfigurableBase
   // allow appending to hdfs files
   private boolean supportAppends = true;
 
-  /**
-   * Last block index used for replication work per priority
-   */
-  private int[] replIndex = new int[UnderReplicatedBlocks.LEVEL];
-
   /**
    * NameNode RPC address
    */
@@ -362,6 +364,9 @@ public class FSNamesystem extends ReconfigurableBase
   // lock to protect FSNamesystem.
   private ReentrantReadWriteLock fsLock;
   boolean hasRwLock = false; // shall we use read/write locks?
+  // if set, mutations confined to a few paths hold fsLock shared and
+  // serialize among each other through these stripes.
+  private PathLockStripes pathLocks = null;
 
   // do not use manual override to exit safemode
   volatile boolean manualOverrideSafeMode = false;
@@ -537,10 +542,11 @@ public class FSNamesystem extends ReconfigurableBase
   }
 
   // utility methods to acquire and release read lock and write lock
-  // If hasRwLock is false, then a readLock actually turns into  write lock.
+  // If hasRwLock is false, then a readLock actually turns into  write lock,
+  // unless the thread already holds the lock shared for path locking.
 
   void readLock() {
-    if (this.hasRwLock) {
+    if (this.hasRwLock || holdsPathLocks()) {
       this.fsLock.readLock().lock();
     } else {
       writeLock();
@@ -548,7 +554,7 @@ public class FSNamesystem extends ReconfigurableBase
   }
 
   void readUnlock() {
-    if (this.hasRwLock) {
+    if (this.hasRwLock || holdsPathLocks()) {
       this.fsLock.readLock().unlock();
     } else {
       writeUnlock();
@@ -567,6 +573,37 @@ public class FSNamesystem extends ReconfigurableBase
     return this.fsLock.isWriteLockedByCurrentThread();
   }
 
+  private boolean holdsPathLocks() {
+    return pathLocks != null && this.fsLock.getReadHoldCount() > 0;
+  }
+
+  /**
+   * Lock the namespace for a mutation that only modifies the given paths.
+   * If path locking is disabled this is the same as {@link #writeLock()}
+   * and null is returned. Otherwise fsLock is held shared and the stripes
+   * of the paths are returned; operations on unrelated directories can
+   * then proceed in parallel. The caller has to release the lock with
+   * {@link #writeUnlockPaths(PathLockStripes.Locks)} and must not acquire
+   * the write lock while holding it.
+   */
+  PathLockStripes.Locks writeLockPaths(String... paths) {
+    if (pathLocks == null) {
+      writeLock();
+      return null;
+    }
+    this.fsLock.readLock().lock();
+    return pathLocks.lock(paths);
+  }
+
+  void writeUnlockPaths(PathLockStripes.Locks locks) {
+    if (locks == null) {
+      writeUnlock();
+    } else {
+      locks.unlock();
+      this.fsLock.readLock().unlock();
+    }
+  }
+
   /**
    * Set parameters derived from heartbeat interval.
    */
@@ -576,6 +613,13 @@ public class FSNamesystem extends ReconfigurableBase
     this.heartbeatRecheckInterval = heartbeatRecheckInterval;
     this.heartbeatExpireInterval = 2 * heartbeatRecheckInterval +
       10 * heartbeatInterval;
+    if (heartbeatWheel == null) {
+      heartbeatWheel = new HeartbeatWheel(heartbeatRecheckInterval,
+                                          heartbeatExpireInterval, now());
+    } else {
+      heartbeatWheel.setIntervals(heartbeatRecheckInterval,
+                                  heartbeatExpireInterval, now());
+    }
     this.blockInvalidateLimit =
       Math.max(this.blockInvalidateLimit,
                20 * (int) (heartbeatInterval/1000L));
@@ -601,6 +645,16 @@ public class FSNamesystem extends ReconfigurableBase
     LOG.info("fsOwner=" + fsOwner);
 
     this.hasRwLock = conf.getBoolean("dfs.rwlock", false);
+    int numPathLocks = conf.getInt("dfs.namenode.pathlock.stripes", 0);
+    if (numPathLocks > 0) {
+      this.pathLocks = new PathLockStripes(numPathLocks);
+      LOG.info("Namespace mutations use " + numPathLocks + " path lock stripes");
+    }
+    if (conf.getBoolean("dfs.namenode.blocksmap.offheap", false)
+        && blocksMap.getOffHeapTriplets() == null) {
+      blocksMap.useOffHeapTriplets(
+          conf.getInt("dfs.namenode.blocksmap.offheap.replicas", 3));
+    }
     this.supergroup = conf.get("dfs.permissions.supergroup", "supergroup");
     this.isPermissionEnabled = conf.getBoolean("dfs.permissions", true);
     this.setPersistBlocks(conf.getBoolean("dfs.persist.blocks", false));
@@ -677,6 +731,11 @@ public class FSNamesystem extends ReconfigurableBase
     int maxBufferedTransactions = conf.getInt("dfs.max.buffered.transactions",
       HdfsConstants.DEFAULT_MAX_BUFFERED_TRANSACTIONS);
     FSEditLog.setMaxBufferedTransactions(maxBufferedTransactions);
+    FSEditLog.setGroupCommit(
+      conf.getBoolean(HdfsConstants.DFS_EDIT_GROUP_COMMIT_KEY,
+                      HdfsConstants.DFS_EDIT_GROUP_COMMIT_DEFAULT),
+      conf.getInt(HdfsConstants.DFS_EDIT_GROUP_COMMIT_QUEUE_SIZE_KEY,
+                  HdfsConstants.DEFAULT_EDIT_GROUP_COMMIT_QUEUE_SIZE));
 
     // Permission violations are logged in the namenode logs. The operation
     // does not fail.
@@ -723,7 +782,7 @@ public class FSNamesystem extends ReconfigurableBase
 
   public OpenFilesInfo getOpenFiles() throws IOException {
     List <FileStatusExtended> openFiles = new ArrayList <FileStatusExtended>();
-    for (Lease lease : leaseManager.getSortedLeases()) {
+    for (Lease lease : leaseManager.getLeases()) {
       for (String path : lease.getPaths()) {
         FileStatusExtended stat = this.getFileInfoExtended(path,
             lease.getHolder());
@@ -1006,7 +1065,7 @@ public class FSNamesystem extends ReconfigurableBase
   public void setPermission(String src, FsPermission permission
   ) throws IOException {
     INode[] inodes = null;
-    writeLock();
+    PathLockStripes.Locks locks = writeLockPaths(src);
     try {
       if (isInSafeMode()) {
         throw new SafeModeException("Cannot set permission for " + src, safeMode);
@@ -1015,7 +1074,7 @@ public class FSNamesystem extends ReconfigurableBase
       checkOwner(src, inodes);
       dir.setPermission(src, permission);
     } finally {
-      writeUnlock();
+      writeUnlockPaths(locks);
     }
     getEditLog().logSync(false);
     if (auditLog.isInfoEnabled()) {
@@ -1033,7 +1092,7 @@ public class FSNamesystem extends ReconfigurableBase
   public void setOwner(String src, String username, String group
   ) throws IOException {
     INode[] inodes = null;
-    writeLock();
+    PathLockStripes.Locks locks = writeLockPaths(src);
     try {
       if (isInSafeMode()) {
         throw new SafeModeException("Cannot set permission for " + src, safeMode);
@@ -1051,7 +1110,7 @@ public class FSNamesystem extends ReconfigurableBase
       }
       dir.setOwner(src, username, group);
     } finally {
-      writeUnlock();
+      writeUnlockPaths(locks);
     }
     getEditLog().logSync(false);
     if (auditLog.isInfoEnabled()) {
@@ -1148,6 +1207,28 @@ public class FSNamesystem extends ReconfigurableBase
     return blocks;
   }
 
+  /**
+   * Get block locations of many files within the specified range under
+   * one acquisition of the read lock.
+   *
+   * @see ClientProtocol#getBlockLocations(String[], long, long)
+   */
+  LocatedBlocks[] getBlockLocations(String clientMachine, String[] srcs,
+                                    long offset, long length,
+                                    BlockMetaInfoType type) throws IOException {
+    LocatedBlocks[] blocks = new LocatedBlocks[srcs.length];
+    readLock();
+    try {
+      for (int i = 0; i < srcs.length; i++) {
+        blocks[i] = getBlockLocations(clientMachine, srcs[i], offset, length,
+            type);
+      }
+    } finally {
+      readUnlock();
+    }
+    return blocks;
+  }
+
   /**
    * Get block locations within the specified range.
    *
@@ -1483,7 +1564,7 @@ public class FSNamesystem extends ReconfigurableBase
     } finally {
       writeUnlock();
     }
-    getEditLog().logSync();
+    getEditLog().logSync(false);
 
 
     if (auditLog.isInfoEnabled()) {
@@ -1708,15 +1789,58 @@ public class FSNamesystem extends ReconfigurableBase
         + ", overwrite=" + overwrite
         + ", append=" + append);
     }
-    
-    writeLock();
+
+    INodeFileUnderConstruction file = null;
+    if (pathLocks != null && !append) {
+      file = startFileUnderLock(src, names, components, permissions, holder,
+          clientMachine, overwrite, append, createParent, replication,
+          blockSize, true);
+    }
+    if (file == null) {
+      file = startFileUnderLock(src, names, components, permissions, holder,
+          clientMachine, overwrite, append, createParent, replication,
+          blockSize, false);
+    }
+    return file;
+  }
+
+  /**
+   * Create or reopen the file while holding the namespace lock.
+   * @param pathLocked if set, only lock the stripes of src. The creation
+   *        of a new file is confined to its path, but replacing or
+   *        recovering an existing one also touches blocks and leases.
+   *        In that case nothing is done and null is returned, so that the
+   *        caller can retry under the global write lock.
+   */
+  private INodeFileUnderConstruction startFileUnderLock(String src,
+                                 String[] names,
+                                 byte[][] components,
+                                 PermissionStatus permissions,
+                                 String holder,
+                                 String clientMachine,
+                                 boolean overwrite,
+                                 boolean append,
+                                 boolean createParent,
+                                 short replication,
+                                 long blockSize,
+                                 boolean pathLocked
+  ) throws IOException {
+    PathLockStripes.Locks locks = null;
+    if (pathLocked) {
+      locks = writeLockPaths(src);
+    } else {
+      writeLock();
+    }
     try {
       if (isInSafeMode()) {
         throw new SafeModeException("Cannot create file" + src, safeMode);
       }
       INode[] inodes = new INode[components.length];
-      dir.rootDir.getExistingPathINodes(components, inodes);
+      dir.getExistingPathINodes(components, inodes);
       INode inode = inodes[inodes.length-1];
+      if (pathLocked && inode != null) {
+        return null;
+      }
       boolean pathExists = inode != null &&
           (inode.isDirectory() || ((INodeFile)inode).getBlocks() != null);
       if (pathExists && inode.isDirectory()) {
@@ -1821,7 +1945,11 @@ public class FSNamesystem extends ReconfigurableBase
         throw ie;
       }
     } finally {
-      writeUnlock();
+      if (pathLocked) {
+        writeUnlockPaths(locks);
+      } else {
+        writeUnlock();
+      }
     }
   }
 
@@ -1951,7 +2079,7 @@ public class FSNamesystem extends ReconfigurableBase
     }
     startFileInternal(src, null, holder, clientMachine, false, true,
       false, (short) maxReplication, (long) 0);
-    getEditLog().logSync();
+    getEditLog().logSync(false);
 
     //
     // Create a LocatedBlock object for the last block of the file
@@ -2196,7 +2324,7 @@ public class FSNamesystem extends ReconfigurableBase
       // have we exceeded the configured limit of fs objects.
       checkFsObjectLimit();
 
-      dir.rootDir.getExistingPathINodes(components, pathINodes);
+      dir.getExistingPathINodes(components, pathINodes);
       pendingFile =
          checkLease(src, clientName, pathINodes[pathINodes.length - 1]);
 
@@ -2246,7 +2374,7 @@ public class FSNamesystem extends ReconfigurableBase
     if (returnLastBlock) {
       if (getPersistBlocks()) {
         if (syncAddBlock) {
-          getEditLog().logSync(); // sync every block.
+          getEditLog().logSync(false); // sync every block.
         } else {
           getEditLog().logSyncIfNeeded(); // sync if too many transactions in buffer
         }
@@ -2305,7 +2433,7 @@ public class FSNamesystem extends ReconfigurableBase
 
     if (getPersistBlocks()) {
       if (syncAddBlock) {
-        getEditLog().logSync(); // sync every block.
+        getEditLog().logSync(false); // sync every block.
       } else {
         getEditLog().logSyncIfNeeded(); // sync if too many transactions in buffer
       }
@@ -2498,7 +2626,7 @@ public class FSNamesystem extends ReconfigurableBase
       long fileLen, Block lastBlock) throws IOException {
     CompleteFileStatus status = completeFileInternal(src, holder, fileLen,
         lastBlock);
-    getEditLog().logSync();
+    getEditLog().logSync(false);
     return status;
   }
 
@@ -2971,15 +3099,15 @@ public class FSNamesystem extends ReconfigurableBase
       NameNode.stateChangeLog.debug("DIR* NameSystem.renameTo: " + src + " to " + dst);
     }
     
-    writeLock();
+    PathLockStripes.Locks locks = writeLockPaths(src, dst);
     try {
       if (isInSafeMode()) {
         throw new SafeModeException("Cannot rename " + src, safeMode);
       }
       INode[] srcInodes = new INode[srcComponents.length];
-      dir.rootDir.getExistingPathINodes(srcComponents, srcInodes);
+      dir.getExistingPathINodes(srcComponents, srcInodes);
       INode[] dstInodes = new INode[dstComponents.length];
-      dir.rootDir.getExistingPathINodes(dstComponents, dstInodes);
+      dir.getExistingPathINodes(dstComponents, dstInodes);
       INode dstNode = dstInodes[dstInodes.length-1];
       String actualDst = dst;
       byte[] lastDstComponent = dstComponents[dstComponents.length-1];
@@ -3015,7 +3143,7 @@ public class FSNamesystem extends ReconfigurableBase
       }
       return null;
     } finally {
-      writeUnlock();
+      writeUnlockPaths(locks);
     }
   }
 
@@ -3034,6 +3162,46 @@ public class FSNamesystem extends ReconfigurableBase
     return status;
   }
 
+  /**
+   * Remove the indicated filenames from namespace under one acquisition
+   * of the write lock and sync the edits once.
+   *
+   * @see ClientProtocol#delete(String[], boolean)
+   */
+  public boolean[] delete(String[] srcs, boolean recursive) throws IOException {
+    boolean[] status = new boolean[srcs.length];
+    INode[] targetNodes = new INode[srcs.length];
+    try {
+      writeLock();
+      try {
+        for (int i = 0; i < srcs.length; i++) {
+          targetNodes[i] = unlinkInternal(srcs[i], null, recursive, true);
+          status[i] = targetNodes[i] != null;
+        }
+      } finally {
+        writeUnlock();
+      }
+    } finally {
+      getEditLog().logSync(false);
+      // the blocks of the paths removed before a failure are freed as well
+      for (INode targetNode : targetNodes) {
+        if (targetNode != null) {
+          removeSubtree(targetNode);
+        }
+      }
+    }
+    if (auditLog.isInfoEnabled()) {
+      for (int i = 0; i < srcs.length; i++) {
+        if (status[i]) {
+          logAuditEvent(getCurrentUGI(),
+            Server.getRemoteIp(),
+            "delete", srcs[i], null, null);
+        }
+      }
+    }
+    return status;
+  }
+
   static void incrDeletedFileCount(FSNamesystem fsnamesystem, int count) {
     if (fsnamesystem != null)
       NameNode.getNameNodeMetrics().numFilesDeleted.inc(count);
@@ -3045,9 +3213,31 @@ public class FSNamesystem extends ReconfigurableBase
    */
   boolean deleteInternal(String src, INode[] inodes, boolean recursive,
                          boolean enforcePermission) throws IOException {
-    ArrayList<Block> collectedBlocks = new ArrayList<Block>();
     INode targetNode = null;
+    writeLock();
+    try {
+      targetNode = unlinkInternal(src, inodes, recursive, enforcePermission);
+      if (targetNode == null) {
+        return false;
+      }
+    } finally {
+      writeUnlock();
+    }
+    removeSubtree(targetNode);
+    return true;
+  }
 
+  /**
+   * Unlink the indicated filename from the namespace and remove the first
+   * increment of its blocks. The caller must hold the write lock and
+   * remove the rest of the subtree with {@link #removeSubtree(INode)}
+   * after releasing it.
+   *
+   * @return the removed inode or null if nothing was removed
+   */
+  private INode unlinkInternal(String src, INode[] inodes, boolean recursive,
+                               boolean enforcePermission) throws IOException {
+    ArrayList<Block> collectedBlocks = new ArrayList<Block>();
     byte[][] components = inodes == null ?
       INodeDirectory.getPathComponents(src) : null;
 
@@ -3078,14 +3268,19 @@ public class FSNamesystem extends ReconfigurableBase
         throw new IOException(src + " is non empty");
       }
 
-      targetNode = dir.delete(src, inodes, collectedBlocks,
+      return dir.delete(src, inodes, collectedBlocks,
           BLOCK_DELETION_INCREMENT);
-      if (targetNode == null) {
-        return false;
-      }
     } finally {
       writeUnlock();
     }
+  }
+
+  /**
+   * Incrementally remove the blocks of a subtree that has been unlinked
+   * from the namespace, releasing the write lock between increments.
+   */
+  private void removeSubtree(INode targetNode) throws IOException {
+    ArrayList<Block> collectedBlocks = new ArrayList<Block>();
     while (targetNode.parent != null) {
       // Interatively Remove blocks
       collectedBlocks.clear();
@@ -3098,15 +3293,13 @@ public class FSNamesystem extends ReconfigurableBase
       writeLock();
       try {
         int filesRemoved = targetNode.collectSubtreeBlocksAndClear(
-            collectedBlocks, BLOCK_DELETION_INCREMENT);
+            collectedBlocks, BLOCK_DELETION_INCREMENT, dir.isCopyOnWrite());
         incrDeletedFileCount(this, filesRemoved);
         removeBlocks(collectedBlocks);
       } finally {
         writeUnlock();
       }   
     }
-
-    return true;
   }
                    
   /**
@@ -3155,6 +3348,21 @@ public class FSNamesystem extends ReconfigurableBase
    */
   FileStatus getFileInfo(String src) throws IOException {
     src = dir.normalizePath(src);
+    final String path = src;
+    LockFreeRead<FileStatus> read = new LockFreeRead<FileStatus>() {
+      FileStatus read() throws IOException {
+        INode[] inodes = dir.getExistingPathINodesLockFree(path);
+        if (isPermissionEnabled) {
+          checkTraverse(path, inodes, false);
+        }
+        INode targetNode = inodes[inodes.length-1];
+        return targetNode == null ? null
+            : FSDirectory.createFileStatus(path, targetNode);
+      }
+    };
+    if (read.tryRead()) {
+      return read.result;
+    }
     INode[] inodes = dir.getExistingPathINodes(src);
 
     if (isPermissionEnabled) {
@@ -3194,7 +3402,22 @@ public class FSNamesystem extends ReconfigurableBase
    *         or null if file not found
    * @throws IOException if permission to access file is denied by the system
    */
-  HdfsFileStatus getHdfsFileInfo(String src) throws IOException {
+  HdfsFileStatus getHdfsFileInfo(final String src) throws IOException {
+    LockFreeRead<HdfsFileStatus> read = new LockFreeRead<HdfsFileStatus>() {
+      HdfsFileStatus read() throws IOException {
+        INode[] inodes =
+            dir.getExistingPathINodesLockFree(dir.normalizePath(src));
+        if (isPermissionEnabled) {
+          checkTraverse(src, inodes, false);
+        }
+        INode targetNode = inodes[inodes.length-1];
+        return targetNode == null ? null
+            : FSDirectory.getHdfsFileInfo(targetNode);
+      }
+    };
+    if (read.tryRead()) {
+      return read.result;
+    }
     if (isPermissionEnabled) {
       INode[] inodes = dir.getExistingPathINodes(src);
       checkTraverse(src, inodes);
@@ -3202,6 +3425,31 @@ public class FSNamesystem extends ReconfigurableBase
     return dir.getHdfsFileInfo(src);
   }
 
+  /**
+   * Get the file info for many files. Unless the lookups can run without
+   * locks, they are all done under one acquisition of the read lock.
+   *
+   * @see ClientProtocol#getHdfsFileInfo(String[])
+   */
+  HdfsFileStatus[] getHdfsFileInfo(String[] srcs) throws IOException {
+    HdfsFileStatus[] stats = new HdfsFileStatus[srcs.length];
+    boolean lock = !dir.isLockFreeReadEnabled();
+    if (lock) {
+      readLock();
+    }
+    try {
+      for (int i = 0; i < srcs.length; i++) {
+        stats[i] = getHdfsFileInfo(srcs[i]);
+      }
+    } finally {
+      if (lock) {
+        readUnlock();
+      }
+    }
+    return stats;
+  }
+
+
   /** Get the block info for a specific block id.
    * @param id The id of the block for which info is requested
    * @return object containing information regarding the block
@@ -3240,6 +3488,39 @@ public class FSNamesystem extends ReconfigurableBase
     return newNode != null;
   }
 
+  /**
+   * Create the directories of all given paths under one acquisition of
+   * the write lock and sync the edits once.
+   *
+   * @see ClientProtocol#mkdirs(String[], FsPermission)
+   */
+  public boolean[] mkdirs(String[] srcs, PermissionStatus permissions
+  ) throws IOException {
+    INode[] newNodes = new INode[srcs.length];
+    try {
+      PathLockStripes.Locks locks = writeLockPaths(srcs);
+      try {
+        for (int i = 0; i < srcs.length; i++) {
+          newNodes[i] = mkdirsInternal(srcs[i], permissions);
+        }
+      } finally {
+        writeUnlockPaths(locks);
+      }
+    } finally {
+      getEditLog().logSync(false);
+    }
+    boolean[] status = new boolean[srcs.length];
+    for (int i = 0; i < srcs.length; i++) {
+      status[i] = newNodes[i] != null;
+      if (status[i] && auditLog.isInfoEnabled()) {
+        logAuditEvent(getCurrentUGI(),
+          Server.getRemoteIp(),
+          "mkdirs", srcs[i], null, newNodes[i]);
+      }
+    }
+    return status;
+  }
+
   /**
    * Create all the necessary directories
    */
@@ -3259,12 +3540,12 @@ public class FSNamesystem extends ReconfigurableBase
     byte[][] components = INodeDirectory.getPathComponents(names);
     INode[] inodes = new INode[components.length];
 
-    writeLock();
+    PathLockStripes.Locks locks = writeLockPaths(src);
     try {
       if (NameNode.stateChangeLog.isDebugEnabled()) {
         NameNode.stateChangeLog.debug("DIR* NameSystem.mkdirs: " + src);
       }
-      dir.rootDir.getExistingPathINodes(components, inodes);
+      dir.getExistingPathINodes(components, inodes);
       if (isPermissionEnabled) {
         checkTraverse(src, inodes);
       }
@@ -3291,7 +3572,7 @@ public class FSNamesystem extends ReconfigurableBase
       }
       return inodes[inodes.length-1];
     } finally {
-      writeUnlock();
+      writeUnlockPaths(locks);
     }
   }
 
@@ -3364,7 +3645,7 @@ public class FSNamesystem extends ReconfigurableBase
     } finally {
       writeUnlock();
     }
-    getEditLog().logSync();
+    getEditLog().logSync(false);
   }
 
   /**
@@ -3647,7 +3928,7 @@ public class FSNamesystem extends ReconfigurableBase
     }
 
     if (closeFile || supportAppends) {
-      getEditLog().logSync();
+      getEditLog().logSync(false);
     }
     LOG.info("commitBlockSynchronization(newblock=" + lastblock
       + ", file=" + src + ") successful");
@@ -3655,19 +3936,15 @@ public class FSNamesystem extends ReconfigurableBase
 
 
   /**
-   * Renew the lease(s) held by the given client
+   * Renew the lease(s) held by the given client.
+   * Renewing only touches the time stamp of the lease, so the namesystem
+   * lock is not needed.
    */
   void renewLease(String holder) throws IOException {
-    readLock();
-    try {
-      if (isInSafeMode()) {
-        throw new SafeModeException("Cannot renew lease for " + holder, safeMode);
-      }
-
-      leaseManager.renewLease(holder);
-    } finally {
-      readUnlock();
+    if (isInSafeMode()) {
+      throw new SafeModeException("Cannot renew lease for " + holder, safeMode);
     }
+    leaseManager.renewLease(holder);
   }
 
   private void getListingCheck(String src) throws IOException {
@@ -3675,11 +3952,17 @@ public class FSNamesystem extends ReconfigurableBase
   }
 
   private void getListingCheck(String src, INode[] inodes) throws IOException {
+    getListingCheck(src, inodes, true);
+  }
+
+  private void getListingCheck(String src, INode[] inodes, boolean lock)
+      throws IOException {
     if (isPermissionEnabled) {
       if (FSDirectory.isDir(inodes[inodes.length-1])) {
-        checkPathAccess(src, inodes, FsAction.READ_EXECUTE);
+        checkPermission(src, inodes, false, null, null, FsAction.READ_EXECUTE,
+            null, lock);
       } else {
-        checkTraverse(src, inodes);
+        checkTraverse(src, inodes, lock);
       }
     }
   }
@@ -3727,16 +4010,31 @@ public class FSNamesystem extends ReconfigurableBase
     throws IOException {
     DirectoryListing stats;
     src = dir.normalizePath(src);
-    byte[][] names = INode.getPathComponents(src);
-    INode[] inodes = new INode[names.length];
-    readLock();
-    try {
-      dir.rootDir.getExistingPathINodes(names, inodes);
-      getListingCheck(src, inodes);
-      stats = dir.getPartialListing(src, inodes[inodes.length-1],
-          startAfter, needLocation);
-    } finally {
-      readUnlock();
+    final String path = src;
+    final byte[] start = startAfter;
+    // block locations need the blocks map, which only fsLock protects
+    LockFreeRead<DirectoryListing> read = needLocation ? null
+        : new LockFreeRead<DirectoryListing>() {
+      DirectoryListing read() throws IOException {
+        INode[] inodes = dir.getExistingPathINodesLockFree(path);
+        getListingCheck(path, inodes, false);
+        return dir.getPartialListingLockFree(inodes[inodes.length-1], start);
+      }
+    };
+    if (read != null && read.tryRead()) {
+      stats = read.result;
+    } else {
+      byte[][] names = INode.getPathComponents(src);
+      INode[] inodes = new INode[names.length];
+      readLock();
+      try {
+        dir.getExistingPathINodes(names, inodes);
+        getListingCheck(src, inodes);
+        stats = dir.getPartialListing(src, inodes[inodes.length-1],
+            startAfter, needLocation);
+      } finally {
+        readUnlock();
+      }
     }
     if (auditLog.isInfoEnabled()) {
       logAuditEvent(getCurrentUGI(),
@@ -3858,9 +4156,12 @@ public class FSNamesystem extends ReconfigurableBase
         synchronized (heartbeats) {
           if (!heartbeats.contains(nodeS)) {
             heartbeats.add(nodeS);
-            //update its timestamp
-            nodeS.updateHeartbeat(0L, 0L, 0L, 0L, 0);
-            nodeS.isAlive = true;
+            synchronized (nodeS) {
+              //update its timestamp
+              nodeS.updateHeartbeat(0L, 0L, 0L, 0L, 0);
+              nodeS.isAlive = true;
+            }
+            heartbeatWheel.add(nodeS);
           }
         }
         checkDecommissioning(nodeS, dnAddress);
@@ -3889,9 +4190,12 @@ public class FSNamesystem extends ReconfigurableBase
       // also treat the registration message as a heartbeat
       synchronized (heartbeats) {
         heartbeats.add(nodeDescr);
-        nodeDescr.isAlive = true;
+        synchronized (nodeDescr) {
+          nodeDescr.isAlive = true;
+        }
         // no need to update its timestamp
         // because its is done when the descriptor is created
+        heartbeatWheel.add(nodeDescr);
       }
       return;
     } finally {
@@ -3964,6 +4268,12 @@ public class FSNamesystem extends ReconfigurableBase
 
   void setDatanodeDead(DatanodeDescriptor node) throws IOException {
     node.setLastUpdate(0);
+    synchronized (heartbeats) {
+      // let the next heartbeatCheck find it
+      if (node.isAlive) {
+        heartbeatWheel.add(node);
+      }
+    }
   }
 
   /**
@@ -3973,6 +4283,10 @@ public class FSNamesystem extends ReconfigurableBase
    * <p/>
    * If a substantial amount of time passed since the last datanode
    * heartbeat then request an immediate block report.
+   * <p/>
+   * A heartbeat only locks the descriptor of its datanode. The expiry of
+   * the datanode is found by the {@link HeartbeatWheel} and the command
+   * queues of the descriptor have locks of their own.
    *
    * @return an array of datanode commands
    * @throws IOException
@@ -3982,51 +4296,54 @@ public class FSNamesystem extends ReconfigurableBase
                                     int xceiverCount, int xmitsInProgress)
     throws IOException {
     DatanodeCommand cmd = null;
-    synchronized (heartbeats) {
-      synchronized (datanodeMap) {
-        DatanodeDescriptor nodeinfo = null;
-        try {
-          nodeinfo = getDatanode(nodeReg);
-        } catch (UnregisteredDatanodeException e) {
-          return new DatanodeCommand[]{DatanodeCommand.REGISTER};
-        }
-
-        // Check if this datanode should actually be shutdown instead.
-        if (nodeinfo != null && nodeinfo.isDisallowed()) {
-          setDatanodeDead(nodeinfo);
-          throw new DisallowedDatanodeException(nodeinfo);
-        }
+    DatanodeDescriptor nodeinfo = null;
+    synchronized (datanodeMap) {
+      try {
+        nodeinfo = getDatanode(nodeReg);
+      } catch (UnregisteredDatanodeException e) {
+        return new DatanodeCommand[]{DatanodeCommand.REGISTER};
+      }
+    }
 
-        if (nodeinfo == null || !nodeinfo.isAlive) {
-          return new DatanodeCommand[]{DatanodeCommand.REGISTER};
-        }
+    // Check if this datanode should actually be shutdown instead.
+    if (nodeinfo != null && nodeinfo.isDisallowed()) {
+      setDatanodeDead(nodeinfo);
+      throw new DisallowedDatanodeException(nodeinfo);
+    }
 
-        updateStats(nodeinfo, false);
-        nodeinfo.updateHeartbeat(capacity, dfsUsed, remaining, namespaceUsed, xceiverCount);
-        updateStats(nodeinfo, true);
+    if (nodeinfo == null) {
+      return new DatanodeCommand[]{DatanodeCommand.REGISTER};
+    }
+    synchronized (nodeinfo) {
+      // removeDatanode clears isAlive holding the same lock
+      if (!nodeinfo.isAlive) {
+        return new DatanodeCommand[]{DatanodeCommand.REGISTER};
+      }
+      updateStats(nodeinfo, false);
+      nodeinfo.updateHeartbeat(capacity, dfsUsed, remaining, namespaceUsed, xceiverCount);
+      updateStats(nodeinfo, true);
+    }
 
-        //check lease recovery
-        cmd = nodeinfo.getLeaseRecoveryCommand(Integer.MAX_VALUE);
-        if (cmd != null) {
-          return new DatanodeCommand[]{cmd};
-        }
+    //check lease recovery
+    cmd = nodeinfo.getLeaseRecoveryCommand(Integer.MAX_VALUE);
+    if (cmd != null) {
+      return new DatanodeCommand[]{cmd};
+    }
 
-        ArrayList<DatanodeCommand> cmds = new ArrayList<DatanodeCommand>(2);
-        //check pending replication
-        cmd = nodeinfo.getReplicationCommand(maxReplicationStreams -
-                                             xmitsInProgress);
-        if (cmd != null) {
-          cmds.add(cmd);
-        }
-        //check block invalidation
-        cmd = nodeinfo.getInvalidateBlocks(blockInvalidateLimit);
-        if (cmd != null) {
-          cmds.add(cmd);
-        }
-        if (!cmds.isEmpty()) {
-          return cmds.toArray(new DatanodeCommand[cmds.size()]);
-        }
-      }
+    ArrayList<DatanodeCommand> cmds = new ArrayList<DatanodeCommand>(2);
+    //check pending replication
+    cmd = nodeinfo.getReplicationCommand(maxReplicationStreams -
+                                         xmitsInProgress);
+    if (cmd != null) {
+      cmds.add(cmd);
+    }
+    //check block invalidation
+    cmd = nodeinfo.getInvalidateBlocks(blockInvalidateLimit);
+    if (cmd != null) {
+      cmds.add(cmd);
+    }
+    if (!cmds.isEmpty()) {
+      return cmds.toArray(new DatanodeCommand[cmds.size()]);
     }
 
     //check distributed upgrade
@@ -4038,17 +4355,19 @@ public class FSNamesystem extends ReconfigurableBase
   }
 
   void handleKeepAlive(DatanodeRegistration nodeReg) throws IOException {
-    synchronized (heartbeats) {
-      synchronized (datanodeMap) {
-        DatanodeDescriptor nodeinfo = null;
-        try {
-          nodeinfo = getDatanode(nodeReg);
-        } catch (UnregisteredDatanodeException e) {
-          return;
-        }
-        if (nodeinfo == null || !nodeinfo.isAlive) {
-          return;
-        }
+    DatanodeDescriptor nodeinfo = null;
+    synchronized (datanodeMap) {
+      try {
+        nodeinfo = getDatanode(nodeReg);
+      } catch (UnregisteredDatanodeException e) {
+        return;
+      }
+    }
+    if (nodeinfo == null) {
+      return;
+    }
+    synchronized (nodeinfo) {
+      if (nodeinfo.isAlive) {
         nodeinfo.updateLastHeard();
       }
     }
@@ -4056,31 +4375,22 @@ public class FSNamesystem extends ReconfigurableBase
 
   private void updateStats(DatanodeDescriptor node, boolean isAdded) {
     //
-    // The statistics are protected by the heartbeat lock
+    // The stats of a node are protected by the lock of its descriptor,
+    // which makes removing and adding them back atomic for the node.
+    // The totals are striped counters that take no lock.
     // For decommissioning/decommissioned nodes, only used capacity
     // is counted.
     //
-    assert (Thread.holdsLock(heartbeats));
-    if (isAdded) {
-      capacityUsed += node.getDfsUsed();
-      capacityNamespaceUsed += node.getNamespaceUsed();
-      totalLoad += node.getXceiverCount();
-      if (!(node.isDecommissionInProgress() || node.isDecommissioned())) {
-        capacityTotal += node.getCapacity();
-        capacityRemaining += node.getRemaining();
-      } else {
-        capacityTotal += node.getDfsUsed();
-      }
+    assert (Thread.holdsLock(node));
+    int sign = isAdded ? 1 : -1;
+    capacityUsed.add(sign * node.getDfsUsed());
+    capacityNamespaceUsed.add(sign * node.getNamespaceUsed());
+    totalLoad.add(sign * node.getXceiverCount());
+    if (!(node.isDecommissionInProgress() || node.isDecommissioned())) {
+      capacityTotal.add(sign * node.getCapacity());
+      capacityRemaining.add(sign * node.getRemaining());
     } else {
-      capacityUsed -= node.getDfsUsed();
-      capacityNamespaceUsed -= node.getNamespaceUsed();
-      totalLoad -= node.getXceiverCount();
-      if (!(node.isDecommissionInProgress() || node.isDecommissioned())) {
-        capacityTotal -= node.getCapacity();
-        capacityRemaining -= node.getRemaining();
-      } else {
-        capacityTotal -= node.getDfsUsed();
-      }
+      capacityTotal.add(sign * node.getDfsUsed());
     }
   }
 
@@ -4182,7 +4492,10 @@ public class FSNamesystem extends ReconfigurableBase
         * UnderReplicationMonitor.INVALIDATE_WORK_PCT_PER_ITERATION / 100);
     }
 
+    long start = now();
     workFound = computeReplicationWork(blocksToProcess);
+    myFSMetrics.replicationWork.inc(now() - start);
+    myFSMetrics.numScheduledReplications.inc(workFound);
 
     // Update FSNamesystemMetrics counters
     writeLock();
@@ -4289,6 +4602,10 @@ public class FSNamesystem extends ReconfigurableBase
   /**
    * Get a list of block lists to be replicated
    * The index of block lists represents the
+   * <p/>
+   * Each priority queue is walked from where the previous round stopped,
+   * so a round costs the number of blocks it picks rather than the length
+   * of the queues. Only the lock of {@link #neededReplications} is held.
    *
    * @param blocksToProcess
    * @return Return a list of block lists to be replicated.
@@ -4302,34 +4619,27 @@ public class FSNamesystem extends ReconfigurableBase
       blocksToReplicate.add(new ArrayList<Block>());
     }
 
-    writeLock();
-    try {
-      synchronized (neededReplications) {
-        if (neededReplications.size() == 0) {
-          return blocksToReplicate;
-        }
+    synchronized (neededReplications) {
+      if (neededReplications.size() == 0) {
+        return blocksToReplicate;
+      }
 
-        for (int priority = 0; priority<UnderReplicatedBlocks.LEVEL; priority++) {
+      for (int priority = 0; priority<UnderReplicatedBlocks.LEVEL; priority++) {
         // Go through all blocks that need replications of priority
-        BlockIterator neededReplicationsIterator = neededReplications.iterator(priority);
+        Iterator<Block> neededReplicationsIterator =
+          neededReplications.bookmarkIterator(priority);
         int numBlocks = neededReplications.size(priority);
-        if (replIndex[priority] > numBlocks) {
-          replIndex[priority] = 0;
-        }
-        // skip to the first unprocessed block, which is at replIndex
-        for (int i = 0; i < replIndex[priority] && neededReplicationsIterator.hasNext(); i++) {
-          neededReplicationsIterator.next();
-        }
         // # of blocks to process for this priority
         int blocksToProcessIter = getQuotaForThisPriority(blocksToProcess,
             numBlocks, neededReplications.getSize(priority+1));
         blocksToProcess -= blocksToProcessIter;
 
-        for (int blkCnt = 0; blkCnt < blocksToProcessIter; blkCnt++, replIndex[priority]++) {
+        for (int blkCnt = 0; blkCnt < blocksToProcessIter; blkCnt++) {
           if (!neededReplicationsIterator.hasNext()) {
             // start from the beginning
-            replIndex[priority] = 0;
-            neededReplicationsIterator = neededReplications.iterator(priority);
+            neededReplications.resetBookmark(priority);
+            neededReplicationsIterator =
+              neededReplications.bookmarkIterator(priority);
             assert neededReplicationsIterator.hasNext() :
               "neededReplications should not be empty.";
           }
@@ -4337,16 +4647,18 @@ public class FSNamesystem extends ReconfigurableBase
           Block block = neededReplicationsIterator.next();
           blocksToReplicate.get(priority).add(block);
         } // end for
-        }
-      } // end try
-      return blocksToReplicate;
-    } finally {
-      writeUnlock();
+      }
     }
+    return blocksToReplicate;
   }
 
   /**
    * Replicate a set of blocks
+   * <p/>
+   * The work is scheduled holding the namesystem lock shared: the
+   * replication queues, the pending replications and the datanode command
+   * queues have locks of their own, and everything that changes blocks
+   * or files holds the namesystem lock exclusively.
    *
    * @param blocksToReplicate blocks to be replicated, for each priority
    * @return the number of blocks scheduled for replication
@@ -4360,7 +4672,7 @@ public class FSNamesystem extends ReconfigurableBase
     int scheduledWork = 0;
     List<ReplicationWork> work = new LinkedList<ReplicationWork>();
 
-    writeLock();
+    readLock();
     try {
       synchronized (neededReplications) {
         for (priority = 0; priority < blocksToReplicate.size(); priority++) {
@@ -4370,7 +4682,6 @@ public class FSNamesystem extends ReconfigurableBase
             // abandoned block not belong to a file
             if (fileINode == null ) {
               neededReplications.remove(block, priority); // remove from neededReplications
-              replIndex[priority]--;
               continue;
             }
             requiredReplication = fileINode.getReplication();
@@ -4389,7 +4700,6 @@ public class FSNamesystem extends ReconfigurableBase
               pendingReplications.getNumReplicas(block);
             if (numEffectiveReplicas >= requiredReplication) {
               neededReplications.remove(block, priority); // remove from neededReplications
-              replIndex[priority]--;
               continue;
             }
             work.add(new ReplicationWork(block, fileINode, requiredReplication
@@ -4398,7 +4708,7 @@ public class FSNamesystem extends ReconfigurableBase
         }
       }
     } finally {
-      writeUnlock();
+      readUnlock();
     }
 
     // choose replication targets: NOT HODING THE GLOBAL LOCK
@@ -4407,7 +4717,7 @@ public class FSNamesystem extends ReconfigurableBase
       rw.targets = targets;
     }
 
-    writeLock();
+    readLock();
     try {
       for(ReplicationWork rw : work){
         DatanodeDescriptor[] targets = rw.targets;
@@ -4439,7 +4749,6 @@ public class FSNamesystem extends ReconfigurableBase
           if (fileINode == null ) {
             neededReplications.remove(block, priority); // remove from neededReplications
             rw.targets = null;
-            replIndex[priority]--;
             continue;
           }
           requiredReplication = fileINode.getReplication();
@@ -4450,7 +4759,6 @@ public class FSNamesystem extends ReconfigurableBase
             pendingReplications.getNumReplicas(block);
           if (numEffectiveReplicas >= requiredReplication) {
             neededReplications.remove(block, priority); // remove from neededReplications
-            replIndex[priority]--;
             rw.targets = null;
             continue;
           }
@@ -4477,12 +4785,11 @@ public class FSNamesystem extends ReconfigurableBase
           // remove from neededReplications
           if (numEffectiveReplicas + targets.length >= requiredReplication) {
             neededReplications.remove(block, priority); // remove from neededReplications
-            replIndex[priority]--;
           }
         }
       }
     } finally {
-      writeUnlock();
+      readUnlock();
     }
 
     // update metrics
@@ -4771,9 +5078,12 @@ public class FSNamesystem extends ReconfigurableBase
   private void removeDatanode(DatanodeDescriptor nodeInfo) {
     synchronized (heartbeats) {
       if (nodeInfo.isAlive) {
-        updateStats(nodeInfo, false);
+        synchronized (nodeInfo) {
+          updateStats(nodeInfo, false);
+          nodeInfo.isAlive = false;
+        }
         heartbeats.remove(nodeInfo);
-        nodeInfo.isAlive = false;
+        heartbeatWheel.remove(nodeInfo);
       }
     }
 
@@ -4846,6 +5156,8 @@ public class FSNamesystem extends ReconfigurableBase
   /**
    * Check if there are any expired heartbeats, and if so,
    * whether any blocks have to be re-replicated.
+   * The candidates come from the {@link HeartbeatWheel}, so only the nodes
+   * whose heartbeats may have expired are looked at.
    * While removing dead datanodes, make sure that only one datanode is marked
    * dead at a time within the synchronized section. Otherwise, a cascading
    * effect causes more datanodes to be declared dead.
@@ -4855,49 +5167,33 @@ public class FSNamesystem extends ReconfigurableBase
       // not to check dead nodes if in safemode 
       return;
     }
-    boolean allAlive = false;
-    while (!allAlive) {
-      boolean foundDead = false;
-      DatanodeID nodeID = null;
-
-      // locate the first dead node.
-      synchronized (heartbeats) {
-        for (Iterator<DatanodeDescriptor> it = heartbeats.iterator();
-             it.hasNext();) {
-          DatanodeDescriptor nodeInfo = it.next();
-          if (isDatanodeDead(nodeInfo)) {
-            foundDead = true;
-            nodeID = nodeInfo;
-            break;
-          }
-        }
-      }
-
+    for (DatanodeDescriptor nodeID : heartbeatWheel.poll(now())) {
       // acquire the fsnamesystem lock, and then remove the dead node.
-      if (foundDead) {
-        writeLock();
-        try {
-          synchronized (heartbeats) {
-            synchronized (datanodeMap) {
-              DatanodeDescriptor nodeInfo = null;
-              try {
-                nodeInfo = getDatanode(nodeID);
-              } catch (IOException e) {
-                nodeInfo = null;
-              }
-              if (nodeInfo != null && isDatanodeDead(nodeInfo)) {
-                NameNode.stateChangeLog.info("BLOCK* NameSystem.heartbeatCheck: "
-                  + "lost heartbeat from " + nodeInfo.getName());
-                removeDatanode(nodeInfo);
-                nodeInfo.setStartTime(now());
-              }
+      writeLock();
+      try {
+        synchronized (heartbeats) {
+          synchronized (datanodeMap) {
+            DatanodeDescriptor nodeInfo = null;
+            try {
+              nodeInfo = getDatanode(nodeID);
+            } catch (IOException e) {
+              nodeInfo = null;
+            }
+            if (nodeInfo != null && isDatanodeDead(nodeInfo)) {
+              NameNode.stateChangeLog.info("BLOCK* NameSystem.heartbeatCheck: "
+                + "lost heartbeat from " + nodeInfo.getName());
+              removeDatanode(nodeInfo);
+              nodeInfo.setStartTime(now());
+            }
+            if (nodeID.isAlive) {
+              // it heartbeated since it was polled
+              heartbeatWheel.add(nodeID);
             }
           }
-        } finally {
-          writeUnlock();
         }
+      } finally {
+        writeUnlock();
       }
-      allAlive = !foundDead;
     }
   }
   
@@ -4971,6 +5267,27 @@ public class FSNamesystem extends ReconfigurableBase
     }
   }
   
+  /**
+   * The given node is reporting the digest of all its blocks. Compare it
+   * with the replicas on record for the node instead of diffing a full
+   * block report.
+   * @return true if the digests match
+   */
+  boolean checkBlockReportDigest(DatanodeID nodeID, int numBlocks,
+      long digest) throws IOException {
+    readLock();
+    try {
+      DatanodeDescriptor node = getDatanode(nodeID);
+      if (node == null || !node.isAlive) {
+        throw new IOException("Block report digest from dead or unregistered"
+            + " node: " + nodeID.getName());
+      }
+      return node.getBlockReportDigest().matches(numBlocks, digest);
+    } finally {
+      readUnlock();
+    }
+  }
+
   /**
    * The given node is reporting all its blocks.  Use this info to
    * update the (machine-->blocklist) and (block-->machinelist) tables.
@@ -6152,69 +6469,63 @@ public class FSNamesystem extends ReconfigurableBase
     }
   }
 
+  /**
+   * The capacity totals are read one by one while heartbeats update them,
+   * so they need not add up exactly.
+   */
   long[] getStats() throws IOException {
     checkSuperuserPrivilege();
-    synchronized (heartbeats) {
-      return new long[]{this.capacityTotal, this.capacityUsed,
-        this.capacityRemaining,
-        this.underReplicatedBlocksCount,
-        this.corruptReplicaBlocksCount,
-        getMissingBlocksCount(),
-        this.capacityNamespaceUsed};
-    }
+    return new long[]{this.capacityTotal.get(), this.capacityUsed.get(),
+      this.capacityRemaining.get(),
+      this.underReplicatedBlocksCount,
+      this.corruptReplicaBlocksCount,
+      getMissingBlocksCount(),
+      this.capacityNamespaceUsed.get()};
   }
 
   /**
    * Total raw bytes including non-dfs used space.
    */
   public long getCapacityTotal() {
-    synchronized (heartbeats) {
-      return this.capacityTotal;
-    }
+    return this.capacityTotal.get();
   }
 
   /**
    * Total used space by data nodes
    */
   public long getCapacityUsed() {
-    synchronized (heartbeats) {
-      return this.capacityUsed;
-    }
+    return this.capacityUsed.get();
   }
 
   /**
    * Total used space by data nodes as percentage of total capacity
    */
   public float getCapacityUsedPercent() {
-    synchronized (heartbeats) {
-      if (capacityTotal <= 0) {
-        return 100;
-      }
-
-      return ((float) capacityUsed * 100.0f) / (float) capacityTotal;
+    long total = capacityTotal.get();
+    if (total <= 0) {
+      return 100;
     }
+
+    return ((float) capacityUsed.get() * 100.0f) / (float) total;
   }
   
   /**
    * Total namespace used space by data nodes
    */
   public long getCapacityNamespaceUsed() {
-    synchronized (heartbeats) {
-      return this.capacityNamespaceUsed;
-    }
+    return this.capacityNamespaceUsed.get();
   }
 
   /**
    * Total used space by data nodes as percentage of total capacity
    */
   public float getCapacityNamespaceUsedPercent() {
-    synchronized (heartbeats) {
-      if (capacityTotal <= 0) {
-        return 100;
-      }
-
-      return ((float) capacityNamespaceUsed * 100.0f) / (float) capacityTotal;
+    long total = capacityTotal.get();
+    if (total <= 0) {
+      return 100;
     }
+
+    return ((float) capacityNamespaceUsed.get() * 100.0f) / (float) total;
   }
 
   /**
@@ -6222,10 +6533,8 @@ public class FSNamesystem extends ReconfigurableBase
    * as storing temporary files on the local file system
    */
   public long getCapacityUsedNonDFS() {
-    long nonDFSUsed = 0;
-    synchronized (heartbeats) {
-      nonDFSUsed = capacityTotal - capacityRemaining - capacityUsed;
-    }
+    long nonDFSUsed = capacityTotal.get() - capacityRemaining.get()
+        - capacityUsed.get();
     return nonDFSUsed < 0 ? 0 : nonDFSUsed;
   }
 
@@ -6233,31 +6542,26 @@ public class FSNamesystem extends ReconfigurableBase
    * Total non-used raw bytes.
    */
   public long getCapacityRemaining() {
-    synchronized (heartbeats) {
-      return this.capacityRemaining;
-    }
+    return this.capacityRemaining.get();
   }
 
   /**
    * Total remaining space by data nodes as percentage of total capacity
    */
   public float getCapacityRemainingPercent() {
-    synchronized (heartbeats) {
-      if (capacityTotal <= 0) {
-        return 0;
-      }
-
-      return ((float) capacityRemaining * 100.0f) / (float) capacityTotal;
+    long total = capacityTotal.get();
+    if (total <= 0) {
+      return 0;
     }
+
+    return ((float) capacityRemaining.get() * 100.0f) / (float) total;
   }
 
   /**
    * Total number of connections.
    */
   public int getTotalLoad() {
-    synchronized (heartbeats) {
-      return this.totalLoad;
-    }
+    return (int) this.totalLoad.get();
   }
 
   int getNumberOfDatanodes(DatanodeReportType type) {
@@ -6417,7 +6721,7 @@ public class FSNamesystem extends ReconfigurableBase
     if (!node.isDecommissionInProgress() && !node.isDecommissioned()) {
       LOG.info("Start Decommissioning node " + node.getName() + " with " + 
           node.numBlocks() +  " blocks.");
-      synchronized (heartbeats) {
+      synchronized (node) {
         updateStats(node, false);
         node.startDecommission();
         updateStats(node, true);
@@ -6441,7 +6745,7 @@ public class FSNamesystem extends ReconfigurableBase
       ((Monitor) dnthread.getRunnable()).stopDecommission(node)) ||
       node.isDecommissioned()) {
       LOG.info("Stop Decommissioning node " + node.getName());
-      synchronized (heartbeats) {
+      synchronized (node) {
         updateStats(node, false);
         node.stopDecommission();
         updateStats(node, true);
@@ -7176,6 +7480,11 @@ public class FSNamesystem extends ReconfigurableBase
     return checkPermission(path, inodes, false, null, null, null, null);
   }
 
+  private FSPermissionChecker checkTraverse(String path, INode[] inodes,
+      boolean lock) throws AccessControlException {
+    return checkPermission(path, inodes, false, null, null, null, null, lock);
+  }
+
   private void checkSuperuserPrivilege() throws AccessControlException {
     if (isPermissionEnabled) {
       try {
@@ -7201,12 +7510,27 @@ public class FSNamesystem extends ReconfigurableBase
                                               FsAction ancestorAccess, FsAction parentAccess, FsAction access,
                                               FsAction subAccess)
     throws AccessControlException {
+    return checkPermission(path, inodes, doCheckOwner, ancestorAccess,
+        parentAccess, access, subAccess, true);
+  }
+
+  /**
+   * Check whether current user have permissions to access the path.
+   * @param lock if false, the check runs without fsLock as part of a
+   *        {@link LockFreeRead}; subAccess must then be null
+   */
+  private FSPermissionChecker checkPermission(String path, INode[] inodes, boolean doCheckOwner,
+                                              FsAction ancestorAccess, FsAction parentAccess, FsAction access,
+                                              FsAction subAccess, boolean lock)
+    throws AccessControlException {
     boolean permissionCheckFailed = false;
     FSPermissionChecker pc = new FSPermissionChecker(
       fsOwner.getUserName(), supergroup);
     if (!pc.isSuper) {
-      dir.waitForReady();
-      readLock();
+      if (lock) {
+        dir.waitForReady();
+        readLock();
+      }
       try {
         pc.checkPermission(path, inodes, doCheckOwner,
           ancestorAccess, parentAccess, access, subAccess);
@@ -7216,7 +7540,9 @@ public class FSNamesystem extends ReconfigurableBase
         }
         permissionCheckFailed = true;
       } finally {
-        readUnlock();
+        if (lock) {
+          readUnlock();
+        }
       }
     }
     if (permissionCheckFailed) {
@@ -7231,6 +7557,46 @@ public class FSNamesystem extends ReconfigurableBase
     return pc;
   }
 
+  /**
+   * A read-only namespace operation that first runs without fsLock and the
+   * directory lock. The tree version is checked before and after the read;
+   * if a writer held the directory lock in between, the result is dropped
+   * and the caller has to do the read again with the locks.
+   */
+  private abstract class LockFreeRead<T> {
+    T result;
+
+    /** Read the tree; only lock-free lookups may be used */
+    abstract T read() throws IOException;
+
+    /**
+     * @return true if the read saw an unchanged tree and result is set
+     * @throws IOException if the read failed on an unchanged tree
+     */
+    boolean tryRead() throws IOException {
+      if (!dir.isLockFreeReadEnabled()) {
+        return false;
+      }
+      long version = dir.beginLockFreeRead();
+      if (version >= 0) {
+        try {
+          result = read();
+          if (dir.validateLockFreeRead(version)) {
+            return true;
+          }
+        } catch (IOException e) {
+          if (dir.validateLockFreeRead(version)) {
+            throw e;
+          }
+        } catch (RuntimeException e) {
+          // the read ran into a change of the tree
+        }
+      }
+      NameNode.getNameNodeMetrics().numLockFreeReadRetries.inc();
+      return false;
+    }
+  }
+
   /**
    * Check to see if we have exceeded the limit on the number
    * of inodes.
@@ -7405,9 +7771,13 @@ public class FSNamesystem extends ReconfigurableBase
    * Increments, logs and then returns the stamp
    */
   private long nextGenerationStamp() {
-    long gs = generationStamp.nextStamp();
-    getEditLog().logGenerationStamp(gs);
-    return gs;
+    // mutations under path locks may allocate stamps concurrently, the
+    // stamps have to reach the edit log in increasing order
+    synchronized (generationStamp) {
+      long gs = generationStamp.nextStamp();
+      getEditLog().logGenerationStamp(gs);
+      return gs;
+    }
   }
 
   /**
@@ -7492,8 +7862,7 @@ public class FSNamesystem extends ReconfigurableBase
     synchronized (leaseManager) {
       out.writeInt(leaseManager.countPath()); // write the size
 
-      LightWeightLinkedSet<Lease> sortedLeases = leaseManager.getSortedLeases();
-      Iterator<Lease> itr = sortedLeases.iterator();
+      Iterator<Lease> itr = leaseManager.getLeases().iterator();
       while (itr.hasNext()) {
         ctx.checkCancelled();
         Lease lease = itr.next();
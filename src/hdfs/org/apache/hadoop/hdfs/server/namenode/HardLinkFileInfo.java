@@ -62,8 +62,9 @@ public class HardLinkFileInfo {
    * This function is not thread-safe. The caller is supposed to have a writeLock.
    * 
    * @param file The INodeHardLinkFile to be removed
+   * @param copyOnWrite see {@link FSDirectory#isCopyOnWrite()}
    */
-  public void removeLinkedFile(INodeHardLinkFile file) {
+  public void removeLinkedFile(INodeHardLinkFile file, boolean copyOnWrite) {
     // remove the target file from the linkedFiles
     linkedFiles.remove(file);
     INodeFile newOwner = null;
@@ -72,7 +73,7 @@ public class HardLinkFileInfo {
       // revert the last INodeHardLinkFile to the regular INodeFile
       INodeHardLinkFile lastReferencedFile= linkedFiles.get(0);
       INodeFile inodeFile = new INodeFile(lastReferencedFile);
-      lastReferencedFile.parent.replaceChild(inodeFile);
+      lastReferencedFile.parent.replaceChild(inodeFile, copyOnWrite);
       
       // clear the linkedFiles
       linkedFiles.clear();
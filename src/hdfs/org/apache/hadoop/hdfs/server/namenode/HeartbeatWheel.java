@@ -0,0 +1,45 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hdfs.server.namenode;
+
+/**
+ * An {@link ExpiryWheel} of the datanodes that are considered alive,
+ * keyed by the time their heartbeat expires. Heartbeats only update the
+ * last contact time of a datanode; the heartbeat monitor polls the wheel
+ * for the datanodes whose heartbeats may have expired.
+ */
+class HeartbeatWheel extends ExpiryWheel<DatanodeDescriptor> {
+  private volatile long expireInterval;
+
+  HeartbeatWheel(long tick, long expireInterval, long now) {
+    setIntervals(tick, expireInterval, now);
+  }
+
+  /**
+   * Change the tick and the expiry interval, rescheduling all datanodes.
+   */
+  void setIntervals(long tick, long expireInterval, long now) {
+    this.expireInterval = expireInterval;
+    reset(tick, expireInterval, now);
+  }
+
+  @Override
+  long getExpiry(DatanodeDescriptor node) {
+    return node.getLastUpdate() + expireInterval;
+  }
+}
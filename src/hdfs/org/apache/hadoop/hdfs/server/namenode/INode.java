@@ -205,9 +205,12 @@ public abstract class INode implements Comparable<byte[]>, FSInodeInfo {
    * @param v blocks to be cleared and collected
    * @param blocksLimit the upper limit of blocks to be collected
    *        A parameter of 0 indicates that there is no limit
+   * @param copyOnWrite whether directories copy their children arrays on
+   *        change, see {@link FSDirectory#isCopyOnWrite()}
    * @return the number of files deleted
    */
-  abstract int collectSubtreeBlocksAndClear(List<Block> v, int blocksLimit);
+  abstract int collectSubtreeBlocksAndClear(List<Block> v, int blocksLimit,
+                                            boolean copyOnWrite);
 
   /** Compute {@link ContentSummary}. */
   public final ContentSummary computeContentSummary() {
@@ -374,12 +377,12 @@ public abstract class INode implements Comparable<byte[]>, FSInodeInfo {
     return StringUtils.split(path, Path.SEPARATOR_CHAR);
   }
 
-  boolean removeNode() {
+  boolean removeNode(boolean copyOnWrite) {
     if (parent == null) {
       return false;
     } else {
       
-      parent.removeChild(this);
+      parent.removeChild(this, copyOnWrite);
       parent = null;
       return true;
     }
@@ -18,7 +18,7 @@
 package org.apache.hadoop.hdfs.server.namenode;
 
 import java.io.FileNotFoundException;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -37,7 +37,22 @@ class INodeDirectory extends INode {
   protected static final int UNKNOWN_INDEX = -1;
   final static String ROOT_NAME = "";
 
-  private List<INode> children;
+  /**
+   * Heap taken by the list object that used to wrap the children array of
+   * every non-empty directory: object header, size, modCount and the array
+   * reference.
+   */
+  static final int CHILDREN_LIST_OVERHEAD = 24;
+  /** Size of an object reference with compressed oops */
+  static final int REFERENCE_SIZE = 4;
+
+  /**
+   * Children sorted by name, in slots [0, numChildren). The array is kept
+   * directly instead of wrapped in a list so that a directory costs one
+   * object less and lookups never go through an iterator or comparator.
+   */
+  private volatile INode[] children;
+  private int numChildren;
 
   INodeDirectory(String name, PermissionStatus permissions) {
     super(name, permissions);
@@ -61,7 +76,8 @@ class INodeDirectory extends INode {
    */
   INodeDirectory(INodeDirectory other) {
     super(other);
-    this.children = other.getChildren();
+    this.children = other.children;
+    this.numChildren = other.numChildren;
   }
   
   /**
@@ -71,31 +87,103 @@ class INodeDirectory extends INode {
     return true;
   }
   
+  /**
+   * Heap that a list grown one child at a time would take on top of an
+   * exactly sized children array: the list object and its unused slots.
+   */
+  static long listHeapOverhead(int numChildren) {
+    int capacity = DEFAULT_FILES_PER_DIRECTORY;
+    while (capacity < numChildren) {
+      capacity = capacity * 3 / 2 + 1;
+    }
+    return CHILDREN_LIST_OVERHEAD
+        + (long) (capacity - numChildren) * REFERENCE_SIZE;
+  }
+
   public void setChildrenCapacity(int size){  
-    this.children = new ArrayList<INode>(size); 
+    this.children = new INode[size];
+    this.numChildren = 0;
+  }
+
+  /**
+   * Binary search the children for the given name.
+   * @return the index of the child if it exists; otherwise
+   *         (-(insertion point) - 1), as {@link Arrays#binarySearch}
+   */
+  private int searchChildren(byte[] name) {
+    return searchChildren(children, numChildren, name);
   }
 
-  INode removeChild(INode node) {
+  /**
+   * Binary search the first n slots of a children array for the given name.
+   * @see #searchChildren(byte[])
+   */
+  private static int searchChildren(INode[] children, int n, byte[] name) {
+    int low = 0;
+    int high = n - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int cmp = children[mid].compareTo(name);
+      if (cmp < 0) {
+        low = mid + 1;
+      } else if (cmp > 0) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
+  /**
+   * Remove a child.
+   * @param copyOnWrite see {@link #addChild(INode, boolean, boolean, int,
+   *        boolean)}
+   */
+  INode removeChild(INode node, boolean copyOnWrite) {
     assert children != null;
-    int low = Collections.binarySearch(children, node.name);
-    if (low >= 0) {
-      return children.remove(low);
-    } else {
+    int low = searchChildren(node.name);
+    if (low < 0) {
       return null;
     }
+    INode removed = children[low];
+    if (copyOnWrite) {
+      int n = numChildren - 1;
+      INode[] copy = null;
+      if (n > 0) {
+        copy = new INode[n];
+        System.arraycopy(children, 0, copy, 0, low);
+        System.arraycopy(children, low + 1, copy, low, n - low);
+      }
+      numChildren = n;
+      children = copy;
+      return removed;
+    }
+    System.arraycopy(children, low + 1, children, low, numChildren - low - 1);
+    children[--numChildren] = null;
+    return removed;
   }
 
   /** Replace a child that has the same name as newChild by newChild.
    * 
    * @param newChild Child node to be added
+   * @param copyOnWrite see {@link #addChild(INode, boolean, boolean, int,
+   *        boolean)}
    */
-  void replaceChild(INode newChild) {
+  void replaceChild(INode newChild, boolean copyOnWrite) {
     if ( children == null ) {
       throw new IllegalArgumentException("The directory is empty");
     }
-    int low = Collections.binarySearch(children, newChild.name);
+    int low = searchChildren(newChild.name);
     if (low>=0) { // an old child exists so replace by the newChild
-      children.set(low, newChild);
+      newChild.parent = this;
+      if (copyOnWrite) {
+        INode[] copy = Arrays.copyOf(children, numChildren);
+        copy[low] = newChild;
+        children = copy;
+      } else {
+        children[low] = newChild;
+      }
     } else {
       throw new IllegalArgumentException("No child exists to be replaced");
     }
@@ -109,13 +197,36 @@ class INodeDirectory extends INode {
     if (children == null) {
       return null;
     }
-    int low = Collections.binarySearch(children, name);
+    int low = searchChildren(name);
     if (low >= 0) {
-      return children.get(low);
+      return children[low];
     }
     return null;
   }
 
+  /**
+   * Look up a child without holding the directory lock. Only valid in
+   * copy-on-write mode; the result may already be stale, so the caller has
+   * to validate it against {@link FSDirectory#validateLockFreeRead(long)}.
+   */
+  INode getChildINodeLockFree(byte[] name) {
+    INode[] c = children;
+    if (c == null) {
+      return null;
+    }
+    int low = searchChildren(c, c.length, name);
+    return low >= 0 ? c[low] : null;
+  }
+
+  /**
+   * @return the children as one consistent, exactly sized array that is
+   *         never modified, or null if there are none. Only valid in
+   *         copy-on-write mode; callers must not modify it.
+   */
+  INode[] getChildrenLockFree() {
+    return children;
+  }
+
   /**
    */
   INode getNode(byte[][] components) {
@@ -166,6 +277,19 @@ class INodeDirectory extends INode {
    * @return number of existing INodes in the path
    */
   int getExistingPathINodes(byte[][] components, INode[] existing) {
+    return getExistingPathINodes(components, existing, false);
+  }
+
+  /**
+   * Same as {@link #getExistingPathINodes(byte[][], INode[])}, but without
+   * the directory lock. Only valid in copy-on-write mode.
+   */
+  int getExistingPathINodesLockFree(byte[][] components, INode[] existing) {
+    return getExistingPathINodes(components, existing, true);
+  }
+
+  private int getExistingPathINodes(byte[][] components, INode[] existing,
+      boolean lockFree) {
     assert compareTo(components[0]) == 0 :
       "Incorrect name " + getLocalName() + " expected " + components[0];
 
@@ -180,7 +304,8 @@ class INodeDirectory extends INode {
       if (!curNode.isDirectory() || (count == components.length - 1))
         break; // no more child, stop here
       INodeDirectory parentDir = (INodeDirectory)curNode;
-      curNode = parentDir.getChildINode(components[count + 1]);
+      curNode = lockFree ? parentDir.getChildINodeLockFree(components[count + 1])
+          : parentDir.getChildINode(components[count + 1]);
       count += 1;
       index += 1;
     }
@@ -214,11 +339,14 @@ class INodeDirectory extends INode {
    * 
    * @param node INode to insert
    * @param inheritPermission inherit permission from parent?
+   * @param copyOnWrite see {@link #addChild(INode, boolean, boolean, int,
+   *        boolean)}
    * @return  null if the child with this name already exists; 
    *          node, otherwise
    */
-  <T extends INode> T addChild(final T node, boolean inheritPermission) {
-    return addChild(node, inheritPermission, true, UNKNOWN_INDEX);
+  <T extends INode> T addChild(final T node, boolean inheritPermission,
+                               boolean copyOnWrite) {
+    return addChild(node, inheritPermission, true, UNKNOWN_INDEX, copyOnWrite);
   }
   /**
    * Add a child inode to the directory.
@@ -227,12 +355,22 @@ class INodeDirectory extends INode {
    * @param inheritPermission inherit permission from parent?
    * @param propagateModTime set parent's mod time to that of a child?
    * @param childIndex index of the inserted child if known
+   * @param copyOnWrite if set, an array published in {@link #children} is
+   *        never changed again: adding, removing or replacing a child
+   *        installs a new, exactly sized array. Readers that do not hold
+   *        the directory lock can then search the array they read, see
+   *        {@link #getChildINodeLockFree(byte[])}. The only exception is the
+   *        spare capacity allocated with {@link #setChildrenCapacity(int)}
+   *        while the image is loaded, before any reader can see the
+   *        directory. The namespace passes the same value to every change,
+   *        see {@link FSDirectory#isCopyOnWrite()}.
    * @return  null if the child with this name already exists; 
    *          node, otherwise
    */
   <T extends INode> T addChild(final T node, boolean inheritPermission,
                                               boolean propagateModTime,
-                                              int childIndex) {
+                                              int childIndex,
+                                              boolean copyOnWrite) {
     if (inheritPermission) {
       FsPermission p = getFsPermission();
       //make sure the  permission has wx for the user
@@ -243,20 +381,37 @@ class INodeDirectory extends INode {
       node.setPermission(p);
     }
 
-    if (children == null) {
-      children = new ArrayList<INode>(DEFAULT_FILES_PER_DIRECTORY);
+    if (children == null && !copyOnWrite) {
+      children = new INode[DEFAULT_FILES_PER_DIRECTORY];
     }
     int index;  
     if (childIndex >= 0) {
       index = childIndex; 
     } else {
-      int low = Collections.binarySearch(children, node.name);
+      int low = searchChildren(node.name);
       if(low >= 0)
         return null;
       index = -low - 1;
     }
     node.parent = this;
-    children.add(index, node);
+    if (copyOnWrite && (children == null || numChildren == children.length)) {
+      INode[] copy = new INode[numChildren + 1];
+      if (children != null) {
+        System.arraycopy(children, 0, copy, 0, index);
+        System.arraycopy(children, index, copy, index + 1, numChildren - index);
+      }
+      copy[index] = node;
+      numChildren++;
+      children = copy;
+    } else {
+      if (numChildren == children.length) {
+        // grow as ArrayList does
+        children = Arrays.copyOf(children, numChildren + (numChildren >> 1) + 1);
+      }
+      System.arraycopy(children, index, children, index + 1, numChildren - index);
+      children[index] = node;
+      numChildren++;
+    }
     if (propagateModTime) {
       // update modification time of the parent directory
       setModificationTime(node.getModificationTime());      
@@ -279,10 +434,19 @@ class INodeDirectory extends INode {
    * @return the index of the next child
    */
   int nextChild(byte[] name) {
+    return nextChild(children, numChildren, name);
+  }
+
+  /**
+   * Search the first n slots of a children array for the first child whose
+   * name is greater than the given name.
+   * @see #nextChild(byte[])
+   */
+  static int nextChild(INode[] children, int n, byte[] name) {
     if (name.length == 0) { // empty name
       return 0;
     }
-    int nextPos = Collections.binarySearch(children, name) + 1;
+    int nextPos = searchChildren(children, n, name) + 1;
     if (nextPos >= 0) {  // the name is in the list of children
       return nextPos;
     }
@@ -290,11 +454,12 @@ class INodeDirectory extends INode {
   }
 
   /**
-   * Equivalent to addNode(path, newNode, false).
-   * @see #addNode(String, INode, boolean)
+   * Equivalent to addNode(path, newNode, false, copyOnWrite).
+   * @see #addNode(String, INode, boolean, boolean)
    */
-  <T extends INode> T addNode(String path, T newNode) throws FileNotFoundException {
-    return addNode(path, newNode, false);
+  <T extends INode> T addNode(String path, T newNode, boolean copyOnWrite)
+      throws FileNotFoundException {
+    return addNode(path, newNode, false, copyOnWrite);
   }
   /**
    * Add new INode to the file tree.
@@ -303,14 +468,17 @@ class INodeDirectory extends INode {
    * @param path file path
    * @param newNode INode to be added
    * @param inheritPermission If true, copy the parent's permission to newNode.
+   * @param copyOnWrite see {@link #addChild(INode, boolean, boolean, int,
+   *        boolean)}
    * @return null if the node already exists; inserted INode, otherwise
    * @throws FileNotFoundException if parent does not exist or 
    * is not a directory.
    */
-  <T extends INode> T addNode(String path, T newNode, boolean inheritPermission
-      ) throws FileNotFoundException {
+  <T extends INode> T addNode(String path, T newNode, boolean inheritPermission,
+      boolean copyOnWrite) throws FileNotFoundException {
     byte[][] pathComponents = getPathComponents(path);
-    if(addToParent(pathComponents, newNode, inheritPermission, true) == null)
+    if(addToParent(pathComponents, newNode, inheritPermission, true,
+                   copyOnWrite) == null)
       return null;
     return newNode;
   }
@@ -329,11 +497,13 @@ class INodeDirectory extends INode {
                              INodeDirectory parent,
                              boolean inheritPermission,
                              boolean propagateModTime,
-                             int childIndex
+                             int childIndex,
+                             boolean copyOnWrite
                             ) throws FileNotFoundException {
     // insert into the parent children list
     newNode.name = localname;
-    if(parent.addChild(newNode, inheritPermission, propagateModTime, childIndex) == null)
+    if(parent.addChild(newNode, inheritPermission, propagateModTime, childIndex,
+                       copyOnWrite) == null)
       return null;
     return parent;
   }
@@ -362,7 +532,8 @@ class INodeDirectory extends INode {
                                       byte[][] pathComponents,
                                       T newNode,
                                       boolean inheritPermission,
-                                      boolean propagateModTime
+                                      boolean propagateModTime,
+                                      boolean copyOnWrite
                                     ) throws FileNotFoundException {
   
     int pathLen = pathComponents.length;
@@ -371,7 +542,8 @@ class INodeDirectory extends INode {
     newNode.name = pathComponents[pathLen-1];
     // insert into the parent children list
     INodeDirectory parent = getParent(pathComponents);
-    if(parent.addChild(newNode, inheritPermission, propagateModTime, UNKNOWN_INDEX) == null)
+    if(parent.addChild(newNode, inheritPermission, propagateModTime,
+                       UNKNOWN_INDEX, copyOnWrite) == null)
       return null;
     return parent;
   }
@@ -379,40 +551,51 @@ class INodeDirectory extends INode {
   /** {@inheritDoc} */
   DirCounts spaceConsumedInTree(DirCounts counts) {
     counts.nsCount += 1;
-    if (children != null) {
-      for (INode child : children) {
-        child.spaceConsumedInTree(counts);
-      }
+    for (int i = 0; i < numChildren; i++) {
+      children[i].spaceConsumedInTree(counts);
     }
     return counts;    
   }
 
   /** {@inheritDoc} */
   long[] computeContentSummary(long[] summary) {
-    if (children != null) {
-      for (INode child : children) {
-        child.computeContentSummary(summary);
-      }
+    for (int i = 0; i < numChildren; i++) {
+      children[i].computeContentSummary(summary);
     }
     summary[2]++;
     return summary;
   }
 
   /**
+   * @return a read-only view of the children sorted by name
    */
   List<INode> getChildren() {
-    return children==null ? new ArrayList<INode>() : children;
+    if (numChildren == 0) {
+      return Collections.emptyList();
+    }
+    return Collections.unmodifiableList(
+        Arrays.asList(children).subList(0, numChildren));
   }
-  List<INode> getChildrenRaw() {
+
+  /**
+   * @return the array backing the children, which may be null or longer
+   *         than {@link #getNumChildren()}; callers must not modify it
+   */
+  INode[] getChildrenRaw() {
     return children;
   }
 
+  int getNumChildren() {
+    return numChildren;
+  }
+
   private static boolean isBlocksLimitReached(List<Block> v, int blocksLimit) {
     return blocksLimit != FSDirectory.BLOCK_DELETION_NO_LIMIT
         && blocksLimit <= v.size();
   }
   
-  int collectSubtreeBlocksAndClear(List<Block> v, int blocksLimit) {
+  int collectSubtreeBlocksAndClear(List<Block> v, int blocksLimit,
+                                   boolean copyOnWrite) {
     if (isBlocksLimitReached(v, blocksLimit)) {
       return 0;
     }
@@ -422,9 +605,9 @@ class INodeDirectory extends INode {
       return ++total;
     }
     int i;
-    for (i=0; i<children.size(); i++) {
-      INode child = children.get(i);
-      total += child.collectSubtreeBlocksAndClear(v, blocksLimit);
+    for (i=0; i<numChildren; i++) {
+      INode child = children[i];
+      total += child.collectSubtreeBlocksAndClear(v, blocksLimit, copyOnWrite);
       if (isBlocksLimitReached(v, blocksLimit)) {
         // reached blocks limit
         if (child.parent != null) {
@@ -433,14 +616,24 @@ class INodeDirectory extends INode {
         break;
       }
     }
-    if (i<children.size()-1) { // partial children are processed
+    if (i<numChildren-1) { // partial children are processed
       // Remove children [0,i]
-      children = children.subList(i+1, children.size());
+      int remaining = numChildren - i - 1;
+      if (copyOnWrite) {
+        INode[] copy = Arrays.copyOfRange(children, i + 1, numChildren);
+        numChildren = remaining;
+        children = copy;
+        return total;
+      }
+      System.arraycopy(children, i + 1, children, 0, remaining);
+      Arrays.fill(children, remaining, numChildren, null);
+      numChildren = remaining;
       return total;
     }
     // all the children are processed
     parent = null;
     children = null;
+    numChildren = 0;
     return ++total;
   }
   
@@ -476,10 +669,8 @@ class INodeDirectory extends INode {
     itemCounts.numDirectories = 1; // count the current directory
     itemCounts.numFiles = 0;
     itemCounts.numBlocks = 0;
-    if (children != null) {
-      for (INode child : children) {
-        countItemsRecursively(child);
-      }
+    for (int i = 0; i < numChildren; i++) {
+      countItemsRecursively(children[i]);
     }
     itemCounts.finishTime = System.currentTimeMillis();
   }
@@ -491,10 +682,9 @@ class INodeDirectory extends INode {
     itemCounts.numDirectories++;
     if (curr instanceof INodeDirectory) {
       itemCounts.numDirectories++;
-      if (((INodeDirectory) curr).children != null) {
-        for (INode child : ((INodeDirectory) curr).children) {
-          countItemsRecursively(child);
-        }
+      INodeDirectory dir = (INodeDirectory) curr;
+      for (int i = 0; i < dir.numChildren; i++) {
+        countItemsRecursively(dir.children[i]);
       }
     } else {
       itemCounts.numFiles++;
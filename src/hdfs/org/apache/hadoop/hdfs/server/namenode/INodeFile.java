@@ -181,7 +181,8 @@ public class INodeFile extends INode {
     this.blocks[idx] = blk;
   }
 
-  int collectSubtreeBlocksAndClear(List<Block> v, int blocksLimit) {
+  int collectSubtreeBlocksAndClear(List<Block> v, int blocksLimit,
+                                   boolean copyOnWrite) {
     parent = null;
     if(blocks != null && v != null) {
       for (Block blk : blocks) {
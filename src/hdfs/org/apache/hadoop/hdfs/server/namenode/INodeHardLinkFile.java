@@ -58,9 +58,10 @@ public class INodeHardLinkFile extends INodeFile{
   }
 
   @Override
-  int collectSubtreeBlocksAndClear(List<Block> v, int blocksLimit) {
+  int collectSubtreeBlocksAndClear(List<Block> v, int blocksLimit,
+                                   boolean copyOnWrite) {
     parent = null;
-    this.hardLinkFileInfo.removeLinkedFile(this);
+    this.hardLinkFileInfo.removeLinkedFile(this, copyOnWrite);
     return 1;
   }
 }
\ No newline at end of file
@@ -26,6 +26,7 @@ import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -33,7 +34,6 @@ import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.OpenFileInfo;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.hdfs.protocol.FSConstants;
-import org.apache.hadoop.hdfs.util.LightWeightLinkedSet;
 
 /**
  * LeaseManager does the lease housekeeping for writing on files.   
@@ -56,14 +56,21 @@ import org.apache.hadoop.hdfs.util.LightWeightLinkedSet;
  * 2.9) Namenode removes f from the lease
  *      and removes the lease once all files have been removed
  * 2.10) Namenode commit changes to edit log
+ *
+ * Leases are looked up and renewed without the lock of the LeaseManager:
+ * renewing a lease only updates its time stamp, and the {@link Monitor}
+ * finds the expired leases through an {@link ExpiryWheel}.
  */
 public class LeaseManager {
   public static final Log LOG = LogFactory.getLog(LeaseManager.class);
 
   private final FSNamesystem fsnamesystem;
 
-  private long softLimit = FSConstants.LEASE_SOFTLIMIT_PERIOD;
-  private long hardLimit = FSConstants.LEASE_HARDLIMIT_PERIOD;
+  /** How often the {@link Monitor} checks the leases */
+  static final long CHECK_INTERVAL = 2000;
+
+  private volatile long softLimit = FSConstants.LEASE_SOFTLIMIT_PERIOD;
+  private volatile long hardLimit = FSConstants.LEASE_HARDLIMIT_PERIOD;
   private int rpcBatchSize = 1000; // safe default. real value fetched from config
   //max number of paths to check per batch
   private int maxPathsPerCheck = Integer.MAX_VALUE; 
@@ -73,13 +80,21 @@ public class LeaseManager {
   //
   // Used for handling lock-leases
   // Mapping: leaseHolder -> Lease
+  // Leases are added and removed holding the LeaseManager lock, but can
+  // be looked up without it.
   //
-  private SortedMap<String, Lease> leases = new TreeMap<String, Lease>();
-  // Set of: Lease
-  private LightWeightLinkedSet<Lease> sortedLeases = new LightWeightLinkedSet<Lease>();
+  private final Map<String, Lease> leases =
+    new ConcurrentHashMap<String, Lease>();
+  // The leases by the time their hard limit expires
+  private final ExpiryWheel<Lease> expiryWheel = new ExpiryWheel<Lease>() {
+    @Override
+    long getExpiry(Lease lease) {
+      return lease.lastUpdate + hardLimit;
+    }
+  };
 
   // 
-  // Map path names to leases. It is protected by the sortedLeases lock.
+  // Map path names to leases. It is protected by the LeaseManager lock.
   // The map stores pathnames in lexicographical order.
   //
   private SortedMap<String, LeaseOpenTime> sortedLeasesByPath =
@@ -109,14 +124,15 @@ public class LeaseManager {
       this.discardLastBlockIfNoSync = conf.getBoolean(
           "dfs.leaserecovery.discardlastblock.ifnosync", false);
     }
-    
+    expiryWheel.reset(CHECK_INTERVAL, hardLimit, FSNamesystem.now());
   }
 
   Lease getLease(String holder) {
     return leases.get(holder);
   }
   
-  LightWeightLinkedSet<Lease> getSortedLeases() {return sortedLeases;}
+  /** @return all leases, in no particular order */
+  Collection<Lease> getLeases() {return leases.values();}
 
   /** @return the lease containing src */
   public Lease getLeaseByPath(String src) {
@@ -128,12 +144,12 @@ public class LeaseManager {
   }
 
   /** @return the number of leases currently in the system */
-  public synchronized int countLease() {return sortedLeases.size();}
+  public int countLease() {return leases.size();}
 
   /** @return the number of paths contained in all leases */
   public synchronized int countPath() {
     int count = 0;
-    for(Lease lease : sortedLeases) {
+    for(Lease lease : leases.values()) {
       count += lease.getPaths().size();
     }
     return count;
@@ -151,7 +167,7 @@ public class LeaseManager {
     if (lease == null) {
       lease = new Lease(holder);
       leases.put(holder, lease);
-      sortedLeases.add(lease);
+      expiryWheel.add(lease);
     } else {
       renewLease(lease);
     }
@@ -186,10 +202,10 @@ public class LeaseManager {
     }
 
     if (!lease.hasPath()) {
-      leases.remove(lease.holder);
-      if (!sortedLeases.remove(lease)) {
-        LOG.error(lease + " not found in sortedLeases");
+      if (!leases.remove(lease.holder, lease)) {
+        LOG.error(lease + " not found in leases");
       }
+      expiryWheel.remove(lease);
     }
     return leaseOpenTime;
   }
@@ -259,23 +275,22 @@ public class LeaseManager {
       return result;
     }
 
-  synchronized void renewAllLeases() {
-    for (String holder : leases.keySet()) {
-      renewLease(holder);
+  void renewAllLeases() {
+    for (Lease lease : leases.values()) {
+      renewLease(lease);
     }
   }
 
   /**
-   * Renew the lease(s) held by the given client
+   * Renew the lease(s) held by the given client.
+   * This does not take the LeaseManager lock.
    */
-  synchronized void renewLease(String holder) {
+  void renewLease(String holder) {
     renewLease(getLease(holder));
   }
-  synchronized void renewLease(Lease lease) {
+  void renewLease(Lease lease) {
     if (lease != null) {
-      sortedLeases.remove(lease);
       lease.renew();
-      sortedLeases.add(lease);
     }
   }
 
@@ -283,9 +298,11 @@ public class LeaseManager {
    * for testing only 
    */
   synchronized void replaceLease(Lease newLease) {
-    leases.put(newLease.getHolder(), newLease);
-    sortedLeases.remove(newLease);
-    sortedLeases.add(newLease);
+    Lease oldLease = leases.put(newLease.getHolder(), newLease);
+    if (oldLease != null) {
+      expiryWheel.remove(oldLease);
+    }
+    expiryWheel.add(newLease);
 
     for (String path : newLease.paths) {
       sortedLeasesByPath.put(
@@ -301,7 +318,7 @@ public class LeaseManager {
    *************************************************************/
   class Lease implements Comparable<Lease> {
     private final String holder;
-    private long lastUpdate;
+    private volatile long lastUpdate;
     private final Collection<String> paths = new TreeSet<String>();
   
     /** Only LeaseManager object can create a lease */
@@ -445,6 +462,7 @@ public class LeaseManager {
   public void setLeasePeriod(long softLimit, long hardLimit) {
     this.softLimit = softLimit;
     this.hardLimit = hardLimit; 
+    expiryWheel.reset(CHECK_INTERVAL, hardLimit, FSNamesystem.now());
   }
   
   /******************************************************
@@ -467,7 +485,7 @@ public class LeaseManager {
         }
 
         try {
-          Thread.sleep(2000);
+          Thread.sleep(CHECK_INTERVAL);
         } catch(InterruptedException ie) {
           if (LOG.isDebugEnabled()) {
             LOG.debug(name + " is interrupted", ie);
@@ -477,13 +495,24 @@ public class LeaseManager {
     }
   }
 
-  /** Check the leases beginning from the oldest. */
+  /**
+   * Check the leases whose hard limit may have expired, roughly beginning
+   * from the oldest. Leases that still hold paths afterwards, because
+   * their recovery failed or the check hit maxPathsPerCheck, are checked
+   * again next time.
+   */
   synchronized void checkLeases() {
     int numPathsChecked = 0;
-    for(; sortedLeases.size() > 0; ) {
-      final Lease oldest = sortedLeases.first();
+    List<Lease> expired = expiryWheel.poll(FSNamesystem.now());
+    for (int i = 0; i < expired.size(); i++) {
+      final Lease oldest = expired.get(i);
+      if (numPathsChecked >= this.maxPathsPerCheck) {
+        requeue(oldest);
+        continue;
+      }
       if (!oldest.expiredHardLimit()) {
-        return;
+        requeue(oldest);
+        continue;
       }
 
       // internalReleaseLease() removes paths corresponding to empty files,
@@ -507,6 +536,14 @@ public class LeaseManager {
           removeLease(oldest, p);
         }
       }
+      requeue(oldest);
+    }
+  }
+
+  /** Put a lease polled from the wheel back if it is still in use. */
+  private void requeue(Lease lease) {
+    if (leases.get(lease.holder) == lease && lease.hasPath()) {
+      expiryWheel.add(lease);
     }
   }
 
@@ -514,7 +551,6 @@ public class LeaseManager {
   public synchronized String toString() {
     return getClass().getSimpleName() + "= {"
         + "\n leases=" + leases
-        + "\n sortedLeases=" + sortedLeases
         + "\n sortedLeasesByPath=" + sortedLeasesByPath
         + "\n}";
   }
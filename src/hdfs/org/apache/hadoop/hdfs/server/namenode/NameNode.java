@@ -708,6 +708,16 @@ public class NameNode extends ReconfigurableBase
                                         src, offset, length,
                                         BlockMetaInfoType.NONE);
   }
+
+  /** {@inheritDoc} */
+  public LocatedBlocks[] getBlockLocations(String[] srcs,
+                                           long offset,
+                                           long length) throws IOException {
+    myMetrics.numGetBlockLocations.inc(srcs.length);
+    return namesystem.getBlockLocations(getClientMachine(),
+                                        srcs, offset, length,
+                                        BlockMetaInfoType.NONE);
+  }
   
   public VersionedLocatedBlocks open(String src, 
                                      long offset, 
@@ -1109,6 +1119,21 @@ public class NameNode extends ReconfigurableBase
     return ret;
   }
 
+  /** {@inheritDoc} */
+  public boolean[] delete(String[] srcs, boolean recursive) throws IOException {
+    if (stateChangeLog.isDebugEnabled()) {
+      stateChangeLog.debug("*DIR* Namenode.delete: " + srcs.length
+          + " paths, recursive=" + recursive);
+    }
+    boolean[] ret = namesystem.delete(srcs, recursive);
+    for (boolean deleted : ret) {
+      if (deleted) {
+        myMetrics.numDeleteFileOps.inc();
+      }
+    }
+    return ret;
+  }
+
   /**
    * Check path length does not exceed maximum.  Returns true if
    * length and depth are okay.  Returns false if length is too long
@@ -1143,6 +1168,29 @@ public class NameNode extends ReconfigurableBase
     return value;
   }
 
+  /** {@inheritDoc} */
+  public boolean[] mkdirs(String[] srcs, FsPermission masked)
+      throws IOException {
+    if (stateChangeLog.isDebugEnabled()) {
+      stateChangeLog.debug("*DIR* NameNode.mkdirs: " + srcs.length + " paths");
+    }
+    for (String src : srcs) {
+      if (!checkPathLength(src)) {
+        throw new IOException("mkdirs: Pathname too long.  Limit " 
+            + MAX_PATH_LENGTH + " characters, " + MAX_PATH_DEPTH + " levels.");
+      }
+    }
+    boolean[] value = namesystem.mkdirs(srcs,
+        new PermissionStatus(FSNamesystem.getCurrentUGI().getUserName(),
+            null, masked));
+    for (boolean created : value) {
+      if (created) {
+        myMetrics.numMkdirs.inc();
+      }
+    }
+    return value;
+  }
+
   /**
    */
   public void renewLease(String clientName) throws IOException {
@@ -1211,6 +1259,13 @@ public class NameNode extends ReconfigurableBase
     return value;
   }
 
+  @Override
+  public HdfsFileStatus[] getHdfsFileInfo(String[] srcs) throws IOException {
+    HdfsFileStatus[] value = namesystem.getHdfsFileInfo(srcs);
+    myMetrics.numFileInfoOps.inc(srcs.length);
+    return value;
+  }
+
   /** @inheritDoc */
   public long[] getStats() throws IOException {
     return namesystem.getStats();
@@ -1469,6 +1524,21 @@ public class NameNode extends ReconfigurableBase
     return null;
   }
 
+  @Override
+  public boolean blockReportDigest(DatanodeRegistration nodeReg,
+                                   int numBlocks, long digest)
+                                   throws IOException {
+    verifyRequest(nodeReg);
+    myMetrics.numBlockReportDigest.inc();
+    boolean matches =
+      namesystem.checkBlockReportDigest(nodeReg, numBlocks, digest);
+    if (!matches) {
+      stateChangeLog.info("*BLOCK* NameNode.blockReportDigest: from "
+          + nodeReg.getName() + " does not match, requesting a full report");
+    }
+    return matches;
+  }
+
   @Override
   public void blockReceivedAndDeleted(DatanodeRegistration nodeReg,
                                       Block receivedAndDeletedBlocks[])
@@ -0,0 +1,346 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hdfs.server.namenode;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+import org.apache.hadoop.hdfs.protocol.Block;
+import org.apache.hadoop.hdfs.server.namenode.BlocksMap.BlockInfo;
+
+/**
+ * Keeps the datanode triplets of {@link BlockInfo}s in direct memory slabs
+ * instead of one Object[] per block, which halves the number of objects
+ * the garbage collector has to trace for the blocks map.
+ *
+ * Every block owns a fixed size slot of three ints per replica: the index
+ * of the datanode, and the slots of the previous and the next block in the
+ * list of blocks of that datanode. Values are stored plus one so that zero
+ * means null, which is what a new slab and a cleared slot contain. The slot
+ * number is the identity of the block inside the store; the owner of every
+ * slot is kept in on-heap arrays to get from a slot back to its block.
+ *
+ * A block that needs more replicas than fit in a slot keeps its slot as its
+ * identity but moves its triplets back to the heap.
+ *
+ * The slabs are direct buffers, so -XX:MaxDirectMemorySize has to allow for
+ * about 12 bytes per replica slot and block. The store is not thread safe;
+ * it is guarded by the namesystem lock like the rest of the blocks map.
+ */
+class OffHeapTriplets {
+  private static final int SLAB_SHIFT = 16;
+  private static final int SLAB_SLOTS = 1 << SLAB_SHIFT;
+  private static final int SLAB_MASK = SLAB_SLOTS - 1;
+
+  private final int replicas;
+  private final int slotInts;
+
+  private IntBuffer[] slabs = new IntBuffer[0];
+  private BlockInfo[][] owners = new BlockInfo[0][];
+  /** First free slot plus one; free slots are chained by their first int */
+  private int freeHead = 0;
+  /** Slots at and above this one have never been used */
+  private int nextUnused = 0;
+  private int numUsed = 0;
+
+  private DatanodeDescriptor[] nodes = new DatanodeDescriptor[64];
+  private int numNodes = 0;
+
+  OffHeapTriplets(int replicas) {
+    if (replicas <= 0) {
+      throw new IllegalArgumentException("Number of replicas per block must"
+          + " be positive: " + replicas);
+    }
+    this.replicas = replicas;
+    this.slotInts = 3 * replicas;
+  }
+
+  /** Create a block entry whose triplets live in this store */
+  BlockInfo newBlockInfo(Block b) {
+    return new SlabBlockInfo(b);
+  }
+
+  /**
+   * Give back the slot of a block that is no longer in the map. The block
+   * keeps working as an empty on-heap entry.
+   */
+  void release(BlockInfo info) {
+    if (info instanceof SlabBlockInfo) {
+      ((SlabBlockInfo)info).release(this);
+    }
+  }
+
+  /** @return number of slots in use */
+  int getNumBlocks() {
+    return numUsed;
+  }
+
+  /** @return direct memory allocated for the slabs */
+  long getAllocatedBytes() {
+    return (long)slabs.length * SLAB_SLOTS * slotInts * 4;
+  }
+
+  private int allocate(BlockInfo owner) {
+    int slot;
+    if (freeHead != 0) {
+      slot = freeHead - 1;
+      IntBuffer slab = slabs[slot >>> SLAB_SHIFT];
+      int offset = (slot & SLAB_MASK) * slotInts;
+      freeHead = slab.get(offset);
+      slab.put(offset, 0);
+    } else {
+      if (nextUnused == Integer.MAX_VALUE) {
+        throw new IllegalStateException("Off-heap triplet store is full");
+      }
+      slot = nextUnused++;
+      if ((slot >>> SLAB_SHIFT) == slabs.length) {
+        addSlab();
+      }
+    }
+    owners[slot >>> SLAB_SHIFT][slot & SLAB_MASK] = owner;
+    numUsed++;
+    return slot;
+  }
+
+  private void addSlab() {
+    int n = slabs.length;
+    slabs = Arrays.copyOf(slabs, n + 1);
+    owners = Arrays.copyOf(owners, n + 1);
+    // a new direct buffer is zeroed
+    slabs[n] = ByteBuffer.allocateDirect(SLAB_SLOTS * slotInts * 4)
+        .order(ByteOrder.nativeOrder()).asIntBuffer();
+    owners[n] = new BlockInfo[SLAB_SLOTS];
+  }
+
+  private void free(int slot) {
+    IntBuffer slab = slabs[slot >>> SLAB_SHIFT];
+    int offset = (slot & SLAB_MASK) * slotInts;
+    for (int i = 0; i < slotInts; i++) {
+      slab.put(offset + i, 0);
+    }
+    slab.put(offset, freeHead);
+    freeHead = slot + 1;
+    owners[slot >>> SLAB_SHIFT][slot & SLAB_MASK] = null;
+    numUsed--;
+  }
+
+  private int get(int slot, int pos) {
+    return slabs[slot >>> SLAB_SHIFT].get((slot & SLAB_MASK) * slotInts + pos);
+  }
+
+  private void put(int slot, int pos, int value) {
+    slabs[slot >>> SLAB_SHIFT].put((slot & SLAB_MASK) * slotInts + pos, value);
+  }
+
+  private BlockInfo owner(int ref) {
+    if (ref == 0) {
+      return null;
+    }
+    int slot = ref - 1;
+    return owners[slot >>> SLAB_SHIFT][slot & SLAB_MASK];
+  }
+
+  private int refOf(BlockInfo block) {
+    if (block == null) {
+      return 0;
+    }
+    if (!(block instanceof SlabBlockInfo)
+        || ((SlabBlockInfo)block).store() != this
+        || ((SlabBlockInfo)block).slot < 0) {
+      throw new IllegalArgumentException("Block " + block
+          + " is not stored off heap in this blocks map");
+    }
+    return ((SlabBlockInfo)block).slot + 1;
+  }
+
+  private DatanodeDescriptor node(int ref) {
+    return ref == 0 ? null : nodes[ref - 1];
+  }
+
+  /** @return the index of the node plus one, or 0 if it has none yet */
+  private int lookupNode(DatanodeDescriptor dn) {
+    int idx = dn.tripletIndex;
+    return (idx >= 0 && idx < numNodes && nodes[idx] == dn) ? idx + 1 : 0;
+  }
+
+  private int refOf(DatanodeDescriptor dn) {
+    if (dn == null) {
+      return 0;
+    }
+    int ref = lookupNode(dn);
+    if (ref == 0) {
+      if (numNodes == nodes.length) {
+        nodes = Arrays.copyOf(nodes, 2 * numNodes);
+      }
+      nodes[numNodes] = dn;
+      dn.tripletIndex = numNodes++;
+      ref = numNodes;
+    }
+    return ref;
+  }
+
+  /**
+   * A block whose triplets are stored in the enclosing store.
+   */
+  private class SlabBlockInfo extends BlockInfo {
+    /** Slot in the store, or -1 once released */
+    private int slot;
+
+    SlabBlockInfo(Block blk) {
+      super(blk);
+      this.slot = allocate(this);
+    }
+
+    OffHeapTriplets store() {
+      return OffHeapTriplets.this;
+    }
+
+    /** True if the triplets are in the slab rather than on the heap */
+    private boolean inSlab() {
+      return triplets == null;
+    }
+
+    void release(OffHeapTriplets owner) {
+      if (owner != store() || slot < 0) {
+        return;
+      }
+      if (inSlab()) {
+        assert numNodes() == 0 : "Releasing a block that is still on datanodes";
+        triplets = new Object[3];
+      }
+      free(slot);
+      slot = -1;
+    }
+
+    @Override
+    int getCapacity() {
+      return inSlab() ? replicas : super.getCapacity();
+    }
+
+    @Override
+    int ensureCapacity(int num) {
+      if (inSlab()) {
+        int last = numNodes();
+        if (last + num <= replicas) {
+          return last;
+        }
+        // more replicas than fit in a slot: move the triplets to the heap
+        Object[] heap = new Object[3 * replicas];
+        for (int i = 0; i < replicas; i++) {
+          heap[3*i] = node(get(slot, 3*i));
+          heap[3*i+1] = owner(get(slot, 3*i+1));
+          heap[3*i+2] = owner(get(slot, 3*i+2));
+          put(slot, 3*i, 0);
+          put(slot, 3*i+1, 0);
+          put(slot, 3*i+2, 0);
+        }
+        triplets = heap;
+      }
+      return super.ensureCapacity(num);
+    }
+
+    @Override
+    int numNodes() {
+      if (!inSlab()) {
+        return super.numNodes();
+      }
+      for (int idx = replicas - 1; idx >= 0; idx--) {
+        if (get(slot, 3*idx) != 0) {
+          return idx + 1;
+        }
+      }
+      return 0;
+    }
+
+    @Override
+    int findDatanode(DatanodeDescriptor dn) {
+      if (!inSlab()) {
+        return super.findDatanode(dn);
+      }
+      int ref = lookupNode(dn);
+      for (int idx = 0; idx < replicas; idx++) {
+        int cur = get(slot, 3*idx);
+        if (cur == 0) {
+          break;
+        }
+        if (cur == ref) {
+          return idx;
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    DatanodeDescriptor getDatanode(int index) {
+      return inSlab() ? node(get(slot, 3*index)) : super.getDatanode(index);
+    }
+
+    @Override
+    BlockInfo getPrevious(int index) {
+      return inSlab() ? owner(get(slot, 3*index+1)) : super.getPrevious(index);
+    }
+
+    @Override
+    BlockInfo getNext(int index) {
+      return inSlab() ? owner(get(slot, 3*index+2)) : super.getNext(index);
+    }
+
+    @Override
+    void setDatanode(int index, DatanodeDescriptor node) {
+      if (inSlab()) {
+        put(slot, 3*index, refOf(node));
+      } else {
+        super.setDatanode(index, node);
+      }
+    }
+
+    @Override
+    void setPrevious(int index, BlockInfo to) {
+      if (inSlab()) {
+        put(slot, 3*index+1, refOf(to));
+      } else {
+        super.setPrevious(index, to);
+      }
+    }
+
+    @Override
+    void setNext(int index, BlockInfo to) {
+      if (inSlab()) {
+        put(slot, 3*index+2, refOf(to));
+      } else {
+        super.setNext(index, to);
+      }
+    }
+
+    @Override
+    BlockInfo getSetPrevious(int index, BlockInfo to) {
+      BlockInfo info = getPrevious(index);
+      setPrevious(index, to);
+      return info;
+    }
+
+    @Override
+    BlockInfo getSetNext(int index, BlockInfo to) {
+      BlockInfo info = getNext(index);
+      setNext(index, to);
+      return info;
+    }
+  }
+}
@@ -0,0 +1,151 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hdfs.server.namenode;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.hadoop.fs.Path;
+
+/**
+ * A fixed set of read/write locks, each one guarding the paths whose
+ * hash falls into it.
+ *
+ * A namespace mutation on a path takes the stripe of the path itself
+ * exclusively and the stripes of all of its ancestors shared. Two
+ * mutations therefore conflict only if one of them works on an ancestor
+ * of (or the same path as) the other, or if their paths collide in the
+ * same stripe. Stripes are always acquired in increasing index order, and
+ * a stripe that is needed both shared and exclusive by one operation is
+ * taken exclusive only once, so operations cannot deadlock on each other.
+ *
+ * <p>
+ * Stripes only order operations among each other. The caller is expected
+ * to hold the namesystem lock shared while holding stripes, so that
+ * operations which need the whole namespace still exclude everyone.
+ */
+class PathLockStripes {
+
+  private final ReentrantReadWriteLock[] stripes;
+
+  PathLockStripes(int numStripes) {
+    if (numStripes <= 0) {
+      throw new IllegalArgumentException("Number of path lock stripes must" +
+          " be positive: " + numStripes);
+    }
+    stripes = new ReentrantReadWriteLock[numStripes];
+    for (int i = 0; i < numStripes; i++) {
+      stripes[i] = new ReentrantReadWriteLock(); // non-fair
+    }
+  }
+
+  int getNumStripes() {
+    return stripes.length;
+  }
+
+  /**
+   * Acquire the stripes needed to mutate the given paths.
+   * @param paths absolute paths that are going to be modified
+   * @return the held stripes, to be released with {@link Locks#unlock()}
+   */
+  Locks lock(String... paths) {
+    // stripe index -> true if it has to be taken exclusive
+    TreeMap<Integer, Boolean> needed = new TreeMap<Integer, Boolean>();
+    for (String path : paths) {
+      addPath(path, needed);
+    }
+    Locks locks = new Locks(needed.size());
+    for (Map.Entry<Integer, Boolean> e : needed.entrySet()) {
+      locks.add(e.getKey(), e.getValue());
+    }
+    return locks;
+  }
+
+  /**
+   * Compute the stripes of a path and all its ancestors without
+   * materializing the intermediate path strings. Repeated and trailing
+   * separators are ignored, so "/a//b/" locks the same stripes as "/a/b".
+   */
+  private void addPath(String path, TreeMap<Integer, Boolean> needed) {
+    int hash = Path.SEPARATOR_CHAR;
+    int len = path.length();
+    int i = 0;
+    while (i < len && path.charAt(i) == Path.SEPARATOR_CHAR) {
+      i++;
+    }
+    while (i < len) {
+      // the prefix hashed so far is an ancestor of path
+      int stripe = stripeOf(hash);
+      needed.put(stripe, needed.get(stripe) == Boolean.TRUE);
+      hash = 31 * hash + Path.SEPARATOR_CHAR;
+      for (; i < len && path.charAt(i) != Path.SEPARATOR_CHAR; i++) {
+        hash = 31 * hash + path.charAt(i);
+      }
+      while (i < len && path.charAt(i) == Path.SEPARATOR_CHAR) {
+        i++;
+      }
+    }
+    needed.put(stripeOf(hash), Boolean.TRUE);
+  }
+
+  private int stripeOf(int hash) {
+    // spread the bits as HashMap does; directory names tend to share
+    // long common prefixes
+    hash ^= (hash >>> 20) ^ (hash >>> 12);
+    hash ^= (hash >>> 7) ^ (hash >>> 4);
+    return (hash & Integer.MAX_VALUE) % stripes.length;
+  }
+
+  /**
+   * The stripes held by a single operation.
+   */
+  class Locks {
+    private final int[] held;
+    private final boolean[] exclusive;
+    private int count = 0;
+
+    private Locks(int capacity) {
+      held = new int[capacity];
+      exclusive = new boolean[capacity];
+    }
+
+    private void add(int stripe, boolean write) {
+      if (write) {
+        stripes[stripe].writeLock().lock();
+      } else {
+        stripes[stripe].readLock().lock();
+      }
+      held[count] = stripe;
+      exclusive[count] = write;
+      count++;
+    }
+
+    /** Release all held stripes in reverse order of acquisition. */
+    void unlock() {
+      while (count > 0) {
+        count--;
+        if (exclusive[count]) {
+          stripes[held[count]].writeLock().unlock();
+        } else {
+          stripes[held[count]].readLock().unlock();
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,69 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hdfs.server.namenode;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A long counter that is updated by many threads and read rarely.
+ *
+ * The value is spread over several cells, one cache line apart, and a
+ * thread always adds to the cell picked by its id. Concurrent updates
+ * from different handler threads therefore seldom contend on the same
+ * cell. Reading sums up all cells; a read that races with updates sees
+ * some of them, but never a torn cell.
+ */
+class StripedCounter {
+  /** Number of longs in a cache line */
+  private static final int PADDING = 8;
+
+  private final AtomicLongArray cells;
+  private final int mask;
+
+  /**
+   * @param stripes the number of cells, rounded up to a power of two
+   */
+  StripedCounter(int stripes) {
+    int n = 1;
+    while (n < stripes) {
+      n <<= 1;
+    }
+    mask = n - 1;
+    cells = new AtomicLongArray(n * PADDING);
+  }
+
+  /** A counter with a cell per available processor. */
+  StripedCounter() {
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  void add(long delta) {
+    if (delta != 0) {
+      int cell = (int) (Thread.currentThread().getId() & mask);
+      cells.addAndGet(cell * PADDING, delta);
+    }
+  }
+
+  long get() {
+    long sum = 0;
+    for (int i = 0; i < cells.length(); i += PADDING) {
+      sum += cells.get(i);
+    }
+    return sum;
+  }
+}
@@ -227,6 +227,19 @@ class UnderReplicatedBlocks implements Iterable<Block> {
     return new BlockIterator(level);
   }
 
+  /* returns an iterator of the blocks in a given priority queue that
+   * resumes after the last block returned by the previous one. Blocks
+   * removed from the queue meanwhile do not disturb it.
+   */
+  synchronized Iterator<Block> bookmarkIterator(int level) {
+    return priorityQueues.get(level).getBookmark();
+  }
+
+  /* restart the bookmark iterators of a given priority queue at its head */
+  synchronized void resetBookmark(int level) {
+    priorityQueues.get(level).resetBookmark();
+  }
+
   
   /* return an iterator of all the under replication blocks */
   public synchronized BlockIterator iterator() {
@@ -28,6 +28,7 @@ import org.apache.hadoop.metrics.util.MetricsIntValue;
 import org.apache.hadoop.metrics.util.MetricsLongValue;
 import org.apache.hadoop.metrics.util.MetricsRegistry;
 import org.apache.hadoop.metrics.util.MetricsTimeVaryingLong;
+import org.apache.hadoop.metrics.util.MetricsTimeVaryingRate;
 
 /**
  * 
@@ -75,6 +76,12 @@ public class FSNamesystemMetrics implements Updater {
                  new MetricsTimeVaryingLong("AcrossRackReplications", registry);
   public MetricsTimeVaryingLong numTimedoutReplications =
                  new MetricsTimeVaryingLong("TimedoutReplications", registry);
+  public MetricsTimeVaryingLong numScheduledReplications =
+                 new MetricsTimeVaryingLong("ScheduledReplications", registry,
+                     "Blocks taken from the replication queues");
+  public MetricsTimeVaryingRate replicationWork =
+                 new MetricsTimeVaryingRate("ReplicationWork", registry,
+                     "Time to schedule a round of replications");
   public MetricsTimeVaryingLong numNewBlocksWithOneReplica =
                  new MetricsTimeVaryingLong("NewBlocksWithOneReplica", registry);
   public MetricsTimeVaryingLong numNewBlocksWithoutFailure =
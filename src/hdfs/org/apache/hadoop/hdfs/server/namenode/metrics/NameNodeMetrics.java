@@ -70,6 +70,9 @@ public class NameNodeMetrics implements Updater {
                           new MetricsTimeVaryingLong("DeleteFileOps", registry);
     public MetricsTimeVaryingLong numFileInfoOps =
                           new MetricsTimeVaryingLong("FileInfoOps", registry);
+    public MetricsTimeVaryingLong numLockFreeReadRetries =
+                    new MetricsTimeVaryingLong("LockFreeReadRetries", registry,
+                    "The number of lock-free reads redone with the locks");
     public MetricsTimeVaryingLong numAddBlockOps =
                           new MetricsTimeVaryingLong("AddBlockOps", registry);
     public MetricsTimeVaryingLong numSetReplication =
@@ -106,6 +109,8 @@ public class NameNodeMetrics implements Updater {
                           new MetricsTimeVaryingLong("numHeartbeat", registry);
     public MetricsTimeVaryingLong numBlockReport =
                           new MetricsTimeVaryingLong("numBlockReport", registry);
+    public MetricsTimeVaryingLong numBlockReportDigest =
+                          new MetricsTimeVaryingLong("numBlockReportDigest", registry);
     public MetricsTimeVaryingLong numBlockReceived =
                           new MetricsTimeVaryingLong("numBlockReceived", registry);
     public MetricsTimeVaryingLong numVersionRequest =
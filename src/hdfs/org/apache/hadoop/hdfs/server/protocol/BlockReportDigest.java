@@ -0,0 +1,90 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hdfs.server.protocol;
+
+import org.apache.hadoop.hdfs.protocol.Block;
+
+/**
+ * An order independent digest of the set of block ids stored on a
+ * datanode. The namenode keeps one per datanode up to date as replicas are
+ * added and removed, and the datanode computes one from its block report,
+ * so that both sides can tell whether they agree without sending the
+ * report.
+ *
+ * The digest is the number of blocks and the sum of a 64 bit mix of every
+ * block id. Only membership is covered; lengths and generation stamps are
+ * still reconciled by full block reports.
+ */
+public class BlockReportDigest {
+  private int numBlocks = 0;
+  private long digest = 0;
+
+  /**
+   * @return the digest of the given blocks
+   */
+  public static BlockReportDigest of(Block[] blocks) {
+    BlockReportDigest d = new BlockReportDigest();
+    for (Block b : blocks) {
+      d.add(b.getBlockId());
+    }
+    return d;
+  }
+
+  /** Spread the bits of a block id; the finalizer of MurmurHash3 */
+  static long hash(long blockId) {
+    long h = blockId;
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+
+  public void add(long blockId) {
+    numBlocks++;
+    digest += hash(blockId);
+  }
+
+  public void remove(long blockId) {
+    numBlocks--;
+    digest -= hash(blockId);
+  }
+
+  public void reset() {
+    numBlocks = 0;
+    digest = 0;
+  }
+
+  public int getNumBlocks() {
+    return numBlocks;
+  }
+
+  public long getDigest() {
+    return digest;
+  }
+
+  public boolean matches(int numBlocks, long digest) {
+    return this.numBlocks == numBlocks && this.digest == digest;
+  }
+
+  @Override
+  public String toString() {
+    return numBlocks + " blocks, digest " + Long.toHexString(digest);
+  }
+}
@@ -35,10 +35,9 @@ import org.apache.hadoop.ipc.VersionedProtocol;
  **********************************************************************/
 public interface DatanodeProtocol extends VersionedProtocol {
   /**
-   * 20: nextGenerationStamp has a new parameter indicating if it is for
-   * NameNode initiated lease recovery or not
+   * 21: added blockReportDigest()
    */
-  public static final long versionID = 20L;
+  public static final long versionID = 21L;
   
   // error code
   final static int NOTIFY = 0;
@@ -142,6 +141,23 @@ public interface DatanodeProtocol extends VersionedProtocol {
   public DatanodeCommand blockReport(DatanodeRegistration registration,
                                      BlockReport blocks) throws IOException;
   
+  /**
+   * blockReportDigest() sends the digest of all the locally-stored blocks
+   * instead of the blocks themselves. It is used in place of a periodic
+   * blockReport() once the NameNode knows about every block the DataNode
+   * has received and deleted, so that the NameNode only has to compare
+   * the digest with its own record of the DataNode.
+   * @param registration
+   * @param numBlocks number of blocks in the digest
+   * @param digest the digest of the block ids, see {@link BlockReportDigest}
+   * @return true if the NameNode holds the same set of replicas for the
+   *         DataNode; false if the DataNode has to send a full block report
+   * @throws IOException
+   */
+  public boolean blockReportDigest(DatanodeRegistration registration,
+                                   int numBlocks, long digest)
+                                   throws IOException;
+
 /**
  * blocksBeingWrittenReport() tells the NameNode about the blocks-being-written
  * information
@@ -32,6 +32,8 @@ public enum InjectionEvent {
   FSIMAGE_SN_CLEANUP,
   FSIMAGE_CANCEL_REQUEST_RECEIVED,
 
+  FSEDITLOG_BEFORE_SYNC,
+
   STANDBY_CANCELLED_EXCEPTION_THROWN,
   STANDBY_FELL_BEHIND,
   STANDBY_INSTANTIATE_INGEST, 
@@ -55,5 +57,11 @@ public enum InjectionEvent {
   AVATARNODE_SHUTDOWN,
 
   AVATARDATANODE_START_OFFERSERVICE1,
-  AVATARDATANODE_START_OFFERSERVICE2
+  AVATARDATANODE_START_OFFERSERVICE2,
+
+  FSDATASET_VERIFY_REPLICA_INDEX,
+  FSDATASET_REPLICA_INDEX_VERIFIED,
+  FSDATASET_INVALIDATE_BEFORE_RENAME,
+
+  DATAXCEIVERSERVER_CONNECTION_REFUSED
 }
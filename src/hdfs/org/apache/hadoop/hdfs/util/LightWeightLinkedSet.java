@@ -54,6 +54,8 @@ public class LightWeightLinkedSet<T> extends LightWeightHashSet<T> {
 
   private DoubleLinkedElement<T> head;
   private DoubleLinkedElement<T> tail;
+  /** The next element of the bookmark iterator, null if it is at the end */
+  private DoubleLinkedElement<T> bookmark;
 
   /**
    * @param initialCapacity
@@ -110,6 +112,9 @@ public class LightWeightLinkedSet<T> extends LightWeightHashSet<T> {
     if (head == null) {
       head = le;
     }
+    if (bookmark == null) {
+      bookmark = le;
+    }
     return true;
   }
 
@@ -138,6 +143,9 @@ public class LightWeightLinkedSet<T> extends LightWeightHashSet<T> {
     if (tail == found) {
       tail = tail.before;
     }
+    if (bookmark == found) {
+      bookmark = found.after;
+    }
     return found;
   }
 
@@ -226,6 +234,24 @@ public class LightWeightLinkedSet<T> extends LightWeightHashSet<T> {
     return new LinkedSetIterator();
   }
 
+  /**
+   * Return an iterator that starts at the bookmark and moves the bookmark
+   * along, so that the next bookmark iterator resumes where this one
+   * stopped. Removing the bookmarked element moves the bookmark to its
+   * successor, and an element added while the bookmark is at the end
+   * becomes the bookmark.
+   */
+  public Iterator<T> getBookmark() {
+    return new BookmarkIterator();
+  }
+
+  /**
+   * Move the bookmark back to the first element.
+   */
+  public void resetBookmark() {
+    bookmark = head;
+  }
+
   private class LinkedSetIterator implements Iterator<T> {
     /** The starting modification for fail-fast. */
     private final int startModification = modification;
@@ -258,6 +284,35 @@ public class LightWeightLinkedSet<T> extends LightWeightHashSet<T> {
     }
   }
 
+  private class BookmarkIterator implements Iterator<T> {
+    /** The starting modification for fail-fast. */
+    private final int startModification = modification;
+
+    @Override
+    public boolean hasNext() {
+      return bookmark != null;
+    }
+
+    @Override
+    public T next() {
+      if (modification != startModification) {
+        throw new ConcurrentModificationException("modification="
+            + modification + " != startModification = " + startModification);
+      }
+      if (bookmark == null) {
+        throw new NoSuchElementException();
+      }
+      final T e = bookmark.element;
+      bookmark = bookmark.after;
+      return e;
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException("Remove is not supported.");
+    }
+  }
+
   /**
    * Clear the set. Resize it to the original capacity.
    */
@@ -265,5 +320,6 @@ public class LightWeightLinkedSet<T> extends LightWeightHashSet<T> {
     super.clear();
     this.head = null;
     this.tail = null;
+    this.bookmark = null;
   }
 }
@@ -21,6 +21,7 @@ import static org.apache.hadoop.mapred.Task.Counter.MAP_OUTPUT_BYTES;
 import static org.apache.hadoop.mapred.Task.Counter.MAP_OUTPUT_RECORDS;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -81,6 +82,8 @@ public class BlockMapOutputBuffer<K extends BytesWritable, V extends BytesWritab
   private int totalIndexCacheMemory;
   private static final int INDEX_CACHE_MEMORY_LIMIT = 2 * 1024 * 1024;
   private final MemoryBlockAllocator memoryBlockAllocator;
+  // threads sorting and writing the partitions of a spill, if any
+  private final ParallelSpiller spiller;
 
   @SuppressWarnings( { "unchecked", "deprecation" })
   public BlockMapOutputBuffer(TaskUmbilicalProtocol umbilical, JobConf job,
@@ -166,6 +169,14 @@ public class BlockMapOutputBuffer<K extends BytesWritable, V extends BytesWritab
           .getMapOutputCompressorClass(DefaultCodec.class);
       codec = ReflectionUtils.newInstance(codecClass, job);
     }
+    int spillThreads = job.getInt("mapred.map.spill.threads", 1);
+    if (spillThreads > 1 && partitions > 1) {
+      spiller = new ParallelSpiller(spillThreads,
+          job.getLong("mapred.map.spill.range.buffer.limit", 16 << 20),
+          "SpillThread");
+    } else {
+      spiller = null;
+    }
   }
 
   private TaskAttemptID getTaskID() {
@@ -215,6 +226,10 @@ public class BlockMapOutputBuffer<K extends BytesWritable, V extends BytesWritab
 
   @Override
   public void sortAndSpill() throws IOException {
+    if (spiller != null) {
+      sortAndSpillParallel();
+      return;
+    }
     ProcResourceValues sortEndProcVals = sortReduceParts();
     long sortEndMilli = System.currentTimeMillis();
     // spill
@@ -237,18 +252,7 @@ public class BlockMapOutputBuffer<K extends BytesWritable, V extends BytesWritab
         spillRec.putIndex(rec, i);
       }
 
-      if (totalIndexCacheMemory >= INDEX_CACHE_MEMORY_LIMIT) {
-        // create spill index file
-        Path indexFilename =
-            task.mapOutputFile.getSpillIndexFileForWrite(getTaskID(),
-                numSpills, partitions
-                    * MapTask.MAP_OUTPUT_INDEX_RECORD_LENGTH);
-        spillRec.writeToFile(indexFilename, job);
-      } else {
-        indexCacheList.add(spillRec);
-        totalIndexCacheMemory +=
-            spillRec.size() * MapTask.MAP_OUTPUT_INDEX_RECORD_LENGTH;
-      }
+      cacheOrWriteIndex(spillRec);
       LOG.info("Finished spill " + numSpills);
       ++numSpills;
     } finally {
@@ -263,6 +267,79 @@ public class BlockMapOutputBuffer<K extends BytesWritable, V extends BytesWritab
         spillEndProcVals, spillEndMilli - sortEndMilli, spillBytes);
   }
 
+  /**
+   * Sort and spill with the spill threads, each of which sorts and writes
+   * a range of the partitions.
+   */
+  private void sortAndSpillParallel() throws IOException {
+    long spillStartMilli = System.currentTimeMillis();
+    ProcResourceValues spillStartProcVals =
+        task.getCurrentProcResourceValues();
+    FSDataOutputStream out = null;
+    long spillBytes = 0;
+    try {
+      // create spill file
+      final SpillRecord spillRec = new SpillRecord(partitions);
+      final Path filename =
+          task.mapOutputFile
+              .getSpillFileForWrite(getTaskID(), numSpills,
+                  this.memoryBlockAllocator.getEstimatedSize());
+      out = rfs.create(filename);
+      spillBytes = spiller.spill(partitions,
+          new ParallelSpiller.PartitionWriter() {
+            public IndexRecord write(int partition,
+                                     FSDataOutputStream segmentOut)
+                throws IOException {
+              reducePartitions[partition].groupOrSort();
+              return reducePartitions[partition].spill(job, segmentOut,
+                  keyClass, valClass, codec, task.spilledRecordsCounter);
+            }
+
+            public long getLength(int partition) {
+              return reducePartitions[partition].getCollectedBytesSize();
+            }
+          }, out, spillRec);
+      cacheOrWriteIndex(spillRec);
+      LOG.info("Finished spill " + numSpills);
+      ++numSpills;
+    } catch (InterruptedException e) {
+      throw (IOException)new InterruptedIOException("Spill interrupted"
+          ).initCause(e);
+    } catch (ClassNotFoundException e) {
+      throw (IOException)new IOException("Spill failed").initCause(e);
+    } finally {
+      if (out != null)
+        out.close();
+    }
+
+    // the partitions are sorted while spilling, so the sort is not counted
+    // separately
+    long spillEndMilli = System.currentTimeMillis();
+    ProcResourceValues spillEndProcVals =
+        task.getCurrentProcResourceValues();
+    mapSpillSortCounter.incCountersPerSpill(spillStartProcVals,
+        spillEndProcVals, spillEndMilli - spillStartMilli, spillBytes);
+  }
+
+  /**
+   * Keep the index of a spill in memory, or write it next to the spill
+   * once the cached indices take too much memory.
+   */
+  private void cacheOrWriteIndex(SpillRecord spillRec) throws IOException {
+    if (totalIndexCacheMemory >= INDEX_CACHE_MEMORY_LIMIT) {
+      // create spill index file
+      Path indexFilename =
+          task.mapOutputFile.getSpillIndexFileForWrite(getTaskID(),
+              numSpills, partitions
+                  * MapTask.MAP_OUTPUT_INDEX_RECORD_LENGTH);
+      spillRec.writeToFile(indexFilename, job);
+    } else {
+      indexCacheList.add(spillRec);
+      totalIndexCacheMemory +=
+          spillRec.size() * MapTask.MAP_OUTPUT_INDEX_RECORD_LENGTH;
+    }
+  }
+
   public void spillSingleRecord(K key, V value, int part)
       throws IOException {
 
@@ -511,6 +588,9 @@ public class BlockMapOutputBuffer<K extends BytesWritable, V extends BytesWritab
   }
 
   public void close() {
+    if (spiller != null) {
+      spiller.close();
+    }
     this.mapSpillSortCounter.finalCounterUpdate();
     if(numBigRecordsSpills > numBigRecordsWarnThreshold) {
       LOG.warn("Spilled a large number of big records: "
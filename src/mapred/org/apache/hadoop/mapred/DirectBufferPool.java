@@ -0,0 +1,140 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.mapred;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.LinkedList;
+
+/**
+ * A pool of direct buffers of one size, which hold map outputs shuffled
+ * into memory outside of the java heap. A map output takes as many
+ * buffers as it needs. Buffers go back to the pool rather than to the
+ * garbage collector, since direct memory is only freed when its buffers
+ * are collected.
+ */
+class DirectBufferPool {
+  private final int bufferSize;
+  private final LinkedList<ByteBuffer> free = new LinkedList<ByteBuffer>();
+
+  DirectBufferPool(int bufferSize) {
+    this.bufferSize = bufferSize;
+  }
+
+  int getBufferSize() {
+    return bufferSize;
+  }
+
+  /** @return the memory taken by buffers holding the given bytes */
+  long getCapacity(long length) {
+    return (length + bufferSize - 1) / bufferSize * bufferSize;
+  }
+
+  /** @return buffers to hold the given bytes */
+  synchronized ByteBuffer[] get(int length) {
+    ByteBuffer[] buffers = new ByteBuffer[(int)(getCapacity(length) /
+                                                bufferSize)];
+    for (int i = 0; i < buffers.length; i++) {
+      buffers[i] = free.isEmpty()
+        ? ByteBuffer.allocateDirect(bufferSize)
+        : free.removeFirst();
+    }
+    return buffers;
+  }
+
+  /** Return buffers to the pool */
+  synchronized void release(ByteBuffer[] buffers) {
+    for (ByteBuffer buffer : buffers) {
+      buffer.clear();
+      free.addFirst(buffer);
+    }
+  }
+
+  /** Copy bytes into the buffers, starting at the given position */
+  void put(ByteBuffer[] buffers, int position,
+           byte[] b, int off, int len) {
+    while (len > 0) {
+      ByteBuffer buffer = buffers[position / bufferSize];
+      int start = position % bufferSize;
+      int n = Math.min(len, bufferSize - start);
+      buffer.position(start);
+      buffer.put(b, off, n);
+      position += n;
+      off += n;
+      len -= n;
+    }
+  }
+
+  /** @return a stream over the first bytes of the buffers */
+  InputStream getInputStream(ByteBuffer[] buffers, int length) {
+    return new BuffersInputStream(buffers, length);
+  }
+
+  private class BuffersInputStream extends InputStream {
+    private final ByteBuffer[] buffers;
+    private final int length;
+    private int position = 0;
+
+    BuffersInputStream(ByteBuffer[] buffers, int length) {
+      this.buffers = buffers;
+      this.length = length;
+    }
+
+    @Override
+    public int read() {
+      if (position >= length) {
+        return -1;
+      }
+      int b = buffers[position / bufferSize].get(position % bufferSize);
+      position++;
+      return b & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      if (position >= length) {
+        return -1;
+      }
+      len = Math.min(len, length - position);
+      int done = 0;
+      while (done < len) {
+        // read through a duplicate, so readers do not share positions
+        ByteBuffer buffer = buffers[position / bufferSize].duplicate();
+        int start = position % bufferSize;
+        int n = Math.min(len - done, bufferSize - start);
+        buffer.position(start);
+        buffer.get(b, off + done, n);
+        position += n;
+        done += n;
+      }
+      return len;
+    }
+
+    @Override
+    public long skip(long n) {
+      long skipped = Math.max(0, Math.min(n, length - position));
+      position += skipped;
+      return skipped;
+    }
+
+    @Override
+    public int available() {
+      return length - position;
+    }
+  }
+}
@@ -17,11 +17,13 @@
  */
 package org.apache.hadoop.mapred;
 
+import java.io.DataInputStream;
 import java.io.EOFException;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FSDataInputStream;
@@ -589,4 +591,98 @@ public class IFile {
       ramManager.unreserve(bufferSize);
     }
   }
+
+  /**
+   * <code>IFile.DirectBufferReader</code> to read map-outputs held in direct
+   * buffers of a {@link DirectBufferPool}. Only the current record is copied
+   * onto the heap.
+   */
+  public static class DirectBufferReader<K, V> extends Reader<K, V> {
+    RamManager ramManager;
+    DirectBufferPool pool;
+    ByteBuffer[] buffers;
+    DataInputStream data;
+    final int length;
+
+    public DirectBufferReader(RamManager ramManager, DirectBufferPool pool,
+                              ByteBuffer[] buffers, int length)
+                              throws IOException {
+      super(null, null, length, null, null);
+      this.ramManager = ramManager;
+      this.pool = pool;
+      this.buffers = buffers;
+      this.length = length;
+      this.data = new DataInputStream(pool.getInputStream(buffers, length));
+    }
+
+    @Override
+    public long getPosition() throws IOException {
+      return bytesRead;
+    }
+
+    @Override
+    public long getLength() {
+      return fileLength;
+    }
+
+    public boolean next(DataInputBuffer key, DataInputBuffer value)
+    throws IOException {
+      // Sanity check
+      if (eof) {
+        throw new EOFException("Completed reading " + bytesRead);
+      }
+
+      // Read key and value lengths
+      int keyLength = WritableUtils.readVInt(data);
+      int valueLength = WritableUtils.readVInt(data);
+      bytesRead += WritableUtils.getVIntSize(keyLength) +
+                   WritableUtils.getVIntSize(valueLength);
+
+      // Check for EOF
+      if (keyLength == EOF_MARKER && valueLength == EOF_MARKER) {
+        eof = true;
+        return false;
+      }
+
+      // Sanity check
+      if (keyLength < 0) {
+        throw new IOException("Rec# " + recNo + ": Negative key-length: " +
+                              keyLength);
+      }
+      if (valueLength < 0) {
+        throw new IOException("Rec# " + recNo + ": Negative value-length: " +
+                              valueLength);
+      }
+
+      // Copy the record onto the heap, reusing the buffer of the last one
+      final int recordLength = keyLength + valueLength;
+      if (buffer == null || buffer.length < recordLength) {
+        buffer = new byte[Math.max(recordLength,
+                                   buffer == null ? 0 : 2 * buffer.length)];
+      }
+      data.readFully(buffer, 0, recordLength);
+      key.reset(buffer, 0, keyLength);
+      value.reset(buffer, keyLength, valueLength);
+
+      // Record the byte
+      bytesRead += recordLength;
+
+      ++recNo;
+
+      return true;
+    }
+
+    public void close() {
+      // Release
+      data = null;
+      buffer = null;
+
+      // Return the buffers, and inform the RamManager
+      if (buffers != null) {
+        pool.release(buffers);
+        buffers = null;
+        ramManager.unreserve(length);
+      }
+    }
+  }
 }
@@ -58,11 +58,49 @@ class IndexCache {
    */
   public IndexRecord getIndexInformation(String mapId, int reduce,
       Path fileName) throws IOException {
+    return getIndexInformation(mapId, reduce, fileName, true);
+  }
+
+  /**
+   * Get the index information of a reduce in the outputs of several maps.
+   * Memory is only reclaimed after all the index files were read, so the
+   * maps of one request do not evict each other from the cache.
+   * @param mapIds the maps
+   * @param reduce the reduce
+   * @param fileNames the index file of each map, null if it is not found
+   * @return the index information of each map, null for the maps whose
+   *         index cannot be read
+   */
+  public IndexRecord[] getIndexInformation(String[] mapIds, int reduce,
+      Path[] fileNames) {
+    IndexRecord[] records = new IndexRecord[mapIds.length];
+    try {
+      for (int i = 0; i < mapIds.length; i++) {
+        if (fileNames[i] == null) {
+          continue;
+        }
+        try {
+          records[i] = getIndexInformation(mapIds[i], reduce, fileNames[i],
+                                           false);
+        } catch (IOException e) {
+          LOG.warn("Failed to read the index of " + mapIds[i], e);
+        }
+      }
+    } finally {
+      if (totalMemoryUsed.get() > totalMemoryAllowed) {
+        freeIndexInformation();
+      }
+    }
+    return records;
+  }
+
+  private IndexRecord getIndexInformation(String mapId, int reduce,
+      Path fileName, boolean freeMemory) throws IOException {
 
     IndexInformation info = cache.get(mapId);
 
     if (info == null) {
-      info = readIndexFileToCache(fileName, mapId);
+      info = readIndexFileToCache(fileName, mapId, freeMemory);
     } else {
       synchronized (info) {
         while (null == info.mapSpillRecord) {
@@ -86,7 +124,7 @@ class IndexCache {
   }
 
   private IndexInformation readIndexFileToCache(Path indexFileName,
-      String mapId) throws IOException {
+      String mapId, boolean freeMemory) throws IOException {
     IndexInformation info;
     IndexInformation newInd = new IndexInformation();
     if ((info = cache.putIfAbsent(mapId, newInd)) != null) {
@@ -118,7 +156,8 @@ class IndexCache {
     } 
     queue.add(mapId);
     
-    if (totalMemoryUsed.addAndGet(newInd.getSize()) > totalMemoryAllowed) {
+    if (totalMemoryUsed.addAndGet(newInd.getSize()) > totalMemoryAllowed &&
+        freeMemory) {
       freeIndexInformation();
     }
     return newInd;
@@ -54,6 +54,12 @@ interface MRConstants {
    * The reduce task number for which this map output is being transferred
    */
   public static final String FOR_REDUCE_TASK = "for-reduce-task";
+
+  /**
+   * The number of map outputs in a response that carries the outputs of
+   * several maps, each preceded by a {@link ShuffleHeader}
+   */
+  public static final String MAP_OUTPUT_BATCH = "map-output-batch";
   
   public static final String WORKDIR = "work";
 }
@@ -0,0 +1,392 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.mapred;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocalDirAllocator;
+import org.apache.hadoop.fs.LocalFileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.RawComparator;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.DefaultCodec;
+import org.apache.hadoop.mapred.IFile.Writer;
+import org.apache.hadoop.mapred.Merger.Segment;
+import org.apache.hadoop.util.ReflectionUtils;
+
+/**
+ * Merges the outputs of maps of a job that finished on this tasktracker,
+ * in the background, so reduces fetch one output for a group of maps.
+ *
+ * Every <code>mapred.tasktracker.map.output.merge.factor</code> maps of a
+ * job that finish here are merged, partition by partition, into an output
+ * of their own, which is served like the output of a map. The outputs of
+ * the maps stay, and are served on their own to reduces that do not ask
+ * for the whole group in one batched request.
+ *
+ * The merge runs in the tasktracker, so only jobs whose map outputs are
+ * read, compared and compressed by classes of the framework are merged;
+ * no class of a job is ever loaded here.
+ */
+class MapOutputMerger {
+  private static final Log LOG = LogFactory.getLog(MapOutputMerger.class);
+
+  static final String MERGE_FACTOR =
+    "mapred.tasktracker.map.output.merge.factor";
+
+  /** The classes of a job the merge would run */
+  private static final String[] MERGE_CLASSES = {
+    "mapred.mapoutput.key.class", "mapred.mapoutput.value.class",
+    "mapred.output.key.class", "mapred.output.value.class",
+    "mapred.output.key.comparator.class",
+    "mapred.map.output.compression.codec", "io.serializations"
+  };
+
+  private static final String MERGED_SUFFIX = "_merged";
+
+  /** A merged output of a group of maps */
+  private static class MergedOutput {
+    final String id;
+    final String[] mapIds;
+    volatile boolean ready = false;
+
+    MergedOutput(String[] mapIds) {
+      this.id = mapIds[0] + MERGED_SUFFIX;
+      this.mapIds = mapIds;
+    }
+  }
+
+  /** The maps of a job waiting to be merged, and the merged ones */
+  private static class JobOutputs {
+    final JobConf conf;
+    final boolean mergeable;
+    final List<String> pending = new ArrayList<String>();
+    final Map<String, MergedOutput> merged =
+      new HashMap<String, MergedOutput>();
+
+    JobOutputs(JobConf conf, boolean mergeable) {
+      this.conf = conf;
+      this.mergeable = mergeable;
+    }
+  }
+
+  private final JobConf conf;
+  private final IndexCache indexCache;
+  private final int factor;
+  private final LocalDirAllocator lDirAlloc =
+    new LocalDirAllocator("mapred.local.dir");
+  private final ExecutorService merger;
+  private final Map<String, JobOutputs> jobs =
+    new HashMap<String, JobOutputs>();
+
+  MapOutputMerger(JobConf conf, IndexCache indexCache) {
+    this.conf = conf;
+    this.indexCache = indexCache;
+    this.factor = conf.getInt(MERGE_FACTOR, 0);
+    this.merger = Executors.newSingleThreadExecutor(new ThreadFactory() {
+      public Thread newThread(Runnable r) {
+        Thread t = new Thread(r, "MapOutputMerger");
+        t.setDaemon(true);
+        return t;
+      }
+    });
+  }
+
+  /**
+   * Note the output of a map that succeeded, and start merging the waiting
+   * maps of its job once there are enough of them.
+   * @param jobConf the localized configuration of the job
+   */
+  synchronized void mapDone(JobConf jobConf, TaskAttemptID mapId) {
+    if (factor < 2 || jobConf.getNumReduceTasks() == 0) {
+      return;
+    }
+    final String jobId = mapId.getJobID().toString();
+    JobOutputs job = jobs.get(jobId);
+    if (job == null) {
+      boolean mergeable = isMergeable(jobConf);
+      if (!mergeable) {
+        LOG.info("Not merging the map outputs of " + jobId +
+                 ", which uses classes of its own");
+      }
+      JobConf mergeConf = new JobConf(jobConf);
+      mergeConf.setClassLoader(MapOutputMerger.class.getClassLoader());
+      job = new JobOutputs(mergeConf, mergeable);
+      jobs.put(jobId, job);
+    }
+    if (!job.mergeable) {
+      return;
+    }
+    job.pending.add(mapId.toString());
+    if (job.pending.size() < factor) {
+      return;
+    }
+
+    final MergedOutput output =
+      new MergedOutput(job.pending.toArray(new String[job.pending.size()]));
+    job.pending.clear();
+    for (String m : output.mapIds) {
+      job.merged.put(m, output);
+    }
+    final JobOutputs outputs = job;
+    merger.execute(new Runnable() {
+      public void run() {
+        try {
+          long start = System.currentTimeMillis();
+          merge(outputs.conf, jobId, output);
+          synchronized (MapOutputMerger.this) {
+            if (jobs.get(jobId) == outputs &&
+                outputs.merged.get(output.mapIds[0]) == output) {
+              output.ready = true;
+            }
+          }
+          LOG.info("Merged the outputs of " + output.mapIds.length +
+                   " maps into " + output.id + " in " +
+                   (System.currentTimeMillis() - start) + " ms");
+        } catch (Throwable t) {
+          LOG.warn("Failed to merge the outputs of maps into " + output.id, t);
+          synchronized (MapOutputMerger.this) {
+            discard(outputs, output);
+          }
+        }
+      }
+    });
+  }
+
+  /**
+   * Forget a map whose output is gone, and the merged output holding it.
+   */
+  synchronized void removeMap(TaskAttemptID mapId) {
+    JobOutputs job = jobs.get(mapId.getJobID().toString());
+    if (job == null) {
+      return;
+    }
+    job.pending.remove(mapId.toString());
+    MergedOutput output = job.merged.get(mapId.toString());
+    if (output != null) {
+      discard(job, output);
+    }
+  }
+
+  /**
+   * Forget a merged output that could not be served.
+   */
+  synchronized void removeMergedOutput(String jobId, String outputId) {
+    JobOutputs job = jobs.get(jobId);
+    if (job == null || !outputId.endsWith(MERGED_SUFFIX)) {
+      return;
+    }
+    String mapId =
+      outputId.substring(0, outputId.length() - MERGED_SUFFIX.length());
+    MergedOutput output = job.merged.get(mapId);
+    if (output != null && output.id.equals(outputId)) {
+      discard(job, output);
+    }
+  }
+
+  /** Forget all the outputs of a job */
+  synchronized void removeJob(JobID jobId) {
+    JobOutputs job = jobs.remove(jobId.toString());
+    if (job != null) {
+      for (MergedOutput output : job.merged.values()) {
+        indexCache.removeMap(output.id);
+      }
+    }
+  }
+
+  private void discard(JobOutputs job, MergedOutput output) {
+    output.ready = false;
+    for (String m : output.mapIds) {
+      if (job.merged.get(m) == output) {
+        job.merged.remove(m);
+      }
+    }
+    indexCache.removeMap(output.id);
+  }
+
+  /**
+   * Decide which outputs to send for the maps of a batched request. When
+   * the request holds all the maps of a merged output, the merged output
+   * is sent in place of the last of them, and the others are sent as
+   * merged into that one.
+   * @param mapIds the maps of the request
+   * @param mergedInto set to the map in whose place the output of a map is
+   *        sent, for the maps sent merged, and to null for the others
+   * @return the id of the output to send in place of each map, which is
+   *         null for the maps sent merged
+   */
+  synchronized String[] getOutputs(String jobId, String[] mapIds,
+                                   String[] mergedInto) {
+    String[] outputs = mapIds.clone();
+    JobOutputs job = jobs.get(jobId);
+    if (job == null || job.merged.isEmpty()) {
+      return outputs;
+    }
+    Map<String, Integer> positions = new HashMap<String, Integer>();
+    for (int i = 0; i < mapIds.length; i++) {
+      positions.put(mapIds[i], i);
+    }
+    for (int i = 0; i < mapIds.length; i++) {
+      MergedOutput output = job.merged.get(mapIds[i]);
+      if (output == null || !output.ready) {
+        continue;
+      }
+      // handle the group at the last of its maps in the request
+      int last = -1;
+      for (String m : output.mapIds) {
+        Integer p = positions.get(m);
+        if (p == null) {
+          last = -1;
+          break;
+        }
+        last = Math.max(last, p);
+      }
+      if (last != i) {
+        continue;
+      }
+      for (String m : output.mapIds) {
+        int p = positions.get(m);
+        if (p != last) {
+          outputs[p] = null;
+          mergedInto[p] = mapIds[last];
+        }
+      }
+      outputs[last] = output.id;
+    }
+    return outputs;
+  }
+
+  /** Stop merging */
+  void close() {
+    merger.shutdownNow();
+  }
+
+  /**
+   * @return whether the key and value classes, the comparator, the codec
+   *         and the serializations of the map outputs of a job are all
+   *         classes of the framework
+   */
+  static boolean isMergeable(JobConf job) {
+    for (String property : MERGE_CLASSES) {
+      String[] names = job.getStrings(property);
+      if (names == null) {
+        continue;
+      }
+      for (String name : names) {
+        if (!isFrameworkClass(name.trim())) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  private static boolean isFrameworkClass(String name) {
+    if (!name.startsWith("org.apache.hadoop.")) {
+      return false;
+    }
+    try {
+      // only look the class up in the classpath of the tasktracker
+      Class.forName(name, false, MapOutputMerger.class.getClassLoader());
+      return true;
+    } catch (ClassNotFoundException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Merge the outputs of the maps, partition by partition, into an output
+   * with the layout of the output of a map.
+   */
+  @SuppressWarnings("unchecked")
+  private <K, V> void merge(JobConf job, String jobId, MergedOutput output)
+  throws IOException {
+    FileSystem rfs = ((LocalFileSystem)FileSystem.getLocal(conf)).getRaw();
+    int numMaps = output.mapIds.length;
+    Path[] files = new Path[numMaps];
+    SpillRecord[] indices = new SpillRecord[numMaps];
+    long size = 0;
+    for (int i = 0; i < numMaps; i++) {
+      String dir = TaskTracker.getIntermediateOutputDir(jobId,
+                                                        output.mapIds[i]);
+      files[i] = lDirAlloc.getLocalPathToRead(dir + "/file.out", conf);
+      indices[i] = new SpillRecord(
+          lDirAlloc.getLocalPathToRead(dir + "/file.out.index", conf), job);
+      size += rfs.getFileStatus(files[i]).getLen();
+    }
+    int partitions = indices[0].size();
+    String dir = TaskTracker.getIntermediateOutputDir(jobId, output.id);
+    Path outputFile =
+      lDirAlloc.getLocalPathForWrite(dir + "/file.out", size, conf);
+    Path indexFile = lDirAlloc.getLocalPathForWrite(dir + "/file.out.index",
+        partitions * MapTask.MAP_OUTPUT_INDEX_RECORD_LENGTH, conf);
+
+    Class<K> keyClass = (Class<K>)job.getMapOutputKeyClass();
+    Class<V> valClass = (Class<V>)job.getMapOutputValueClass();
+    RawComparator<K> comparator = job.getOutputKeyComparator();
+    CompressionCodec codec = null;
+    if (job.getCompressMapOutput()) {
+      Class<? extends CompressionCodec> codecClass =
+        job.getMapOutputCompressorClass(DefaultCodec.class);
+      codec = ReflectionUtils.newInstance(codecClass, job);
+    }
+
+    SpillRecord spillRec = new SpillRecord(partitions);
+    IndexRecord rec = new IndexRecord();
+    FSDataOutputStream out = rfs.create(outputFile, true, 4096);
+    try {
+      for (int part = 0; part < partitions; part++) {
+        List<Segment<K, V>> segments = new ArrayList<Segment<K, V>>(numMaps);
+        for (int i = 0; i < numMaps; i++) {
+          IndexRecord indexRecord = indices[i].getIndex(part);
+          segments.add(new Segment<K, V>(job, rfs, files[i],
+                                         indexRecord.startOffset,
+                                         indexRecord.partLength, codec, true));
+        }
+        RawKeyValueIterator kvIter = Merger.merge(job, rfs,
+            keyClass, valClass, codec, segments, numMaps,
+            new Path(output.id), comparator, Reporter.NULL, null, null);
+
+        long segmentStart = out.getPos();
+        Writer<K, V> writer =
+          new Writer<K, V>(job, out, keyClass, valClass, codec, null);
+        Merger.writeFile(kvIter, writer, Reporter.NULL, job);
+        writer.close();
+
+        rec.startOffset = segmentStart;
+        rec.rawLength = writer.getRawLength();
+        rec.partLength = writer.getCompressedLength();
+        spillRec.putIndex(rec, part);
+      }
+    } finally {
+      out.close();
+    }
+    spillRec.writeToFile(indexFile, job);
+  }
+}
@@ -34,6 +34,8 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -46,6 +48,7 @@ import org.apache.hadoop.fs.LocalFileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.io.BytesWritable;
 import org.apache.hadoop.io.DataInputBuffer;
+import org.apache.hadoop.io.PrefixComparator;
 import org.apache.hadoop.io.RawComparator;
 import org.apache.hadoop.io.SequenceFile;
 import org.apache.hadoop.io.Text;
@@ -61,6 +64,7 @@ import org.apache.hadoop.mapred.SortedRanges.SkipRangeIterator;
 import org.apache.hadoop.mapreduce.TaskAttemptContext;
 import org.apache.hadoop.util.IndexedSortable;
 import org.apache.hadoop.util.IndexedSorter;
+import org.apache.hadoop.util.PrefixIndexedSortable;
 import org.apache.hadoop.util.Progress;
 import org.apache.hadoop.util.QuickSort;
 import org.apache.hadoop.util.ReflectionUtils;
@@ -389,6 +393,24 @@ class MapTask extends Task {
     LOG.info("split: " + inputSplit.toString());
   }
 
+  /**
+   * Whether a key comparator can summarize keys by prefixes. Only a class
+   * that declares {@link PrefixComparator} itself qualifies: a subclass of
+   * Text.Comparator that overrides compare inherits a getPrefix that no
+   * longer agrees with its order.
+   */
+  static boolean hasSortPrefix(RawComparator<?> comparator) {
+    if (comparator == null) {
+      return false;
+    }
+    for (Class<?> c : comparator.getClass().getInterfaces()) {
+      if (c == PrefixComparator.class) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   static class NewTrackingRecordReader<K,V> 
     extends org.apache.hadoop.mapreduce.RecordReader<K,V> {
     private final org.apache.hadoop.mapreduce.RecordReader<K,V> real;
@@ -778,7 +800,7 @@ class MapTask extends Task {
   }
   
   class MapOutputBuffer<K extends Object, V extends Object> 
-  implements MapOutputCollector<K, V>, IndexedSortable {
+  implements MapOutputCollector<K, V>, PrefixIndexedSortable {
     private final int partitions;
     private final JobConf job;
     private final TaskReporter reporter;
@@ -829,6 +851,9 @@ class MapTask extends Task {
     private final BlockingBuffer bb = new BlockingBuffer();
     private volatile boolean spillThreadRunning = false;
     private final SpillThread spillThread = new SpillThread();
+    // threads sorting and writing the partitions of a spill, if any
+    private final ParallelSpiller spiller;
+    private final BlockingQueue<SpillContext> spillContexts;
 
     private final FileSystem localFs;
     private final FileSystem rfs;
@@ -920,6 +945,19 @@ class MapTask extends Task {
         combineCollector = null;
       }
       minSpillsForCombine = job.getInt("min.num.spills.for.combine", 3);
+      int spillThreads = job.getInt("mapred.map.spill.threads", 1);
+      if (spillThreads > 1 && partitions > 1) {
+        spiller = new ParallelSpiller(spillThreads,
+            job.getLong("mapred.map.spill.range.buffer.limit", 16 << 20),
+            "SpillThread");
+        spillContexts = new ArrayBlockingQueue<SpillContext>(spillThreads);
+        for (int i = 0; i < spillThreads; i++) {
+          spillContexts.add(new SpillContext(combineInputCounter));
+        }
+      } else {
+        spiller = null;
+        spillContexts = null;
+      }
       spillThread.setDaemon(true);
       spillThread.setName("SpillThread");
       spillLock.lock();
@@ -1041,7 +1079,14 @@ class MapTask extends Task {
         return kvindices[ii + PARTITION] - kvindices[ij + PARTITION];
       }
       // sort by key
-      return comparator.compare(kvbuffer,
+      return compareKeys(comparator, ii, ij);
+    }
+
+    /**
+     * Compare the keys of the records with the given offsets into kvindices.
+     */
+    private int compareKeys(RawComparator<K> keyComparator, int ii, int ij) {
+      return keyComparator.compare(kvbuffer,
           kvindices[ii + KEYSTART],
           kvindices[ii + VALSTART] - kvindices[ii + KEYSTART],
           kvbuffer,
@@ -1049,6 +1094,37 @@ class MapTask extends Task {
           kvindices[ij + VALSTART] - kvindices[ij + KEYSTART]);
     }
 
+    /**
+     * Whether the key comparator can summarize keys by prefixes.
+     * @see PrefixIndexedSortable#hasSortPrefix
+     */
+    public boolean hasSortPrefix() {
+      return MapTask.hasSortPrefix(comparator);
+    }
+
+    /**
+     * Sort prefix of logical index i MOD offset capacity: the partition,
+     * then the prefix of the key.
+     * @see PrefixIndexedSortable#getSortPrefix
+     */
+    public long getSortPrefix(int i) {
+      final int ii = kvoffsets[i % kvoffsets.length];
+      return ((long)kvindices[ii + PARTITION] << 32) |
+             getKeyPrefix(comparator, ii);
+    }
+
+    /**
+     * Prefix of the key of the record with the given offset into kvindices,
+     * as an unsigned value.
+     */
+    private long getKeyPrefix(RawComparator<K> keyComparator, int ii) {
+      final int keyPrefix = ((PrefixComparator<K>)keyComparator).getPrefix(
+          kvbuffer,
+          kvindices[ii + KEYSTART],
+          kvindices[ii + VALSTART] - kvindices[ii + KEYSTART]);
+      return keyPrefix & 0xFFFFFFFFL;
+    }
+
     /**
      * Swap logical indices st i, j MOD offset capacity.
      * @see IndexedSortable#swap
@@ -1061,6 +1137,48 @@ class MapTask extends Task {
       kvoffsets[j] = tmp;
     }
 
+    /**
+     * What a spill thread needs of its own to sort and combine the records
+     * of a partition. Sorts logical indices within one partition only.
+     */
+    private class SpillContext implements PrefixIndexedSortable {
+      private final RawComparator<K> comparator;
+      private final CombinerRunner<K,V> combinerRunner;
+      private final CombineOutputCollector<K, V> combineCollector;
+
+      @SuppressWarnings("unchecked")
+      SpillContext(Counters.Counter combineInputCounter
+                   ) throws ClassNotFoundException {
+        comparator = job.getOutputKeyComparator();
+        combinerRunner = CombinerRunner.create(job, getTaskID(),
+                                               combineInputCounter,
+                                               reporter, null);
+        if (combinerRunner != null) {
+          combineCollector =
+            new CombineOutputCollector<K,V>(combineOutputCounter);
+        } else {
+          combineCollector = null;
+        }
+      }
+
+      public int compare(int i, int j) {
+        return compareKeys(comparator, kvoffsets[i % kvoffsets.length],
+                           kvoffsets[j % kvoffsets.length]);
+      }
+
+      public boolean hasSortPrefix() {
+        return MapTask.hasSortPrefix(comparator);
+      }
+
+      public long getSortPrefix(int i) {
+        return getKeyPrefix(comparator, kvoffsets[i % kvoffsets.length]);
+      }
+
+      public void swap(int i, int j) {
+        MapOutputBuffer.this.swap(i, j);
+      }
+    }
+
     /**
      * Inner class managing the spill of serialized records to disk.
      */
@@ -1251,6 +1369,9 @@ class MapTask extends Task {
         throw (IOException)new IOException("Spill failed"
             ).initCause(e);
       }
+      if (spiller != null) {
+        spiller.close();
+      }
       // release sort buffer before the merge
       kvbuffer = null;
       long mergeStartMilli = System.currentTimeMillis();
@@ -1264,6 +1385,9 @@ class MapTask extends Task {
     }
 
     public void close() {
+      if (spiller != null) {
+        spiller.close();
+      }
       spillSortCounters.finalCounterUpdate();
     }
 
@@ -1340,8 +1464,15 @@ class MapTask extends Task {
         //record the cumulative resources used before running sort
         long sortStartMilli = System.currentTimeMillis();
         ProcResourceValues sortStartProcVals = getCurrentProcResourceValues();
-        //do the sort
-        sorter.sort(MapOutputBuffer.this, kvstart, endPosition, reporter);
+        //do the sort; with spill threads, only group the records by
+        //partition here and leave sorting the partitions to the threads
+        final int[] partitionStarts;
+        if (spiller == null) {
+          partitionStarts = null;
+          sorter.sort(MapOutputBuffer.this, kvstart, endPosition, reporter);
+        } else {
+          partitionStarts = groupByPartition(kvstart, endPosition);
+        }
         // get the cumulative resources used after the sort, and use the diff as
         // resources/wallclock consumed by the sort.
         long sortEndMilli = System.currentTimeMillis();
@@ -1350,61 +1481,56 @@ class MapTask extends Task {
         spillSortCounters.incCountersPerSort(sortStartProcVals,
             sortEndProcVals, sortEndMilli - sortStartMilli);
 
-        int spindex = kvstart;
-        IndexRecord rec = new IndexRecord();
-        InMemValBytes value = new InMemValBytes();
         long spillBytes = 0;
-        for (int i = 0; i < partitions; ++i) {
-          IFile.Writer<K, V> writer = null;
-          try {
-            long segmentStart = out.getPos();
-            writer = new Writer<K, V>(job, out, keyClass, valClass, codec,
-                                      spilledRecordsCounter);
-            if (combinerRunner == null) {
-              // spill directly
-              DataInputBuffer key = new DataInputBuffer();
-              while (spindex < endPosition &&
-                  kvindices[kvoffsets[spindex % kvoffsets.length]
-                            + PARTITION] == i) {
-                final int kvoff = kvoffsets[spindex % kvoffsets.length];
-                getVBytesForOffset(kvoff, value);
-                key.reset(kvbuffer, kvindices[kvoff + KEYSTART],
-                          (kvindices[kvoff + VALSTART] - 
-                           kvindices[kvoff + KEYSTART]));
-                writer.append(key, value);
-                ++spindex;
-              }
-            } else {
-              int spstart = spindex;
-              while (spindex < endPosition &&
-                  kvindices[kvoffsets[spindex % kvoffsets.length]
-                            + PARTITION] == i) {
-                ++spindex;
-              }
-              // Note: we would like to avoid the combiner if we've fewer
-              // than some threshold of records for a partition
-              if (spstart != spindex) {
-                combineCollector.setWriter(writer);
-                RawKeyValueIterator kvIter =
-                  new MRResultIterator(spstart, spindex);
-                combinerRunner.combine(kvIter, combineCollector);
-              }
+        if (spiller == null) {
+          int spindex = kvstart;
+          for (int i = 0; i < partitions; ++i) {
+            int spstart = spindex;
+            while (spindex < endPosition &&
+                kvindices[kvoffsets[spindex % kvoffsets.length]
+                          + PARTITION] == i) {
+              ++spindex;
             }
-
-            // close the writer
-            writer.close();
-
-            // record offsets
-            rec.startOffset = segmentStart;
-            rec.rawLength = writer.getRawLength();
-            rec.partLength = writer.getCompressedLength();
-            spillBytes += writer.getCompressedLength();
+            IndexRecord rec = writeSegment(out, spstart, spindex,
+                                           combinerRunner, combineCollector);
+            spillBytes += rec.partLength;
             spillRec.putIndex(rec, i);
-
-            writer = null;
-          } finally {
-            if (null != writer) writer.close();
           }
+        } else {
+          spillBytes = spiller.spill(partitions,
+              new ParallelSpiller.PartitionWriter() {
+                public IndexRecord write(int partition,
+                                         FSDataOutputStream segmentOut
+                                         ) throws IOException,
+                                                  InterruptedException,
+                                                  ClassNotFoundException {
+                  final int spstart = partitionStarts[partition];
+                  final int spend = partitionStarts[partition + 1];
+                  SpillContext context = spillContexts.take();
+                  try {
+                    if (spend - spstart > 1) {
+                      sorter.sort(context, spstart, spend, reporter);
+                    }
+                    return writeSegment(segmentOut, spstart, spend,
+                                        context.combinerRunner,
+                                        context.combineCollector);
+                  } finally {
+                    spillContexts.add(context);
+                  }
+                }
+
+                public long getLength(int partition) {
+                  long length = 0;
+                  for (int i = partitionStarts[partition];
+                       i < partitionStarts[partition + 1]; ++i) {
+                    final int kvoff = kvoffsets[i % kvoffsets.length];
+                    length += kvindices[kvoff + VALSTART] -
+                              kvindices[kvoff + KEYSTART] +
+                              getValueLength(kvoff);
+                  }
+                  return length;
+                }
+              }, out, spillRec);
         }
 
         if (totalIndexCacheMemory >= INDEX_CACHE_MEMORY_LIMIT) {
@@ -1431,6 +1557,88 @@ class MapTask extends Task {
       }
     }
     
+    /**
+     * Order the records [start, end) of a spill by partition, keeping their
+     * order within each partition.
+     * @return the logical index of the first record of each partition,
+     *         followed by end
+     */
+    private int[] groupByPartition(int start, int end) {
+      final int[] starts = new int[partitions + 1];
+      for (int i = start; i < end; ++i) {
+        ++starts[kvindices[kvoffsets[i % kvoffsets.length] + PARTITION] + 1];
+      }
+      starts[0] = start;
+      for (int i = 0; i < partitions; ++i) {
+        starts[i + 1] += starts[i];
+      }
+      final int[] next = new int[partitions];
+      for (int i = 0; i < partitions; ++i) {
+        next[i] = starts[i] - start;
+      }
+      final int[] grouped = new int[end - start];
+      for (int i = start; i < end; ++i) {
+        final int kvoff = kvoffsets[i % kvoffsets.length];
+        grouped[next[kvindices[kvoff + PARTITION]]++] = kvoff;
+      }
+      for (int i = start; i < end; ++i) {
+        kvoffsets[i % kvoffsets.length] = grouped[i - start];
+      }
+      return starts;
+    }
+
+    /**
+     * Write the sorted records [spstart, spend) of a partition to the
+     * stream as one IFile segment, through the combiner if there is one.
+     * @return the index record of the segment
+     */
+    private IndexRecord writeSegment(FSDataOutputStream out,
+                                     int spstart, int spend,
+                                     CombinerRunner<K,V> combiner,
+                                     CombineOutputCollector<K,V> collector
+                                     ) throws IOException,
+                                              InterruptedException,
+                                              ClassNotFoundException {
+      IFile.Writer<K, V> writer = null;
+      try {
+        long segmentStart = out.getPos();
+        writer = new Writer<K, V>(job, out, keyClass, valClass, codec,
+                                  spilledRecordsCounter);
+        if (combiner == null) {
+          // spill directly
+          DataInputBuffer key = new DataInputBuffer();
+          InMemValBytes value = new InMemValBytes();
+          for (int spindex = spstart; spindex < spend; ++spindex) {
+            final int kvoff = kvoffsets[spindex % kvoffsets.length];
+            getVBytesForOffset(kvoff, value);
+            key.reset(kvbuffer, kvindices[kvoff + KEYSTART],
+                      (kvindices[kvoff + VALSTART] - 
+                       kvindices[kvoff + KEYSTART]));
+            writer.append(key, value);
+          }
+        } else if (spstart != spend) {
+          // Note: we would like to avoid the combiner if we've fewer
+          // than some threshold of records for a partition
+          collector.setWriter(writer);
+          RawKeyValueIterator kvIter = new MRResultIterator(spstart, spend);
+          combiner.combine(kvIter, collector);
+        }
+
+        // close the writer
+        writer.close();
+
+        // record offsets
+        IndexRecord rec = new IndexRecord();
+        rec.startOffset = segmentStart;
+        rec.rawLength = writer.getRawLength();
+        rec.partLength = writer.getCompressedLength();
+        writer = null;
+        return rec;
+      } finally {
+        if (null != writer) writer.close();
+      }
+    }
+
     /**
      * Handles the degenerate case where serialization fails to fit in
      * the in-memory buffer, so we must spill the record from collect
@@ -1511,14 +1719,22 @@ class MapTask extends Task {
      * deserialized value bytes. Should only be called during a spill.
      */
     private void getVBytesForOffset(int kvoff, InMemValBytes vbytes) {
+      vbytes.reset(kvbuffer, kvindices[kvoff + VALSTART],
+                   getValueLength(kvoff));
+    }
+
+    /**
+     * Given an offset, return the length of the associated value bytes.
+     * Should only be called during a spill.
+     */
+    private int getValueLength(int kvoff) {
       final int nextindex = (kvoff / ACCTSIZE ==
                             (kvend - 1 + kvoffsets.length) % kvoffsets.length)
         ? bufend
         : kvindices[(kvoff + ACCTSIZE + KEYSTART) % kvindices.length];
-      int vallen = (nextindex >= kvindices[kvoff + VALSTART])
+      return (nextindex >= kvindices[kvoff + VALSTART])
         ? nextindex - kvindices[kvoff + VALSTART]
         : (bufvoid - kvindices[kvoff + VALSTART]) + nextindex;
-      vbytes.reset(kvbuffer, kvindices[kvoff + VALSTART], vallen);
     }
 
     /**
@@ -300,11 +300,11 @@ class MemoryBlockAllocator {
     return ret;
   }
   
-  public void incAllocatedRecordMem(int size) {
+  public synchronized void incAllocatedRecordMem(int size) {
     this.allocatedRecordMem +=size;
   }
   
-  public void decAllocatedRecordMem(int size) {
+  public synchronized void decAllocatedRecordMem(int size) {
     this.allocatedRecordMem -=size;
   }
   
@@ -354,7 +354,7 @@ class MemoryBlockAllocator {
     return newSize;
   }
 
-  public void finishMemoryBlock(MemoryBlock memoryBlock) {
+  public synchronized void finishMemoryBlock(MemoryBlock memoryBlock) {
     int currentPtr = memoryBlock.getValid();
     if (currentPtr > maxMemoryBlockLength) {
       maxMemoryBlockLength = currentPtr;
@@ -368,7 +368,7 @@ class MemoryBlockAllocator {
     totalCollectedRecNum = newCollectedRecordsNum;
   }
   
-  public void freeMemoryBlock(MemoryBlock memoryBlock) {
+  public synchronized void freeMemoryBlock(MemoryBlock memoryBlock) {
     memBlockStore.addMemoryBlock(memoryBlock);
     consumedBufferMem -= memoryBlock.getSize();
   }
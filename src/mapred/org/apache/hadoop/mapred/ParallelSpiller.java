@@ -0,0 +1,207 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.mapred;
+
+import java.io.IOException;
+import java.util.LinkedList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.io.DataOutputBuffer;
+
+/**
+ * Writes the partitions of a map output spill with a pool of threads.
+ *
+ * The partitions are split into ranges of consecutive partitions. A thread
+ * sorts, combines and compresses the partitions of a range into a buffer
+ * of its own, and the buffers are appended to the spill file in partition
+ * order, so the spill file and its {@link SpillRecord} look the same as
+ * when a single thread writes them. At most one range per thread is
+ * buffered at a time besides the one being appended.
+ *
+ * A range whose records take more than the buffer limit is not buffered.
+ * The spilling thread writes it straight to the spill file when its turn
+ * comes, as a single thread would.
+ */
+class ParallelSpiller {
+
+  /** Writes the IFile segment of one partition */
+  interface PartitionWriter {
+    /**
+     * Write the records of a partition to the stream as one IFile segment.
+     * Called from several threads at once for different partitions.
+     * @return the index record of the segment, with offsets in the stream
+     */
+    IndexRecord write(int partition, FSDataOutputStream out)
+        throws IOException, InterruptedException, ClassNotFoundException;
+
+    /**
+     * @return the bytes the records of a partition take before they are
+     *         written. Called for all the partitions before any is written.
+     */
+    long getLength(int partition);
+  }
+
+  /** Ranges per thread, to even out partitions of different sizes */
+  private static final int RANGES_PER_THREAD = 4;
+
+  private final int numThreads;
+  private final long bufferLimit;
+  private final ExecutorService pool;
+
+  /**
+   * @param numThreads the number of threads writing partitions
+   * @param bufferLimit the most bytes of records of a range to buffer
+   * @param name the prefix of the names of the threads
+   */
+  ParallelSpiller(int numThreads, long bufferLimit, final String name) {
+    this.numThreads = numThreads;
+    this.bufferLimit = bufferLimit;
+    this.pool = Executors.newFixedThreadPool(numThreads, new ThreadFactory() {
+      private int count = 0;
+
+      public synchronized Thread newThread(Runnable r) {
+        Thread t = new Thread(r, name + "-" + count++);
+        t.setDaemon(true);
+        return t;
+      }
+    });
+  }
+
+  /** The segments of a range of partitions */
+  private static class Range implements Callable<Range> {
+    private final int start;
+    private final int end;
+    private final PartitionWriter writer;
+    private final DataOutputBuffer buffer = new DataOutputBuffer();
+    private final IndexRecord[] records;
+    private long length = 0;
+
+    Range(int start, int end, PartitionWriter writer) {
+      this.start = start;
+      this.end = end;
+      this.writer = writer;
+      this.records = new IndexRecord[end - start];
+      for (int i = start; i < end; i++) {
+        length += writer.getLength(i);
+      }
+    }
+
+    /** Write the segments to the buffer */
+    public Range call() throws Exception {
+      FSDataOutputStream out = new FSDataOutputStream(buffer, null);
+      write(out);
+      out.flush();
+      return this;
+    }
+
+    /** Write the segments to the stream */
+    void write(FSDataOutputStream out)
+        throws IOException, InterruptedException, ClassNotFoundException {
+      for (int i = start; i < end; i++) {
+        records[i - start] = writer.write(i, out);
+      }
+    }
+  }
+
+  /**
+   * Write all partitions to the spill file, and their index records to
+   * the spill record.
+   * @return the number of bytes written
+   */
+  long spill(int partitions, PartitionWriter writer, FSDataOutputStream out,
+             SpillRecord spillRec)
+      throws IOException, InterruptedException, ClassNotFoundException {
+    final int numRanges = Math.min(partitions, numThreads * RANGES_PER_THREAD);
+    Range[] ranges = new Range[numRanges];
+    for (int r = 0; r < numRanges; r++) {
+      ranges[r] = new Range((int)((long)r * partitions / numRanges),
+                            (int)((long)(r + 1) * partitions / numRanges),
+                            writer);
+    }
+    // the ranges being buffered, and null for those too large to buffer
+    LinkedList<Future<Range>> pending = new LinkedList<Future<Range>>();
+    long spillBytes = 0;
+    int next = 0;
+    try {
+      for (int r = 0; r < numRanges; r++) {
+        while (next < numRanges && next - r < numThreads) {
+          pending.add(ranges[next].length > bufferLimit
+                      ? null : pool.submit(ranges[next]));
+          next++;
+        }
+        Future<Range> future = pending.removeFirst();
+        Range range = ranges[r];
+        ranges[r] = null;  // let go of the buffer once it is appended
+        long base = 0;
+        if (future == null) {
+          range.write(out);
+        } else {
+          get(future);
+          base = out.getPos();
+          out.write(range.buffer.getData(), 0, range.buffer.getLength());
+        }
+        for (int i = range.start; i < range.end; i++) {
+          IndexRecord rec = range.records[i - range.start];
+          rec.startOffset += base;
+          spillBytes += rec.partLength;
+          spillRec.putIndex(rec, i);
+        }
+      }
+    } finally {
+      for (Future<Range> f : pending) {
+        if (f != null) {
+          f.cancel(true);
+        }
+      }
+    }
+    return spillBytes;
+  }
+
+  /** Wait for a range, and rethrow what failed it */
+  private static Range get(Future<Range> future)
+      throws IOException, InterruptedException, ClassNotFoundException {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException)cause;
+      } else if (cause instanceof InterruptedException) {
+        throw (InterruptedException)cause;
+      } else if (cause instanceof ClassNotFoundException) {
+        throw (ClassNotFoundException)cause;
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException)cause;
+      } else if (cause instanceof Error) {
+        throw (Error)cause;
+      }
+      throw (IOException)new IOException("Spill failed").initCause(cause);
+    }
+  }
+
+  /** Stop the threads */
+  void close() {
+    pool.shutdownNow();
+  }
+}
@@ -18,14 +18,18 @@
 
 package org.apache.hadoop.mapred;
 
+import java.io.BufferedInputStream;
 import java.io.DataInput;
+import java.io.DataInputStream;
 import java.io.DataOutput;
 import java.io.File;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.Math;
 import java.net.HttpURLConnection;
+import java.nio.ByteBuffer;
 import java.net.UnknownHostException;
 import java.net.URI;
 import java.net.URL;
@@ -646,6 +650,68 @@ class ReduceTask extends Task {
     OTHER_ERROR
   };
 
+  /**
+   * The part of a stream holding one map output of a batched response.
+   * Closing it skips the rest of the map output, but leaves the stream
+   * open for the map outputs that follow.
+   */
+  private static class SegmentInputStream extends FilterInputStream {
+    private long remaining;
+
+    SegmentInputStream(InputStream in, long length) {
+      super(in);
+      this.remaining = length;
+    }
+
+    @Override
+    public int read() throws IOException {
+      if (remaining <= 0) {
+        return -1;
+      }
+      int b = in.read();
+      if (b >= 0) {
+        remaining--;
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (remaining <= 0) {
+        return -1;
+      }
+      int n = in.read(b, off, (int)Math.min(len, remaining));
+      if (n > 0) {
+        remaining -= n;
+      }
+      return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      long skipped = in.skip(Math.min(n, remaining));
+      remaining -= skipped;
+      return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+      return (int)Math.min(in.available(), remaining);
+    }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+      byte[] buf = new byte[4096];
+      while (remaining > 0 && read(buf, 0, buf.length) >= 0) {
+      }
+    }
+  }
+
   class ReduceCopier<K, V> implements MRConstants {
 
     /** Reference to the umbilical object */
@@ -686,6 +752,11 @@ class ReduceTask extends Task {
      */
     private int maxInFlight;
 
+    /**
+     *  the maximum number of map outputs fetched from a host in one request
+     */
+    private int maxFetchBatch;
+
 
     /**
      * busy hosts from which copies are being backed off
@@ -704,6 +775,15 @@ class ReduceTask extends Task {
 
     private ShuffleRamManager ramManager;
 
+    /**
+     * The direct buffers holding the map outputs shuffled into memory, when
+     * they are kept off the java heap.
+     */
+    private DirectBufferPool directBuffers;
+
+    /** The size of the direct buffers holding map outputs */
+    private static final int DIRECT_BUFFER_SIZE = 64 * 1024;
+
     /**
      * A reference to the local file system for writing the map outputs to.
      */
@@ -957,7 +1037,7 @@ class ReduceTask extends Task {
     }
 
     /** Represents the result of an attempt to copy a map output */
-    private class CopyResult {
+    class CopyResult {
 
       // the map output location against which a copy attempt was made
       private final MapOutputLocation loc;
@@ -968,6 +1048,10 @@ class ReduceTask extends Task {
       //a flag signifying whether a copy result is obsolete
       private static final int OBSOLETE = -2;
 
+      //a flag signifying that the output was not fetched because the request
+      //for a batch of map outputs failed before reaching it
+      private static final int UNFETCHED = -3;
+
       private CopyOutputErrorType error = CopyOutputErrorType.NO_ERROR;
       CopyResult(MapOutputLocation loc, long size) {
         this.loc = loc;
@@ -984,6 +1068,9 @@ class ReduceTask extends Task {
       public boolean isObsolete() {
         return size == OBSOLETE;
       }
+      public boolean isUnfetched() {
+        return size == UNFETCHED;
+      }
       public long getSize() { return size; }
       public String getHost() { return loc.getHost(); }
       public MapOutputLocation getLocation() { return loc; }
@@ -996,7 +1083,7 @@ class ReduceTask extends Task {
     /**
      * Abstraction to track a map-output.
      */
-    private class MapOutputLocation {
+    class MapOutputLocation {
       TaskAttemptID taskAttemptId;
       TaskID taskId;
       String ttHost;
@@ -1036,6 +1123,8 @@ class ReduceTask extends Task {
       final Configuration conf;
 
       byte[] data;
+      ByteBuffer[] buffers;
+      final int dataLength;
       final boolean inMemory;
       long compressedSize;
 
@@ -1049,6 +1138,7 @@ class ReduceTask extends Task {
         this.compressedSize = size;
 
         this.data = null;
+        this.dataLength = 0;
 
         this.inMemory = false;
       }
@@ -1061,6 +1151,23 @@ class ReduceTask extends Task {
         this.conf = null;
 
         this.data = data;
+        this.dataLength = data.length;
+        this.compressedSize = compressedLength;
+
+        this.inMemory = true;
+      }
+
+      public MapOutput(TaskID mapId, TaskAttemptID mapAttemptId,
+                       ByteBuffer[] buffers, int length,
+                       int compressedLength) {
+        this.mapId = mapId;
+        this.mapAttemptId = mapAttemptId;
+
+        this.file = null;
+        this.conf = null;
+
+        this.buffers = buffers;
+        this.dataLength = length;
         this.compressedSize = compressedLength;
 
         this.inMemory = true;
@@ -1069,6 +1176,10 @@ class ReduceTask extends Task {
       public void discard() throws IOException {
         if (inMemory) {
           data = null;
+          if (buffers != null) {
+            directBuffers.release(buffers);
+            buffers = null;
+          }
         } else {
           FileSystem fs = file.getFileSystem(conf);
           fs.delete(file, true);
@@ -1104,18 +1215,36 @@ class ReduceTask extends Task {
           throw new IOException("mapred.job.shuffle.input.buffer.percent" +
                                 maxInMemCopyUse);
         }
-        maxSize = (long)Math.min(
-            Runtime.getRuntime().maxMemory() * maxInMemCopyUse,
-            Integer.MAX_VALUE);
+        if (directBuffers != null) {
+          maxSize =
+            conf.getLong("mapred.job.shuffle.input.buffer.direct.mb", 512)
+            << 20;
+        } else {
+          maxSize = (long)Math.min(
+              Runtime.getRuntime().maxMemory() * maxInMemCopyUse,
+              Integer.MAX_VALUE);
+        }
         maxSingleShuffleLimit = (long)(maxSize * MAX_SINGLE_SHUFFLE_SEGMENT_FRACTION);
         LOG.info("ShuffleRamManager: MemoryLimit=" + maxSize +
-                 ", MaxSingleShuffleLimit=" + maxSingleShuffleLimit);
+                 ", MaxSingleShuffleLimit=" + maxSingleShuffleLimit +
+                 (directBuffers != null ? ", off-heap" : ""));
+      }
+
+      /**
+       * @return the memory taken by a map output of the given size, which
+       *         is a whole number of buffers when it is off the heap
+       */
+      private long getMemorySize(long requestedSize) {
+        return directBuffers == null
+          ? requestedSize
+          : directBuffers.getCapacity(requestedSize);
       }
 
       public synchronized boolean reserve(int requestedSize, InputStream in)
       throws InterruptedException {
+        long memorySize = getMemorySize(requestedSize);
         // Wait till the request can be fulfilled...
-        while ((size + requestedSize) > maxSize) {
+        while ((size + memorySize) > maxSize) {
 
           // Close the input...
           if (in != null) {
@@ -1143,16 +1272,30 @@ class ReduceTask extends Task {
           }
         }
 
-        size += requestedSize;
+        size += memorySize;
 
         return (in != null);
       }
 
+      /**
+       * Reserve memory only if it is available right away.
+       * @return true if the memory was reserved
+       */
+      public synchronized boolean tryReserve(int requestedSize) {
+        long memorySize = getMemorySize(requestedSize);
+        if ((size + memorySize) > maxSize) {
+          return false;
+        }
+        size += memorySize;
+        return true;
+      }
+
       public synchronized void unreserve(int requestedSize) {
-        size -= requestedSize;
+        long memorySize = getMemorySize(requestedSize);
+        size -= memorySize;
 
         synchronized (dataAvailable) {
-          fullSize -= requestedSize;
+          fullSize -= memorySize;
           --numClosed;
         }
 
@@ -1194,7 +1337,7 @@ class ReduceTask extends Task {
 
       public void closeInMemoryFile(int requestedSize) {
         synchronized (dataAvailable) {
-          fullSize += requestedSize;
+          fullSize += getMemorySize(requestedSize);
           ++numClosed;
           dataAvailable.notify();
         }
@@ -1221,12 +1364,12 @@ class ReduceTask extends Task {
 
       boolean canFitInMemory(long requestedSize) {
         return (requestedSize < Integer.MAX_VALUE &&
-                requestedSize < maxSingleShuffleLimit);
+                getMemorySize(requestedSize) < maxSingleShuffleLimit);
       }
     }
 
     /** Copies map outputs as they become available */
-    private class MapOutputCopier extends Thread {
+    class MapOutputCopier extends Thread {
       // basic/unit connection timeout (in milliseconds)
       private final static int UNIT_CONNECT_TIMEOUT = 30 * 1000;
       private final static int UNIT_DNS_RETRY_WAIT = 1000;
@@ -1297,14 +1440,41 @@ class ReduceTask extends Task {
       private synchronized void finish(long size, CopyOutputErrorType error) {
         if (currentLocation != null) {
           LOG.debug(getName() + " finishing " + currentLocation + " =" + size);
-          synchronized (copyResults) {
-            copyResults.add(new CopyResult(currentLocation, size, error));
-            copyResults.notify();
-          }
+          report(currentLocation, size, error);
           currentLocation = null;
         }
       }
 
+      private void report(MapOutputLocation loc, long size,
+                          CopyOutputErrorType error) {
+        synchronized (copyResults) {
+          copyResults.add(new CopyResult(loc, size, error));
+          copyResults.notify();
+        }
+      }
+
+      /**
+       * Take more of the scheduled outputs of the host of the given location,
+       * to fetch them in one request. Called with scheduledCopies locked.
+       * @return the batch, or null if there is only the given location
+       */
+      private List<MapOutputLocation> takeBatch(MapOutputLocation loc) {
+        if (maxFetchBatch <= 1) {
+          return null;
+        }
+        List<MapOutputLocation> batch = new ArrayList<MapOutputLocation>();
+        batch.add(loc);
+        Iterator<MapOutputLocation> it = scheduledCopies.iterator();
+        while (it.hasNext() && batch.size() < maxFetchBatch) {
+          MapOutputLocation next = it.next();
+          if (next.getHost().equals(loc.getHost())) {
+            batch.add(next);
+            it.remove();
+          }
+        }
+        return batch.size() > 1 ? batch : null;
+      }
+
       /** Loop forever and fetch map outputs as they become available.
        * The thread exits when it is interrupted by {@link ReduceTaskRunner}
        */
@@ -1313,6 +1483,7 @@ class ReduceTask extends Task {
         while (!shutdown) {
           try {
             MapOutputLocation loc = null;
+            List<MapOutputLocation> batch = null;
             long size = -1;
 
             synchronized (scheduledCopies) {
@@ -1320,6 +1491,11 @@ class ReduceTask extends Task {
                 scheduledCopies.wait();
               }
               loc = scheduledCopies.remove(0);
+              batch = takeBatch(loc);
+            }
+            if (batch != null) {
+              copyOutputs(batch);
+              continue;
             }
             CopyOutputErrorType error = CopyOutputErrorType.OTHER_ERROR;
             readError = false;
@@ -1385,11 +1561,7 @@ class ReduceTask extends Task {
         // else, we will check the localFS to find a suitable final location
         // for this path
         TaskAttemptID reduceId = reduceTask.getTaskID();
-        Path filename = new Path("/" + TaskTracker.getIntermediateOutputDir(
-                                 reduceId.getJobID().toString(),
-                                 reduceId.toString())
-                                 + "/map_" +
-                                 loc.getTaskId().getId() + ".out");
+        Path filename = getMapOutputFilename(loc);
 
         // Copy the map output to a temp file whose name is unique to this attempt
         Path tmpMapOutput = new Path(filename+"-"+id);
@@ -1402,13 +1574,215 @@ class ReduceTask extends Task {
                                 loc.getTaskAttemptId() + " from " +
                                 loc.getHost());
         }
+        return commitMapOutput(loc, null, mapOutput, filename);
+      }
+
+      /**
+       * Copies the outputs of several maps on one host via one HTTP request,
+       * and reports a copy result for each of them. When the request fails,
+       * the copy of the map output being read fails, and the map outputs
+       * after it are fetched again later. The tasktracker may send the
+       * outputs of a group of maps merged into one; they are kept together
+       * or not at all.
+       */
+      void copyOutputs(List<MapOutputLocation> locs)
+      throws InterruptedException {
+        // check which outputs we still need to copy
+        List<MapOutputLocation> needed = new ArrayList<MapOutputLocation>();
+        StringBuilder mapIds = new StringBuilder();
+        for (MapOutputLocation loc : locs) {
+          if (copiedMapOutputs.contains(loc.getTaskId()) ||
+              obsoleteMapIds.contains(loc.getTaskAttemptId())) {
+            report(loc, CopyResult.OBSOLETE, CopyOutputErrorType.NO_ERROR);
+          } else {
+            if (!needed.isEmpty()) {
+              mapIds.append(',');
+            }
+            mapIds.append(loc.getTaskAttemptId());
+            needed.add(loc);
+          }
+        }
+        if (needed.isEmpty()) {
+          return;
+        }
+
+        int reduce = reduceTask.getPartition();
+        int next = 0;
+        // the maps whose outputs are yet to come merged into the output
+        // following the header of another map
+        Map<String, List<MapOutputLocation>> merged =
+          new HashMap<String, List<MapOutputLocation>>();
+        readError = false;
+        shuffleClientMetrics.threadBusy();
+        try {
+          start(needed.get(0));
+          URL first = needed.get(0).getOutputLocation();
+          URL url = new URL(first.getProtocol(), first.getHost(),
+                            first.getPort(), first.getPath() +
+                            "?job=" + reduceTask.getJobID() +
+                            "&map=" + mapIds + "&reduce=" + reduce);
+          URLConnection connection = url.openConnection();
+          InputStream input = getInputStream(connection,
+              shuffleConnectionTimeout, shuffleReadTimeout);
+          String numOutputs = connection.getHeaderField(MAP_OUTPUT_BATCH);
+          if (numOutputs == null ||
+              Integer.parseInt(numOutputs) != needed.size()) {
+            throw new IOException("Not a response for " + needed.size() +
+                                  " map outputs from " + url);
+          }
+          DataInputStream in = new DataInputStream(
+              new BufferedInputStream(input, 64 * 1024));
+          ShuffleHeader header = new ShuffleHeader();
+          for (; next < needed.size(); next++) {
+            MapOutputLocation loc = needed.get(next);
+            start(loc);
+            header.readFields(in);
+            if (!loc.getTaskAttemptId().toString().equals(header.mapId) ||
+                header.forReduce != reduce) {
+              throw new IOException("data from " + header.mapId +
+                  " for reduce " + header.forReduce + " arrived to reduce " +
+                  "task " + reduce + ", where as expected map output " +
+                  "should be from " + loc.getTaskAttemptId());
+            }
+            if (header.isMerged()) {
+              List<MapOutputLocation> group = merged.get(header.mergedInto);
+              if (group == null) {
+                group = new ArrayList<MapOutputLocation>();
+                merged.put(header.mergedInto, group);
+              }
+              group.add(loc);
+              continue;
+            }
+            String mapId = header.mapId;
+            List<MapOutputLocation> group = merged.get(mapId);
+            if (header.isMissing()) {
+              LOG.warn(reduceTask.getTaskID() + " copy failed: " +
+                       loc.getTaskAttemptId() + " not available on " +
+                       loc.getHost());
+              shuffleClientMetrics.failedFetch();
+              finish(-1, CopyOutputErrorType.OTHER_ERROR);
+              reportUnfetched(merged.remove(mapId));
+              continue;
+            }
+            long size = copyOutput(loc, in, header, group);
+            merged.remove(mapId);
+            if (size == CopyResult.OBSOLETE && group != null) {
+              // a map of the group was copied meanwhile, so copy the others
+              // one by one
+              finish(CopyResult.UNFETCHED, CopyOutputErrorType.NO_ERROR);
+              reportUnfetched(group);
+              continue;
+            }
+            shuffleClientMetrics.successFetch();
+            finish(size, CopyOutputErrorType.NO_ERROR);
+            if (group != null) {
+              for (MapOutputLocation m : group) {
+                report(m, 0, CopyOutputErrorType.NO_ERROR);
+              }
+            }
+          }
+          in.close();
+          for (List<MapOutputLocation> group : merged.values()) {
+            LOG.warn("No map output for " + group.size() + " map outputs " +
+                     "merged away from " + needed.get(0).getHost());
+            reportUnfetched(group);
+          }
+        } catch (IOException e) {
+          LOG.warn(reduceTask.getTaskID() + " copy failed: " +
+                   (next < needed.size()
+                    ? needed.get(next).getTaskAttemptId() : mapIds) +
+                   " from " + needed.get(0).getHost(), e);
+          shuffleClientMetrics.failedFetch();
+          finish(-1, readError ? CopyOutputErrorType.READ_ERROR
+                               : CopyOutputErrorType.OTHER_ERROR);
+          for (List<MapOutputLocation> group : merged.values()) {
+            reportUnfetched(group);
+          }
+          reportUnfetched(needed.subList(Math.min(next + 1, needed.size()),
+                                         needed.size()));
+        } finally {
+          shuffleClientMetrics.threadFree();
+        }
+      }
+
+      private void reportUnfetched(List<MapOutputLocation> locs) {
+        if (locs != null) {
+          for (MapOutputLocation loc : locs) {
+            report(loc, CopyResult.UNFETCHED, CopyOutputErrorType.NO_ERROR);
+          }
+        }
+      }
+
+      /**
+       * Copies one map output of a batched response.
+       * @param input the response, positioned after the header of the map
+       * @param header the header of the map output
+       * @param merged the other maps whose outputs are merged into it, if any
+       * @return the size of the map output
+       */
+      private long copyOutput(MapOutputLocation loc, InputStream input,
+                              ShuffleHeader header,
+                              List<MapOutputLocation> merged
+                              ) throws IOException, InterruptedException {
+        Path filename = getMapOutputFilename(loc);
+        Path tmpMapOutput = new Path(filename+"-"+id);
+        InputStream segment =
+          new SegmentInputStream(input, header.compressedLength);
+
+        // shuffle to disk rather than wait for memory, since the outputs
+        // after this one are waiting on the same connection
+        MapOutput mapOutput;
+        if (ramManager.canFitInMemory(header.uncompressedLength) &&
+            ramManager.tryReserve((int)header.uncompressedLength)) {
+          LOG.info("Shuffling " + header.uncompressedLength + " bytes (" +
+              header.compressedLength + " raw bytes) " +
+              "into RAM from " + loc.getTaskAttemptId());
+          mapOutput = shuffleInMemory(loc, segment,
+                                      (int)header.uncompressedLength,
+                                      (int)header.compressedLength);
+        } else {
+          LOG.info("Shuffling " + header.uncompressedLength + " bytes (" +
+              header.compressedLength + " raw bytes) " +
+              "into Local-FS from " + loc.getTaskAttemptId());
+          mapOutput = shuffleToDisk(loc, segment, tmpMapOutput,
+                                    header.compressedLength);
+        }
+        return commitMapOutput(loc, merged, mapOutput, filename);
+      }
+
+      /** @return the local file name for the output of a map */
+      private Path getMapOutputFilename(MapOutputLocation loc) {
+        TaskAttemptID reduceId = reduceTask.getTaskID();
+        return new Path("/" + TaskTracker.getIntermediateOutputDir(
+                        reduceId.getJobID().toString(),
+                        reduceId.toString())
+                        + "/map_" +
+                        loc.getTaskId().getId() + ".out");
+      }
+
+      /**
+       * Keep a copied map output, unless the map was copied meanwhile.
+       * @param merged the other maps whose outputs are merged into it, if any
+       * @return the size of the map output
+       */
+      private long commitMapOutput(MapOutputLocation loc,
+                                   List<MapOutputLocation> merged,
+                                   MapOutput mapOutput,
+                                   Path filename) throws IOException {
+        Path tmpMapOutput;
 
         // The size of the map-output
         long bytes = mapOutput.compressedSize;
 
         // lock the ReduceTask while we do the rename
         synchronized (ReduceTask.this) {
-          if (copiedMapOutputs.contains(loc.getTaskId())) {
+          boolean copied = copiedMapOutputs.contains(loc.getTaskId());
+          if (merged != null) {
+            for (MapOutputLocation m : merged) {
+              copied |= copiedMapOutputs.contains(m.getTaskId());
+            }
+          }
+          if (copied) {
             mapOutput.discard();
             return CopyResult.OBSOLETE;
           }
@@ -1422,7 +1796,7 @@ class ReduceTask extends Task {
             }
 
             // Note that we successfully copied the map-output
-            noteCopiedMapOutput(loc.getTaskId());
+            noteCopiedMapOutputs(loc, merged);
 
             return bytes;
           }
@@ -1449,7 +1823,7 @@ class ReduceTask extends Task {
           }
 
           // Note that we successfully copied the map-output
-          noteCopiedMapOutput(loc.getTaskId());
+          noteCopiedMapOutputs(loc, merged);
         }
 
         return bytes;
@@ -1466,6 +1840,16 @@ class ReduceTask extends Task {
         ramManager.setNumCopiedMapOutputs(numMaps - getNumMapsCopyCompleted());
       }
 
+      private void noteCopiedMapOutputs(MapOutputLocation loc,
+                                        List<MapOutputLocation> merged) {
+        noteCopiedMapOutput(loc.getTaskId());
+        if (merged != null) {
+          for (MapOutputLocation m : merged) {
+            noteCopiedMapOutput(m.getTaskId());
+          }
+        }
+      }
+
       /**
        * Get the map output into a local file (either in the inmemory fs or on the
        * local fs) from the remote server.
@@ -1544,7 +1928,30 @@ class ReduceTask extends Task {
               compressedLength + " raw bytes) " +
               "into RAM from " + mapOutputLoc.getTaskAttemptId());
 
-          mapOutput = shuffleInMemory(mapOutputLoc, connection, input,
+          // Reserve ram for the map-output
+          boolean createdNow =
+            ramManager.reserve((int)decompressedLength, input);
+
+          // Reconnect if we need to
+          if (!createdNow) {
+            // Reconnect
+            try {
+              input = getInputStream(
+                  mapOutputLoc.getOutputLocation().openConnection(),
+                  shuffleConnectionTimeout, shuffleReadTimeout);
+            } catch (IOException ioe) {
+              LOG.info("Failed reopen connection to fetch map-output from " +
+                       mapOutputLoc.getHost(), ioe);
+
+              // Inform the ram-manager
+              ramManager.closeInMemoryFile((int)decompressedLength);
+              ramManager.unreserve((int)decompressedLength);
+
+              throw ioe;
+            }
+          }
+
+          mapOutput = shuffleInMemory(mapOutputLoc, input,
                                       (int)decompressedLength,
                                       (int)compressedLength);
         } else {
@@ -1627,34 +2034,14 @@ class ReduceTask extends Task {
         }
       }
 
+      /**
+       * Copy a map output into memory reserved for it.
+       */
       private MapOutput shuffleInMemory(MapOutputLocation mapOutputLoc,
-                                        URLConnection connection,
                                         InputStream input,
                                         int mapOutputLength,
                                         int compressedLength)
       throws IOException, InterruptedException {
-        // Reserve ram for the map-output
-        boolean createdNow = ramManager.reserve(mapOutputLength, input);
-
-        // Reconnect if we need to
-        if (!createdNow) {
-          // Reconnect
-          try {
-            connection = mapOutputLoc.getOutputLocation().openConnection();
-            input = getInputStream(connection, shuffleConnectionTimeout,
-                                   shuffleReadTimeout);
-          } catch (IOException ioe) {
-            LOG.info("Failed reopen connection to fetch map-output from " +
-                     mapOutputLoc.getHost(), ioe);
-
-            // Inform the ram-manager
-            ramManager.closeInMemoryFile(mapOutputLength);
-            ramManager.unreserve(mapOutputLength);
-
-            throw ioe;
-          }
-        }
-
         IFileInputStream checksumIn =
           new IFileInputStream(input,compressedLength);
 
@@ -1666,35 +2053,55 @@ class ReduceTask extends Task {
           input = codec.createInputStream(input, decompressor);
         }
 
-        // Copy map-output into an in-memory buffer
-        byte[] shuffleData = new byte[mapOutputLength];
-        MapOutput mapOutput =
-          new MapOutput(mapOutputLoc.getTaskId(),
-                        mapOutputLoc.getTaskAttemptId(), shuffleData, compressedLength);
+        // Copy map-output into an in-memory buffer, or into direct buffers
+        // through a small one
+        byte[] shuffleData;
+        ByteBuffer[] shuffleBuffers = null;
+        MapOutput mapOutput;
+        if (directBuffers == null) {
+          shuffleData = new byte[mapOutputLength];
+          mapOutput = new MapOutput(mapOutputLoc.getTaskId(),
+                                    mapOutputLoc.getTaskAttemptId(),
+                                    shuffleData, compressedLength);
+        } else {
+          shuffleData = new byte[Math.min(mapOutputLength, DIRECT_BUFFER_SIZE)];
+          shuffleBuffers = directBuffers.get(mapOutputLength);
+          mapOutput = new MapOutput(mapOutputLoc.getTaskId(),
+                                    mapOutputLoc.getTaskAttemptId(),
+                                    shuffleBuffers, mapOutputLength,
+                                    compressedLength);
+        }
 
         int bytesRead = 0;
         try {
           int n = 0;
-          try {
-            n = input.read(shuffleData, 0, shuffleData.length);
-          } catch (Throwable t) {
-            // Catch and rethrow as IOE since decompressor can throw
-            // something else that IOException for corrupt map output
-            throw new IOException(t);
-          }
-          while (n > 0) {
-            bytesRead += n;
-            shuffleClientMetrics.inputBytes(n);
-
-            // indicate we're making progress
-            reporter.progress();
+          do {
             try {
-              n = input.read(shuffleData, bytesRead,
-                           (shuffleData.length-bytesRead));
+              if (shuffleBuffers == null) {
+                n = input.read(shuffleData, bytesRead,
+                               (shuffleData.length-bytesRead));
+              } else {
+                n = input.read(shuffleData, 0,
+                               Math.min(shuffleData.length,
+                                        mapOutputLength - bytesRead));
+                if (n > 0) {
+                  directBuffers.put(shuffleBuffers, bytesRead,
+                                    shuffleData, 0, n);
+                }
+              }
             } catch (Throwable t) {
+              // Catch and rethrow as IOE since decompressor can throw
+              // something else that IOException for corrupt map output
               throw new IOException(t);
             }
-          }
+            if (n > 0) {
+              bytesRead += n;
+              shuffleClientMetrics.inputBytes(n);
+
+              // indicate we're making progress
+              reporter.progress();
+            }
+          } while (n > 0);
 
           LOG.info("Read " + bytesRead + " bytes from map-output for " +
                    mapOutputLoc.getTaskAttemptId());
@@ -1753,8 +2160,15 @@ class ReduceTask extends Task {
 
         // TODO: Remove this after a 'fix' for HADOOP-3647
         if (mapOutputLength > 0) {
-          DataInputBuffer dib = new DataInputBuffer();
-          dib.reset(shuffleData, 0, shuffleData.length);
+          DataInput dib;
+          if (shuffleBuffers == null) {
+            DataInputBuffer buffer = new DataInputBuffer();
+            buffer.reset(shuffleData, 0, shuffleData.length);
+            dib = buffer;
+          } else {
+            dib = new DataInputStream(
+                directBuffers.getInputStream(shuffleBuffers, mapOutputLength));
+          }
           LOG.info("Rec #1 from " + mapOutputLoc.getTaskAttemptId() + " -> (" +
                    WritableUtils.readVInt(dib) + ", " +
                    WritableUtils.readVInt(dib) + ") from " +
@@ -1913,6 +2327,7 @@ class ReduceTask extends Task {
       this.copyResults = new ArrayList<CopyResult>(100);
       this.numCopiers = conf.getInt("mapred.reduce.parallel.copies", 5);
       this.maxInFlight = 4 * numCopiers;
+      this.maxFetchBatch = conf.getInt("mapred.reduce.shuffle.fetch.batch", 1);
       Counters.Counter combineInputCounter =
         reporter.getCounter(Task.Counter.COMBINE_INPUT_RECORDS);
       this.combinerRunner = CombinerRunner.create(conf, getTaskID(),
@@ -1945,6 +2360,9 @@ class ReduceTask extends Task {
           Runtime.getRuntime().maxMemory() * maxRedPer, Integer.MAX_VALUE);
 
       // Setup the RamManager
+      if (conf.getBoolean("mapred.job.shuffle.input.buffer.direct", false)) {
+        directBuffers = new DirectBufferPool(DIRECT_BUFFER_SIZE);
+      }
       ramManager = new ShuffleRamManager(conf);
 
       localFileSys = FileSystem.getLocal(conf);
@@ -2210,6 +2628,10 @@ class ReduceTask extends Task {
                        " Ignoring obsolete copy result for Map Task: " +
                        cr.getLocation().getTaskAttemptId() + " from host: " +
                        cr.getHost());
+            } else if (cr.isUnfetched()) {
+              // the fetch of another map output of the batch or merged
+              // group failed, and the host is penalized for that one
+              retryFetches.add(cr.getLocation());
             } else {
               retryFetches.add(cr.getLocation());
 
@@ -2384,15 +2806,20 @@ class ReduceTask extends Task {
         // closed but not yet present in mapOutputsFilesInMemory
         long fullSize = 0L;
         for (MapOutput mo : mapOutputsFilesInMemory) {
-          fullSize += mo.data.length;
+          fullSize += mo.dataLength;
         }
         while(fullSize > leaveBytes) {
           MapOutput mo = mapOutputsFilesInMemory.remove(0);
-          totalSize += mo.data.length;
-          fullSize -= mo.data.length;
-          Reader<K, V> reader =
-            new InMemoryReader<K, V>(ramManager, mo.mapAttemptId,
-                                     mo.data, 0, mo.data.length);
+          totalSize += mo.dataLength;
+          fullSize -= mo.dataLength;
+          Reader<K, V> reader;
+          if (mo.buffers != null) {
+            reader = new DirectBufferReader<K, V>(ramManager, directBuffers,
+                                                  mo.buffers, mo.dataLength);
+          } else {
+            reader = new InMemoryReader<K, V>(ramManager, mo.mapAttemptId,
+                                              mo.data, 0, mo.data.length);
+          }
           Segment<K, V> segment =
             new Segment<K, V>(reader, true);
           inMemorySegments.add(segment);
@@ -2552,7 +2979,7 @@ class ReduceTask extends Task {
       }
     }
 
-    private CopyResult getCopyResult(int numInFlight) {
+    CopyResult getCopyResult(int numInFlight) {
       synchronized (copyResults) {
         while (copyResults.isEmpty()) {
           try {
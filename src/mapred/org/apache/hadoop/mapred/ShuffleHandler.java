@@ -1,7 +1,10 @@
 package org.apache.hadoop.mapred;
 
 import static org.jboss.netty.buffer.ChannelBuffers.wrappedBuffer;
+import static org.jboss.netty.handler.codec.http.HttpHeaders.Names.CONNECTION;
+import static org.jboss.netty.handler.codec.http.HttpHeaders.Names.CONTENT_LENGTH;
 import static org.jboss.netty.handler.codec.http.HttpHeaders.Names.CONTENT_TYPE;
+import static org.jboss.netty.handler.codec.http.HttpHeaders.Values.KEEP_ALIVE;
 import static org.jboss.netty.handler.codec.http.HttpMethod.GET;
 import static org.jboss.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static org.jboss.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
@@ -48,6 +51,7 @@ import org.jboss.netty.channel.MessageEvent;
 import org.jboss.netty.channel.SimpleChannelUpstreamHandler;
 import org.jboss.netty.handler.codec.frame.TooLongFrameException;
 import org.jboss.netty.handler.codec.http.DefaultHttpResponse;
+import org.jboss.netty.handler.codec.http.HttpHeaders;
 import org.jboss.netty.handler.codec.http.HttpRequest;
 import org.jboss.netty.handler.codec.http.HttpResponse;
 import org.jboss.netty.handler.codec.http.HttpResponseStatus;
@@ -130,13 +134,13 @@ public class ShuffleHandler extends SimpleChannelUpstreamHandler {
       return;
     }
 
+    Channel ch = evt.getChannel();
     if (mapIds.size() > 1) {
-      throw new IllegalArgumentException(
-        "Doesn't support more than one map id.  Current requst is asking for "
-        + mapIds.size());
+      sendMapOutputs(ctx, ch, request, jobId,
+                     mapIds.toArray(new String[mapIds.size()]), reduceId);
+      return;
     }
 
-    Channel ch = evt.getChannel();
     // TODO refactor the following into the pipeline
     ChannelFuture lastMap = null;
     for (String mapId : mapIds) {
@@ -220,6 +224,108 @@ public class ShuffleHandler extends SimpleChannelUpstreamHandler {
     return writeFuture;
   }
 
+  /**
+   * Send the outputs of several maps for a reduce in one response, each
+   * preceded by a {@link ShuffleHeader}. The response has a length, so the
+   * connection is kept open for the next request if the reduce asks for it.
+   */
+  private void sendMapOutputs(ChannelHandlerContext ctx, Channel ch,
+      HttpRequest request, String jobId, String[] mapIds, int reduce)
+      throws IOException {
+    LocalDirAllocator lDirAlloc = attributes.getLocalDirAllocator();
+    TaskTracker tracker = attributes.getTaskTracker();
+    shuffleMetrics.batchRequest();
+
+    // look up all the indices first
+    String[] mergedInto = new String[mapIds.length];
+    String[] outputs = tracker.getMapOutputs(jobId, mapIds, mergedInto);
+    Path[] indexFileNames = new Path[mapIds.length];
+    Path[] mapOutputFileNames = new Path[mapIds.length];
+    for (int i = 0; i < mapIds.length; i++) {
+      if (outputs[i] == null) {
+        continue;
+      }
+      String dir = TaskTracker.getIntermediateOutputDir(jobId, outputs[i]);
+      try {
+        indexFileNames[i] = lDirAlloc.getLocalPathToRead(
+            dir + "/file.out.index", attributes.getJobConf());
+        mapOutputFileNames[i] = lDirAlloc.getLocalPathToRead(
+            dir + "/file.out", attributes.getJobConf());
+      } catch (IOException e) {
+        indexFileNames[i] = null;
+      }
+    }
+    IndexRecord[] infos =
+      tracker.getIndexInformation(outputs, reduce, indexFileNames);
+
+    // open the outputs and write the headers ahead to know the length of
+    // the response
+    RandomAccessFile[] spills = new RandomAccessFile[mapIds.length];
+    DataOutputBuffer headers = new DataOutputBuffer();
+    int[] headerEnds = new int[mapIds.length];
+    long contentLength = 0;
+    for (int i = 0; i < mapIds.length; i++) {
+      if (infos[i] != null) {
+        try {
+          spills[i] = new RandomAccessFile(
+              new File(mapOutputFileNames[i].toString()), "r");
+        } catch (FileNotFoundException e) {
+          LOG.info(mapOutputFileNames[i] + " not found");
+        }
+      }
+      ShuffleHeader header;
+      if (mergedInto[i] != null) {
+        header = ShuffleHeader.merged(mapIds[i], mergedInto[i], reduce);
+      } else if (spills[i] == null) {
+        LOG.warn("No map output of " + outputs[i] + " for reduce " + reduce);
+        if (!outputs[i].equals(mapIds[i])) {
+          tracker.mergedMapOutputLost(jobId, outputs[i]);
+        }
+        shuffleMetrics.failedOutput();
+        header = ShuffleHeader.missing(mapIds[i], reduce);
+      } else {
+        header = new ShuffleHeader(mapIds[i], infos[i].partLength,
+                                   infos[i].rawLength, reduce);
+        contentLength += infos[i].partLength;
+      }
+      header.write(headers);
+      headerEnds[i] = headers.getLength();
+    }
+    contentLength += headers.getLength();
+
+    boolean keepAlive = HttpHeaders.isKeepAlive(request);
+    HttpResponse response = new DefaultHttpResponse(HTTP_1_1, OK);
+    response.setHeader(MRConstants.MAP_OUTPUT_BATCH,
+        Integer.toString(mapIds.length));
+    response.setHeader(MRConstants.FOR_REDUCE_TASK, Integer.toString(reduce));
+    response.setHeader(CONTENT_LENGTH, Long.toString(contentLength));
+    if (keepAlive) {
+      response.setHeader(CONNECTION, KEEP_ALIVE);
+    }
+    ch.write(response);
+
+    ChannelFuture lastWrite = null;
+    for (int i = 0; i < mapIds.length; i++) {
+      int headerStart = i == 0 ? 0 : headerEnds[i - 1];
+      lastWrite = ch.write(wrappedBuffer(headers.getData(), headerStart,
+                                         headerEnds[i] - headerStart));
+      if (spills[i] == null) {
+        continue;
+      }
+      final FileRegion partition = new DefaultFileRegion(
+        spills[i].getChannel(), infos[i].startOffset, infos[i].partLength);
+      lastWrite = ch.write(partition);
+      lastWrite.addListener(new ChanneFutureListenerMetrics(partition));
+      shuffleMetrics.outputBytes(infos[i].partLength); // optimistic
+      LOG.info("Sending out " + infos[i].partLength + " bytes for reduce: " +
+               reduce + " from map: " + outputs[i] + " given " +
+               infos[i].partLength + "/" + infos[i].rawLength);
+    }
+    if (!keepAlive) {
+      lastWrite.addListener(ChannelFutureListener.CLOSE);
+    }
+  }
+
   /**
    * Handles the completion of the channel future operation.
    *
@@ -0,0 +1,91 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.mapred;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import org.apache.hadoop.io.Writable;
+import org.apache.hadoop.io.WritableUtils;
+
+/**
+ * Describes one map output in a response that carries the outputs of
+ * several maps for a reduce. Each header is followed by compressedLength
+ * bytes of map output. Negative lengths mean the output of the map could
+ * not be served, and no bytes follow. A header naming the map it is merged
+ * into means the output of the map is part of the output that follows the
+ * header of that map later in the response, and no bytes follow either.
+ */
+class ShuffleHeader implements Writable {
+  String mapId;
+  long uncompressedLength;
+  long compressedLength;
+  int forReduce;
+  String mergedInto;
+
+  ShuffleHeader() { }
+
+  ShuffleHeader(String mapId, long compressedLength,
+                long uncompressedLength, int forReduce) {
+    this.mapId = mapId;
+    this.compressedLength = compressedLength;
+    this.uncompressedLength = uncompressedLength;
+    this.forReduce = forReduce;
+  }
+
+  /** @return a header for a map whose output is not available */
+  static ShuffleHeader missing(String mapId, int forReduce) {
+    return new ShuffleHeader(mapId, -1, -1, forReduce);
+  }
+
+  /**
+   * @return a header for a map whose output is sent as part of the output
+   *         following the header of another map
+   */
+  static ShuffleHeader merged(String mapId, String mergedInto,
+                              int forReduce) {
+    ShuffleHeader header = new ShuffleHeader(mapId, 0, 0, forReduce);
+    header.mergedInto = mergedInto;
+    return header;
+  }
+
+  boolean isMissing() {
+    return compressedLength < 0 || uncompressedLength < 0;
+  }
+
+  boolean isMerged() {
+    return mergedInto != null;
+  }
+
+  public void write(DataOutput out) throws IOException {
+    WritableUtils.writeString(out, mapId);
+    WritableUtils.writeVLong(out, compressedLength);
+    WritableUtils.writeVLong(out, uncompressedLength);
+    WritableUtils.writeVInt(out, forReduce);
+    WritableUtils.writeString(out, mergedInto);
+  }
+
+  public void readFields(DataInput in) throws IOException {
+    mapId = WritableUtils.readString(in);
+    compressedLength = WritableUtils.readVLong(in);
+    uncompressedLength = WritableUtils.readVLong(in);
+    forReduce = WritableUtils.readVInt(in);
+    mergedInto = WritableUtils.readString(in);
+  }
+}
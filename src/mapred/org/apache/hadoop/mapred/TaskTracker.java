@@ -17,6 +17,7 @@
  */
 package org.apache.hadoop.mapred;
 
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -75,6 +76,7 @@ import org.apache.hadoop.fs.LocalFileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.http.HttpServer;
 import org.apache.hadoop.http.NettyMapOutputHttpServer;
+import org.apache.hadoop.io.DataOutputBuffer;
 import org.apache.hadoop.io.IntWritable;
 import org.apache.hadoop.io.Writable;
 import org.apache.hadoop.ipc.ProtocolSignature;
@@ -341,6 +343,8 @@ public class TaskTracker extends ReconfigurableBase
 
   private IndexCache indexCache;
 
+  private MapOutputMerger mapOutputMerger;
+
   private MRAsyncDiskService asyncDiskService;
 
   private ObjectName versionBeanName;
@@ -372,6 +376,7 @@ public class TaskTracker extends ReconfigurableBase
     private long outputBytes = 0;
     private int failedOutputs = 0;
     private int successOutputs = 0;
+    private int batchRequests = 0;
     private int httpQueueLen = 0;
     private ThreadPoolExecutor nettyWorkerThreadPool = null;
     ShuffleServerMetrics(JobConf conf) {
@@ -396,6 +401,13 @@ public class TaskTracker extends ReconfigurableBase
     synchronized void successOutput() {
       ++successOutputs;
     }
+    synchronized void batchRequest() {
+      ++batchRequests;
+    }
+    /** @return the requests for several map outputs since the last update */
+    synchronized int getBatchRequests() {
+      return batchRequests;
+    }
     synchronized void setHttpQueueLen(int queueLen) {
       this.httpQueueLen = queueLen;
     }
@@ -417,6 +429,8 @@ public class TaskTracker extends ReconfigurableBase
                                         failedOutputs);
         shuffleMetricsRecord.incrMetric("shuffle_success_outputs",
                                         successOutputs);
+        shuffleMetricsRecord.incrMetric("shuffle_batch_requests",
+                                        batchRequests);
         // Netty map output metrics
         if (nettyWorkerThreadPool != null) {
           shuffleMetricsRecord.setMetric("netty_mapoutput_activecount",
@@ -433,6 +447,7 @@ public class TaskTracker extends ReconfigurableBase
         outputBytes = 0;
         failedOutputs = 0;
         successOutputs = 0;
+        batchRequests = 0;
       }
       shuffleMetricsRecord.update();
     }
@@ -591,6 +606,32 @@ public class TaskTracker extends ReconfigurableBase
     return indexCache.getIndexInformation(mapId, reduce, fileName);
   }
 
+  /**
+   * @see IndexCache#getIndexInformation(String[], int, Path[])
+   */
+  public IndexRecord[] getIndexInformation(String[] mapIds, int reduce,
+      Path[] fileNames) {
+    return indexCache.getIndexInformation(mapIds, reduce, fileNames);
+  }
+
+  /**
+   * Decide which outputs to send for the maps of a batched request, which
+   * may be merged outputs of several maps.
+   * @see MapOutputMerger#getOutputs(String, String[], String[])
+   */
+  String[] getMapOutputs(String jobId, String[] mapIds, String[] mergedInto) {
+    return mapOutputMerger.getOutputs(jobId, mapIds, mergedInto);
+  }
+
+  /**
+   * Stop serving a merged output of several maps, which then are served
+   * one by one.
+   */
+  void mergedMapOutputLost(String jobId, String outputId) {
+    LOG.warn("Merged map output " + outputId + " lost");
+    mapOutputMerger.removeMergedOutput(jobId, outputId);
+  }
+
   TaskLogsMonitor getTaskLogsMonitor() {
     return this.taskLogsMonitor;
   }
@@ -778,6 +819,7 @@ public class TaskTracker extends ReconfigurableBase
     getTaskLogsMonitor().start();
 
     this.indexCache = new IndexCache(this.fConf);
+    this.mapOutputMerger = new MapOutputMerger(this.fConf, indexCache);
 
     pulseChecker = PulseChecker.create(this, "TaskTracker");
 
@@ -1275,6 +1317,10 @@ public class TaskTracker extends ReconfigurableBase
       this.taskMemoryManager.shutdown();
     }
 
+    if (this.mapOutputMerger != null) {
+      this.mapOutputMerger.close();
+    }
+
     // All tasks are killed. So, they are removed from TaskLog monitoring also.
     // Interrupt the monitor.
     getTaskLogsMonitor().interrupt();
@@ -2012,6 +2058,7 @@ public class TaskTracker extends ReconfigurableBase
             indexCache.removeMap(tip.getTask().getTaskID().toString());
           }
         }
+        mapOutputMerger.removeJob(jobId);
         // Delete the job directory for this
         // task if the job is done/failed
         if (!rjob.keepJobFiles){
@@ -2048,6 +2095,7 @@ public class TaskTracker extends ReconfigurableBase
       tip.jobHasFinished(wasFailure);
       if (tip.getTask().isMapTask()) {
         indexCache.removeMap(tip.getTask().getTaskID().toString());
+        mapOutputMerger.removeMap(tip.getTask().getTaskID());
       }
     }
   }
@@ -2915,6 +2963,9 @@ public class TaskTracker extends ReconfigurableBase
         }
       } else {
         this.taskStatus.setRunState(TaskStatus.State.SUCCEEDED);
+        if (task.isMapTask() && task.isMapOrReduce()) {
+          mapOutputMerger.mapDone(localJobConf, task.getTaskID());
+        }
       }
       this.taskStatus.setProgress(1.0f);
       this.taskStatus.setFinishTime(System.currentTimeMillis());
@@ -3840,6 +3891,11 @@ public class TaskTracker extends ReconfigurableBase
       }
 
       int reduce = Integer.parseInt(reduceId);
+      if (mapId.indexOf(',') >= 0) {
+        sendMapOutputs(context, tracker, response, jobId, mapId.split(","),
+                       reduce);
+        return;
+      }
       byte[] buffer = new byte[MAX_BYTES_TO_READ];
       // true iff IOException was caused by attempt to access input
       boolean isInputException = true;
@@ -3970,6 +4026,144 @@ public class TaskTracker extends ReconfigurableBase
       outStream.close();
       shuffleMetrics.successOutput();
     }
+
+    /**
+     * Send the outputs of several maps for a reduce in one response, each
+     * preceded by a {@link ShuffleHeader}. The response has a length, so
+     * the reduce can keep the connection for its next request.
+     */
+    private void sendMapOutputs(ServletContext context, TaskTracker tracker,
+                                HttpServletResponse response, String jobId,
+                                String[] mapIds, int reduce
+                                ) throws IOException {
+      JobConf conf = (JobConf) context.getAttribute("conf");
+      LocalDirAllocator lDirAlloc =
+        (LocalDirAllocator)context.getAttribute("localDirAllocator");
+      FileSystem rfs = ((LocalFileSystem)
+          context.getAttribute("local.file.system")).getRaw();
+      ShuffleServerMetrics shuffleMetrics =
+        (ShuffleServerMetrics) context.getAttribute("shuffleServerMetrics");
+      shuffleMetrics.setHttpQueueLen(tracker.getJettyQueueSize());
+      shuffleMetrics.batchRequest();
+      Log log = (Log) context.getAttribute("log");
+
+      // look up all the indices first
+      String[] mergedInto = new String[mapIds.length];
+      String[] outputs = tracker.getMapOutputs(jobId, mapIds, mergedInto);
+      Path[] indexFileNames = new Path[mapIds.length];
+      Path[] mapOutputFileNames = new Path[mapIds.length];
+      for (int i = 0; i < mapIds.length; i++) {
+        if (outputs[i] == null) {
+          continue;
+        }
+        String dir = TaskTracker.getIntermediateOutputDir(jobId, outputs[i]);
+        try {
+          indexFileNames[i] =
+            lDirAlloc.getLocalPathToRead(dir + "/file.out.index", conf);
+          mapOutputFileNames[i] =
+            lDirAlloc.getLocalPathToRead(dir + "/file.out", conf);
+        } catch (IOException e) {
+          indexFileNames[i] = null;
+        }
+      }
+      IndexRecord[] infos =
+        tracker.indexCache.getIndexInformation(outputs, reduce, indexFileNames);
+
+      // the headers are written ahead to know the length of the response
+      DataOutputBuffer headers = new DataOutputBuffer();
+      int[] headerEnds = new int[mapIds.length];
+      long contentLength = 0;
+      for (int i = 0; i < mapIds.length; i++) {
+        ShuffleHeader header;
+        if (mergedInto[i] != null) {
+          header = ShuffleHeader.merged(mapIds[i], mergedInto[i], reduce);
+        } else if (infos[i] == null) {
+          String errorMsg = "getMapOutput(" + outputs[i] + "," + reduce +
+                            ") failed";
+          log.error(errorMsg);
+          if (outputs[i].equals(mapIds[i])) {
+            tracker.mapOutputLost(TaskAttemptID.forName(mapIds[i]), errorMsg);
+          } else {
+            tracker.mergedMapOutputLost(jobId, outputs[i]);
+          }
+          shuffleMetrics.failedOutput();
+          header = ShuffleHeader.missing(mapIds[i], reduce);
+        } else {
+          header = new ShuffleHeader(mapIds[i], infos[i].partLength,
+                                     infos[i].rawLength, reduce);
+          contentLength += infos[i].partLength;
+        }
+        header.write(headers);
+        headerEnds[i] = headers.getLength();
+      }
+      contentLength += headers.getLength();
+      response.setHeader(MAP_OUTPUT_BATCH, Integer.toString(mapIds.length));
+      response.setHeader(FOR_REDUCE_TASK, Integer.toString(reduce));
+      response.setHeader("Content-Length", Long.toString(contentLength));
+      response.setBufferSize(MAX_BYTES_TO_READ);
+
+      byte[] buffer = new byte[MAX_BYTES_TO_READ];
+      OutputStream outStream = response.getOutputStream();
+      int current = -1;
+      String mapId = null;
+      // true iff IOException was caused by attempt to access input
+      boolean isInputException = false;
+      shuffleMetrics.serverHandlerBusy();
+      try {
+        for (int i = 0; i < mapIds.length; i++) {
+          int headerStart = i == 0 ? 0 : headerEnds[i - 1];
+          outStream.write(headers.getData(), headerStart,
+                          headerEnds[i] - headerStart);
+          if (infos[i] == null) {
+            continue;
+          }
+          current = i;
+          mapId = outputs[i];
+          isInputException = true;
+          FSDataInputStream mapOutputIn = rfs.open(mapOutputFileNames[i]);
+          try {
+            mapOutputIn.seek(infos[i].startOffset);
+            long rem = infos[i].partLength;
+            while (rem > 0) {
+              isInputException = true;
+              int len = mapOutputIn.read(buffer, 0,
+                  (int)Math.min(rem, MAX_BYTES_TO_READ));
+              if (len < 0) {
+                throw new EOFException("Map output of " + mapId +
+                                       " is truncated");
+              }
+              isInputException = false;
+              shuffleMetrics.outputBytes(len);
+              outStream.write(buffer, 0, len);
+              rem -= len;
+            }
+          } finally {
+            mapOutputIn.close();
+          }
+          isInputException = false;
+          shuffleMetrics.successOutput();
+          LOG.info("Sent out " + infos[i].partLength + " bytes for reduce: " +
+                   reduce + " from map: " + mapId + " given " +
+                   infos[i].partLength + "/" + infos[i].rawLength);
+        }
+        outStream.close();
+      } catch (IOException ie) {
+        String errorMsg = ("getMapOutput(" + mapId + "," + reduce +
+                           ") failed");
+        log.error(errorMsg, ie);
+        if (isInputException) {
+          if (mapId.equals(mapIds[current])) {
+            tracker.mapOutputLost(TaskAttemptID.forName(mapId), errorMsg);
+          } else {
+            tracker.mergedMapOutputLost(jobId, mapId);
+          }
+        }
+        shuffleMetrics.failedOutput();
+        throw ie;
+      } finally {
+        shuffleMetrics.serverHandlerFree();
+      }
+    }
   }
 
   /**
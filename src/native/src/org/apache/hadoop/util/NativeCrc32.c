@@ -84,6 +84,35 @@ cleanup:
   }
 }
 
+/**
+ * Check that the data and the checksums of its chunks are within buffers
+ * or arrays of the given lengths. Throws and returns -1 if they are not.
+ */
+static int check_ranges(JNIEnv *env, jint bytes_per_checksum,
+    jlong sums_len, jint sums_offset,
+    jlong data_total, jint data_offset, jint data_len) {
+  if (unlikely(sums_offset < 0 || data_offset < 0 || data_len < 0)) {
+    THROW(env, "java/lang/IllegalArgumentException",
+      "bad offsets or lengths");
+    return -1;
+  }
+  if (unlikely(bytes_per_checksum <= 0)) {
+    THROW(env, "java/lang/IllegalArgumentException",
+      "invalid bytes_per_checksum");
+    return -1;
+  }
+  int64_t num_sums =
+    ((int64_t)data_len + bytes_per_checksum - 1) / bytes_per_checksum;
+  if (unlikely((int64_t)data_offset + data_len > data_total ||
+               (int64_t)sums_offset + num_sums * sizeof(uint32_t) >
+               sums_len)) {
+    THROW(env, "java/lang/ArrayIndexOutOfBoundsException",
+      "data or checksums outside of their buffers");
+    return -1;
+  }
+  return 0;
+}
+
 static int convert_java_crc_type(JNIEnv *env, jint crc_type) {
   switch (crc_type) {
     case org_apache_hadoop_util_NativeCrc32_CHECKSUM_CRC32:
@@ -119,15 +148,12 @@ JNIEXPORT void JNICALL Java_org_apache_hadoop_util_NativeCrc32_nativeVerifyChunk
       "input ByteBuffers must be direct buffers");
     return;
   }
-  if (unlikely(sums_offset < 0 || data_offset < 0 || data_len < 0)) {
-    THROW(env, "java/lang/IllegalArgumentException",
-      "bad offsets or lengths");
-    return;
-  }
-  if (unlikely(bytes_per_checksum) <= 0) {
-    THROW(env, "java/lang/IllegalArgumentException",
-      "invalid bytes_per_checksum");
-    return;
+  if (unlikely(check_ranges(env, bytes_per_checksum,
+                            (*env)->GetDirectBufferCapacity(env, j_sums),
+                            sums_offset,
+                            (*env)->GetDirectBufferCapacity(env, j_data),
+                            data_offset, data_len))) {
+    return; // exception already thrown
   }
 
   uint32_t *sums = (uint32_t *)(sums_addr + sums_offset);
@@ -154,6 +180,134 @@ JNIEXPORT void JNICALL Java_org_apache_hadoop_util_NativeCrc32_nativeVerifyChunk
   }
 }
 
+JNIEXPORT void JNICALL Java_org_apache_hadoop_util_NativeCrc32_nativeComputeChunkedSums
+  (JNIEnv *env, jclass clazz,
+    jint bytes_per_checksum, jint j_crc_type,
+    jobject j_sums, jint sums_offset,
+    jobject j_data, jint data_offset, jint data_len)
+{
+  if (unlikely(!j_sums || !j_data)) {
+    THROW(env, "java/lang/NullPointerException",
+      "input ByteBuffers must not be null");
+    return;
+  }
+
+  // Convert direct byte buffers to C pointers
+  uint8_t *sums_addr = (*env)->GetDirectBufferAddress(env, j_sums);
+  uint8_t *data_addr = (*env)->GetDirectBufferAddress(env, j_data);
+
+  if (unlikely(!sums_addr || !data_addr)) {
+    THROW(env, "java/lang/IllegalArgumentException",
+      "input ByteBuffers must be direct buffers");
+    return;
+  }
+  if (unlikely(check_ranges(env, bytes_per_checksum,
+                            (*env)->GetDirectBufferCapacity(env, j_sums),
+                            sums_offset,
+                            (*env)->GetDirectBufferCapacity(env, j_data),
+                            data_offset, data_len))) {
+    return; // exception already thrown
+  }
+
+  int crc_type = convert_java_crc_type(env, j_crc_type);
+  if (crc_type == -1) return; // exception already thrown
+
+  bulk_calculate_crc(data_addr + data_offset, data_len,
+                     (uint32_t *)(sums_addr + sums_offset), crc_type,
+                     bytes_per_checksum);
+}
+
+JNIEXPORT void JNICALL Java_org_apache_hadoop_util_NativeCrc32_nativeVerifyChunkedSumsByteArray
+  (JNIEnv *env, jclass clazz,
+    jint bytes_per_checksum, jint j_crc_type,
+    jbyteArray j_sums, jint sums_offset,
+    jbyteArray j_data, jint data_offset, jint data_len,
+    jstring j_filename, jlong base_pos)
+{
+  if (unlikely(!j_sums || !j_data)) {
+    THROW(env, "java/lang/NullPointerException",
+      "input arrays must not be null");
+    return;
+  }
+  if (unlikely(check_ranges(env, bytes_per_checksum,
+                            (*env)->GetArrayLength(env, j_sums), sums_offset,
+                            (*env)->GetArrayLength(env, j_data), data_offset,
+                            data_len))) {
+    return; // exception already thrown
+  }
+
+  int crc_type = convert_java_crc_type(env, j_crc_type);
+  if (crc_type == -1) return; // exception already thrown
+
+  // No JNI calls are allowed while the arrays are pinned, so the
+  // exception is thrown after releasing them.
+  uint8_t *sums_addr = (*env)->GetPrimitiveArrayCritical(env, j_sums, NULL);
+  if (unlikely(!sums_addr)) return; // OOME already thrown
+  uint8_t *data_addr = (*env)->GetPrimitiveArrayCritical(env, j_data, NULL);
+  if (unlikely(!data_addr)) {
+    (*env)->ReleasePrimitiveArrayCritical(env, j_sums, sums_addr, JNI_ABORT);
+    return; // OOME already thrown
+  }
+
+  uint8_t *data = data_addr + data_offset;
+  crc32_error_t error_data;
+  int ret = bulk_verify_crc(data, data_len,
+                            (uint32_t *)(sums_addr + sums_offset), crc_type,
+                            bytes_per_checksum, &error_data);
+
+  (*env)->ReleasePrimitiveArrayCritical(env, j_data, data_addr, JNI_ABORT);
+  (*env)->ReleasePrimitiveArrayCritical(env, j_sums, sums_addr, JNI_ABORT);
+
+  if (likely(ret == CHECKSUMS_VALID)) {
+    return;
+  } else if (unlikely(ret == INVALID_CHECKSUM_DETECTED)) {
+    long pos = base_pos + (error_data.bad_data - data);
+    throw_checksum_exception(
+      env, error_data.got_crc, error_data.expected_crc,
+      j_filename, pos);
+  } else {
+    THROW(env, "java/lang/AssertionError",
+      "Bad response code from native bulk_verify_crc");
+  }
+}
+
+JNIEXPORT void JNICALL Java_org_apache_hadoop_util_NativeCrc32_nativeComputeChunkedSumsByteArray
+  (JNIEnv *env, jclass clazz,
+    jint bytes_per_checksum, jint j_crc_type,
+    jbyteArray j_sums, jint sums_offset,
+    jbyteArray j_data, jint data_offset, jint data_len)
+{
+  if (unlikely(!j_sums || !j_data)) {
+    THROW(env, "java/lang/NullPointerException",
+      "input arrays must not be null");
+    return;
+  }
+  if (unlikely(check_ranges(env, bytes_per_checksum,
+                            (*env)->GetArrayLength(env, j_sums), sums_offset,
+                            (*env)->GetArrayLength(env, j_data), data_offset,
+                            data_len))) {
+    return; // exception already thrown
+  }
+
+  int crc_type = convert_java_crc_type(env, j_crc_type);
+  if (crc_type == -1) return; // exception already thrown
+
+  uint8_t *sums_addr = (*env)->GetPrimitiveArrayCritical(env, j_sums, NULL);
+  if (unlikely(!sums_addr)) return; // OOME already thrown
+  uint8_t *data_addr = (*env)->GetPrimitiveArrayCritical(env, j_data, NULL);
+  if (unlikely(!data_addr)) {
+    (*env)->ReleasePrimitiveArrayCritical(env, j_sums, sums_addr, 0);
+    return; // OOME already thrown
+  }
+
+  bulk_calculate_crc(data_addr + data_offset, data_len,
+                     (uint32_t *)(sums_addr + sums_offset), crc_type,
+                     bytes_per_checksum);
+
+  (*env)->ReleasePrimitiveArrayCritical(env, j_data, data_addr, JNI_ABORT);
+  (*env)->ReleasePrimitiveArrayCritical(env, j_sums, sums_addr, 0);
+}
+
 /**
  * vim: sw=2: ts=2: et:
  */
@@ -152,6 +152,83 @@ return_crc_error:
 }
 
 
+int bulk_calculate_crc(const uint8_t *data, size_t data_len,
+                       uint32_t *sums, int checksum_type,
+                       int bytes_per_checksum) {
+
+#ifdef USE_PIPELINED
+  uint32_t crc1, crc2, crc3;
+  int n_blocks = data_len / bytes_per_checksum;
+  int remainder = data_len % bytes_per_checksum;
+  int do_pipelined = 0;
+#endif
+  uint32_t crc;
+  crc_update_func_t crc_update_func;
+  switch (checksum_type) {
+    case CRC32_ZLIB_POLYNOMIAL:
+      crc_update_func = crc32_zlib_sb8;
+      break;
+    case CRC32C_POLYNOMIAL:
+      if (likely(cached_cpu_supports_crc32)) {
+        crc_update_func = crc32c_hardware;
+#ifdef USE_PIPELINED
+        do_pipelined = 1;
+#endif
+      } else {
+        crc_update_func = crc32c_sb8;
+      }
+      break;
+    default:
+      return INVALID_CHECKSUM_TYPE;
+  }
+
+#ifdef USE_PIPELINED
+  if (do_pipelined) {
+    /* Process three blocks at a time */
+    while (likely(n_blocks >= 3)) {
+      crc1 = crc2 = crc3 = crc_init();
+      pipelined_crc32c(&crc1, &crc2, &crc3, data, bytes_per_checksum, 3);
+      *sums++ = ntohl(crc_val(crc1));
+      *sums++ = ntohl(crc_val(crc2));
+      *sums++ = ntohl(crc_val(crc3));
+      data += 3 * bytes_per_checksum;
+      n_blocks -= 3;
+    }
+
+    /* One or two blocks */
+    if (n_blocks) {
+      crc1 = crc2 = crc_init();
+      pipelined_crc32c(&crc1, &crc2, &crc3, data, bytes_per_checksum, n_blocks);
+      *sums++ = ntohl(crc_val(crc1));
+      data += bytes_per_checksum;
+      if (n_blocks == 2) {
+        *sums++ = ntohl(crc_val(crc2));
+        data += bytes_per_checksum;
+      }
+    }
+
+    /* For something smaller than a block */
+    if (remainder) {
+      crc1 = crc_init();
+      pipelined_crc32c(&crc1, &crc2, &crc3, data, remainder, 1);
+      *sums = ntohl(crc_val(crc1));
+    }
+    return CHECKSUMS_VALID;
+  }
+#endif
+
+  while (likely(data_len > 0)) {
+    int len = likely(data_len >= bytes_per_checksum) ? bytes_per_checksum : data_len;
+    crc = crc_init();
+    crc = crc_update_func(crc, data, len);
+    *sums++ = ntohl(crc_val(crc));
+    data += len;
+    data_len -= len;
+  }
+  return CHECKSUMS_VALID;
+}
+
+
 /**
  * Initialize a CRC
  */
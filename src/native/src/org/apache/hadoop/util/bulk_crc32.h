@@ -54,4 +54,18 @@ extern int bulk_verify_crc(const uint8_t *data, size_t data_len,
     int bytes_per_checksum,
     crc32_error_t *error_info);
 
+/**
+ * Calculate the checksums of a buffer of data in chunks of
+ * bytes_per_checksum bytes, and store them in sequential indexes
+ * of the 'sums' array, which must have room for one 32 bit checksum
+ * per chunk.
+ *
+ *  checksum_type - one of the CRC32 constants defined above
+ *
+ * Returns: 0 for success, INVALID_CHECKSUM_TYPE for an unknown type
+ */
+extern int bulk_calculate_crc(const uint8_t *data, size_t data_len,
+    uint32_t *sums, int checksum_type,
+    int bytes_per_checksum);
+
 #endif
@@ -0,0 +1,86 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hdfs;
+
+import static org.junit.Assert.*;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.BlockLocation;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.permission.FsPermission;
+import org.junit.Test;
+
+/**
+ * Test the batched getFileInfo, getBlockLocations, delete and mkdirs calls
+ * of {@link DistributedFileSystem}.
+ */
+public class TestBatchedMetadataCalls {
+
+  @Test
+  public void testBatchedCalls() throws Exception {
+    Configuration conf = new Configuration();
+    MiniDFSCluster cluster = new MiniDFSCluster(conf, 1, true, null);
+    try {
+      DistributedFileSystem fs = (DistributedFileSystem)cluster.getFileSystem();
+      Path[] dirs = new Path[10];
+      for (int i = 0; i < dirs.length; i++) {
+        dirs[i] = new Path("/tmp/batch/d" + i);
+      }
+      boolean[] created = fs.mkdirs(dirs, FsPermission.getDefault());
+      for (int i = 0; i < dirs.length; i++) {
+        assertTrue(created[i]);
+        assertTrue(fs.exists(dirs[i]));
+      }
+
+      Path file = new Path(dirs[0], "file");
+      DFSTestUtil.createFile(fs, file, 1024, (short)1, 0);
+      Path missing = new Path("/tmp/batch/missing");
+      FileStatus[] stats = fs.getFileStatus(
+          new Path[] { dirs[1], file, missing });
+      assertTrue(stats[0].isDir());
+      assertEquals(fs.makeQualified(dirs[1]), stats[0].getPath());
+      assertEquals(1024, stats[1].getLen());
+      assertNull(stats[2]);
+
+      BlockLocation[][] locations = fs.getFileBlockLocations(
+          new Path[] { file, missing }, 0, 1024);
+      assertEquals(1, locations[0].length);
+      assertEquals(0, locations[1].length);
+
+      boolean[] deleted = fs.delete(
+          new Path[] { dirs[0], missing, dirs[2] }, true);
+      assertTrue(deleted[0]);
+      assertFalse(deleted[1]);
+      assertTrue(deleted[2]);
+      assertFalse(fs.exists(file));
+      assertFalse(fs.exists(dirs[2]));
+      assertTrue(fs.exists(dirs[3]));
+
+      // the edits of a batch survive a restart
+      cluster.restartNameNode();
+      fs = (DistributedFileSystem)cluster.getFileSystem();
+      assertFalse(fs.exists(dirs[0]));
+      for (int i = 3; i < dirs.length; i++) {
+        assertTrue(fs.exists(dirs[i]));
+      }
+    } finally {
+      cluster.shutdown();
+    }
+  }
+}
@@ -174,6 +174,8 @@ public class TestDFSClientRetries extends TestCase {
 
     public LocatedBlocks  getBlockLocations(String src, long offset, long length) throws IOException { return null; }
 
+    public LocatedBlocks[] getBlockLocations(String[] srcs, long offset, long length) throws IOException { return null; }
+
     @Deprecated
     public void create(String src, FsPermission masked, String clientName, boolean overwrite, short replication, long blockSize) throws IOException {}
 
@@ -213,8 +215,12 @@ public class TestDFSClientRetries extends TestCase {
 
     public boolean delete(String src, boolean recursive) throws IOException { return false; }
 
+    public boolean[] delete(String[] srcs, boolean recursive) throws IOException { return null; }
+
     public boolean mkdirs(String src, FsPermission masked) throws IOException { return false; }
 
+    public boolean[] mkdirs(String[] srcs, FsPermission masked) throws IOException { return null; }
+
     public OpenFileInfo[] iterativeGetOpenFiles(
       String prefix, int millis, String start) throws IOException {
       throw new IOException("iterativeGetOpenFiles() not supported by TestDFSClientRetries");
@@ -261,6 +267,9 @@ public class TestDFSClientRetries extends TestCase {
     public HdfsFileStatus getHdfsFileInfo(String src) throws IOException {
       return null; }
 
+    public HdfsFileStatus[] getHdfsFileInfo(String[] srcs) throws IOException {
+      return null; }
+
     public ContentSummary getContentSummary(String path) throws IOException { return null; }
 
     public void setQuota(String path, long namespaceQuota, long diskspaceQuota) throws IOException {}
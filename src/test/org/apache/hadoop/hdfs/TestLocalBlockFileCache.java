@@ -0,0 +1,154 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hdfs;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import junit.framework.TestCase;
+
+import org.apache.hadoop.hdfs.protocol.Block;
+import org.apache.hadoop.hdfs.protocol.BlockPathInfo;
+import org.apache.hadoop.hdfs.server.datanode.FSDataset;
+import org.apache.hadoop.util.DataChecksum;
+
+/**
+ * Test the cache of open local block files used by short-circuit reads.
+ */
+public class TestLocalBlockFileCache extends TestCase {
+  private static final File TEST_DIR = new File(
+      System.getProperty("test.build.data", "build/test/data"),
+      "TestLocalBlockFileCache");
+
+  protected void setUp() throws Exception {
+    TEST_DIR.mkdirs();
+  }
+
+  /** @return the path info of a replica with 1024 bytes of data */
+  private static BlockPathInfo createReplica(long blockId) throws IOException {
+    Block block = new Block(blockId, 1024, 1);
+    File blockFile = new File(TEST_DIR, "blk_" + blockId);
+    File metaFile = new File(TEST_DIR, "blk_" + blockId + "_1.meta");
+    FileOutputStream out = new FileOutputStream(blockFile);
+    for (int i = 0; i < 1024; i++) {
+      out.write(i);
+    }
+    out.close();
+    DataOutputStream meta = new DataOutputStream(new FileOutputStream(metaFile));
+    meta.writeShort(FSDataset.METADATA_VERSION);
+    DataChecksum.newDataChecksum(DataChecksum.CHECKSUM_CRC32, 512)
+        .writeHeader(meta);
+    meta.writeInt(1);
+    meta.writeInt(2);
+    meta.close();
+    return new BlockPathInfo(block, blockFile.getPath(), metaFile.getPath());
+  }
+
+  private static LocalBlockFileCache.BlockFiles open(LocalBlockFileCache cache,
+      BlockPathInfo pathinfo) throws IOException {
+    Block block = new Block(pathinfo);
+    LocalBlockFileCache.BlockFiles files = cache.get(block);
+    if (files == null) {
+      files = cache.put(new LocalBlockFileCache.BlockFiles(block, pathinfo));
+    }
+    return files;
+  }
+
+  public void testSharedFiles() throws Exception {
+    LocalBlockFileCache cache = new LocalBlockFileCache(2);
+    BlockPathInfo pathinfo = createReplica(1);
+    LocalBlockFileCache.BlockFiles first = open(cache, pathinfo);
+    LocalBlockFileCache.BlockFiles second = open(cache, pathinfo);
+    assertSame(first, second);
+    assertEquals(1, cache.size());
+
+    // readers keep their own positions on the shared files
+    ByteBuffer buf = ByteBuffer.allocate(10);
+    assertEquals(10, LocalBlockFileCache.readFully(
+        first.getDataChannel(), buf, 100));
+    assertEquals(100, buf.get(0));
+    buf.clear();
+    assertEquals(4, LocalBlockFileCache.readFully(
+        second.getDataChannel(), buf, 1020));
+    buf.clear();
+    assertEquals(-1, LocalBlockFileCache.readFully(
+        second.getDataChannel(), buf, 1024));
+
+    // the meta header is read once, checksums are not shared
+    assertEquals(7, first.getChecksumHeaderSize());
+    assertNotSame(first.newChecksum(), second.newChecksum());
+    assertEquals(512, second.newChecksum().getBytesPerChecksum());
+    buf = ByteBuffer.allocate(4);
+    LocalBlockFileCache.readFully(second.getChecksumChannel(), buf,
+                                  second.getChecksumHeaderSize() + 4);
+    assertEquals(2, buf.getInt(0));
+
+    first.release();
+    second.release();
+    assertTrue(first.isOpen());
+  }
+
+  public void testEviction() throws Exception {
+    LocalBlockFileCache cache = new LocalBlockFileCache(2);
+    LocalBlockFileCache.BlockFiles inUse = open(cache, createReplica(1));
+    LocalBlockFileCache.BlockFiles unused = open(cache, createReplica(2));
+    unused.release();
+
+    // the least recently used replicas are evicted, but files stay
+    // open while a reader holds them
+    open(cache, createReplica(3)).release();
+    assertTrue(inUse.isOpen());
+    open(cache, createReplica(4)).release();
+    assertEquals(2, cache.size());
+    assertFalse(unused.isOpen());
+    assertTrue(inUse.isOpen());
+    assertNull(cache.get(new Block(1, 1024, 1)));
+    inUse.release();
+    assertFalse(inUse.isOpen());
+
+    // invalidated files are opened again by the next reader
+    LocalBlockFileCache.BlockFiles files = cache.get(new Block(4, 1024, 1));
+    cache.invalidate(new Block(4, 1024, 1));
+    assertTrue(files.isOpen());
+    assertNotSame(files, open(cache, files.getPathInfo()));
+    files.release();
+    assertFalse(files.isOpen());
+  }
+
+  public void testMissingFiles() throws Exception {
+    BlockPathInfo pathinfo = createReplica(5);
+    new File(pathinfo.getMetaPath()).delete();
+    LocalBlockFileCache.BlockFiles files = open(new LocalBlockFileCache(2),
+                                                pathinfo);
+    try {
+      files.getChecksumChannel();
+      fail("Expected the meta file to be missing");
+    } catch (FileNotFoundException e) {
+    }
+    new File(pathinfo.getBlockPath()).delete();
+    try {
+      open(new LocalBlockFileCache(2), pathinfo);
+      fail("Expected the block file to be missing");
+    } catch (FileNotFoundException e) {
+    }
+  }
+}
@@ -0,0 +1,155 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hdfs;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hdfs.metrics.DFSClientMetrics;
+import org.apache.hadoop.hdfs.protocol.Block;
+import org.apache.hadoop.hdfs.protocol.DatanodeInfo;
+import org.apache.hadoop.hdfs.protocol.LocatedBlock;
+import org.apache.hadoop.hdfs.protocol.LocatedBlocks;
+
+/**
+ * Test the block locations cache shared by the input streams of a client.
+ */
+public class TestLocatedBlocksCache extends TestCase {
+  private static final long BLOCK_SIZE = 1024;
+
+  /** @return located blocks numbered from first to last */
+  private static LocatedBlocks blocks(int first, int last, int numBlocks,
+                                      boolean underConstruction) {
+    List<LocatedBlock> blocks = new ArrayList<LocatedBlock>();
+    for (int i = first; i <= last; i++) {
+      blocks.add(new LocatedBlock(new Block(i, BLOCK_SIZE, 1),
+          new DatanodeInfo[0], i * BLOCK_SIZE));
+    }
+    return new LocatedBlocks(numBlocks * BLOCK_SIZE, blocks,
+                             underConstruction);
+  }
+
+  public void testRangesAndInvalidation() throws Exception {
+    DFSClientMetrics metrics = new DFSClientMetrics();
+    LocatedBlocksCache cache =
+      new LocatedBlocksCache(null, metrics, 60000, 2, 0);
+    assertNull(cache.get("/dir/file"));
+    assertEquals(1, metrics.locatedBlocksCacheMisses.getCurrentIntervalValue());
+
+    // two separate ranges of a file with ten blocks
+    cache.put("/dir/file", blocks(0, 2, 10, false));
+    cache.put("/dir/file", blocks(5, 6, 10, false));
+    LocatedBlocks cached = cache.get("/dir/file");
+    assertEquals(5, cached.locatedBlockCount());
+    assertEquals(10 * BLOCK_SIZE, cached.getFileLength());
+    // streams get their own copy
+    cached.getLocatedBlocks().clear();
+    assertEquals(5, cache.get("/dir/file").locatedBlockCount());
+
+    // a range stops at the first block that is not cached
+    List<LocatedBlock> range =
+      cache.getRange("/dir/file", BLOCK_SIZE + 1, 10 * BLOCK_SIZE);
+    assertEquals(2, range.size());
+    assertEquals(1, range.get(0).getBlock().getBlockId());
+    assertEquals(1, cache.getRange("/dir/file", 5 * BLOCK_SIZE,
+                                   BLOCK_SIZE).size());
+    assertNull(cache.getRange("/dir/file", 4 * BLOCK_SIZE, BLOCK_SIZE));
+    assertEquals(4, metrics.locatedBlocksCacheHits.getCurrentIntervalValue());
+
+    // files under construction are not cached
+    cache.put("/dir/open", blocks(0, 0, 1, true));
+    assertNull(cache.get("/dir/open"));
+
+    // invalidating a directory drops the files below it only
+    cache.put("/dir2", blocks(0, 0, 1, false));
+    cache.invalidateTree("/dir");
+    assertNull(cache.get("/dir/file"));
+    assertNotNull(cache.get("/dir2"));
+
+    // the least recently used file is evicted
+    cache.put("/a", blocks(0, 0, 1, false));
+    cache.put("/b", blocks(0, 0, 1, false));
+    assertNull(cache.get("/dir2"));
+    cache.close();
+  }
+
+  public void testExpiry() throws Exception {
+    LocatedBlocksCache cache =
+      new LocatedBlocksCache(null, new DFSClientMetrics(), 100, 10, 0);
+    cache.put("/file", blocks(0, 0, 1, false));
+    assertNotNull(cache.get("/file"));
+    Thread.sleep(200);
+    assertNull(cache.get("/file"));
+    cache.close();
+  }
+
+  /**
+   * Streams of one client share the locations, and the locations of the
+   * next range are fetched in the background.
+   */
+  public void testSharedByStreams() throws Exception {
+    Configuration conf = new Configuration();
+    conf.setLong("dfs.block.size", BLOCK_SIZE);
+    conf.setInt("io.bytes.per.checksum", 512);
+    conf.setLong("dfs.read.prefetch.size", 2 * BLOCK_SIZE);
+    conf.setLong("dfs.client.locatedblocks.cache.expiry", 60000);
+    MiniDFSCluster cluster = new MiniDFSCluster(conf, 1, true, null);
+    try {
+      DistributedFileSystem fs = (DistributedFileSystem)cluster.getFileSystem();
+      DFSClientMetrics metrics = fs.getClient().getDFSClientMetrics();
+      Path file = new Path("/file");
+      DFSTestUtil.createFile(fs, file, 10 * BLOCK_SIZE, (short)1, 1L);
+
+      byte[] first = new byte[(int)(10 * BLOCK_SIZE)];
+      FSDataInputStream in = fs.open(file);
+      in.readFully(0, first);
+      in.close();
+      long hits = metrics.locatedBlocksCacheHits.getCurrentIntervalValue();
+
+      byte[] second = new byte[first.length];
+      in = fs.open(file);
+      in.readFully(0, second);
+      in.close();
+      assertTrue(metrics.locatedBlocksCacheHits.getCurrentIntervalValue() >
+                 hits);
+      for (int i = 0; i < first.length; i++) {
+        assertEquals(first[i], second[i]);
+      }
+
+      for (int i = 0; i < 100 &&
+           metrics.locatedBlocksPrefetches.getCurrentIntervalValue() == 0; i++) {
+        Thread.sleep(100);
+      }
+      assertTrue(metrics.locatedBlocksPrefetches.getCurrentIntervalValue() > 0);
+
+      // the client drops what it caches of files it deletes
+      fs.delete(file, false);
+      DFSTestUtil.createFile(fs, file, 3 * BLOCK_SIZE, (short)1, 2L);
+      in = fs.open(file);
+      in.readFully(0, new byte[(int)(3 * BLOCK_SIZE)]);
+      in.close();
+    } finally {
+      cluster.shutdown();
+    }
+  }
+}
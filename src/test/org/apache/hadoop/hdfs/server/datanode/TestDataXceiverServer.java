@@ -0,0 +1,371 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hdfs.server.datanode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.TestCase;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hdfs.DFSClient;
+import org.apache.hadoop.hdfs.MiniDFSCluster;
+import org.apache.hadoop.hdfs.protocol.Block;
+import org.apache.hadoop.hdfs.protocol.DataTransferProtocol;
+import org.apache.hadoop.hdfs.protocol.DatanodeInfo;
+import org.apache.hadoop.hdfs.protocol.LocatedBlock;
+import org.apache.hadoop.hdfs.protocol.ReadBlockHeader;
+import org.apache.hadoop.hdfs.server.common.HdfsConstants;
+import org.apache.hadoop.hdfs.util.InjectionEvent;
+import org.apache.hadoop.hdfs.util.InjectionHandler;
+import org.apache.hadoop.io.Text;
+
+/**
+ * Tests the selector of {@link DataXceiverServer} and the pools behind it,
+ * used when dfs.datanode.xceiver.read.threads is set.
+ */
+public class TestDataXceiverServer extends TestCase {
+  private static final int FILE_SIZE = 64 * 1024;
+
+  private MiniDFSCluster cluster;
+  private FileSystem fs;
+  private final Random random = new Random();
+
+  private Configuration newConf() {
+    Configuration conf = new Configuration();
+    conf.setInt("dfs.datanode.xceiver.read.threads", 2);
+    conf.setLong("dfs.block.size", FILE_SIZE / 2);
+    return conf;
+  }
+
+  private void startCluster(Configuration conf, int numDataNodes)
+      throws IOException {
+    cluster = new MiniDFSCluster(conf, numDataNodes, true, null);
+    cluster.waitActive();
+    fs = cluster.getFileSystem();
+  }
+
+  protected void tearDown() throws Exception {
+    InjectionHandler.clear();
+    if (cluster != null) {
+      cluster.shutdown();
+      cluster = null;
+    }
+  }
+
+  private static DataXceiverServer getServer(DataNode dn) {
+    return (DataXceiverServer)dn.dataXceiverServer.getRunnable();
+  }
+
+  private DataNode getDataNode(DatanodeInfo node) {
+    for (DataNode dn : cluster.getDataNodes()) {
+      if (dn.getSelfAddr().getPort() == node.getPort()) {
+        return dn;
+      }
+    }
+    fail("No datanode at " + node.getName());
+    return null;
+  }
+
+  private byte[] writeFile(Path path, short replication) throws IOException {
+    byte[] data = new byte[FILE_SIZE];
+    random.nextBytes(data);
+    FSDataOutputStream out = fs.create(path, replication);
+    out.write(data);
+    out.close();
+    return data;
+  }
+
+  private void checkFile(Path path, byte[] expected) throws IOException {
+    byte[] data = new byte[expected.length];
+    FSDataInputStream in = fs.open(path);
+    try {
+      in.readFully(data);
+      assertEquals(-1, in.read());
+    } finally {
+      in.close();
+    }
+    assertTrue(Arrays.equals(expected, data));
+  }
+
+  private LocatedBlock getFirstBlock(Configuration conf, Path path)
+      throws IOException {
+    DFSClient client = new DFSClient(
+        new InetSocketAddress("localhost", cluster.getNameNodePort()), conf);
+    try {
+      return client.namenode.getBlockLocations(path.toString(), 0, FILE_SIZE)
+        .getLocatedBlocks().get(0);
+    } finally {
+      client.close();
+    }
+  }
+
+  private static Socket connect(DataNode dn) throws IOException {
+    Socket sock = new Socket();
+    sock.connect(dn.getSelfAddr(), HdfsConstants.READ_TIMEOUT);
+    sock.setSoTimeout(HdfsConstants.READ_TIMEOUT);
+    return sock;
+  }
+
+  /** @return an OP_READ_BLOCK request for the whole block */
+  private byte[] readRequest(Block block) throws IOException {
+    ByteArrayOutputStream buf = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(buf);
+    ReadBlockHeader header = new ReadBlockHeader(
+        DataTransferProtocol.DATA_TRANSFER_VERSION,
+        cluster.getNameNode().getNamespaceID(), block.getBlockId(),
+        block.getGenerationStamp(), 0, block.getNumBytes(), "test");
+    header.writeVersionAndOpCode(out);
+    header.write(out);
+    out.flush();
+    return buf.toByteArray();
+  }
+
+  /** Assert that the datanode closed the connection */
+  private static void assertClosed(Socket sock) {
+    try {
+      assertEquals(-1, sock.getInputStream().read());
+    } catch (IOException e) {
+      // closed before the request was read: reset
+    }
+  }
+
+  private static void waitForCompletedTasks(ThreadPoolExecutor pool,
+      long expected) throws InterruptedException {
+    for (int i = 0; i < 100 && pool.getCompletedTaskCount() < expected; i++) {
+      Thread.sleep(100);
+    }
+    assertEquals(expected, pool.getCompletedTaskCount());
+  }
+
+  /** Occupies a worker until released, or interrupted by a shutdown */
+  private static class Blocker implements Runnable {
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    volatile boolean interrupted = false;
+
+    public void run() {
+      started.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+  }
+
+  private static class RefusalCounter extends InjectionHandler {
+    final AtomicInteger refused = new AtomicInteger();
+
+    protected void _processEvent(InjectionEvent event, Object... args) {
+      if (event == InjectionEvent.DATAXCEIVERSERVER_CONNECTION_REFUSED) {
+        refused.incrementAndGet();
+      }
+    }
+  }
+
+  /**
+   * Reads and writes go through the selector, which replays the version
+   * and opcode it read to the xceiver, also when they arrive in pieces.
+   */
+  public void testReadAndWrite() throws Exception {
+    Configuration conf = newConf();
+    startCluster(conf, 1);
+    DataNode dn = cluster.getDataNodes().get(0);
+    ThreadPoolExecutor readPool = getServer(dn).getReadPool();
+    assertNotNull(readPool);
+
+    Path path = new Path("/file");
+    byte[] data = writeFile(path, (short)1);
+    checkFile(path, data);
+    // a read for each of the two blocks
+    waitForCompletedTasks(readPool, 2);
+
+    // the header of a request arrives a byte at a time
+    LocatedBlock block = getFirstBlock(conf, path);
+    byte[] request = readRequest(block.getBlock());
+    Socket sock = connect(dn);
+    try {
+      OutputStream out = sock.getOutputStream();
+      for (int i = 0; i < 3; i++) {
+        out.write(request[i]);
+        out.flush();
+        Thread.sleep(200);
+      }
+      out.write(request, 3, request.length - 3);
+      out.flush();
+      DataInputStream in = new DataInputStream(sock.getInputStream());
+      assertEquals(DataTransferProtocol.OP_STATUS_SUCCESS, in.readShort());
+    } finally {
+      sock.close();
+    }
+  }
+
+  /**
+   * A replace goes to the balance pool of the destination, and the copy
+   * it asks for to the balance pool of the proxy.
+   */
+  public void testBlockMovesUseBalancePool() throws Exception {
+    Configuration conf = newConf();
+    startCluster(conf, 2);
+    Path path = new Path("/file");
+    writeFile(path, (short)1);
+    LocatedBlock block = getFirstBlock(conf, path);
+    DataNode proxy = getDataNode(block.getLocations()[0]);
+    DataNode destination = cluster.getDataNodes().get(0) == proxy
+      ? cluster.getDataNodes().get(1) : cluster.getDataNodes().get(0);
+    ThreadPoolExecutor proxyBalance = getServer(proxy).getBalancePool();
+    ThreadPoolExecutor destinationBalance =
+      getServer(destination).getBalancePool();
+    long proxyReads = getServer(proxy).getReadPool().getCompletedTaskCount();
+    long destinationReads =
+      getServer(destination).getReadPool().getCompletedTaskCount();
+    assertEquals(0, proxyBalance.getCompletedTaskCount());
+    assertEquals(0, destinationBalance.getCompletedTaskCount());
+
+    Block b = block.getBlock();
+    Socket sock = connect(destination);
+    try {
+      DataOutputStream out = new DataOutputStream(sock.getOutputStream());
+      out.writeShort(DataTransferProtocol.DATA_TRANSFER_VERSION);
+      out.writeByte(DataTransferProtocol.OP_REPLACE_BLOCK);
+      out.writeInt(cluster.getNameNode().getNamespaceID());
+      out.writeLong(b.getBlockId());
+      out.writeLong(b.getGenerationStamp());
+      Text.writeString(out, block.getLocations()[0].getStorageID());
+      block.getLocations()[0].write(out);
+      out.flush();
+      DataInputStream in = new DataInputStream(sock.getInputStream());
+      assertEquals(DataTransferProtocol.OP_STATUS_SUCCESS, in.readShort());
+    } finally {
+      sock.close();
+    }
+    waitForCompletedTasks(destinationBalance, 1);
+    waitForCompletedTasks(proxyBalance, 1);
+    assertEquals(proxyReads,
+        getServer(proxy).getReadPool().getCompletedTaskCount());
+    assertEquals(destinationReads,
+        getServer(destination).getReadPool().getCompletedTaskCount());
+  }
+
+  /**
+   * A read that finds the queue of the read pool full is refused, and the
+   * client reads from another datanode.
+   */
+  public void testFullQueueRefusesConnection() throws Exception {
+    Configuration conf = newConf();
+    conf.setInt("dfs.datanode.xceiver.read.threads", 1);
+    conf.setInt("dfs.datanode.xceiver.read.queue.size", 1);
+    startCluster(conf, 2);
+    RefusalCounter counter = new RefusalCounter();
+    InjectionHandler.set(counter);
+
+    Path path = new Path("/file");
+    byte[] data = writeFile(path, (short)2);
+    LocatedBlock block = getFirstBlock(conf, path);
+    assertEquals(2, block.getLocations().length);
+    // fill the pool of the datanode clients go to first
+    DataNode dn = getDataNode(block.getLocations()[0]);
+    ThreadPoolExecutor readPool = getServer(dn).getReadPool();
+    Blocker running = new Blocker();
+    Blocker queued = new Blocker();
+    readPool.execute(running);
+    assertTrue(running.started.await(60, TimeUnit.SECONDS));
+    readPool.execute(queued);
+    try {
+      Socket sock = connect(dn);
+      try {
+        sock.getOutputStream().write(readRequest(block.getBlock()));
+        assertClosed(sock);
+      } finally {
+        sock.close();
+      }
+      assertEquals(1, counter.refused.get());
+
+      // the first datanode of a block may be picked at random
+      for (int i = 0; i < 20 && counter.refused.get() == 1; i++) {
+        checkFile(path, data);
+      }
+      assertTrue(counter.refused.get() > 1);
+    } finally {
+      running.release.countDown();
+      queued.release.countDown();
+    }
+  }
+
+  /** A connection that never sends its operation is closed */
+  public void testIdleConnectionClosed() throws Exception {
+    Configuration conf = newConf();
+    // connections may stay idle for 5 socket timeouts
+    conf.setInt("dfs.socket.timeout", 1000);
+    startCluster(conf, 1);
+    DataNode dn = cluster.getDataNodes().get(0);
+    Socket sock = connect(dn);
+    try {
+      // one byte of the version is not an operation yet
+      sock.getOutputStream().write(0);
+      long start = System.currentTimeMillis();
+      assertClosed(sock);
+      assertTrue(System.currentTimeMillis() - start <
+                 HdfsConstants.READ_TIMEOUT);
+    } finally {
+      sock.close();
+    }
+    assertTrue(getServer(dn).childSockets.isEmpty());
+  }
+
+  /**
+   * Shutting down a datanode stops the selector and the pools, and closes
+   * the pending connections.
+   */
+  public void testKill() throws Exception {
+    startCluster(newConf(), 1);
+    DataNode dn = cluster.getDataNodes().get(0);
+    DataXceiverServer server = getServer(dn);
+    Thread selectorThread = dn.dataXceiverServer;
+    Blocker running = new Blocker();
+    server.getReadPool().execute(running);
+    assertTrue(running.started.await(60, TimeUnit.SECONDS));
+    Socket sock = connect(dn);
+    try {
+      dn.shutdown();
+      assertFalse(selectorThread.isAlive());
+      assertTrue(server.getReadPool().awaitTermination(60, TimeUnit.SECONDS));
+      assertTrue(server.getBalancePool().isShutdown());
+      assertTrue(running.interrupted);
+      assertClosed(sock);
+    } finally {
+      sock.close();
+    }
+  }
+}
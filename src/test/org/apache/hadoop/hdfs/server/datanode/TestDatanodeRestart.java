@@ -20,8 +20,11 @@ package org.apache.hadoop.hdfs.server.datanode;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FSDataOutputStream;
@@ -29,9 +32,12 @@ import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.hdfs.DFSTestUtil;
 import org.apache.hadoop.hdfs.MiniDFSCluster;
+import org.apache.hadoop.hdfs.MiniDFSCluster.DataNodeProperties;
 import org.apache.hadoop.hdfs.protocol.Block;
 import org.apache.hadoop.hdfs.server.datanode.FSDataset.FSVolume;
 import org.apache.hadoop.hdfs.server.protocol.NamespaceInfo;
+import org.apache.hadoop.hdfs.util.InjectionEvent;
+import org.apache.hadoop.hdfs.util.InjectionHandler;
 import org.apache.hadoop.io.IOUtils;
 
 import junit.framework.TestCase;
@@ -62,6 +68,126 @@ public class TestDatanodeRestart extends TestCase {
     }
   }
 
+  private static Map<Block, DatanodeBlockInfo> getVolumeMap(
+      MiniDFSCluster cluster, int namespaceId) {
+    DataNode dn = cluster.getDataNodes().get(0);
+    return ((FSDataset) dn.data).volumeMap.getNamespaceMap(namespaceId);
+  }
+
+  // test finalized replicas are restored from the replica index
+  public void testReplicaIndex() throws Exception {
+    Configuration conf = new Configuration();
+    conf.setLong("dfs.block.size", 1024L);
+    conf.setInt("dfs.write.packet.size", 512);
+    conf.setBoolean("dfs.datanode.replica.index", true);
+    MiniDFSCluster cluster = new MiniDFSCluster(conf, 1, true, null);
+    cluster.waitActive();
+    try {
+      FileSystem fs = cluster.getFileSystem();
+      int namespaceId =
+        cluster.getNameNode().versionRequest().getNamespaceID();
+      DFSTestUtil.createFile(fs, new Path("/file"), 10 * 1024L, (short)1, 1L);
+      Map<Block, DatanodeBlockInfo> before =
+        new HashMap<Block, DatanodeBlockInfo>(getVolumeMap(cluster, namespaceId));
+      assertEquals(10, before.size());
+
+      cluster.restartDataNodes();
+      cluster.waitActive();
+      Map<Block, DatanodeBlockInfo> after = getVolumeMap(cluster, namespaceId);
+      assertEquals(before.size(), after.size());
+      for (Map.Entry<Block, DatanodeBlockInfo> replica : before.entrySet()) {
+        DatanodeBlockInfo info = after.get(replica.getKey());
+        assertNotNull(info);
+        assertEquals(replica.getValue().getFile(), info.getFile());
+        assertEquals(replica.getValue().getFinalizedSize(),
+                     info.getFinalizedSize());
+      }
+      // the index is not used again after an unclean shutdown
+      File finalizedDir = before.values().iterator().next().getFile();
+      while (!finalizedDir.getName().equals(DataStorage.STORAGE_DIR_FINALIZED)) {
+        finalizedDir = finalizedDir.getParentFile();
+      }
+      assertFalse(new File(finalizedDir.getParentFile(),
+                           FSDataset.REPLICA_INDEX_FILE).exists());
+
+      // a replica deleted while the datanode is down is dropped later
+      DataNodeProperties dnprop = cluster.stopDataNode(0);
+      assertTrue(before.values().iterator().next().getFile().delete());
+      cluster.restartDataNode(dnprop);
+      cluster.waitActive();
+      for (int i = 0; i < 100 &&
+           getVolumeMap(cluster, namespaceId).size() == before.size(); i++) {
+        Thread.sleep(100);
+      }
+      assertEquals(before.size() - 1,
+                   getVolumeMap(cluster, namespaceId).size());
+    } finally {
+      cluster.shutdown();
+    }
+  }
+
+  /**
+   * Holds the verifier of the replica index until a block is invalidated,
+   * and the invalidation between the removal of the replica and the rename
+   * of its file until the verifier is done.
+   */
+  private static class InvalidateWhileVerifying extends InjectionHandler {
+    final CountDownLatch invalidated = new CountDownLatch(1);
+    final CountDownLatch verified = new CountDownLatch(1);
+
+    @Override
+    protected void _processEvent(InjectionEvent event, Object... args) {
+      try {
+        if (event == InjectionEvent.FSDATASET_VERIFY_REPLICA_INDEX) {
+          invalidated.await(60, TimeUnit.SECONDS);
+        } else if (event == InjectionEvent.FSDATASET_INVALIDATE_BEFORE_RENAME) {
+          invalidated.countDown();
+          verified.await(60, TimeUnit.SECONDS);
+        } else if (event == InjectionEvent.FSDATASET_REPLICA_INDEX_VERIFIED) {
+          verified.countDown();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  // test a replica invalidated while the replica index is verified is gone
+  public void testInvalidateWhileVerifyingReplicaIndex() throws Exception {
+    Configuration conf = new Configuration();
+    conf.setLong("dfs.block.size", 1024L);
+    conf.setInt("dfs.write.packet.size", 512);
+    conf.setBoolean("dfs.datanode.replica.index", true);
+    MiniDFSCluster cluster = new MiniDFSCluster(conf, 1, true, null);
+    cluster.waitActive();
+    InvalidateWhileVerifying handler = new InvalidateWhileVerifying();
+    try {
+      FileSystem fs = cluster.getFileSystem();
+      int namespaceId =
+        cluster.getNameNode().versionRequest().getNamespaceID();
+      DFSTestUtil.createFile(fs, new Path("/file"), 4 * 1024L, (short)1, 1L);
+      Block block =
+        getVolumeMap(cluster, namespaceId).keySet().iterator().next();
+
+      InjectionHandler.set(handler);
+      cluster.restartDataNodes();
+      cluster.waitActive();
+      DataNode dn = cluster.getDataNodes().get(0);
+      File blockFile = ((FSDataset) dn.data).getFile(namespaceId, block);
+      assertNotNull(blockFile);
+
+      // the verifier scans while the file is still there
+      dn.data.invalidate(namespaceId, new Block[] { block });
+      assertEquals(0, handler.verified.getCount());
+      assertFalse(blockFile.exists());
+      assertNull(getVolumeMap(cluster, namespaceId).get(block));
+      assertEquals(3, getVolumeMap(cluster, namespaceId).size());
+    } finally {
+      InjectionHandler.clear();
+      cluster.shutdown();
+    }
+  }
+
   // test rbw replicas persist across DataNode restarts
   public void testRbwReplicas() throws IOException {
     Configuration conf = new Configuration();
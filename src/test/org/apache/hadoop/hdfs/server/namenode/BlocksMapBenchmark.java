@@ -0,0 +1,161 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hdfs.server.namenode;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.hdfs.protocol.Block;
+
+/**
+ * Compares the heap footprint and the garbage collection cost of the blocks
+ * map with the datanode triplets kept on the heap and off the heap.
+ *
+ * The benchmark fills a blocks map with the given number of blocks, each
+ * one stored on replication datanodes, the way block reports do. It then
+ * reports the heap retained per block, the direct memory used, the
+ * collections run while filling the map and the length of a full
+ * collection with the map alive.
+ *
+ * Run it once per mode with the same heap settings, e.g.
+ * <pre>
+ * java -Xmx4g -XX:MaxDirectMemorySize=2g BlocksMapBenchmark -blocks 10000000
+ * java -Xmx4g -XX:MaxDirectMemorySize=2g BlocksMapBenchmark -blocks 10000000 -offheap
+ * </pre>
+ */
+public class BlocksMapBenchmark {
+  private static final Log LOG = LogFactory.getLog(BlocksMapBenchmark.class);
+
+  private final int numBlocks;
+  private final int numDatanodes;
+  private final int replication;
+  private final boolean offHeap;
+
+  BlocksMapBenchmark(int numBlocks, int numDatanodes, int replication,
+      boolean offHeap) {
+    if (replication > numDatanodes) {
+      throw new IllegalArgumentException("Replication " + replication
+          + " is larger than the number of datanodes " + numDatanodes);
+    }
+    this.numBlocks = numBlocks;
+    this.numDatanodes = numDatanodes;
+    this.replication = replication;
+    this.offHeap = offHeap;
+  }
+
+  private static long usedHeapAfterGC() {
+    Runtime rt = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return rt.totalMemory() - rt.freeMemory();
+  }
+
+  /** @return {number of collections, collection time in ms} so far */
+  private static long[] gcStats() {
+    long[] stats = new long[2];
+    for (GarbageCollectorMXBean gc :
+         ManagementFactory.getGarbageCollectorMXBeans()) {
+      stats[0] += Math.max(0, gc.getCollectionCount());
+      stats[1] += Math.max(0, gc.getCollectionTime());
+    }
+    return stats;
+  }
+
+  void run() {
+    long heapBefore = usedHeapAfterGC();
+    long[] gcBefore = gcStats();
+    long start = System.currentTimeMillis();
+
+    BlocksMap map = new BlocksMap(16, 0.75f, null);
+    if (offHeap) {
+      map.useOffHeapTriplets(replication);
+    }
+    DatanodeDescriptor[] nodes = new DatanodeDescriptor[numDatanodes];
+    for (int i = 0; i < numDatanodes; i++) {
+      nodes[i] = new DatanodeDescriptor();
+    }
+    Block b = new Block();
+    for (int i = 0; i < numBlocks; i++) {
+      b.set(i, 0, 1);
+      for (int r = 0; r < replication; r++) {
+        map.addNode(b, nodes[(i + r) % numDatanodes], replication);
+      }
+    }
+
+    long fillTime = System.currentTimeMillis() - start;
+    long[] gcAfter = gcStats();
+    long heapAfter = usedHeapAfterGC();
+    long gcStart = System.currentTimeMillis();
+    System.gc();
+    long fullGcTime = System.currentTimeMillis() - gcStart;
+
+    long heapUsed = heapAfter - heapBefore;
+    OffHeapTriplets store = map.getOffHeapTriplets();
+    long directUsed = store == null ? 0 : store.getAllocatedBytes();
+    LOG.info("--- blocks map " + (offHeap ? "off heap" : "on heap")
+        + " ---");
+    LOG.info("# blocks: " + map.size() + " x " + replication
+        + " replicas on " + numDatanodes + " datanodes");
+    LOG.info("Fill time (ms): " + fillTime);
+    LOG.info("Heap used (MB): " + (heapUsed >> 20) + " ("
+        + heapUsed / Math.max(1, numBlocks) + " bytes per block)");
+    LOG.info("Direct memory (MB): " + (directUsed >> 20));
+    LOG.info("Collections while filling: " + (gcAfter[0] - gcBefore[0])
+        + " taking " + (gcAfter[1] - gcBefore[1]) + " ms");
+    LOG.info("Full collection with the map alive (ms): " + fullGcTime);
+    // keep the map reachable until everything is measured
+    if (map.size() != numBlocks) {
+      throw new IllegalStateException("Expected " + numBlocks
+          + " blocks but the map has " + map.size());
+    }
+  }
+
+  private static void printUsage() {
+    System.err.println("Usage: BlocksMapBenchmark [-blocks N]"
+        + " [-datanodes N] [-replication N] [-offheap]");
+    System.exit(-1);
+  }
+
+  public static void main(String[] args) {
+    int numBlocks = 1000000;
+    int numDatanodes = 100;
+    int replication = 3;
+    boolean offHeap = false;
+    try {
+      for (int i = 0; i < args.length; i++) {
+        if (args[i].equals("-blocks")) {
+          numBlocks = Integer.parseInt(args[++i]);
+        } else if (args[i].equals("-datanodes")) {
+          numDatanodes = Integer.parseInt(args[++i]);
+        } else if (args[i].equals("-replication")) {
+          replication = Integer.parseInt(args[++i]);
+        } else if (args[i].equals("-offheap")) {
+          offHeap = true;
+        } else {
+          printUsage();
+        }
+      }
+    } catch (RuntimeException e) {
+      printUsage();
+    }
+    new BlocksMapBenchmark(numBlocks, numDatanodes, replication, offHeap).run();
+  }
+}
@@ -39,6 +39,7 @@ import org.apache.hadoop.hdfs.protocol.DatanodeInfo;
 import org.apache.hadoop.hdfs.protocol.FSConstants;
 import org.apache.hadoop.hdfs.protocol.LocatedBlock;
 import org.apache.hadoop.hdfs.protocol.LocatedBlocks;
+import org.apache.hadoop.hdfs.server.common.HdfsConstants;
 import org.apache.hadoop.hdfs.server.datanode.DataNode;
 import org.apache.hadoop.hdfs.server.datanode.DataStorage;
 import org.apache.hadoop.hdfs.server.protocol.BlockCommand;
@@ -142,6 +143,7 @@ public class NNThroughputBenchmark {
     protected int  numOpsExecuted = 0;    // number of operations executed
     protected long cumulativeTime = 0;    // sum of times for each op
     protected long elapsedTime = 0;       // time from start to finish
+    protected long[] opTimes = new long[0]; // sorted times of all ops
     protected boolean keepResults = false;// don't clean base directory on exit
 
     protected List<StatsDaemon> daemons;
@@ -237,6 +239,7 @@ public class NNThroughputBenchmark {
           incrementStats(d.localNumOpsExecuted, d.localCumulativeTime);
           // System.out.println(d.toString() + ": ops Exec = " + d.localNumOpsExecuted);
         }
+        collectOpTimes();
       }
     }
 
@@ -269,6 +272,29 @@ public class NNThroughputBenchmark {
       return numOpsExecuted == 0 ? 0 : cumulativeTime / numOpsExecuted;
     }
 
+    private void collectOpTimes() {
+      int total = 0;
+      for(StatsDaemon d : daemons)
+        total += d.localNumOpsExecuted;
+      opTimes = new long[total];
+      int pos = 0;
+      for(StatsDaemon d : daemons) {
+        System.arraycopy(d.localOpTimes, 0, opTimes, pos, d.localNumOpsExecuted);
+        pos += d.localNumOpsExecuted;
+      }
+      Arrays.sort(opTimes);
+    }
+
+    /**
+     * Time within which the given percentage of the operations finished.
+     */
+    long getPercentileTime(double percent) {
+      if(opTimes.length == 0)
+        return 0;
+      int idx = (int)Math.ceil(percent / 100 * opTimes.length) - 1;
+      return opTimes[Math.min(Math.max(idx, 0), opTimes.length - 1)];
+    }
+
     double getOpsPerSecond() {
       return elapsedTime == 0 ? 0 : 1000*(double)numOpsExecuted / elapsedTime;
     }
@@ -319,6 +345,7 @@ public class NNThroughputBenchmark {
       LOG.info("Elapsed Time: " + getElapsedTime());
       LOG.info(" Ops per sec: " + getOpsPerSecond());
       LOG.info("Average Time: " + getAverageTime());
+      LOG.info("    p99 Time: " + getPercentileTime(99));
     }
   }
 
@@ -331,11 +358,13 @@ public class NNThroughputBenchmark {
     private String arg1;      // argument passed to executeOp()
     private volatile int  localNumOpsExecuted = 0;
     private volatile long localCumulativeTime = 0;
+    private final long[] localOpTimes;
     private OperationStatsBase statsOp;
 
     StatsDaemon(int daemonId, int nrOps, OperationStatsBase op) {
       this.daemonId = daemonId;
       this.opsPerThread = nrOps;
+      this.localOpTimes = new long[nrOps];
       this.statsOp = op;
       setName(toString());
     }
@@ -360,6 +389,7 @@ public class NNThroughputBenchmark {
     void benchmarkOne() throws IOException {
       for(int idx = 0; idx < opsPerThread; idx++) {
         long stat = statsOp.executeOp(daemonId, idx, arg1);
+        localOpTimes[idx] = stat;
         localNumOpsExecuted++;
         localCumulativeTime += stat;
       }
@@ -528,10 +558,47 @@ public class NNThroughputBenchmark {
       LOG.info("nrFiles = " + numOpsRequired);
       LOG.info("nrThreads = " + numThreads);
       LOG.info("nrFilesPerDir = " + nameGenerator.getFilesPerDirectory());
+      LOG.info("nrPathLockStripes = "
+          + config.getInt("dfs.namenode.pathlock.stripes", 0));
+      LOG.info("editsGroupCommit = "
+          + config.getBoolean(HdfsConstants.DFS_EDIT_GROUP_COMMIT_KEY, false));
       printStats();
     }
   }
 
+  /**
+   * Directory creation statistics.
+   * 
+   * Each thread creates the same (+ or -1) number of directories.
+   * Directory names are pre-generated during initialization, so the
+   * parent directories are shared between threads.
+   */
+  class MkdirsStats extends CreateFileStats {
+    // Operation types
+    static final String OP_MKDIRS_NAME = "mkdirs";
+    static final String OP_MKDIRS_USAGE = 
+      "-op " + OP_MKDIRS_NAME + " [-threads T] [-files N] [-filesPerDir P]";
+
+    MkdirsStats(List<String> args) {
+      super(args);
+    }
+
+    String getOpName() {
+      return OP_MKDIRS_NAME;
+    }
+
+    /**
+     * Do mkdirs.
+     */
+    long executeOp(int daemonId, int inputIdx, String ignore) 
+    throws IOException {
+      long start = System.currentTimeMillis();
+      nameNode.mkdirs(fileNames[daemonId][inputIdx], FsPermission.getDefault());
+      long end = System.currentTimeMillis();
+      return end-start;
+    }
+  }
+
   /**
    * Open file statistics.
    * 
@@ -1113,6 +1180,7 @@ public class NNThroughputBenchmark {
     System.err.println("Usage: NNThroughputBenchmark"
         + "\n\t"    + OperationStatsBase.OP_ALL_USAGE
         + " | \n\t" + CreateFileStats.OP_CREATE_USAGE
+        + " | \n\t" + MkdirsStats.OP_MKDIRS_USAGE
         + " | \n\t" + OpenFileStats.OP_OPEN_USAGE
         + " | \n\t" + DeleteFileStats.OP_DELETE_USAGE
         + " | \n\t" + RenameFileStats.OP_RENAME_USAGE
@@ -1143,6 +1211,10 @@ public class NNThroughputBenchmark {
         opStat = bench.new CreateFileStats(args);
         ops.add(opStat);
       }
+      if(runAll || MkdirsStats.OP_MKDIRS_NAME.equals(type)) {
+        opStat = bench.new MkdirsStats(args);
+        ops.add(opStat);
+      }
       if(runAll || OpenFileStats.OP_OPEN_NAME.equals(type)) {
         opStat = bench.new OpenFileStats(args);
         ops.add(opStat);
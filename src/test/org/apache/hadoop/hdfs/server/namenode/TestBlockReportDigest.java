@@ -0,0 +1,130 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hdfs.server.namenode;
+
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.hdfs.DFSTestUtil;
+import org.apache.hadoop.hdfs.MiniDFSCluster;
+import org.apache.hadoop.hdfs.protocol.Block;
+import org.apache.hadoop.hdfs.protocol.FSConstants.DatanodeReportType;
+import org.apache.hadoop.hdfs.server.namenode.BlocksMap.BlockInfo;
+import org.apache.hadoop.hdfs.server.protocol.BlockReportDigest;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests that datanodes replace periodic full block reports by a digest
+ * while the namenode agrees with it, and fall back to a full report when
+ * the namenode has drifted.
+ */
+public class TestBlockReportDigest {
+  private static final long MAX_WAIT_TIME = 30 * 1000;
+
+  private MiniDFSCluster cluster;
+
+  @After
+  public void tearDown() throws Exception {
+    if (cluster != null) {
+      cluster.shutdown();
+    }
+  }
+
+  @Test
+  public void testDigest() {
+    BlockReportDigest forward = new BlockReportDigest();
+    BlockReportDigest backward = new BlockReportDigest();
+    Block[] blocks = new Block[100];
+    for (int i = 0; i < blocks.length; i++) {
+      blocks[i] = new Block(i, 0, 0);
+      forward.add(i);
+      backward.add(blocks.length - 1 - i);
+    }
+    assertTrue(forward.matches(backward.getNumBlocks(), backward.getDigest()));
+    BlockReportDigest report = BlockReportDigest.of(blocks);
+    assertTrue(forward.matches(report.getNumBlocks(), report.getDigest()));
+
+    forward.remove(5);
+    forward.add(100);
+    assertEquals(backward.getNumBlocks(), forward.getNumBlocks());
+    assertFalse(forward.matches(backward.getNumBlocks(),
+        backward.getDigest()));
+  }
+
+  @Test
+  public void testDigestReplacesFullReports() throws Exception {
+    Configuration conf = new Configuration();
+    conf.setBoolean("dfs.blockreport.digest", true);
+    conf.setInt("dfs.blockreport.digest.max.skipped", 1000);
+    conf.setLong("dfs.blockreport.intervalMsec", 500);
+    conf.setInt("dfs.fullblockreport.magnifier", 1);
+    conf.setLong("dfs.heartbeat.interval", 1);
+    conf.setInt("dfs.block.size", 1024);
+    cluster = new MiniDFSCluster(conf, 1, true, null);
+    FileSystem fs = cluster.getFileSystem();
+    DFSTestUtil util = new DFSTestUtil("/testDigest", 10, 1, 10 * 1024);
+    util.createFiles(fs, "/testDigest");
+
+    NameNode nn = cluster.getNameNode();
+    FSNamesystem ns = nn.getNamesystem();
+    DatanodeDescriptor dn =
+      ns.getDatanode(ns.datanodeReport(DatanodeReportType.LIVE)[0]);
+
+    // the namenode knows about every block: digests are accepted
+    waitForDigests(2);
+    long fullReports =
+      NameNode.getNameNodeMetrics().numBlockReport.getCurrentIntervalValue();
+
+    // make the namenode forget a replica
+    int numBlocks;
+    ns.writeLock();
+    try {
+      numBlocks = dn.numBlocks();
+      Iterator<Block> it = dn.getBlockIterator();
+      BlockInfo forgotten = (BlockInfo)it.next();
+      assertTrue(dn.removeBlock(forgotten));
+    } finally {
+      ns.writeUnlock();
+    }
+
+    // the digest no longer matches, and a full report restores the replica
+    long start = System.currentTimeMillis();
+    while (dn.numBlocks() != numBlocks) {
+      assertTrue("Replica was not reported again",
+          System.currentTimeMillis() - start < MAX_WAIT_TIME);
+      Thread.sleep(100);
+    }
+    assertTrue(NameNode.getNameNodeMetrics().numBlockReport
+        .getCurrentIntervalValue() > fullReports);
+    util.checkFiles(fs, "/testDigest");
+  }
+
+  private void waitForDigests(long count) throws InterruptedException {
+    long start = System.currentTimeMillis();
+    while (NameNode.getNameNodeMetrics().numBlockReportDigest
+        .getCurrentIntervalValue() < count) {
+      assertTrue("Timed out waiting for block report digests",
+          System.currentTimeMillis() - start < MAX_WAIT_TIME);
+      Thread.sleep(100);
+    }
+  }
+}
@@ -0,0 +1,147 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hdfs.server.namenode;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hdfs.MiniDFSCluster;
+import org.apache.hadoop.hdfs.util.InjectionEvent;
+import org.apache.hadoop.hdfs.util.InjectionHandler;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test that the namenode answers a mutation only once its edits are synced,
+ * without holding a handler during the sync.
+ */
+public class TestEditLogDelayedSync {
+
+  private MiniDFSCluster cluster;
+  private FileSystem fs;
+
+  @Before
+  public void setUp() throws Exception {
+    Configuration conf = new Configuration();
+    // a held handler would leave no other to answer
+    conf.setInt("dfs.namenode.handler.count", 1);
+    cluster = new MiniDFSCluster(conf, 0, true, null);
+    fs = cluster.getFileSystem();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    InjectionHandler.clear();
+    if (cluster != null) {
+      cluster.shutdown();
+    }
+  }
+
+  /**
+   * Holds the next sync of the edit log until it is released.
+   */
+  private static class HoldSync extends InjectionHandler {
+    final CountDownLatch syncing = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+
+    @Override
+    protected void _processEvent(InjectionEvent event, Object... args) {
+      if (event == InjectionEvent.FSEDITLOG_BEFORE_SYNC &&
+          syncing.getCount() > 0) {
+        syncing.countDown();
+        try {
+          release.await(60, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }
+  }
+
+  private abstract static class Mutation extends Thread {
+    volatile Throwable failure;
+
+    abstract void mutate() throws IOException;
+
+    public void run() {
+      try {
+        mutate();
+      } catch (Throwable t) {
+        failure = t;
+      }
+    }
+  }
+
+  /**
+   * Run a mutation while the sync of its edits is held, and check that
+   * the only handler answers other calls meanwhile, and that the mutation
+   * returns only after the sync.
+   */
+  private void checkAnsweredAfterSync(Mutation mutation, Path path)
+      throws Exception {
+    FSEditLog editLog = cluster.getNameNode().getFSImage().getEditLog();
+    HoldSync handler = new HoldSync();
+    InjectionHandler.set(handler);
+    mutation.start();
+    try {
+      assertTrue("The edits were not synced",
+          handler.syncing.await(10, TimeUnit.SECONDS));
+      long synced = editLog.getLastSyncedTxId();
+      assertTrue(editLog.getCurrentTxId() > synced);
+
+      // the handler is free while the edits are synced
+      assertTrue(fs.exists(path));
+      mutation.join(200);
+      assertTrue("Answered before the edits were synced", mutation.isAlive());
+      assertEquals(synced, editLog.getLastSyncedTxId());
+    } finally {
+      handler.release.countDown();
+    }
+    mutation.join(10000);
+    assertFalse(mutation.isAlive());
+    assertNull("The mutation failed: " + mutation.failure, mutation.failure);
+    assertEquals(editLog.getCurrentTxId(), editLog.getLastSyncedTxId());
+  }
+
+  @Test
+  public void testMkdirs() throws Exception {
+    final Path dir = new Path("/delayed/dir");
+    checkAnsweredAfterSync(new Mutation() {
+      void mutate() throws IOException {
+        fs.mkdirs(dir);
+      }
+    }, dir);
+  }
+
+  @Test
+  public void testCreate() throws Exception {
+    final Path file = new Path("/delayed/file");
+    checkAnsweredAfterSync(new Mutation() {
+      void mutate() throws IOException {
+        fs.create(file, (short)1).close();
+      }
+    }, file);
+  }
+}
@@ -0,0 +1,148 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hdfs.server.namenode;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hdfs.MiniDFSCluster;
+import org.apache.hadoop.hdfs.server.common.HdfsConstants;
+import org.junit.Test;
+
+/**
+ * Test for {@link EditsRingBuffer} and the group commit mode of
+ * {@link FSEditLog}.
+ */
+public class TestEditLogGroupCommit {
+
+  @Test
+  public void testRecordsAreTakenInOrder() throws Exception {
+    final int numThreads = 4;
+    final int perThread = 5000;
+    final long first = 17;
+    // small enough for the producers to wrap around many times
+    final EditsRingBuffer queue = new EditsRingBuffer(100, first);
+    assertEquals(128, queue.getCapacity());
+
+    Thread[] producers = new Thread[numThreads];
+    for (int i = 0; i < numThreads; i++) {
+      producers[i] = new Thread() {
+        public void run() {
+          for (int j = 0; j < perThread; j++) {
+            long txid = queue.reserve();
+            queue.publish(txid, ByteBuffer.allocate(8).putLong(txid).array());
+          }
+        }
+      };
+      producers[i].start();
+    }
+
+    long expected = first;
+    long end = first + numThreads * perThread;
+    while (expected < end) {
+      byte[] record = queue.poll();
+      if (record == null) {
+        queue.awaitRecord(TimeUnit.MILLISECONDS.toNanos(10));
+        continue;
+      }
+      assertEquals(expected, ByteBuffer.wrap(record).getLong());
+      expected++;
+      assertEquals(expected, queue.getConsumedTxId());
+    }
+    for (Thread t : producers) {
+      t.join();
+    }
+    assertNull(queue.poll());
+    assertEquals(end, queue.getNextTxId());
+    assertFalse(queue.isDrained());
+    queue.markDurable(end);
+    assertTrue(queue.isDrained());
+  }
+
+  @Test
+  public void testAwaitDurable() throws Exception {
+    final EditsRingBuffer queue = new EditsRingBuffer(8, 0);
+    final long txid = queue.reserve();
+    queue.publish(txid, new byte[1]);
+    Thread waiter = new Thread() {
+      public void run() {
+        queue.awaitDurable(txid + 1);
+      }
+    };
+    waiter.start();
+    waiter.join(200);
+    assertTrue("Returned before the edit was durable", waiter.isAlive());
+    queue.markDurable(txid + 1);
+    waiter.join(10000);
+    assertFalse(waiter.isAlive());
+  }
+
+  /**
+   * Edits written in group commit mode must be read back after a restart.
+   */
+  @Test
+  public void testEditsSurviveRestart() throws Exception {
+    Configuration conf = new Configuration();
+    conf.setBoolean(HdfsConstants.DFS_EDIT_GROUP_COMMIT_KEY, true);
+    conf.setInt(HdfsConstants.DFS_EDIT_GROUP_COMMIT_QUEUE_SIZE_KEY, 16);
+    final int numThreads = 4;
+    final int perThread = 50;
+    MiniDFSCluster cluster = new MiniDFSCluster(conf, 0, true, null);
+    try {
+      final FileSystem fs = cluster.getFileSystem();
+      Thread[] workers = new Thread[numThreads];
+      final Throwable[] failure = new Throwable[1];
+      for (int i = 0; i < numThreads; i++) {
+        final int id = i;
+        workers[i] = new Thread() {
+          public void run() {
+            try {
+              for (int j = 0; j < perThread; j++) {
+                fs.mkdirs(new Path("/groupcommit/t" + id + "/d" + j));
+              }
+            } catch (Throwable t) {
+              failure[0] = t;
+            }
+          }
+        };
+        workers[i].start();
+      }
+      for (Thread t : workers) {
+        t.join();
+      }
+      assertNull("mkdirs failed: " + failure[0], failure[0]);
+      FSEditLog editLog = cluster.getNameNode().getFSImage().getEditLog();
+      assertEquals(editLog.getCurrentTxId(), editLog.getLastSyncedTxId());
+
+      cluster.restartNameNode();
+      FileSystem restarted = cluster.getFileSystem();
+      for (int i = 0; i < numThreads; i++) {
+        for (int j = 0; j < perThread; j++) {
+          assertTrue(restarted.exists(new Path("/groupcommit/t" + i + "/d" + j)));
+        }
+      }
+    } finally {
+      cluster.shutdown();
+    }
+  }
+}
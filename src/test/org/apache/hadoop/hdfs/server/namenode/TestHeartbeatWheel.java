@@ -0,0 +1,119 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hdfs.server.namenode;
+
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.apache.hadoop.hdfs.protocol.DatanodeID;
+
+/**
+ * Test the expiry of datanodes by {@link HeartbeatWheel} and the totals
+ * kept in {@link StripedCounter}.
+ */
+public class TestHeartbeatWheel extends TestCase {
+  private static final long TICK = 100;
+  private static final long EXPIRE = 1000;
+
+  private static DatanodeDescriptor node(String name, long lastUpdate) {
+    DatanodeDescriptor node = new DatanodeDescriptor(new DatanodeID(name));
+    node.setLastUpdate(lastUpdate);
+    return node;
+  }
+
+  public void testExpiry() {
+    HeartbeatWheel wheel = new HeartbeatWheel(TICK, EXPIRE, 0);
+    DatanodeDescriptor quiet = node("quiet:1", 0);
+    DatanodeDescriptor busy = node("busy:1", 0);
+    wheel.add(quiet);
+    wheel.add(busy);
+    assertEquals(2, wheel.size());
+
+    // nothing is due before the expiry interval
+    assertTrue(wheel.poll(EXPIRE - TICK).isEmpty());
+    assertEquals(2, wheel.size());
+
+    // the busy node heartbeats without touching the wheel
+    busy.setLastUpdate(EXPIRE / 2);
+    List<DatanodeDescriptor> expired = wheel.poll(EXPIRE + TICK);
+    assertEquals(1, expired.size());
+    assertSame(quiet, expired.get(0));
+    assertEquals(1, wheel.size());
+
+    // the busy node was rescheduled by its last heartbeat
+    assertTrue(wheel.poll(EXPIRE + EXPIRE / 2).isEmpty());
+    expired = wheel.poll(2 * EXPIRE + TICK);
+    assertEquals(1, expired.size());
+    assertSame(busy, expired.get(0));
+    assertEquals(0, wheel.size());
+  }
+
+  public void testMarkedDead() {
+    long now = 10 * EXPIRE;
+    HeartbeatWheel wheel = new HeartbeatWheel(TICK, EXPIRE, now);
+    DatanodeDescriptor node = node("dead:1", now);
+    wheel.add(node);
+    assertTrue(wheel.poll(now + 10).isEmpty());
+
+    // a node marked dead is found by the next poll, even in the same tick
+    node.setLastUpdate(0);
+    wheel.add(node);
+    assertEquals(1, wheel.size());
+    List<DatanodeDescriptor> expired = wheel.poll(now + 20);
+    assertEquals(1, expired.size());
+    assertSame(node, expired.get(0));
+
+    wheel.add(node);
+    wheel.remove(node);
+    assertEquals(0, wheel.size());
+    assertTrue(wheel.poll(2 * now).isEmpty());
+  }
+
+  public void testChangeIntervals() {
+    HeartbeatWheel wheel = new HeartbeatWheel(TICK, 100 * EXPIRE, 0);
+    DatanodeDescriptor node = node("node:1", 0);
+    wheel.add(node);
+    assertTrue(wheel.poll(2 * EXPIRE).isEmpty());
+
+    // a shorter expiry interval applies to the nodes already on the wheel
+    wheel.setIntervals(TICK, EXPIRE, 2 * EXPIRE);
+    assertEquals(1, wheel.size());
+    assertEquals(1, wheel.poll(2 * EXPIRE + TICK).size());
+  }
+
+  public void testStripedCounter() throws Exception {
+    final StripedCounter counter = new StripedCounter(4);
+    Thread[] threads = new Thread[8];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] = new Thread() {
+        public void run() {
+          for (int j = 0; j < 1000; j++) {
+            counter.add(3);
+            counter.add(-1);
+          }
+        }
+      };
+      threads[i].start();
+    }
+    for (Thread t : threads) {
+      t.join();
+    }
+    assertEquals(threads.length * 1000 * 2, counter.get());
+  }
+}
@@ -0,0 +1,155 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hdfs.server.namenode;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.hadoop.fs.permission.FsPermission;
+import org.apache.hadoop.fs.permission.PermissionStatus;
+import org.apache.hadoop.hdfs.DFSUtil;
+import org.apache.hadoop.hdfs.protocol.Block;
+import org.apache.hadoop.hdfs.server.namenode.BlocksMap.BlockInfo;
+import org.junit.Test;
+
+/**
+ * Test for the array backed children of {@link INodeDirectory}
+ */
+public class TestINodeDirectory {
+  private static final PermissionStatus PERM =
+    new PermissionStatus("user", "group", FsPermission.getDefault());
+
+  private static INodeFile newFile(String name, long blockId) {
+    BlockInfo[] blocks = { new BlockInfo(new Block(blockId, 0, 0), 1) };
+    INodeFile file = new INodeFile(PERM, blocks, (short)1, 0L, 0L, 1024L);
+    file.setLocalName(name);
+    return file;
+  }
+
+  private static INodeDirectory newDirectory(boolean copyOnWrite,
+                                             String... children) {
+    INodeDirectory dir = new INodeDirectory("dir", PERM);
+    long blockId = 0;
+    for (String name : children) {
+      assertNotNull(dir.addChild(newFile(name, blockId++), false,
+                                 copyOnWrite));
+    }
+    return dir;
+  }
+
+  private static void assertChildren(INodeDirectory dir, String... names) {
+    List<INode> children = dir.getChildren();
+    assertEquals(names.length, children.size());
+    assertEquals(names.length, dir.getNumChildren());
+    for (int i = 0; i < names.length; i++) {
+      assertEquals(names[i], children.get(i).getLocalName());
+      assertSame(dir, children.get(i).getParent());
+    }
+  }
+
+  @Test
+  public void testAddAndLookup() {
+    // enough children to make the array grow several times
+    INodeDirectory dir =
+      newDirectory(false, "m", "c", "x", "a", "q", "b", "z", "k");
+    assertChildren(dir, "a", "b", "c", "k", "m", "q", "x", "z");
+    assertNull("duplicate name",
+               dir.addChild(newFile("k", 100), false, false));
+    assertEquals("q", dir.getChild("q").getLocalName());
+    assertNull(dir.getChild("n"));
+
+    assertEquals(0, dir.nextChild(DFSUtil.string2Bytes("")));
+    assertEquals(4, dir.nextChild(DFSUtil.string2Bytes("k")));
+    assertEquals(4, dir.nextChild(DFSUtil.string2Bytes("l")));
+    assertEquals(8, dir.nextChild(DFSUtil.string2Bytes("zz")));
+  }
+
+  @Test
+  public void testRemoveAndReplace() {
+    INodeDirectory dir = newDirectory(false, "b", "a", "c");
+    INodeFile c = newFile("c", 10);
+    dir.replaceChild(c, false);
+    assertSame(c, dir.getChild("c"));
+
+    assertNotNull(dir.removeChild(newFile("a", 11), false));
+    assertNull(dir.removeChild(newFile("a", 12), false));
+    assertChildren(dir, "b", "c");
+    assertNotNull(dir.removeChild(c, false));
+    assertNotNull(dir.removeChild(newFile("b", 13), false));
+    assertEquals(0, dir.getChildren().size());
+    assertNull(dir.getChild("b"));
+    assertEquals(0, dir.nextChild(DFSUtil.string2Bytes("b")));
+  }
+
+  @Test
+  public void testCollectBlocksWithLimit() {
+    INodeDirectory dir = newDirectory(false, "a", "b", "c", "d", "e");
+    List<Block> blocks = new ArrayList<Block>();
+    // stops after two files, which leaves the rest in the directory
+    assertEquals(2, dir.collectSubtreeBlocksAndClear(blocks, 2, false));
+    assertEquals(2, blocks.size());
+    assertChildren(dir, "c", "d", "e");
+    // no limit: the directory itself is counted too
+    assertEquals(4, dir.collectSubtreeBlocksAndClear(blocks,
+        FSDirectory.BLOCK_DELETION_NO_LIMIT, false));
+    assertEquals(5, blocks.size());
+    assertNull(dir.getChildrenRaw());
+  }
+
+  @Test
+  public void testCopyOnWrite() {
+    INodeDirectory dir = newDirectory(true, "c", "a", "b");
+    INode[] snapshot = dir.getChildrenLockFree();
+    assertEquals(3, snapshot.length);
+
+    assertNotNull(dir.addChild(newFile("d", 10), false, true));
+    INodeFile b = newFile("b", 11);
+    dir.replaceChild(b, true);
+    assertSame(dir, b.getParent());
+    assertNotNull(dir.removeChild(newFile("a", 12), true));
+    assertChildren(dir, "b", "c", "d");
+    assertSame(b, dir.getChildINodeLockFree(DFSUtil.string2Bytes("b")));
+    assertNull(dir.getChildINodeLockFree(DFSUtil.string2Bytes("a")));
+    assertEquals(3, dir.getChildrenLockFree().length);
+
+    // an array handed out to a reader never changes
+    assertEquals(3, snapshot.length);
+    assertEquals("a", snapshot[0].getLocalName());
+    assertNotSame(b, snapshot[1]);
+    assertEquals("c", snapshot[2].getLocalName());
+
+    List<Block> blocks = new ArrayList<Block>();
+    snapshot = dir.getChildrenLockFree();
+    assertEquals(1, dir.collectSubtreeBlocksAndClear(blocks, 1, true));
+    assertChildren(dir, "c", "d");
+    assertEquals("b", snapshot[0].getLocalName());
+  }
+
+  @Test
+  public void testListHeapOverhead() {
+    // an exactly sized list only costs the list object
+    assertEquals(INodeDirectory.CHILDREN_LIST_OVERHEAD,
+        INodeDirectory.listHeapOverhead(5));
+    // 5 -> 8 -> 13: three unused slots
+    assertEquals(INodeDirectory.CHILDREN_LIST_OVERHEAD
+        + 3 * INodeDirectory.REFERENCE_SIZE,
+        INodeDirectory.listHeapOverhead(10));
+  }
+}
@@ -67,4 +67,41 @@ public class TestLeaseManager extends TestCase {
     verify(spyNamesystem).internalReleaseLeaseOne((LeaseManager.Lease)anyObject(), eq("/file-2"), eq(false));
     verify(spyNamesystem, never()).internalReleaseLease((LeaseManager.Lease)anyObject(), anyString(), (INodeFileUnderConstruction)anyObject());
   }
+
+  /*
+   * test case: a lease that is renewed is not recovered, even though it
+   * was added together with one that expires
+   */
+  public void testRenewedLeaseNotRecovered()
+    throws IOException, InterruptedException {
+    Configuration conf = new Configuration();
+    MiniDFSCluster cluster = new MiniDFSCluster(conf, 1, true, null);
+    try {
+      FSNamesystem spyNamesystem = spy(cluster.getNameNode().getNamesystem());
+      LeaseManager leaseManager = new LeaseManager(spyNamesystem);
+      spyNamesystem.leaseManager = leaseManager;
+      spyNamesystem.lmthread.interrupt();
+
+      leaseManager.setLeasePeriod(100, 500);
+      leaseManager.addLease("client-1", "/expired", System.currentTimeMillis());
+      leaseManager.addLease("client-2", "/renewed", System.currentTimeMillis());
+      assertEquals(2, leaseManager.countLease());
+      for (int i = 0; i < 10; i++) {
+        Thread.sleep(100);
+        leaseManager.renewLease("client-2");
+      }
+
+      synchronized (spyNamesystem) {
+        leaseManager.checkLeases();
+      }
+
+      verify(spyNamesystem).internalReleaseLeaseOne(
+          (LeaseManager.Lease)anyObject(), eq("/expired"), eq(false));
+      verify(spyNamesystem, never()).internalReleaseLeaseOne(
+          (LeaseManager.Lease)anyObject(), eq("/renewed"), eq(false));
+      assertNotNull(leaseManager.getLeaseByPath("/renewed"));
+    } finally {
+      cluster.shutdown();
+    }
+  }
 }
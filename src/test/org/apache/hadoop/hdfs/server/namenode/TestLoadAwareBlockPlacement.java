@@ -0,0 +1,118 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hdfs.server.namenode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hdfs.protocol.DatanodeID;
+import org.apache.hadoop.hdfs.protocol.FSConstants;
+import org.apache.hadoop.net.NetworkTopology;
+
+public class TestLoadAwareBlockPlacement extends TestCase {
+  private static final int BLOCK_SIZE = 1024;
+  private static final long CAPACITY =
+    100 * FSConstants.MIN_BLOCKS_FOR_WRITE * BLOCK_SIZE;
+  private static final int NUM_OF_TRIALS = 1000;
+
+  private NetworkTopology cluster;
+  private DatanodeDescriptor[] dataNodes;
+  private int totalLoad;
+  private BlockPlacementPolicyLoadAware replicator;
+
+  protected void setUp() throws Exception {
+    cluster = new NetworkTopology();
+    dataNodes = new DatanodeDescriptor[4];
+    for (int i = 0; i < dataNodes.length; i++) {
+      dataNodes[i] = new DatanodeDescriptor(
+          new DatanodeID("h" + i + ":5020"), "/d1/r" + (i % 2));
+      dataNodes[i].updateHeartbeat(CAPACITY, 0L, CAPACITY, 0L, 0);
+      cluster.add(dataNodes[i]);
+    }
+    Configuration conf = new Configuration();
+    // leave it to the costs to avoid busy nodes
+    conf.setBoolean("dfs.replication.considerLoad", false);
+    replicator = new BlockPlacementPolicyLoadAware(conf,
+        new FSClusterStats() {
+          public int getTotalLoad() {
+            return totalLoad;
+          }
+        }, cluster);
+  }
+
+  /** @return how often each data node is chosen as the only target */
+  private int[] chooseSingleTargets() {
+    int[] chosen = new int[dataNodes.length];
+    List<DatanodeDescriptor> none = new ArrayList<DatanodeDescriptor>();
+    for (int i = 0; i < NUM_OF_TRIALS; i++) {
+      DatanodeDescriptor[] targets =
+        replicator.chooseTarget(1, null, none, null, BLOCK_SIZE);
+      assertEquals(1, targets.length);
+      for (int j = 0; j < dataNodes.length; j++) {
+        if (targets[0] == dataNodes[j]) {
+          chosen[j]++;
+        }
+      }
+    }
+    return chosen;
+  }
+
+  /**
+   * A busy node is only chosen when both candidates are the busy node,
+   * about one time in sixteen with four nodes.
+   */
+  public void testAvoidBusyNode() {
+    dataNodes[0].updateHeartbeat(CAPACITY, 0L, CAPACITY, 0L, 20);
+    totalLoad = 20;
+    int[] chosen = chooseSingleTargets();
+    assertTrue("busy node chosen " + chosen[0] + " times",
+               chosen[0] < NUM_OF_TRIALS / 8);
+    for (int i = 1; i < dataNodes.length; i++) {
+      assertTrue(chosen[i] > NUM_OF_TRIALS / 8);
+    }
+  }
+
+  public void testAvoidFullNode() {
+    dataNodes[1].updateHeartbeat(CAPACITY, CAPACITY / 10 * 9,
+                                 CAPACITY / 10, 0L, 0);
+    int[] chosen = chooseSingleTargets();
+    assertTrue("full node chosen " + chosen[1] + " times",
+               chosen[1] < NUM_OF_TRIALS / 8);
+  }
+
+  public void testCost() {
+    List<DatanodeDescriptor> results = new ArrayList<DatanodeDescriptor>();
+    double idle = replicator.getCost(dataNodes[0], 0, results);
+    assertEquals(0.0, idle);
+
+    // a replica on the rack costs more than none
+    results.add(dataNodes[2]);
+    assertTrue(replicator.getCost(dataNodes[0], 0, results) > idle);
+    assertEquals(idle, replicator.getCost(dataNodes[1], 0, results));
+
+    // scheduled writes count like transfers in progress
+    dataNodes[3].incBlocksScheduled();
+    double scheduled = replicator.getCost(dataNodes[3], 1, results);
+    dataNodes[3].decBlocksScheduled();
+    dataNodes[3].updateHeartbeat(CAPACITY, 0L, CAPACITY, 0L, 1);
+    assertEquals(scheduled, replicator.getCost(dataNodes[3], 1, results));
+  }
+}
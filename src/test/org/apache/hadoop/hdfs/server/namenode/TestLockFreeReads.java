@@ -0,0 +1,85 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hdfs.server.namenode;
+
+import static org.junit.Assert.*;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hdfs.MiniDFSCluster;
+import org.apache.hadoop.hdfs.server.common.HdfsConstants;
+import org.junit.Test;
+
+/**
+ * Test getFileInfo and listings that read the namespace without locks
+ * while it is being modified.
+ */
+public class TestLockFreeReads {
+
+  @Test
+  public void testReadsWhileModified() throws Exception {
+    Configuration conf = new Configuration();
+    conf.setBoolean(HdfsConstants.DFS_NAMENODE_LOCKFREE_READS_KEY, true);
+    conf.setInt("dfs.ls.limit", 7);
+    final int numDirs = 200;
+    MiniDFSCluster cluster = new MiniDFSCluster(conf, 0, true, null);
+    try {
+      final FileSystem fs = cluster.getFileSystem();
+      final Path base = new Path("/lockfree");
+      assertTrue(fs.mkdirs(base));
+      final Throwable[] failure = new Throwable[1];
+      Thread writer = new Thread() {
+        public void run() {
+          try {
+            for (int i = 0; i < numDirs; i++) {
+              assertTrue(fs.mkdirs(new Path(base, "d" + i)));
+              if (i % 3 == 0) {
+                assertTrue(fs.delete(new Path(base, "d" + i), true));
+              }
+            }
+          } catch (Throwable t) {
+            failure[0] = t;
+          }
+        }
+      };
+      writer.start();
+      while (writer.isAlive()) {
+        // a listing never goes back and never repeats a name
+        FileStatus[] listing = fs.listStatus(base);
+        for (int i = 1; i < listing.length; i++) {
+          assertTrue(listing[i - 1].getPath().getName().compareTo(
+              listing[i].getPath().getName()) < 0);
+        }
+        assertTrue(fs.getFileStatus(base).isDir());
+      }
+      writer.join();
+      assertNull("writer failed: " + failure[0], failure[0]);
+
+      FileStatus[] listing = fs.listStatus(base);
+      assertEquals(numDirs - (numDirs + 2) / 3, listing.length);
+      for (int i = 0; i < numDirs; i++) {
+        assertEquals(i % 3 != 0, fs.exists(new Path(base, "d" + i)));
+      }
+      assertNull(cluster.getNameNode().namesystem.getFileInfo("/lockfree/d0"));
+    } finally {
+      cluster.shutdown();
+    }
+  }
+}
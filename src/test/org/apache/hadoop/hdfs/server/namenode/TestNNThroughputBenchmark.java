@@ -37,4 +37,34 @@ public class TestNNThroughputBenchmark extends TestCase {
     String[] args = new String[] {"-op", "all"};
     NNThroughputBenchmark.runBenchmark(conf, Arrays.asList(args));
   }
+
+  /**
+   * Run the namespace mutation benchmarks with path locking enabled.
+   */
+  public void testNNThroughputWithPathLocks() throws Exception {
+    Configuration conf = new Configuration();
+    FileSystem.setDefaultUri(conf, "hdfs://localhost:" + 0);
+    conf.set("dfs.http.address", "0.0.0.0:0");
+    conf.setInt("dfs.namenode.pathlock.stripes", 64);
+    NameNode.format(conf);
+    NNThroughputBenchmark.runBenchmark(conf, Arrays.asList(new String[] {
+        "-op", "create", "-threads", "4", "-files", "200"}));
+    NNThroughputBenchmark.runBenchmark(conf, Arrays.asList(new String[] {
+        "-op", "mkdirs", "-threads", "4", "-files", "200"}));
+  }
+
+  /**
+   * Run the namespace mutation benchmarks with edit log group commit.
+   */
+  public void testNNThroughputWithGroupCommit() throws Exception {
+    Configuration conf = new Configuration();
+    FileSystem.setDefaultUri(conf, "hdfs://localhost:" + 0);
+    conf.set("dfs.http.address", "0.0.0.0:0");
+    conf.setBoolean("dfs.namenode.edits.groupcommit", true);
+    NameNode.format(conf);
+    NNThroughputBenchmark.runBenchmark(conf, Arrays.asList(new String[] {
+        "-op", "create", "-threads", "4", "-files", "200"}));
+    NNThroughputBenchmark.runBenchmark(conf, Arrays.asList(new String[] {
+        "-op", "mkdirs", "-threads", "4", "-files", "200"}));
+  }
 }
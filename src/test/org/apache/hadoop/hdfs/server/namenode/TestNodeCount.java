@@ -60,7 +60,7 @@ public class TestNodeCount extends TestCase {
       DataNodeProperties dnprop = cluster.stopDataNode(datanode.getName());
       // make sure that NN detects that the datanode is down
       synchronized (namesystem.heartbeats) {
-        datanode.setLastUpdate(0); // mark it dead
+        namesystem.setDatanodeDead(datanode); // mark it dead
         namesystem.heartbeatCheck();
       }
 
@@ -98,7 +98,7 @@ public class TestNodeCount extends TestCase {
       dnprop = cluster.stopDataNode(nonExcessDN.getName());
       // make sure that NN detects that the datanode is down
       synchronized (namesystem.heartbeats) {
-        nonExcessDN.setLastUpdate(0); // mark it dead
+        namesystem.setDatanodeDead(nonExcessDN); // mark it dead
         namesystem.heartbeatCheck();
       }
       
@@ -0,0 +1,166 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hdfs.server.namenode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.hdfs.DFSTestUtil;
+import org.apache.hadoop.hdfs.MiniDFSCluster;
+import org.apache.hadoop.hdfs.protocol.Block;
+import org.apache.hadoop.hdfs.server.common.GenerationStamp;
+import org.apache.hadoop.hdfs.server.namenode.BlocksMap.BlockInfo;
+import org.apache.hadoop.hdfs.server.namenode.DatanodeDescriptor.DatanodeIndex;
+
+/**
+ * Tests for {@link OffHeapTriplets}, the off-heap storage of the datanode
+ * triplets of the blocks map.
+ */
+public class TestOffHeapTriplets extends TestCase {
+
+  private static final int NUM_BLOCKS = 100;
+
+  private static List<BlockInfo> addBlocks(OffHeapTriplets store,
+      DatanodeDescriptor... nodes) {
+    List<BlockInfo> blocks = new ArrayList<BlockInfo>();
+    for (int i = 0; i < NUM_BLOCKS; i++) {
+      BlockInfo b = store.newBlockInfo(
+          new Block(i, 0, GenerationStamp.FIRST_VALID_STAMP));
+      for (DatanodeDescriptor dn : nodes) {
+        assertTrue(dn.addBlock(b));
+      }
+      blocks.add(b);
+    }
+    return blocks;
+  }
+
+  public void testBlockLists() throws Exception {
+    OffHeapTriplets store = new OffHeapTriplets(3);
+    DatanodeDescriptor dn1 = new DatanodeDescriptor();
+    DatanodeDescriptor dn2 = new DatanodeDescriptor();
+    List<BlockInfo> blocks = addBlocks(store, dn1, dn2);
+    assertEquals(NUM_BLOCKS, store.getNumBlocks());
+
+    for (BlockInfo b : blocks) {
+      assertEquals(2, b.numNodes());
+      assertEquals(0, b.findDatanode(dn1));
+      assertEquals(1, b.findDatanode(dn2));
+      assertSame(dn2, b.getDatanode(1));
+      assertFalse("already on the node", dn1.addBlock(b));
+    }
+    BlockInfo head = blocks.get(NUM_BLOCKS - 1);
+    assertEquals(NUM_BLOCKS, head.listCount(dn1));
+    assertTrue(head.listIsConsistent(dn2));
+
+    // move every block to the head of the list of the first node
+    DatanodeIndex ind = new DatanodeIndex();
+    ind.headIndex = head.findDatanode(dn1);
+    for (BlockInfo b : blocks) {
+      ind.currentIndex = b.findDatanode(dn1);
+      head = dn1.listMoveToHead(b, head, ind);
+      assertSame(b, head);
+      assertEquals(NUM_BLOCKS, head.listCount(dn1));
+    }
+    assertTrue(head.listIsConsistent(dn1));
+
+    // drop the second replica of every other block
+    for (int i = 0; i < NUM_BLOCKS; i += 2) {
+      assertTrue(dn2.removeBlock(blocks.get(i)));
+      assertEquals(1, blocks.get(i).numNodes());
+      assertEquals(-1, blocks.get(i).findDatanode(dn2));
+    }
+    assertEquals(NUM_BLOCKS / 2, dn2.numBlocks());
+  }
+
+  public void testMoreReplicasThanSlots() throws Exception {
+    OffHeapTriplets store = new OffHeapTriplets(1);
+    DatanodeDescriptor dn1 = new DatanodeDescriptor();
+    DatanodeDescriptor dn2 = new DatanodeDescriptor();
+    DatanodeDescriptor dn3 = new DatanodeDescriptor();
+    List<BlockInfo> blocks = addBlocks(store, dn1);
+    // the second and third replica move the triplets to the heap
+    BlockInfo moved = blocks.get(NUM_BLOCKS / 2);
+    assertTrue(dn2.addBlock(moved));
+    assertTrue(dn3.addBlock(moved));
+    assertEquals(3, moved.numNodes());
+    assertSame(dn1, moved.getDatanode(0));
+    assertSame(dn3, moved.getDatanode(2));
+
+    // the lists through the moved block are intact
+    BlockInfo head = blocks.get(NUM_BLOCKS - 1);
+    assertEquals(NUM_BLOCKS, head.listCount(dn1));
+    assertTrue(head.listIsConsistent(dn1));
+    assertEquals(1, moved.listCount(dn3));
+  }
+
+  public void testRelease() throws Exception {
+    OffHeapTriplets store = new OffHeapTriplets(2);
+    DatanodeDescriptor dn = new DatanodeDescriptor();
+    List<BlockInfo> blocks = addBlocks(store, dn);
+    for (int i = 0; i < NUM_BLOCKS; i += 2) {
+      BlockInfo b = blocks.get(i);
+      assertTrue(dn.removeBlock(b));
+      store.release(b);
+      // a released block is still usable as an empty entry
+      assertEquals(0, b.numNodes());
+      assertEquals(-1, b.findDatanode(dn));
+    }
+    assertEquals(NUM_BLOCKS / 2, store.getNumBlocks());
+    assertTrue(blocks.get(NUM_BLOCKS - 1).listIsConsistent(dn));
+
+    // freed slots are reused before new ones are taken
+    long allocated = store.getAllocatedBytes();
+    addBlocks(store, new DatanodeDescriptor());
+    assertEquals(NUM_BLOCKS / 2 + NUM_BLOCKS, store.getNumBlocks());
+    assertEquals(allocated, store.getAllocatedBytes());
+  }
+
+  public void testClusterWithOffHeapBlocksMap() throws Exception {
+    Configuration conf = new Configuration();
+    conf.setBoolean("dfs.namenode.blocksmap.offheap", true);
+    conf.setInt("dfs.namenode.blocksmap.offheap.replicas", 2);
+    DFSTestUtil files = new DFSTestUtil("TestOffHeapTriplets", 20, 3, 4096);
+    MiniDFSCluster cluster = new MiniDFSCluster(conf, 3, true, null);
+    try {
+      FileSystem fs = cluster.getFileSystem();
+      files.createFiles(fs, "/offheap", (short)3);
+      assertTrue(files.checkFiles(fs, "/offheap"));
+      FSNamesystem namesystem = cluster.getNameNode().getNamesystem();
+      namesystem.writeLock();
+      try {
+        OffHeapTriplets store = namesystem.blocksMap.getOffHeapTriplets();
+        assertNotNull(store);
+        assertEquals(namesystem.blocksMap.size(), store.getNumBlocks());
+      } finally {
+        namesystem.writeUnlock();
+      }
+
+      // block reports go through the off-heap lists and delimiters
+      cluster.restartNameNode();
+      fs = cluster.getFileSystem();
+      assertTrue(files.checkFiles(fs, "/offheap"));
+      files.cleanup(fs, "/offheap");
+    } finally {
+      cluster.shutdown();
+    }
+  }
+}
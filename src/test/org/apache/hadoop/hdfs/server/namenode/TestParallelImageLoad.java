@@ -0,0 +1,90 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hdfs.server.namenode;
+
+import java.io.File;
+
+import junit.framework.TestCase;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hdfs.DFSTestUtil;
+import org.apache.hadoop.hdfs.MiniDFSCluster;
+import org.apache.hadoop.hdfs.protocol.FSConstants.SafeModeAction;
+import org.apache.hadoop.hdfs.server.common.HdfsConstants;
+
+/**
+ * Check that an image saved with a sub-directory index is loaded
+ * correctly by several threads.
+ */
+public class TestParallelImageLoad extends TestCase {
+
+  public void testParallelLoad() throws Exception {
+    checkParallelLoad(false);
+  }
+
+  public void testParallelLoadCompressed() throws Exception {
+    checkParallelLoad(true);
+  }
+
+  private void checkParallelLoad(boolean compress) throws Exception {
+    Configuration conf = new Configuration();
+    conf.setLong(HdfsConstants.DFS_IMAGE_SECTION_SIZE_KEY, 512);
+    conf.setInt(HdfsConstants.DFS_IMAGE_LOADER_THREADS_KEY, 4);
+    conf.setBoolean(HdfsConstants.DFS_IMAGE_COMPRESS_KEY, compress);
+    DFSTestUtil files = new DFSTestUtil("TestParallelImageLoad", 200, 5, 1024);
+    final String dir = "/srcdat";
+    MiniDFSCluster cluster = null;
+    try {
+      cluster = new MiniDFSCluster(conf, 1, true, null);
+      FileSystem fs = cluster.getFileSystem();
+      files.createFiles(fs, dir);
+      fs.mkdirs(new Path("/empty/dir"));
+
+      // put everything into the image rather than the edits
+      NameNode namenode = cluster.getNameNode();
+      namenode.setSafeMode(SafeModeAction.SAFEMODE_ENTER);
+      namenode.saveNamespace();
+      namenode.setSafeMode(SafeModeAction.SAFEMODE_LEAVE);
+    } finally {
+      if (cluster != null) { cluster.shutdown(); }
+    }
+
+    for (File nameDir : cluster.getNameDirs()) {
+      File image = new File(nameDir, "current/fsimage");
+      FSImageFormat.SectionIndex index = FSImageFormat.SectionIndex.read(image);
+      assertNotNull("No index for " + image, index);
+      assertTrue("Image was not cut into sections",
+          index.getSectionLengths().length > 1);
+    }
+
+    try {
+      cluster = new MiniDFSCluster(conf, 1, false, null);
+      FileSystem fs = cluster.getFileSystem();
+      assertTrue("Filesystem corrupted after restart.",
+                 files.checkFiles(fs, dir));
+      assertTrue(fs.getFileStatus(new Path("/empty/dir")).isDir());
+      FSNamesystem namesystem = cluster.getNameNode().getNamesystem();
+      assertEquals(200, namesystem.dir.totalFiles());
+      files.cleanup(fs, dir);
+    } finally {
+      if (cluster != null) { cluster.shutdown(); }
+    }
+  }
+}
@@ -0,0 +1,102 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hdfs.server.namenode;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hdfs.DFSTestUtil;
+import org.apache.hadoop.hdfs.MiniDFSCluster;
+import org.apache.hadoop.hdfs.protocol.FSConstants.SafeModeAction;
+import org.apache.hadoop.hdfs.server.common.HdfsConstants;
+
+/**
+ * Check that an image saved by several threads is the same as one saved
+ * by a single thread and can be loaded again.
+ */
+public class TestParallelImageSave extends TestCase {
+  /** layout version, namespace id, number of inodes, stamp and txid */
+  private static final int HEADER_LENGTH = 4 + 4 + 8 + 8 + 8;
+
+  public void testParallelSave() throws Exception {
+    Configuration conf = new Configuration();
+    conf.setLong(HdfsConstants.DFS_IMAGE_SECTION_SIZE_KEY, 512);
+    DFSTestUtil files = new DFSTestUtil("TestParallelImageSave", 200, 5, 1024);
+    final String dir = "/srcdat";
+    MiniDFSCluster cluster = null;
+    byte[] serialImage;
+    try {
+      cluster = new MiniDFSCluster(conf, 1, true, null);
+      FileSystem fs = cluster.getFileSystem();
+      files.createFiles(fs, dir);
+      fs.mkdirs(new Path("/empty/dir"));
+
+      NameNode namenode = cluster.getNameNode();
+      namenode.setSafeMode(SafeModeAction.SAFEMODE_ENTER);
+      namenode.saveNamespace();
+      File image = new File(cluster.getNameDirs().iterator().next(),
+          "current/fsimage");
+      serialImage = readImage(image);
+
+      // shards small enough for the tree to be cut into many segments
+      Configuration nsConf = namenode.getNamesystem().getConf();
+      nsConf.setInt(HdfsConstants.DFS_IMAGE_SAVER_THREADS_KEY, 4);
+      nsConf.setLong(HdfsConstants.DFS_IMAGE_SAVER_SHARD_INODES_KEY, 3);
+      namenode.saveNamespace();
+      namenode.setSafeMode(SafeModeAction.SAFEMODE_LEAVE);
+      assertTrue("Images saved by one and by several threads differ",
+          Arrays.equals(serialImage, readImage(image)));
+      assertTrue("Image was not cut into sections",
+          FSImageFormat.SectionIndex.read(image).getSectionLengths().length > 1);
+    } finally {
+      if (cluster != null) { cluster.shutdown(); }
+    }
+
+    try {
+      cluster = new MiniDFSCluster(conf, 1, false, null);
+      FileSystem fs = cluster.getFileSystem();
+      assertTrue("Filesystem corrupted after restart.",
+                 files.checkFiles(fs, dir));
+      assertTrue(fs.getFileStatus(new Path("/empty/dir")).isDir());
+      files.cleanup(fs, dir);
+    } finally {
+      if (cluster != null) { cluster.shutdown(); }
+    }
+  }
+
+  /** Read an uncompressed image without its header. */
+  private static byte[] readImage(File image) throws IOException {
+    byte[] data = new byte[(int) image.length() - HEADER_LENGTH];
+    DataInputStream in = new DataInputStream(new FileInputStream(image));
+    try {
+      in.skipBytes(HEADER_LENGTH);
+      in.readFully(data);
+    } finally {
+      in.close();
+    }
+    return data;
+  }
+}
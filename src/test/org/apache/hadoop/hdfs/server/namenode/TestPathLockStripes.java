@@ -0,0 +1,127 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hdfs.server.namenode;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Test for {@link PathLockStripes}
+ */
+public class TestPathLockStripes {
+
+  /** Lock the paths in a separate thread and count down once locked. */
+  private static class Locker extends Thread {
+    final PathLockStripes stripes;
+    final String[] paths;
+    final CountDownLatch locked = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+
+    Locker(PathLockStripes stripes, String... paths) {
+      this.stripes = stripes;
+      this.paths = paths;
+      setDaemon(true);
+    }
+
+    public void run() {
+      PathLockStripes.Locks locks = stripes.lock(paths);
+      locked.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException ignored) {
+      } finally {
+        locks.unlock();
+      }
+    }
+
+    boolean awaitLocked(long millis) throws InterruptedException {
+      return locked.await(millis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  @Test
+  public void testUnrelatedPathsDoNotConflict() throws Exception {
+    PathLockStripes stripes = new PathLockStripes(1024);
+    PathLockStripes.Locks held = stripes.lock("/a/b");
+    try {
+      Locker other = new Locker(stripes, "/c/d");
+      other.start();
+      assertTrue(other.awaitLocked(10000));
+      other.release.countDown();
+      other.join();
+
+      // siblings only share their parent
+      Locker sibling = new Locker(stripes, "/a/e");
+      sibling.start();
+      assertTrue(sibling.awaitLocked(10000));
+      sibling.release.countDown();
+      sibling.join();
+    } finally {
+      held.unlock();
+    }
+  }
+
+  @Test
+  public void testAncestorConflicts() throws Exception {
+    PathLockStripes stripes = new PathLockStripes(1024);
+    assertConflict(stripes, "/a/b", "/a");
+    assertConflict(stripes, "/a/b", "/a//b/");
+    assertConflict(stripes, "/a/b", "/a/b/c");
+  }
+
+  /**
+   * Check that a thread locking one path waits for another thread holding
+   * the other path, and gets the lock once it is released. One thread waits
+   * at a time, so the order they get the stripes in is known.
+   */
+  private static void assertConflict(PathLockStripes stripes, String held,
+                                     String path) throws Exception {
+    Locker holder = new Locker(stripes, held);
+    holder.start();
+    assertTrue(holder.awaitLocked(10000));
+    Locker waiter = new Locker(stripes, path);
+    waiter.start();
+    try {
+      assertFalse(path, waiter.awaitLocked(200));
+    } finally {
+      holder.release.countDown();
+      holder.join();
+    }
+    assertTrue(path, waiter.awaitLocked(10000));
+    waiter.release.countDown();
+    waiter.join();
+  }
+
+  @Test
+  public void testSingleStripe() throws Exception {
+    // every path maps to the same stripe; it must be taken only once
+    PathLockStripes stripes = new PathLockStripes(1);
+    PathLockStripes.Locks held = stripes.lock("/x/y", "/z");
+    Locker other = new Locker(stripes, "/w");
+    other.start();
+    assertFalse(other.awaitLocked(200));
+    held.unlock();
+    assertTrue(other.awaitLocked(10000));
+    other.release.countDown();
+    other.join();
+  }
+}
@@ -2,6 +2,7 @@ package org.apache.hadoop.hdfs.server.namenode;
 
 import java.io.File;
 import java.io.FileWriter;
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.Collection;
 import java.util.Iterator;
@@ -55,13 +56,14 @@ public class TestUnderReplicatedBlocks extends TestCase {
     
   }
   
-  private DataNodeProperties shutdownDataNode(MiniDFSCluster cluster, DatanodeDescriptor datanode) {
+  private DataNodeProperties shutdownDataNode(MiniDFSCluster cluster, DatanodeDescriptor datanode)
+      throws IOException {
     LOG.info("shutdown datanode: " + datanode.getName());
     DataNodeProperties dnprop = cluster.stopDataNode(datanode.getName());
     FSNamesystem namesystem = cluster.getNameNode().namesystem;
     // make sure that NN detects that the datanode is down
     synchronized (namesystem.heartbeats) {
-      datanode.setLastUpdate(0); // mark it dead
+      namesystem.setDatanodeDead(datanode); // mark it dead
       namesystem.heartbeatCheck();
     }
     return dnprop;
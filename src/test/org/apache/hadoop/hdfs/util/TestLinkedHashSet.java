@@ -346,4 +346,40 @@ public class TestLinkedHashSet extends TestCase {
     LOG.info("Test other - DONE");
   }
 
+  public void testBookmark() {
+    LOG.info("Test bookmark");
+    for (int i = 0; i < NUM; i++) {
+      set.add(i);
+    }
+    // a bookmark iterator resumes where the previous one stopped
+    Iterator<Integer> iter = set.getBookmark();
+    for (int i = 0; i < NUM / 2; i++) {
+      assertEquals(i, iter.next().intValue());
+    }
+    iter = set.getBookmark();
+    assertEquals(NUM / 2, iter.next().intValue());
+
+    // removing the bookmarked element moves the bookmark to its successor
+    set.remove(NUM / 2 + 1);
+    set.remove(NUM / 2 + 2);
+    iter = set.getBookmark();
+    assertEquals(NUM / 2 + 3, iter.next().intValue());
+
+    // elements added at the end are found once the bookmark gets there
+    iter = set.getBookmark();
+    while (iter.hasNext()) {
+      iter.next();
+    }
+    set.add(NUM);
+    iter = set.getBookmark();
+    assertEquals(NUM, iter.next().intValue());
+    assertFalse(iter.hasNext());
+
+    set.resetBookmark();
+    assertEquals(0, set.getBookmark().next().intValue());
+    set.clear();
+    assertFalse(set.getBookmark().hasNext());
+    LOG.info("Test bookmark - DONE");
+  }
+
 }
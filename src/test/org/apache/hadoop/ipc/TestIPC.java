@@ -26,6 +26,9 @@ import org.apache.hadoop.util.StringUtils;
 import org.apache.hadoop.net.NetUtils;
 
 import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.io.DataInput;
 import java.io.IOException;
 import java.net.InetSocketAddress;
@@ -75,6 +78,54 @@ public class TestIPC extends TestCase {
     }
   }
 
+  /**
+   * A server that holds back the response of every call with an even
+   * parameter until it is released; odd calls are released before the
+   * handler returns.
+   */
+  private static class DelayingServer extends Server {
+    final BlockingQueue<Long> delayed = new LinkedBlockingQueue<Long>();
+
+    public DelayingServer(int handlerCount) throws IOException {
+      super(ADDRESS, 0, LongWritable.class, handlerCount, conf);
+    }
+
+    @Override
+    public Writable call(Class<?> protocol, Writable param, long receiveTime)
+        throws IOException {
+      long id = Server.delayResponse();
+      if (((LongWritable)param).get() % 2 != 0) {
+        Server.sendDelayedResponse(id);
+      } else {
+        delayed.add(id);
+      }
+      return param;
+    }
+  }
+
+  private static class DelayedCaller extends Thread {
+    private final Client client;
+    private final InetSocketAddress server;
+    private final long value;
+    private volatile boolean failed = true;
+
+    DelayedCaller(Client client, InetSocketAddress server, long value) {
+      this.client = client;
+      this.server = server;
+      this.value = value;
+    }
+
+    public void run() {
+      try {
+        LongWritable result = (LongWritable)client.call(
+            new LongWritable(value), server, null, null, 0);
+        failed = result.get() != value;
+      } catch (Exception e) {
+        LOG.fatal("Caught: " + StringUtils.stringifyException(e));
+      }
+    }
+  }
+
   private static class SerialCaller extends Thread {
     private Client client;
     private InetSocketAddress server;
@@ -293,6 +344,45 @@ public class TestIPC extends TestCase {
         addr, null, null, 3*PING_INTERVAL+MIN_SLEEP_TIME);
   }
 
+  public void testDelayedResponse() throws Exception {
+    // a single handler has to take every call while they are delayed
+    DelayingServer server = new DelayingServer(1);
+    InetSocketAddress addr = NetUtils.getConnectAddress(server);
+    server.start();
+    Client client = new Client(LongWritable.class, conf);
+    try {
+      // released by the handler itself
+      assertEquals(new LongWritable(7),
+          client.call(new LongWritable(7), addr, null, null, 0));
+
+      final int numCalls = 5;
+      DelayedCaller[] even = new DelayedCaller[numCalls];
+      for (int i = 0; i < numCalls; i++) {
+        even[i] = new DelayedCaller(client, addr, 2 * i);
+        even[i].start();
+      }
+      long[] ids = new long[numCalls];
+      for (int i = 0; i < numCalls; i++) {
+        Long id = server.delayed.poll(10, TimeUnit.SECONDS);
+        assertNotNull("Handler was not released by a delayed call", id);
+        ids[i] = id;
+      }
+      for (int i = 0; i < numCalls; i++) {
+        assertTrue("Delayed response was sent", even[i].isAlive());
+      }
+      for (long id : ids) {
+        Server.sendDelayedResponse(id);
+      }
+      for (int i = 0; i < numCalls; i++) {
+        even[i].join();
+        assertFalse(even[i].failed);
+      }
+    } finally {
+      client.stop();
+      server.stop();
+    }
+  }
+
 	public static void main(String[] args) throws Exception {
 
     //new TestIPC("test").testSerial(5, false, 2, 10, 1000);
@@ -241,6 +241,58 @@ public class TestComparators extends TestCase
     }
   }
 
+  /**
+   * A decreasing Comparator for Text, whose inherited key prefixes must
+   * not be used to sort
+   */
+  public static class DecreasingTextComparator extends Text.Comparator {
+    public int compare(byte[] b1, int s1, int l1, byte[] b2, int s2, int l2) {
+      return -super.compare(b1, s1, l1, b2, s2, l2);
+    }
+  }
+
+  /**
+   * Maps the int keys to Text keys of the same order.
+   */
+  static class TextKeyMapper
+    implements Mapper<IntWritable, Writable, Text, IntWritable> {
+
+    public void configure(JobConf job) {
+    }
+
+    public void map(IntWritable key, Writable value,
+                    OutputCollector<Text, IntWritable> out,
+                    Reporter reporter) throws IOException {
+      out.collect(new Text(key.toString()), key);
+    }
+
+    public void close() {
+    }
+  }
+
+  /**
+   * Checks whether Text keys are in descending order.
+   */
+  static class DescendingTextKeysReducer
+    implements Reducer<Text, IntWritable, IntWritable, Text> {
+    public void configure(JobConf job) {}
+
+    // keep track of the last key we've seen
+    private Text lastKey = null;
+    public void reduce(Text key, Iterator<IntWritable> values,
+                       OutputCollector<IntWritable, Text> out,
+                       Reporter reporter) throws IOException {
+      // keys should be in descending order
+      if (lastKey != null && key.compareTo(lastKey) > 0) {
+        fail("Keys not in sorted descending order");
+      }
+      lastKey = new Text(key);
+      out.collect(values.next(), new Text("success"));
+    }
+
+    public void close() {}
+  }
+
   /** Grouping function for values based on the composite key. This
    * comparator strips off the secondary key part from the x0y composite
    * and only compares the primary key value (x).
@@ -372,6 +424,33 @@ public class TestComparators extends TestCase
     }
   }
   
+  /**
+   * Test a user comparator that reverses the order of Text.Comparator with
+   * the radix sort, which must not use the key prefixes of Text.Comparator.
+   * @throws Exception
+   */
+  public void testUserPrefixComparatorSubclass() throws Exception {
+    assertTrue(MapTask.hasSortPrefix(new Text.Comparator()));
+    assertTrue(MapTask.hasSortPrefix(new BytesWritable.Comparator()));
+    assertFalse(MapTask.hasSortPrefix(new DecreasingTextComparator()));
+
+    configure();
+    conf.setMapperClass(TextKeyMapper.class);
+    conf.setMapOutputKeyClass(Text.class);
+    conf.setReducerClass(DescendingTextKeysReducer.class);
+    conf.setOutputKeyComparatorClass(DecreasingTextComparator.class);
+    conf.set("map.sort.class", "org.apache.hadoop.util.RadixSort");
+
+    RunningJob r_job = jc.submitJob(conf);
+    while (!r_job.isComplete()) {
+      Thread.sleep(1000);
+    }
+
+    if (!r_job.isSuccessful()) {
+      fail("Oops! The job broke due to an unexpected error");
+    }
+  }
+
   /**
    * Test user-defined grouping comparator for grouping values in Reduce.
    * We generate composite keys that contain a random number, which acts
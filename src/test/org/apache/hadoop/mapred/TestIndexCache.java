@@ -104,6 +104,45 @@ public class TestIndexCache extends TestCase {
     checkRecord(rec, totalsize);
   }
 
+  public void testBatchLookup() throws Exception {
+    JobConf conf = new JobConf();
+    FileSystem fs = FileSystem.getLocal(conf).getRaw();
+    Path p = new Path(System.getProperty("test.build.data", "/tmp"),
+        "cache").makeQualified(fs);
+    fs.delete(p, true);
+    conf.setInt("mapred.tasktracker.indexcache.mb", 1);
+    final int partsPerMap = 1000;
+    final int bytesPerFile = partsPerMap * 24;
+    IndexCache cache = new IndexCache(conf);
+
+    // a batch larger than the cache is served in full, then trimmed
+    final int numMaps = 2 * 1024 * 1024 / bytesPerFile;
+    String[] mapIds = new String[numMaps + 2];
+    Path[] files = new Path[numMaps + 2];
+    for (int i = 0; i < numMaps; i++) {
+      int totalsize = (i + 1) * bytesPerFile;
+      mapIds[i] = Integer.toString(totalsize, 36);
+      files[i] = new Path(p, mapIds[i]);
+      writeFile(fs, files[i], totalsize, partsPerMap);
+    }
+    // maps whose index is missing or not found get no record
+    mapIds[numMaps] = "missing";
+    files[numMaps] = new Path(p, "missing");
+    mapIds[numMaps + 1] = "notfound";
+    files[numMaps + 1] = null;
+    IndexRecord[] recs = cache.getIndexInformation(mapIds, 7, files);
+    for (int i = 0; i < numMaps; i++) {
+      checkRecord(recs[i], (i + 1) * bytesPerFile);
+    }
+    assertNull(recs[numMaps]);
+    assertNull(recs[numMaps + 1]);
+
+    // the newest maps stay cached
+    fs.delete(files[numMaps - 1], false);
+    checkRecord(cache.getIndexInformation(mapIds[numMaps - 1], 7,
+        files[numMaps - 1]), numMaps * bytesPerFile);
+  }
+
   public void testBadIndex() throws Exception {
     final int parts = 30;
     JobConf conf = new JobConf();
@@ -0,0 +1,253 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.mapred;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.DataInputBuffer;
+import org.apache.hadoop.io.LongWritable;
+import org.apache.hadoop.io.Text;
+
+import junit.framework.TestCase;
+
+public class TestMapOutputMerger extends TestCase {
+  private static final int MAPS = 3;
+  private static final int PARTITIONS = 2;
+  private static final int KEYS = 100;
+
+  private final JobID jobId = new JobID("test", 1);
+  private JobConf conf;
+  private FileSystem rfs;
+
+  protected void setUp() throws IOException {
+    conf = new JobConf();
+    rfs = FileSystem.getLocal(conf).getRaw();
+    Path localDir = new Path(System.getProperty("test.build.data", "/tmp"),
+        "mapoutputmerger").makeQualified(rfs);
+    rfs.delete(localDir, true);
+    conf.set("mapred.local.dir", localDir.toString());
+    conf.setInt(MapOutputMerger.MERGE_FACTOR, MAPS);
+  }
+
+  public void testMerge() throws Exception {
+    MapOutputMerger merger = new MapOutputMerger(conf, new IndexCache(conf));
+    try {
+      String[] mapIds = writeAndMerge(merger, getJobConf());
+      String[] mergedInto = new String[MAPS];
+      String[] outputs =
+        merger.getOutputs(jobId.toString(), mapIds, mergedInto);
+      for (int i = 0; i < MAPS - 1; i++) {
+        assertNull(outputs[i]);
+        assertEquals(mapIds[MAPS - 1], mergedInto[i]);
+      }
+      checkOutput(outputs[MAPS - 1]);
+    } finally {
+      merger.close();
+    }
+  }
+
+  public void testJobClassesNotMerged() throws Exception {
+    JobConf jobConf = getJobConf();
+    assertTrue(MapOutputMerger.isMergeable(jobConf));
+    jobConf.set("mapred.output.key.comparator.class",
+                "com.example.KeyComparator");
+    assertFalse(MapOutputMerger.isMergeable(jobConf));
+    jobConf = getJobConf();
+    jobConf.set("mapred.mapoutput.key.class", "org.apache.hadoop.example.Key");
+    assertFalse(MapOutputMerger.isMergeable(jobConf));
+    jobConf = getJobConf();
+    jobConf.setStrings("io.serializations",
+        "org.apache.hadoop.io.serializer.WritableSerialization",
+        "com.example.Serialization");
+    assertFalse(MapOutputMerger.isMergeable(jobConf));
+
+    // the maps of a job with classes of its own are never merged
+    MapOutputMerger merger = new MapOutputMerger(conf, new IndexCache(conf));
+    try {
+      String[] mapIds = new String[MAPS];
+      for (int i = 0; i < MAPS; i++) {
+        TaskAttemptID mapId = new TaskAttemptID(new TaskID(jobId, true, i), 0);
+        mapIds[i] = mapId.toString();
+        merger.mapDone(jobConf, mapId);
+      }
+      String[] mergedInto = new String[MAPS];
+      String[] outputs =
+        merger.getOutputs(jobId.toString(), mapIds, mergedInto);
+      for (int i = 0; i < MAPS; i++) {
+        assertEquals(mapIds[i], outputs[i]);
+        assertNull(mergedInto[i]);
+      }
+    } finally {
+      merger.close();
+    }
+  }
+
+  public void testPartialRequest() throws Exception {
+    MapOutputMerger merger = new MapOutputMerger(conf, new IndexCache(conf));
+    try {
+      String[] mapIds = writeAndMerge(merger, getJobConf());
+
+      // a request without all the maps of the group gets the maps
+      String[] partial = { mapIds[0], mapIds[2] };
+      String[] mergedInto = new String[partial.length];
+      String[] outputs =
+        merger.getOutputs(jobId.toString(), partial, mergedInto);
+      assertEquals(mapIds[0], outputs[0]);
+      assertEquals(mapIds[2], outputs[1]);
+      assertNull(mergedInto[0]);
+      assertNull(mergedInto[1]);
+
+      // the merged output is sent in place of the last map of the group
+      String[] reordered = { mapIds[2], "other", mapIds[0], mapIds[1] };
+      mergedInto = new String[reordered.length];
+      outputs = merger.getOutputs(jobId.toString(), reordered, mergedInto);
+      assertNull(outputs[0]);
+      assertEquals(mapIds[1], mergedInto[0]);
+      assertEquals("other", outputs[1]);
+      assertNull(mergedInto[1]);
+      assertNull(outputs[2]);
+      assertEquals(mapIds[1], mergedInto[2]);
+      assertTrue(outputs[3].endsWith("_merged"));
+      assertNull(mergedInto[3]);
+
+      // a lost map takes the merged output with it
+      merger.removeMap(TaskAttemptID.forName(mapIds[1]));
+      mergedInto = new String[mapIds.length];
+      outputs = merger.getOutputs(jobId.toString(), mapIds, mergedInto);
+      for (int i = 0; i < mapIds.length; i++) {
+        assertEquals(mapIds[i], outputs[i]);
+        assertNull(mergedInto[i]);
+      }
+    } finally {
+      merger.close();
+    }
+  }
+
+  /** Check the merged output holds the keys of all the maps, sorted */
+  private void checkOutput(String output) throws IOException {
+    String dir = TaskTracker.getIntermediateOutputDir(jobId.toString(),
+                                                      output);
+    Path file = getLocalPath(dir + "/file.out");
+    SpillRecord index =
+      new SpillRecord(getLocalPath(dir + "/file.out.index"), conf);
+    assertEquals(PARTITIONS, index.size());
+    for (int part = 0; part < PARTITIONS; part++) {
+      IndexRecord rec = index.getIndex(part);
+      FSDataInputStream in = rfs.open(file);
+      in.seek(rec.startOffset);
+      IFile.Reader<Text, LongWritable> reader =
+        new IFile.Reader<Text, LongWritable>(conf, in, rec.partLength,
+                                             null, null);
+      DataInputBuffer keyIn = new DataInputBuffer();
+      DataInputBuffer valueIn = new DataInputBuffer();
+      Text key = new Text();
+      LongWritable value = new LongWritable();
+      int records = 0;
+      Text last = null;
+      while (reader.next(keyIn, valueIn)) {
+        key.readFields(keyIn);
+        value.readFields(valueIn);
+        assertEquals(part, Integer.parseInt(key.toString()) % PARTITIONS);
+        if (last != null) {
+          assertTrue(last.compareTo(key) <= 0);
+        }
+        last = new Text(key);
+        assertEquals(1, value.get());
+        records++;
+      }
+      reader.close();
+      assertEquals(MAPS * KEYS / PARTITIONS, records);
+    }
+  }
+
+  private JobConf getJobConf() {
+    JobConf jobConf = new JobConf(conf);
+    jobConf.setNumReduceTasks(PARTITIONS);
+    jobConf.setMapOutputKeyClass(Text.class);
+    jobConf.setMapOutputValueClass(LongWritable.class);
+    return jobConf;
+  }
+
+  /**
+   * Write the outputs of the maps of a group, and wait for their merge.
+   * @return the ids of the maps
+   */
+  private String[] writeAndMerge(MapOutputMerger merger, JobConf jobConf)
+      throws Exception {
+    String[] mapIds = new String[MAPS];
+    for (int i = 0; i < MAPS; i++) {
+      TaskAttemptID mapId = new TaskAttemptID(new TaskID(jobId, true, i), 0);
+      mapIds[i] = mapId.toString();
+      writeMapOutput(jobConf, mapIds[i]);
+      merger.mapDone(jobConf, mapId);
+    }
+    String[] mergedInto = new String[MAPS];
+    for (int i = 0; i < 100; i++) {
+      String[] outputs =
+        merger.getOutputs(jobId.toString(), mapIds, mergedInto);
+      if (outputs[MAPS - 1].endsWith("_merged")) {
+        return mapIds;
+      }
+      Thread.sleep(100);
+    }
+    fail("The outputs of the maps were not merged");
+    return null;
+  }
+
+  /** Every map writes keys 0..KEYS-1 once, sorted by their string */
+  private void writeMapOutput(JobConf jobConf, String mapId)
+      throws IOException {
+    String dir = TaskTracker.getIntermediateOutputDir(jobId.toString(), mapId);
+    Path file = new Path(conf.get("mapred.local.dir"), dir + "/file.out");
+    Path indexFile =
+      new Path(conf.get("mapred.local.dir"), dir + "/file.out.index");
+    SpillRecord spillRec = new SpillRecord(PARTITIONS);
+    IndexRecord rec = new IndexRecord();
+    FSDataOutputStream out = rfs.create(file, true);
+    for (int part = 0; part < PARTITIONS; part++) {
+      long start = out.getPos();
+      IFile.Writer<Text, LongWritable> writer =
+        new IFile.Writer<Text, LongWritable>(jobConf, out, Text.class,
+                                             LongWritable.class, null, null);
+      String[] keys = new String[KEYS / PARTITIONS];
+      for (int k = 0; k < keys.length; k++) {
+        keys[k] = Integer.toString(k * PARTITIONS + part);
+      }
+      Arrays.sort(keys);
+      for (String k : keys) {
+        writer.append(new Text(k), new LongWritable(1));
+      }
+      writer.close();
+      rec.startOffset = start;
+      rec.rawLength = writer.getRawLength();
+      rec.partLength = writer.getCompressedLength();
+      spillRec.putIndex(rec, part);
+    }
+    out.close();
+    spillRec.writeToFile(indexFile, jobConf);
+  }
+
+  private Path getLocalPath(String path) {
+    return new Path(conf.get("mapred.local.dir"), path);
+  }
+}
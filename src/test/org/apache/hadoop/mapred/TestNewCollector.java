@@ -39,6 +39,9 @@ public class TestNewCollector extends TestCase {
   private static Log LOG = LogFactory.getLog(TestNewCollector.class);
 
   private MiniMRCluster mrCluster;
+  private boolean blockCollector = true;
+  private int spillThreads = 1;
+  private long spillBufferLimit = 16 << 20;
 
   protected void setUp() {
     JobConf conf = new JobConf();
@@ -559,7 +562,9 @@ public class TestNewCollector extends TestCase {
     conf.setReducerClass(TestNewCollectorReducer.class);
     conf.setMapOutputKeyClass(TestNewCollectorKey.class);
     conf.setMapOutputValueClass(BytesWritable.class);
-    conf.setBoolean("mapred.map.output.blockcollector", true);
+    conf.setBoolean("mapred.map.output.blockcollector", blockCollector);
+    conf.setInt("mapred.map.spill.threads", spillThreads);
+    conf.setLong("mapred.map.spill.range.buffer.limit", spillBufferLimit);
 
     RecordNumStore.setJobConf(numReducerTask, numMapperTasks,
         recordsNumPerMapper, reducerRecPercents, numBigRecordsStart,
@@ -637,5 +642,31 @@ public class TestNewCollector extends TestCase {
         1, 0.8f, 2, 2, new double[] { 0.5f, 0.5f }, new int[] { 20,
             20 }, new int[] { 20, 20 }, new int[] { 20, 20 });
   }
-  
+
+  public void testParallelSpill() throws Exception {
+    // partitions are sorted and written by several threads, with both
+    // the block collector and the default one
+    spillThreads = 3;
+    runTest("testParallelSpill_1", 100, 500, 10000, 1, 0.8f, 2, 10,
+        new double[] { 0.6f, 0.3f });
+    runTest("testParallelSpill_2", 100, 500, 10000, 1, 0.8f, 1, 2,
+        new double[] { 0.5f, 0.5f });
+    blockCollector = false;
+    runTest("testParallelSpill_3", 100, 500, 10000, 1, 0.8f, 2, 10,
+        new double[] { 0.6f, 0.3f });
+    runTest("testParallelSpill_4", 100, 500, 10000, 1, 0.8f, 1, 2,
+        new double[] { 0.5f, 0.5f });
+  }
+
+  public void testParallelSpillOverBufferLimit() throws Exception {
+    // the large partitions are written by the spilling thread, and the
+    // small ones by the spill threads
+    spillThreads = 3;
+    spillBufferLimit = 64 * 1024;
+    runTest("testParallelSpillOverBufferLimit_1", 100, 500, 10000, 1, 0.8f,
+        2, 10, new double[] { 0.6f, 0.3f });
+    blockCollector = false;
+    runTest("testParallelSpillOverBufferLimit_2", 100, 500, 10000, 1, 0.8f,
+        2, 10, new double[] { 0.6f, 0.3f });
+  }
 }
@@ -145,4 +145,16 @@ public class TestReduceFetch extends TestCase {
     assertTrue("Non-zero read from local: " + localRead, localRead == 0);
   }
 
+  public void testReduceFromDirectMem() throws Exception {
+    JobConf job = mrCluster.createJobConf();
+    job.set("mapred.job.reduce.input.buffer.percent", "1.0");
+    job.setBoolean("mapred.job.shuffle.input.buffer.direct", true);
+    job.setInt("mapred.job.shuffle.input.buffer.direct.mb", 64);
+    job.setNumMapTasks(3);
+    Counters c = runJob(job);
+    final long localRead = c.findCounter(Task.FILESYSTEM_COUNTER_GROUP,
+        Task.getFileSystemCounterNames("file")[0]).getCounter();
+    assertTrue("Non-zero read from local: " + localRead, localRead == 0);
+  }
+
 }
@@ -0,0 +1,317 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.mapred;
+
+import static org.mockito.Mockito.mock;
+
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import junit.framework.TestCase;
+
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.FileUtil;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.LongWritable;
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.mapred.Task.TaskReporter;
+import org.apache.hadoop.mapred.lib.LongSumReducer;
+import org.apache.hadoop.mapred.lib.TokenCountMapper;
+
+/**
+ * Tests fetching the outputs of several maps in one request, from the
+ * servlet and from the netty server of the tasktracker.
+ */
+public class TestShuffleBatchFetch extends TestCase {
+  private static final int MAPS = 6;
+  private static final int REDUCES = 2;
+  private static final int BATCH = 4;
+  private static final int KEYS = 100;
+  private static final File TEST_DIR =
+    new File(System.getProperty("test.build.data", "/tmp"),
+             "shufflebatchfetch");
+
+  private final JobID jobId = new JobID("batch", 1);
+  private MiniMRCluster mr;
+  private FileSystem rfs;
+
+  protected void setUp() throws IOException {
+    FileUtil.fullyDelete(TEST_DIR);
+    rfs = FileSystem.getLocal(new JobConf()).getRaw();
+  }
+
+  protected void tearDown() {
+    if (mr != null) {
+      mr.shutdown();
+    }
+  }
+
+  public void testServletBatchFetch() throws Exception {
+    checkBatchFetch(false);
+  }
+
+  public void testNettyBatchFetch() throws Exception {
+    checkBatchFetch(true);
+  }
+
+  private void checkBatchFetch(boolean netty) throws Exception {
+    JobConf conf = new JobConf();
+    conf.setBoolean(TaskTracker.NETTY_MAPOUTPUT_USE, netty);
+    mr = new MiniMRCluster(1, "file:///", 1, null, null, conf);
+    TaskTracker tt = mr.getTaskTrackerRunner(0).getTaskTracker();
+    assertEquals(netty, tt.nettyMapOutputHttpPort != -1);
+
+    checkWordCount(tt);
+    checkMissingOutput(tt);
+    checkFailedOutput(tt);
+  }
+
+  /** Run a job whose reduces fetch the outputs of the maps in batches */
+  private void checkWordCount(TaskTracker tt) throws IOException {
+    Path inDir = new Path(new File(TEST_DIR, "input").toString());
+    Path outDir = new Path(new File(TEST_DIR, "output").toString());
+    Map<String, Long> expected = new TreeMap<String, Long>();
+    for (int i = 0; i < MAPS; i++) {
+      DataOutputStream out = rfs.create(new Path(inDir, "part" + i));
+      for (int line = 0; line < 100; line++) {
+        String word = "word" + (line % (i + 3));
+        out.writeBytes(word + " common\n");
+        increment(expected, word);
+        increment(expected, "common");
+      }
+      out.close();
+    }
+
+    JobConf job = mr.createJobConf();
+    job.setJobName("batch-fetch");
+    job.setMapperClass(TokenCountMapper.class);
+    job.setReducerClass(LongSumReducer.class);
+    job.setOutputKeyClass(Text.class);
+    job.setOutputValueClass(LongWritable.class);
+    job.setNumMapTasks(MAPS);
+    job.setNumReduceTasks(REDUCES);
+    job.setInt("mapred.reduce.shuffle.fetch.batch", BATCH);
+    // schedule the reduces after all the maps, so they fetch in batches
+    job.setFloat("mapred.reduce.slowstart.completed.maps", 1.0f);
+    FileInputFormat.setInputPaths(job, inDir);
+    FileOutputFormat.setOutputPath(job, outDir);
+    assertTrue(JobClient.runJob(job).isSuccessful());
+    // the metrics of the tests are never updated, so they are not reset
+    assertTrue(tt.shuffleServerMetrics.getBatchRequests() > 0);
+
+    Map<String, Long> actual = new TreeMap<String, Long>();
+    FileSystem fs = FileSystem.getLocal(job);
+    Path[] outputs = FileUtil.stat2Paths(fs.listStatus(outDir,
+        new Utils.OutputFileUtils.OutputFilesFilter()));
+    assertEquals(REDUCES, outputs.length);
+    for (Path output : outputs) {
+      BufferedReader in =
+        new BufferedReader(new InputStreamReader(fs.open(output)));
+      for (String line = in.readLine(); line != null; line = in.readLine()) {
+        String[] fields = line.split("\t");
+        assertNull(actual.put(fields[0], Long.valueOf(fields[1])));
+      }
+      in.close();
+    }
+    assertEquals(expected, actual);
+  }
+
+  /** A missing map output gets a header with negative lengths */
+  private void checkMissingOutput(TaskTracker tt) throws Exception {
+    String[] mapIds = getMapIds(0, 3);
+    IndexRecord first = writeMapOutput(mapIds[0]);
+    IndexRecord last = writeMapOutput(mapIds[2]);
+
+    HttpURLConnection connection =
+      (HttpURLConnection)getURL(tt, mapIds).openConnection();
+    assertEquals(HttpURLConnection.HTTP_OK, connection.getResponseCode());
+    assertEquals(Integer.toString(mapIds.length),
+                 connection.getHeaderField(MRConstants.MAP_OUTPUT_BATCH));
+    DataInputStream in = new DataInputStream(connection.getInputStream());
+    ShuffleHeader header = new ShuffleHeader();
+    header.readFields(in);
+    assertEquals(mapIds[0], header.mapId);
+    assertEquals(0, header.forReduce);
+    assertEquals(first.partLength, header.compressedLength);
+    in.readFully(new byte[(int)header.compressedLength]);
+    header.readFields(in);
+    assertEquals(mapIds[1], header.mapId);
+    assertTrue(header.compressedLength < 0);
+    assertTrue(header.isMissing());
+    header.readFields(in);
+    assertEquals(mapIds[2], header.mapId);
+    assertEquals(last.partLength, header.compressedLength);
+    in.readFully(new byte[(int)header.compressedLength]);
+    assertEquals(-1, in.read());
+    in.close();
+
+    Map<String, ReduceTask.ReduceCopier<Text, LongWritable>.CopyResult>
+      results = copyOutputs(tt, mapIds);
+    assertTrue(results.get(mapIds[0]).getSuccess());
+    assertFalse(results.get(mapIds[1]).getSuccess());
+    assertFalse(results.get(mapIds[1]).isUnfetched());
+    assertTrue(results.get(mapIds[2]).getSuccess());
+  }
+
+  /**
+   * A map output that fails to copy in the middle of a response fails,
+   * and the map outputs after it are left to be fetched again.
+   */
+  private void checkFailedOutput(TaskTracker tt) throws Exception {
+    String[] mapIds = getMapIds(3, 3);
+    writeMapOutput(mapIds[0]);
+    IndexRecord corrupt = writeMapOutput(mapIds[1]);
+    writeMapOutput(mapIds[2]);
+    RandomAccessFile file =
+      new RandomAccessFile(getMapOutputFile(mapIds[1]), "rw");
+    long pos = corrupt.startOffset + corrupt.partLength / 2;
+    file.seek(pos);
+    int b = file.read();
+    file.seek(pos);
+    file.write(b ^ 0xff);
+    file.close();
+
+    Map<String, ReduceTask.ReduceCopier<Text, LongWritable>.CopyResult>
+      results = copyOutputs(tt, mapIds);
+    assertTrue(results.get(mapIds[0]).getSuccess());
+    assertFalse(results.get(mapIds[1]).getSuccess());
+    assertFalse(results.get(mapIds[1]).isUnfetched());
+    assertFalse(results.get(mapIds[2]).getSuccess());
+    assertTrue(results.get(mapIds[2]).isUnfetched());
+  }
+
+  /**
+   * Copy the outputs of the maps in one request, by a copier of a reduce
+   * running in this process.
+   * @return the copy results by map
+   */
+  private Map<String, ReduceTask.ReduceCopier<Text, LongWritable>.CopyResult>
+      copyOutputs(TaskTracker tt, String[] mapIds) throws Exception {
+    JobConf conf = new JobConf();
+    conf.set("mapred.local.dir", new File(TEST_DIR, "reduce").toString());
+    TaskAttemptID reduceId =
+      new TaskAttemptID(new TaskID(jobId, false, 0), 0);
+    ReduceTask reduceTask =
+      new ReduceTask(new File(TEST_DIR, "job.xml").toString(), reduceId,
+                     0, MAPS, 1, "user");
+    reduceTask.setConf(conf);
+    ReduceTask.ReduceCopier<Text, LongWritable> reduceCopier =
+      reduceTask.new ReduceCopier<Text, LongWritable>(
+          mock(TaskUmbilicalProtocol.class), conf, mock(TaskReporter.class));
+    ReduceTask.ReduceCopier<Text, LongWritable>.MapOutputCopier copier =
+      reduceCopier.new MapOutputCopier(conf, Reporter.NULL);
+
+    URL url = getURL(tt, mapIds);
+    List<ReduceTask.ReduceCopier<Text, LongWritable>.MapOutputLocation> locs =
+      new ArrayList<ReduceTask.ReduceCopier<Text, LongWritable>
+                   .MapOutputLocation>();
+    for (String mapId : mapIds) {
+      locs.add(reduceCopier.new MapOutputLocation(
+          TaskAttemptID.forName(mapId), "localhost", url));
+    }
+    copier.copyOutputs(locs);
+
+    Map<String, ReduceTask.ReduceCopier<Text, LongWritable>.CopyResult>
+      results = new HashMap<String,
+                            ReduceTask.ReduceCopier<Text, LongWritable>
+                            .CopyResult>();
+    ReduceTask.ReduceCopier<Text, LongWritable>.CopyResult result;
+    while ((result = reduceCopier.getCopyResult(0)) != null) {
+      String mapId = result.getLocation().getTaskAttemptId().toString();
+      assertNull(results.put(mapId, result));
+    }
+    assertEquals(mapIds.length, results.size());
+    return results;
+  }
+
+  private String[] getMapIds(int start, int count) {
+    String[] mapIds = new String[count];
+    for (int i = 0; i < count; i++) {
+      mapIds[i] = new TaskAttemptID(new TaskID(jobId, true, start + i), 0)
+                  .toString();
+    }
+    return mapIds;
+  }
+
+  private URL getURL(TaskTracker tt, String[] mapIds) throws IOException {
+    StringBuilder maps = new StringBuilder();
+    for (String mapId : mapIds) {
+      if (maps.length() > 0) {
+        maps.append(',');
+      }
+      maps.append(mapId);
+    }
+    return new URL("http://localhost:" + tt.httpPort + "/mapOutput?job=" +
+                   jobId + "&map=" + maps + "&reduce=0");
+  }
+
+  private File getMapOutputDir(String mapId) {
+    return new File(mr.getTaskTrackerLocalDir(0),
+        TaskTracker.getIntermediateOutputDir(jobId.toString(), mapId));
+  }
+
+  private File getMapOutputFile(String mapId) {
+    return new File(getMapOutputDir(mapId), "file.out");
+  }
+
+  /**
+   * Write the output of a map for one reduce on the tasktracker.
+   * @return the index record of the output
+   */
+  private IndexRecord writeMapOutput(String mapId) throws IOException {
+    JobConf conf = new JobConf();
+    Path file = new Path(getMapOutputFile(mapId).toString());
+    Path indexFile =
+      new Path(new File(getMapOutputDir(mapId), "file.out.index").toString());
+    FSDataOutputStream out = rfs.create(file, true);
+    IFile.Writer<Text, LongWritable> writer =
+      new IFile.Writer<Text, LongWritable>(conf, out, Text.class,
+                                           LongWritable.class, null, null);
+    for (int k = 0; k < KEYS; k++) {
+      writer.append(new Text(String.format("%05d", k)), new LongWritable(1));
+    }
+    writer.close();
+    out.close();
+    IndexRecord rec = new IndexRecord();
+    rec.startOffset = 0;
+    rec.rawLength = writer.getRawLength();
+    rec.partLength = writer.getCompressedLength();
+    SpillRecord spillRec = new SpillRecord(1);
+    spillRec.putIndex(rec, 0);
+    spillRec.writeToFile(indexFile, conf);
+    return rec;
+  }
+
+  private static void increment(Map<String, Long> counts, String word) {
+    Long count = counts.get(word);
+    counts.put(word, count == null ? 1L : count + 1);
+  }
+}
@@ -0,0 +1,183 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.net;
+
+import java.util.Random;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Measures the network topology operations the namenode runs for every
+ * getBlockLocations and every block placement.
+ *
+ * The benchmark builds a topology of datacenters filled with racks of
+ * nodes and times, for the given number of operations each, distances
+ * answered from the index against the walk up the tree, random choices
+ * outside of a rack, sorting replica locations for a reader, and nodes
+ * leaving and joining the cluster. For example
+ * <pre>
+ * java NetworkTopologyBenchmark -datacenters 2 -racks 200 -nodes 40
+ * </pre>
+ */
+public class NetworkTopologyBenchmark {
+  private static final Log LOG =
+    LogFactory.getLog(NetworkTopologyBenchmark.class);
+
+  private final int numDatacenters;
+  private final int racksPerDatacenter;
+  private final int nodesPerRack;
+  private final int numOps;
+  private final Random random = new Random(0);
+
+  NetworkTopologyBenchmark(int numDatacenters, int racksPerDatacenter,
+      int nodesPerRack, int numOps) {
+    this.numDatacenters = numDatacenters;
+    this.racksPerDatacenter = racksPerDatacenter;
+    this.nodesPerRack = nodesPerRack;
+    this.numOps = numOps;
+  }
+
+  private static String rack(int dc, int rack) {
+    return "/dc" + dc + "/rack" + rack;
+  }
+
+  private Node randomNode(Node[] nodes) {
+    return nodes[random.nextInt(nodes.length)];
+  }
+
+  private void report(String name, long startNanos, long checksum) {
+    long nanos = System.nanoTime() - startNanos;
+    LOG.info(name + ": " + (nanos / numOps) + " ns per op"
+        + " (checksum " + checksum + ")");
+  }
+
+  void run() {
+    NetworkTopology topology = new NetworkTopology();
+    int numRacks = numDatacenters * racksPerDatacenter;
+    Node[] nodes = new Node[numRacks * nodesPerRack];
+    int n = 0;
+    long start = System.nanoTime();
+    for (int dc = 0; dc < numDatacenters; dc++) {
+      for (int r = 0; r < racksPerDatacenter; r++) {
+        for (int i = 0; i < nodesPerRack; i++) {
+          nodes[n] = new NodeBase("host" + n + ":50010", rack(dc, r));
+          topology.add(nodes[n++]);
+        }
+      }
+    }
+    LOG.info("--- network topology: " + topology.getNumOfRacks()
+        + " racks, " + topology.getNumOfLeaves() + " nodes ---");
+    LOG.info("Build time (ms): " + (System.nanoTime() - start) / 1000000);
+
+    // warm up both distance paths before timing them
+    long sum = 0;
+    for (int i = 0; i < numOps; i++) {
+      Node n1 = randomNode(nodes), n2 = randomNode(nodes);
+      sum += topology.getDistance(n1, n2) - topology.walkDistance(n1, n2);
+    }
+    if (sum != 0) {
+      throw new IllegalStateException("The index and the tree disagree");
+    }
+
+    start = System.nanoTime();
+    sum = 0;
+    for (int i = 0; i < numOps; i++) {
+      sum += topology.walkDistance(randomNode(nodes), randomNode(nodes));
+    }
+    report("getDistance, tree walk", start, sum);
+
+    start = System.nanoTime();
+    sum = 0;
+    for (int i = 0; i < numOps; i++) {
+      sum += topology.getDistance(randomNode(nodes), randomNode(nodes));
+    }
+    report("getDistance, index", start, sum);
+
+    start = System.nanoTime();
+    sum = 0;
+    for (int i = 0; i < numOps; i++) {
+      String excluded = rack(random.nextInt(numDatacenters),
+                             random.nextInt(racksPerDatacenter));
+      sum += topology.chooseRandom("~" + excluded).getLevel();
+    }
+    report("chooseRandom outside of a rack", start, sum);
+
+    start = System.nanoTime();
+    sum = 0;
+    for (int i = 0; i < numOps; i++) {
+      String scope = rack(random.nextInt(numDatacenters),
+                          random.nextInt(racksPerDatacenter));
+      sum += topology.chooseRandom(scope).getLevel();
+    }
+    report("chooseRandom in a rack", start, sum);
+
+    start = System.nanoTime();
+    sum = 0;
+    Node[] locations = new Node[3];
+    for (int i = 0; i < numOps; i++) {
+      for (int j = 0; j < locations.length; j++) {
+        locations[j] = randomNode(nodes);
+      }
+      Node reader = randomNode(nodes);
+      topology.pseudoSortByDistance(reader, locations);
+      sum += locations[0] == reader ? 1 : 0;
+    }
+    report("pseudoSortByDistance of 3 replicas", start, sum);
+
+    start = System.nanoTime();
+    for (int i = 0; i < numOps; i++) {
+      Node node = randomNode(nodes);
+      topology.remove(node);
+      topology.add(node);
+    }
+    report("remove and add a node", start, topology.getNumOfLeaves());
+  }
+
+  private static void printUsage() {
+    System.err.println("Usage: NetworkTopologyBenchmark [-datacenters N]"
+        + " [-racks N] [-nodes N] [-ops N]");
+    System.exit(-1);
+  }
+
+  public static void main(String[] args) {
+    int numDatacenters = 2;
+    int racksPerDatacenter = 100;
+    int nodesPerRack = 40;
+    int numOps = 1000000;
+    try {
+      for (int i = 0; i < args.length; i++) {
+        if (args[i].equals("-datacenters")) {
+          numDatacenters = Integer.parseInt(args[++i]);
+        } else if (args[i].equals("-racks")) {
+          racksPerDatacenter = Integer.parseInt(args[++i]);
+        } else if (args[i].equals("-nodes")) {
+          nodesPerRack = Integer.parseInt(args[++i]);
+        } else if (args[i].equals("-ops")) {
+          numOps = Integer.parseInt(args[++i]);
+        } else {
+          printUsage();
+        }
+      }
+    } catch (RuntimeException e) {
+      printUsage();
+    }
+    new NetworkTopologyBenchmark(numDatacenters, racksPerDatacenter,
+        nodesPerRack, numOps).run();
+  }
+}
@@ -212,4 +212,48 @@ public class TestNetworkTopology extends TestCase {
     assertTrue(testNodes[3] == dataNodes[5] && testNodes[4] == dataNodes[6] ||
         testNodes[3] == dataNodes[6] && testNodes[4] == dataNodes[5]);
   }
+
+  /**
+   * This test checks that the index over the tree follows adding,
+   * replacing and removing nodes.
+   */
+  public void testIndexFollowsChanges() {
+    NetworkTopology topology = new NetworkTopology();
+    // the nodes of the shared cluster must stay in its tree
+    DatanodeDescriptor[] nodes = new DatanodeDescriptor[dataNodes.length];
+    for (int i = 0; i < nodes.length; i++) {
+      nodes[i] = new DatanodeDescriptor(new DatanodeID(dataNodes[i].getName()),
+                                        dataNodes[i].getNetworkLocation());
+      topology.add(nodes[i]);
+    }
+    assertTrue(topology.getNode("/d1/r2") instanceof NodeBase);
+    for (int i = 0; i < nodes.length; i++) {
+      for (int j = 0; j < nodes.length; j++) {
+        assertEquals(topology.walkDistance(nodes[i], nodes[j]),
+                     topology.getDistance(nodes[i], nodes[j]));
+      }
+    }
+
+    // a node registering again under the same name replaces the old one
+    DatanodeDescriptor replacement =
+      new DatanodeDescriptor(new DatanodeID("h1:5020"), "/d1/r1");
+    topology.add(replacement);
+    assertEquals(nodes.length, topology.getNumOfLeaves());
+    assertEquals(2, topology.getDistance(replacement, nodes[1]));
+
+    // removing the last node of a rack removes the rack
+    topology.remove(nodes[5]);
+    topology.remove(nodes[6]);
+    assertNull(topology.getNode("/d2/r3"));
+    assertNull(topology.getNode("/d2"));
+    assertEquals(2, topology.getNumOfRacks());
+
+    for (int i = 0; i < 100; i++) {
+      Node random = topology.chooseRandom("~/d1/r2");
+      assertTrue(random == replacement || random == nodes[1]);
+      random = topology.chooseRandom(NodeBase.ROOT);
+      assertTrue(random != nodes[0] && random != nodes[5] &&
+                 random != nodes[6]);
+    }
+  }
 }
@@ -114,6 +114,110 @@ public class TestDataChecksum {
     }
   }
 
+  /**
+   * The bulk operations on arrays and on direct buffers, native or not,
+   * compute the same checksums as checksumming chunk by chunk.
+   */
+  @Test
+  public void testBulkMatchesChunkByChunk() throws Exception {
+    Random random = new Random();
+    for (int type : CHECKSUM_TYPES) {
+      DataChecksum checksum = DataChecksum.newDataChecksum(
+          type, BYTES_PER_CHUNK);
+      // lengths around multiples of three chunks, which are summed together
+      for (int dataLength : new int[] {1, 511, 1536, 1537, 2048, 5000}) {
+        byte[] data = new byte[dataLength];
+        random.nextBytes(data);
+        int numSums = (dataLength - 1) / BYTES_PER_CHUNK + 1;
+        byte[] expected = new byte[numSums * checksum.getChecksumSize()];
+        for (int i = 0; i < numSums; i++) {
+          checksum.reset();
+          checksum.update(data, i * BYTES_PER_CHUNK,
+              Math.min(BYTES_PER_CHUNK, dataLength - i * BYTES_PER_CHUNK));
+          checksum.writeValue(expected, i * checksum.getChecksumSize(), true);
+        }
+
+        byte[] sums = new byte[SUMS_OFFSET_IN_BUFFER + expected.length];
+        byte[] dataInArray = new byte[DATA_OFFSET_IN_BUFFER + dataLength];
+        System.arraycopy(data, 0, dataInArray, DATA_OFFSET_IN_BUFFER,
+                         dataLength);
+        checksum.calculateChunkedSums(dataInArray, DATA_OFFSET_IN_BUFFER,
+            dataLength, sums, SUMS_OFFSET_IN_BUFFER);
+        for (int i = 0; i < expected.length; i++) {
+          assertEquals(expected[i], sums[SUMS_OFFSET_IN_BUFFER + i]);
+        }
+        checksum.verifyChunkedSums(dataInArray, DATA_OFFSET_IN_BUFFER,
+            dataLength, sums, SUMS_OFFSET_IN_BUFFER, "fake file", 0);
+
+        ByteBuffer dataBuf = ByteBuffer.allocateDirect(dataLength);
+        dataBuf.put(data);
+        dataBuf.flip();
+        ByteBuffer sumsBuf = ByteBuffer.allocateDirect(expected.length);
+        checksum.calculateChunkedSums(dataBuf, sumsBuf);
+        for (int i = 0; i < expected.length; i++) {
+          assertEquals(expected[i], sumsBuf.get(i));
+        }
+
+        // a corrupt last chunk is reported at its start
+        dataInArray[dataInArray.length - 1]++;
+        try {
+          checksum.verifyChunkedSums(dataInArray, DATA_OFFSET_IN_BUFFER,
+              dataLength, sums, SUMS_OFFSET_IN_BUFFER, "fake file", 100);
+          fail("Did not throw on bad data");
+        } catch (ChecksumException ce) {
+          assertEquals(100 + (numSums - 1) * BYTES_PER_CHUNK, ce.getPos());
+        }
+      }
+    }
+  }
+
+  /**
+   * The bulk operations on arrays, native or not, throw rather than read
+   * or write outside of the arrays.
+   */
+  @Test
+  public void testBulkOutOfRange() throws Exception {
+    for (int type : CHECKSUM_TYPES) {
+      DataChecksum checksum = DataChecksum.newDataChecksum(
+          type, BYTES_PER_CHUNK);
+      byte[] data = new byte[2 * BYTES_PER_CHUNK];
+      new Random().nextBytes(data);
+      byte[] sums = new byte[2 * checksum.getChecksumSize()];
+      checksum.calculateChunkedSums(data, 0, data.length, sums, 0);
+
+      // room for the checksum of one chunk only
+      byte[] shortSums = new byte[checksum.getChecksumSize()];
+      System.arraycopy(sums, 0, shortSums, 0, shortSums.length);
+      try {
+        checksum.calculateChunkedSums(data, 0, data.length, shortSums, 0);
+        fail("Wrote past the end of the checksums");
+      } catch (ArrayIndexOutOfBoundsException e) {
+        // expected
+      }
+      try {
+        checksum.verifyChunkedSums(data, 0, data.length, shortSums, 0,
+                                   "fake file", 0);
+        fail("Read past the end of the checksums");
+      } catch (ArrayIndexOutOfBoundsException e) {
+        // expected
+      }
+
+      // data running past the end of its array
+      try {
+        checksum.calculateChunkedSums(data, 1, data.length, sums, 0);
+        fail("Read past the end of the data");
+      } catch (ArrayIndexOutOfBoundsException e) {
+        // expected
+      }
+      try {
+        checksum.calculateChunkedSums(data, -1, 1, sums, 0);
+        fail("Read before the start of the data");
+      } catch (ArrayIndexOutOfBoundsException e) {
+        // expected
+      }
+    }
+  }
+
   private static void corruptBufferOffset(ByteBuffer buf, int offset) {
     buf.put(offset, (byte)(buf.get(offset) + 1));    
   }
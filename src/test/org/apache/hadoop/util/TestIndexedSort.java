@@ -24,9 +24,12 @@ import java.util.Random;
 import junit.framework.TestCase;
 
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.io.BytesWritable;
 import org.apache.hadoop.io.DataInputBuffer;
 import org.apache.hadoop.io.DataOutputBuffer;
+import org.apache.hadoop.io.PrefixComparator;
 import org.apache.hadoop.io.Text;
+import org.apache.hadoop.io.WritableComparable;
 import org.apache.hadoop.io.WritableComparator;
 
 public class TestIndexedSort extends TestCase {
@@ -115,8 +118,13 @@ public class TestIndexedSort extends TestCase {
   }
 
   public void sortWritable(IndexedSorter sorter) throws Exception {
+    sortWritable(sorter, "");
+  }
+
+  public void sortWritable(IndexedSorter sorter, String prefix)
+      throws Exception {
     final int SAMPLE = 1000;
-    WritableSortable s = new WritableSortable(SAMPLE);
+    WritableSortable s = new WritableSortable(SAMPLE, prefix);
     long seed = s.getSeed();
     System.out.println("sortWritable seed: " + seed +
         "(" + sorter.getClass().getName() + ")");
@@ -169,9 +177,29 @@ public class TestIndexedSort extends TestCase {
     sortWritable(sorter);
   }
 
+  public void testRadixSort() throws Exception {
+    RadixSort sorter = new RadixSort();
+    sortRandom(sorter);
+    sortSingleRecord(sorter);
+    sortSequential(sorter);
+    sortSorted(sorter);
+    sortAllEqual(sorter);
+    sortWritable(sorter);
+    // keys sharing their first bytes are ordered by the comparator
+    sortWritable(sorter, "ab");
+    sortWritable(sorter, "abcdef");
+
+    // sortables without prefixes are sorted all the same
+    SampleSortable s = new SampleSortable(500);
+    int[] values = s.getValues();
+    sorter.sort(new MeasuredSortable(s), 0, values.length);
+    Arrays.sort(values);
+    assertTrue(Arrays.equals(values, s.getSorted()));
+  }
+
   // Sortables //
 
-  private static class SampleSortable implements IndexedSortable {
+  private static class SampleSortable implements PrefixIndexedSortable {
     private int[] valindex;
     private int[] valindirect;
     private int[] values;
@@ -220,6 +248,14 @@ public class TestIndexedSort extends TestCase {
       valindex[j] = tmp;
     }
 
+    public boolean hasSortPrefix() {
+      return true;
+    }
+
+    public long getSortPrefix(int i) {
+      return values[valindirect[valindex[i]]];
+    }
+
     public int[] getSorted() {
       int[] ret = new int[values.length];
       for (int i = 0; i < ret.length; ++i) {
@@ -275,7 +311,7 @@ public class TestIndexedSort extends TestCase {
 
   }
 
-  private static class WritableSortable implements IndexedSortable {
+  private static class WritableSortable implements PrefixIndexedSortable {
 
     private static Random r = new Random();
     private final int eob;
@@ -287,10 +323,10 @@ public class TestIndexedSort extends TestCase {
     private final long seed;
 
     public WritableSortable() throws IOException {
-      this(100);
+      this(100, "");
     }
 
-    public WritableSortable(int j) throws IOException {
+    public WritableSortable(int j, String prefix) throws IOException {
       seed = r.nextLong();
       r.setSeed(seed);
       Text t = new Text();
@@ -302,7 +338,7 @@ public class TestIndexedSort extends TestCase {
       for (int i = 0; i < j; ++i) {
         indices[i] = i;
         offsets[i] = dob.getLength();
-        genRandom(t, r.nextInt(15) + 1, sb);
+        genRandom(t, prefix, r.nextInt(15) + 1, sb);
         t.write(dob);
         check[i] = t.toString();
       }
@@ -315,8 +351,10 @@ public class TestIndexedSort extends TestCase {
       return seed;
     }
 
-    private static void genRandom(Text t, int len, StringBuffer sb) {
+    private static void genRandom(Text t, String prefix, int len,
+                                  StringBuffer sb) {
       sb.setLength(0);
+      sb.append(prefix);
       for (int i = 0; i < len; ++i) {
         sb.append(Integer.toString(r.nextInt(26) + 10, 36));
       }
@@ -338,6 +376,17 @@ public class TestIndexedSort extends TestCase {
       indices[j] = tmp;
     }
 
+    public boolean hasSortPrefix() {
+      return true;
+    }
+
+    public long getSortPrefix(int i) {
+      final int ii = indices[i];
+      return ((PrefixComparator)comparator).getPrefix(bytes, offsets[ii],
+          ((ii + 1 == indices.length) ? eob : offsets[ii + 1]) - offsets[ii])
+          & 0xFFFFFFFFL;
+    }
+
     public String[] getValues() {
       return check;
     }
@@ -358,4 +407,118 @@ public class TestIndexedSort extends TestCase {
 
   }
 
+  /**
+   * Compare the sorters on map outputs like those of the terasort and
+   * sort examples: Text keys of ten printable characters, and
+   * BytesWritable keys of 10 to 1000 random bytes.
+   */
+  public static class PerformanceTest {
+    private static final IndexedSorter[] SORTERS = {
+      new QuickSort(), new HeapSort(), new RadixSort() };
+
+    public static void main(String[] args) throws IOException {
+      int records = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+      int partitions = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+      Random r = new Random(0);
+
+      DataOutputBuffer terasort = new DataOutputBuffer();
+      Text text = new Text();
+      byte[] chars = new byte[10];
+      for (int i = 0; i < records; ++i) {
+        for (int j = 0; j < chars.length; ++j) {
+          chars[j] = (byte)(' ' + r.nextInt(95));
+        }
+        text.set(chars);
+        text.write(terasort);
+      }
+      doBench("terasort", terasort, records, partitions, Text.class);
+
+      DataOutputBuffer sort = new DataOutputBuffer();
+      BytesWritable bytes = new BytesWritable();
+      for (int i = 0; i < records / 10; ++i) {
+        byte[] key = new byte[10 + r.nextInt(991)];
+        r.nextBytes(key);
+        bytes.set(key, 0, key.length);
+        bytes.write(sort);
+      }
+      doBench("sort", sort, records / 10, partitions, BytesWritable.class);
+    }
+
+    private static void doBench(String name, DataOutputBuffer keys,
+        int records, int partitions, Class<? extends WritableComparable> c) {
+      for (IndexedSorter sorter : SORTERS) {
+        KeySortable s = new KeySortable(keys, records, partitions, c);
+        long start = System.currentTimeMillis();
+        sorter.sort(s, 0, records);
+        System.out.println(name + ": " + records + " records in " +
+            partitions + " partitions, " + sorter.getClass().getSimpleName() +
+            " " + (System.currentTimeMillis() - start) + " ms, " +
+            s.comparisons + " comparisons");
+      }
+    }
+  }
+
+  /** Serialized keys in partitions, sorted like map outputs */
+  private static class KeySortable implements PrefixIndexedSortable {
+    private final byte[] bytes;
+    private final int[] offsets;
+    private final int[] partitions;
+    private final int[] indices;
+    private final PrefixComparator comparator;
+    long comparisons;
+
+    KeySortable(DataOutputBuffer keys, int records, int numPartitions,
+                Class<? extends WritableComparable> c) {
+      bytes = keys.getData();
+      offsets = new int[records + 1];
+      partitions = new int[records];
+      indices = new int[records];
+      comparator = (PrefixComparator)WritableComparator.get(c);
+      DataInputBuffer in = new DataInputBuffer();
+      in.reset(bytes, keys.getLength());
+      Random r = new Random(1);
+      WritableComparable key = WritableComparator.get(c).newKey();
+      try {
+        for (int i = 0; i < records; ++i) {
+          offsets[i] = in.getPosition();
+          partitions[i] = r.nextInt(numPartitions);
+          indices[i] = i;
+          key.readFields(in);
+        }
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+      offsets[records] = in.getPosition();
+    }
+
+    public int compare(int i, int j) {
+      ++comparisons;
+      final int ii = indices[i];
+      final int ij = indices[j];
+      if (partitions[ii] != partitions[ij]) {
+        return partitions[ii] - partitions[ij];
+      }
+      return comparator.compare(bytes, offsets[ii],
+          offsets[ii + 1] - offsets[ii],
+          bytes, offsets[ij], offsets[ij + 1] - offsets[ij]);
+    }
+
+    public void swap(int i, int j) {
+      int tmp = indices[i];
+      indices[i] = indices[j];
+      indices[j] = tmp;
+    }
+
+    public boolean hasSortPrefix() {
+      return true;
+    }
+
+    public long getSortPrefix(int i) {
+      final int ii = indices[i];
+      return ((long)partitions[ii] << 32) |
+          (comparator.getPrefix(bytes, offsets[ii],
+              offsets[ii + 1] - offsets[ii]) & 0xFFFFFFFFL);
+    }
+  }
+
 }